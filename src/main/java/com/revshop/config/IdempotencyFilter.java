@@ -0,0 +1,231 @@
+package com.revshop.config;
+
+import com.revshop.dto.common.ApiResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Replays the first response for a repeated Idempotency-Key on checkout and payment. Runs after
+ * the security chain so keys are scoped to the authenticated user; requests without the header
+ * pass straight through.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class IdempotencyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final IdempotencyStore idempotencyStore;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.idempotency.paths:/api/orders/checkout,/api/payments/process}")
+    private List<String> paths = List.of("/api/orders/checkout", "/api/payments/process");
+
+    @Value("${app.idempotency.wait-timeout-ms:30000}")
+    private long waitTimeoutMs = 30000;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"POST".equalsIgnoreCase(request.getMethod())
+                || request.getHeader(HEADER) == null
+                || !paths.contains(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null || !auth.isAuthenticated() || auth instanceof AnonymousAuthenticationToken) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        String idempotencyKey = request.getHeader(HEADER).trim();
+        if (idempotencyKey.isEmpty() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            writeError(request, response, HttpStatus.BAD_REQUEST,
+                    HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String fingerprint = request.getRequestURI() + " " + sha256(cachedRequest.body);
+        long deadline = System.currentTimeMillis() + waitTimeoutMs;
+        while (true) {
+            IdempotencyStore.Claim claim = idempotencyStore.claim(auth.getName(), idempotencyKey, fingerprint);
+            if (claim.isRejected()) {
+                writeError(request, response, HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many requests with an " + HEADER + " are in progress; retry shortly");
+                return;
+            }
+            if (!claim.matches(fingerprint)) {
+                writeError(request, response, HttpStatus.UNPROCESSABLE_CONTENT,
+                        HEADER + " was already used for a different request");
+                return;
+            }
+            if (claim.isOwner()) {
+                execute(claim, cachedRequest, response, filterChain);
+                return;
+            }
+
+            IdempotencyStore.StoredResponse stored;
+            try {
+                stored = claim.await(Math.max(1, deadline - System.currentTimeMillis()));
+            } catch (TimeoutException ex) {
+                writeError(request, response, HttpStatus.CONFLICT,
+                        "A request with this " + HEADER + " is still being processed");
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new ServletException("Interrupted while waiting for the original request", ex);
+            }
+            if (stored != null) {
+                replay(stored, response);
+                return;
+            }
+            // The original attempt failed without a response worth keeping; compete to run it again.
+        }
+    }
+
+    private void execute(
+            IdempotencyStore.Claim claim,
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        boolean stored = false;
+        try {
+            filterChain.doFilter(request, wrapper);
+            // Server errors are not final answers, so a retry should get a fresh attempt.
+            if (wrapper.getStatus() < 500) {
+                idempotencyStore.complete(claim, new IdempotencyStore.StoredResponse(
+                        wrapper.getStatus(),
+                        wrapper.getContentType(),
+                        wrapper.getContentAsByteArray()
+                ));
+                stored = true;
+            }
+        } finally {
+            if (!stored) {
+                idempotencyStore.release(claim);
+            }
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void replay(IdempotencyStore.StoredResponse stored, HttpServletResponse response) throws IOException {
+        response.setStatus(stored.status());
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setHeader(REPLAYED_HEADER, "true");
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+    }
+
+    private void writeError(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            HttpStatus status,
+            String message
+    ) throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                ApiResponse.error(message, status.value(), request.getRequestURI(), List.of())
+        );
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                // The body is already in memory, so there is never anything left to wait for.
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        readListener.onAllDataRead();
+                    } catch (IOException ex) {
+                        readListener.onError(ex);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(
+                    new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)
+            ));
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package com.revshop.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * First responses for (user, Idempotency-Key) pairs, held in memory for a TTL and capped in size.
+ * The first caller for a key owns it and later callers wait on its result; an owner that fails
+ * releases the key so the next attempt runs again. At the cap, expired keys go first and then
+ * completed ones, least recently used first. Keys still in flight are never evicted, because a
+ * waiting duplicate would then run the request a second time; a new key is refused instead.
+ */
+@Component
+public class IdempotencyStore {
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    @Value("${app.idempotency.max-entries:10000}")
+    private int maxEntries = 10000;
+
+    @Value("${app.idempotency.ttl-seconds:86400}")
+    private long ttlSeconds = 86400;
+
+    public Claim claim(String user, String idempotencyKey, String fingerprint) {
+        Key key = new Key(user, idempotencyKey);
+        synchronized (entries) {
+            Entry existing = entries.get(key);
+            if (existing != null && existing.expiresAt.isAfter(Instant.now())) {
+                return new Claim(key, existing, false);
+            }
+            if (existing != null) {
+                entries.remove(key);
+            }
+            if (!makeRoom()) {
+                return new Claim(key, null, false);
+            }
+            Entry created = new Entry(fingerprint);
+            entries.put(key, created);
+            return new Claim(key, created, true);
+        }
+    }
+
+    public void complete(Claim claim, StoredResponse response) {
+        claim.entry.expiresAt = Instant.now().plus(Duration.ofSeconds(ttlSeconds));
+        claim.entry.result.complete(response);
+    }
+
+    public void release(Claim claim) {
+        synchronized (entries) {
+            entries.remove(claim.key, claim.entry);
+        }
+        claim.entry.result.complete(null);
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private boolean makeRoom() {
+        if (entries.size() < maxEntries) {
+            return true;
+        }
+        Instant now = Instant.now();
+        entries.values().removeIf(entry -> !entry.expiresAt.isAfter(now));
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (entries.size() >= maxEntries && iterator.hasNext()) {
+            if (!iterator.next().isInFlight()) {
+                iterator.remove();
+            }
+        }
+        return entries.size() < maxEntries;
+    }
+
+    public record Key(String user, String idempotencyKey) {
+    }
+
+    public record StoredResponse(int status, String contentType, byte[] body) {
+    }
+
+    public static final class Claim {
+
+        private final Key key;
+        private final Entry entry;
+        private final boolean owner;
+
+        private Claim(Key key, Entry entry, boolean owner) {
+            this.key = key;
+            this.entry = entry;
+            this.owner = owner;
+        }
+
+        public boolean isOwner() {
+            return owner;
+        }
+
+        /**
+         * True when the store was full of in-flight keys and could not take this one.
+         */
+        public boolean isRejected() {
+            return entry == null;
+        }
+
+        public boolean matches(String fingerprint) {
+            return entry.fingerprint.equals(fingerprint);
+        }
+
+        /**
+         * Waits for the owner's response. Returns null when the owner released the key without one.
+         */
+        public StoredResponse await(long timeoutMillis) throws InterruptedException, TimeoutException {
+            try {
+                return entry.result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (ExecutionException ex) {
+                return null;
+            }
+        }
+    }
+
+    private static final class Entry {
+
+        private final String fingerprint;
+        private final CompletableFuture<StoredResponse> result = new CompletableFuture<>();
+        private volatile Instant expiresAt = Instant.MAX;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private boolean isInFlight() {
+            return expiresAt.equals(Instant.MAX);
+        }
+    }
+}
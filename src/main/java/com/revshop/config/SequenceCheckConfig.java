@@ -0,0 +1,102 @@
+package com.revshop.config;
+
+import com.revshop.entity.id.PooledSequenceGenerator;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Refuses to start against a schema the pooled id generators would collide in. The sequences are
+ * moved by db/migration/V1__pooled_id_sequences.sql before deployment; this only reads them, and
+ * runs before the web server takes traffic, once Hibernate has created whatever a new schema lacks.
+ */
+@Log4j2
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class SequenceCheckConfig {
+
+    private static final Map<String, String> POOLED_SEQUENCES = Map.of(
+            "users", "user_seq",
+            "products", "product_seq",
+            "orders", "order_seq",
+            "order_items", "order_item_seq",
+            "payments", "payment_seq",
+            "notifications", "notification_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.properties." + PooledSequenceGenerator.ALLOCATION_SIZE_SETTING + ":"
+            + PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE + "}")
+    private int allocationSize = PooledSequenceGenerator.DEFAULT_ALLOCATION_SIZE;
+
+    @PostConstruct
+    public void verifySequences() {
+        String databaseName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (databaseName == null || !databaseName.toLowerCase(Locale.ROOT).contains("oracle")) {
+            log.info("Skipping the id sequence check on {}", databaseName);
+            return;
+        }
+
+        List<String> problems = new ArrayList<>();
+        if (hasIdentity("products", "id")) {
+            problems.add("products.id is still an identity column");
+        }
+        POOLED_SEQUENCES.forEach((tableName, sequenceName) ->
+                checkSequence(tableName, "id", sequenceName, problems));
+        if (!problems.isEmpty()) {
+            throw new IllegalStateException("Id sequences do not match " + PooledSequenceGenerator.ALLOCATION_SIZE_SETTING
+                    + "=" + allocationSize + "; run db/migration/V1__pooled_id_sequences.sql with every instance stopped: "
+                    + String.join("; ", problems));
+        }
+    }
+
+    private boolean hasIdentity(String tableName, String columnName) {
+        Integer identityColumns = jdbcTemplate.queryForObject(
+                """
+                SELECT COUNT(*)
+                FROM user_tab_identity_cols
+                WHERE table_name = ?
+                  AND column_name = ?
+                """,
+                Integer.class,
+                tableName.toUpperCase(Locale.ROOT),
+                columnName.toUpperCase(Locale.ROOT)
+        );
+        return identityColumns != null && identityColumns > 0;
+    }
+
+    private void checkSequence(String tableName, String columnName, String sequenceName, List<String> problems) {
+        List<Map<String, Object>> existing = jdbcTemplate.queryForList(
+                "SELECT increment_by, last_number FROM user_sequences WHERE sequence_name = ?",
+                sequenceName.toUpperCase(Locale.ROOT)
+        );
+        if (existing.isEmpty()) {
+            problems.add(sequenceName + " is missing");
+            return;
+        }
+        long incrementBy = ((Number) existing.get(0).get("INCREMENT_BY")).longValue();
+        if (incrementBy != allocationSize) {
+            problems.add(sequenceName + " increments by " + incrementBy);
+        }
+        // last_number is at or past the next value, so a sequence short of a full block over MAX(id) is
+        // certain to hand out ids that already exist.
+        long lastNumber = ((Number) existing.get(0).get("LAST_NUMBER")).longValue();
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(" + columnName + ") FROM " + tableName, Long.class);
+        if (maxId != null && lastNumber < maxId + allocationSize) {
+            problems.add(sequenceName + " is behind " + tableName + " (last number " + lastNumber + ", max id " + maxId + ")");
+        }
+    }
+}
@@ -4,6 +4,8 @@ import lombok.extern.log4j.Log4j2;
 import com.revshop.dto.admin.AdminSummaryResponse;
 import com.revshop.dto.admin.AdminUserResponse;
 import com.revshop.dto.admin.AdminUserStatusUpdateRequest;
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.admin.HotSkuStatusResponse;
 import com.revshop.dto.common.ApiResponse;
 import com.revshop.dto.common.PagedResponse;
 import com.revshop.entity.Role;
@@ -18,12 +20,15 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin")
 @RequiredArgsConstructor
@@ -43,6 +48,33 @@ public class AdminController {
         return ResponseEntity.ok(ApiResponse.success("Admin summary fetched", response));
     }
 
+    @GetMapping("/cache-stats")
+    public ResponseEntity<ApiResponse<List<CacheStatsResponse>>> cacheStats(
+            Authentication auth,
+            @RequestHeader("X-ADMIN-KEY") String adminKey
+    ) {
+        List<CacheStatsResponse> response = adminService.getCacheStats(auth.getName(), adminKey);
+        return ResponseEntity.ok(ApiResponse.success("Cache stats fetched", response));
+    }
+
+    @GetMapping("/hot-skus")
+    public ResponseEntity<ApiResponse<List<HotSkuStatusResponse>>> hotSkus(
+            Authentication auth,
+            @RequestHeader("X-ADMIN-KEY") String adminKey
+    ) {
+        List<HotSkuStatusResponse> response = adminService.getHotSkuStatus(auth.getName(), adminKey);
+        return ResponseEntity.ok(ApiResponse.success("Hot SKU status fetched", response));
+    }
+
+    @PostMapping("/hot-skus/reconcile")
+    public ResponseEntity<ApiResponse<List<HotSkuStatusResponse>>> reconcileHotSkus(
+            Authentication auth,
+            @RequestHeader("X-ADMIN-KEY") String adminKey
+    ) {
+        List<HotSkuStatusResponse> response = adminService.reconcileHotSkus(auth.getName(), adminKey);
+        return ResponseEntity.ok(ApiResponse.success("Hot SKUs reconciled", response));
+    }
+
     @GetMapping("/users")
     public ResponseEntity<ApiResponse<PagedResponse<AdminUserResponse>>> users(
             Authentication auth,
@@ -9,6 +9,7 @@ import com.revshop.service.NotificationService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,6 +18,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -28,24 +30,54 @@ import java.util.List;
 @Log4j2
 public class NotificationController {
 
+    static final String DATA_VERSION_HEADER = "X-Data-Version";
+
     private final NotificationService notificationService;
 
+    /**
+     * With since=, returns every notification created or changed after that data version, read
+     * ones included, so a client can merge the delta into what it already shows.
+     */
     @GetMapping("/my")
     public ResponseEntity<ApiResponse<List<NotificationResponse>>> myNotifications(
             Authentication auth,
-            @RequestParam(defaultValue = "false") boolean unreadOnly
+            @RequestParam(defaultValue = "false") boolean unreadOnly,
+            @RequestParam(required = false) Long since,
+            WebRequest webRequest
     ) {
-        List<NotificationResponse> response = notificationService.getMyNotifications(auth.getName(), unreadOnly);
-        return ResponseEntity.ok(ApiResponse.success("Notifications fetched", response));
+        long version = notificationService.getNotificationVersion(auth.getName());
+        String etag = "\"n" + version + (unreadOnly ? "-u" : "") + (since == null ? "" : "-s" + since) + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
+        List<NotificationResponse> response = since == null
+                ? notificationService.getMyNotifications(auth.getName(), unreadOnly)
+                : notificationService.getMyNotificationsChangedSince(auth.getName(), since);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(DATA_VERSION_HEADER, String.valueOf(version))
+                .body(ApiResponse.success("Notifications fetched", response));
     }
 
     @GetMapping("/my/unread-count")
-    public ResponseEntity<ApiResponse<UnreadCountResponse>> unreadCount(Authentication auth) {
+    public ResponseEntity<ApiResponse<UnreadCountResponse>> unreadCount(Authentication auth, WebRequest webRequest) {
+        long version = notificationService.getNotificationVersion(auth.getName());
+        String etag = "\"c" + version + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         long unreadCount = notificationService.getUnreadCount(auth.getName());
         UnreadCountResponse response = UnreadCountResponse.builder()
                 .unreadCount(unreadCount)
                 .build();
-        return ResponseEntity.ok(ApiResponse.success("Unread notification count fetched", response));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .header(DATA_VERSION_HEADER, String.valueOf(version))
+                .body(ApiResponse.success("Unread notification count fetched", response));
     }
 
     @PatchMapping("/{notificationId}/read")
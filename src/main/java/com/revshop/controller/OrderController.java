@@ -2,16 +2,24 @@ package com.revshop.controller;
 
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dto.common.ApiResponse;
+import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.order.BulkOrderActionRequest;
+import com.revshop.dto.order.BulkOrderActionResponse;
 import com.revshop.dto.order.CancelOrderRequest;
 import com.revshop.dto.order.ExchangeOrderRequest;
 import com.revshop.dto.order.OrderResponse;
 import com.revshop.dto.order.PlaceOrderRequest;
 import com.revshop.dto.order.ReturnOrderRequest;
+import com.revshop.config.IdempotencyFilter;
+import com.revshop.entity.OrderStatus;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.revshop.service.OrderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -20,8 +28,10 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -35,6 +45,11 @@ public class OrderController {
     private final OrderService orderService;
 
     @PostMapping("/checkout")
+    @Parameter(
+            in = ParameterIn.HEADER,
+            name = IdempotencyFilter.HEADER,
+            description = "Optional client key; retries with the same key replay the first response"
+    )
     public ResponseEntity<ApiResponse<OrderResponse>> checkout(
             @Valid @RequestBody PlaceOrderRequest request,
             Authentication auth
@@ -64,6 +79,28 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success("Seller orders fetched", response));
     }
 
+    @GetMapping("/seller/inbox")
+    public ResponseEntity<ApiResponse<PagedResponse<OrderResponse>>> sellerOrderInbox(
+            @RequestParam(required = false) OrderStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String orderNumber,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            Authentication auth
+    ) {
+        PagedResponse<OrderResponse> response = orderService.getSellerOrderInbox(
+                auth.getName(),
+                status,
+                fromDate,
+                toDate,
+                orderNumber,
+                cursor,
+                size
+        );
+        return ResponseEntity.ok(ApiResponse.success("Seller order inbox fetched", response));
+    }
+
     @PatchMapping("/seller/{orderId}/ship")
     public ResponseEntity<ApiResponse<OrderResponse>> markShipped(
             @PathVariable Long orderId,
@@ -91,6 +128,33 @@ public class OrderController {
         return ResponseEntity.ok(ApiResponse.success("Return request completed", response));
     }
 
+    @PatchMapping("/seller/bulk/ship")
+    public ResponseEntity<ApiResponse<BulkOrderActionResponse>> markShippedInBulk(
+            @Valid @RequestBody BulkOrderActionRequest request,
+            Authentication auth
+    ) {
+        BulkOrderActionResponse response = orderService.markOrdersShippedBySeller(auth.getName(), request.getOrderIds());
+        return ResponseEntity.ok(ApiResponse.success("Bulk ship processed", response));
+    }
+
+    @PatchMapping("/seller/bulk/deliver")
+    public ResponseEntity<ApiResponse<BulkOrderActionResponse>> markDeliveredInBulk(
+            @Valid @RequestBody BulkOrderActionRequest request,
+            Authentication auth
+    ) {
+        BulkOrderActionResponse response = orderService.markOrdersDeliveredBySeller(auth.getName(), request.getOrderIds());
+        return ResponseEntity.ok(ApiResponse.success("Bulk delivery processed", response));
+    }
+
+    @PatchMapping("/seller/bulk/return/complete")
+    public ResponseEntity<ApiResponse<BulkOrderActionResponse>> completeReturnsInBulk(
+            @Valid @RequestBody BulkOrderActionRequest request,
+            Authentication auth
+    ) {
+        BulkOrderActionResponse response = orderService.completeReturnsBySeller(auth.getName(), request.getOrderIds());
+        return ResponseEntity.ok(ApiResponse.success("Bulk return completion processed", response));
+    }
+
     @PatchMapping("/seller/{orderId}/exchange/complete")
     public ResponseEntity<ApiResponse<OrderResponse>> completeExchange(
             @PathVariable Long orderId,
@@ -4,6 +4,9 @@ import lombok.extern.log4j.Log4j2;
 import com.revshop.dto.common.ApiResponse;
 import com.revshop.dto.payment.PaymentResponse;
 import com.revshop.dto.payment.ProcessPaymentRequest;
+import com.revshop.config.IdempotencyFilter;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.revshop.service.PaymentService;
@@ -31,6 +34,11 @@ public class PaymentController {
     private final PaymentService paymentService;
 
     @PostMapping("/process")
+    @Parameter(
+            in = ParameterIn.HEADER,
+            name = IdempotencyFilter.HEADER,
+            description = "Optional client key; retries with the same key replay the first response"
+    )
     public ResponseEntity<ApiResponse<PaymentResponse>> processPayment(
             @Valid @RequestBody ProcessPaymentRequest request,
             Authentication auth
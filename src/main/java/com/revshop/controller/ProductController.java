@@ -5,14 +5,19 @@ import com.revshop.dto.common.ApiResponse;
 import com.revshop.dto.common.PagedResponse;
 import com.revshop.dto.product.ProductCreateRequest;
 import com.revshop.dto.product.ProductImageResponse;
+import com.revshop.dto.product.ProductImportFormat;
+import com.revshop.dto.product.ProductImportResponse;
 import com.revshop.dto.product.ProductResponse;
+import com.revshop.dto.product.ProductSuggestionResponse;
 import com.revshop.dto.product.ProductUpdateRequest;
 import com.revshop.dto.product.UpdateLowStockThresholdRequest;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import com.revshop.service.ProductImportService;
 import com.revshop.service.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
@@ -23,11 +28,18 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
 import java.util.List;
 
@@ -40,6 +52,8 @@ import java.util.List;
 public class ProductController {
 
     private final ProductService productService;
+    private final ObjectMapper objectMapper;
+    private final ProductImportService productImportService;
 
     @PostMapping
     public ResponseEntity<ApiResponse<ProductResponse>> createProduct(
@@ -50,6 +64,20 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("Product created successfully", response));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ApiResponse<ProductImportResponse>> importProducts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            InputStream body,
+            Authentication auth
+    ) {
+        ProductImportFormat format = MediaType.APPLICATION_NDJSON.isCompatibleWith(MediaType.parseMediaType(contentType))
+                ? ProductImportFormat.NDJSON
+                : ProductImportFormat.CSV;
+        ProductImportResponse response = productImportService.importProducts(auth.getName(), format, body);
+        String message = response.isCompleted() ? "Product import completed" : "Product import stopped early";
+        return ResponseEntity.ok(ApiResponse.success(message, response));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> updateProduct(
             @PathVariable Long id,
@@ -78,12 +106,31 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("Low stock products fetched", response));
     }
 
+    @GetMapping(value = "/my", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMyProducts(Authentication auth) {
+        return ndjson(null, auth.getName());
+    }
+
     @GetMapping("/public")
     public ResponseEntity<ApiResponse<List<ProductResponse>>> publicProducts() {
         List<ProductResponse> response = productService.getAllActiveProducts();
         return ResponseEntity.ok(ApiResponse.success("Active products fetched", response));
     }
 
+    @GetMapping(value = "/public", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamPublicProducts() {
+        return ndjson(null, null);
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<ApiResponse<List<ProductSuggestionResponse>>> suggest(
+            @RequestParam("q") String q,
+            @RequestParam(defaultValue = "8") int limit
+    ) {
+        List<ProductSuggestionResponse> response = productService.suggestProducts(q, limit);
+        return ResponseEntity.ok(ApiResponse.success("Suggestions fetched", response));
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ApiResponse<ProductResponse>> getProduct(@PathVariable Long id) {
         ProductResponse response = productService.getProductById(id);
@@ -96,6 +143,11 @@ public class ProductController {
         return ResponseEntity.ok(ApiResponse.success("Category products fetched", response));
     }
 
+    @GetMapping(value = "/category/{categoryId}", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamByCategory(@PathVariable Long categoryId) {
+        return ndjson(categoryId, null);
+    }
+
     @GetMapping("/search")
     public ResponseEntity<ApiResponse<PagedResponse<ProductResponse>>> search(
             @RequestParam(required = false) String keyword,
@@ -106,7 +158,10 @@ public class ProductController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "exact") String count,
+            @RequestParam(defaultValue = "false") boolean facets
     ) {
         PagedResponse<ProductResponse> response = productService.searchProducts(
                 keyword,
@@ -117,7 +172,10 @@ public class ProductController {
                 page,
                 size,
                 sortBy,
-                sortDir
+                sortDir,
+                cursor,
+                count,
+                facets
         );
         return ResponseEntity.ok(ApiResponse.success("Search results fetched", response));
     }
@@ -162,4 +220,22 @@ public class ProductController {
         ProductResponse response = productService.updateLowStockThreshold(id, auth.getName(), request.getLowStockThreshold());
         return ResponseEntity.ok(ApiResponse.success("Low stock threshold updated", response));
     }
+
+    private ResponseEntity<StreamingResponseBody> ndjson(Long categoryId, String sellerEmail) {
+        ObjectWriter writer = objectMapper.writerFor(ProductResponse.class);
+        StreamingResponseBody body = outputStream -> {
+            productService.streamActiveProducts(categoryId, sellerEmail, product -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(product));
+                    outputStream.write('\n');
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
 }
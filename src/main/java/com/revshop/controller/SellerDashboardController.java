@@ -3,16 +3,23 @@ package com.revshop.controller;
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dto.common.ApiResponse;
 import com.revshop.dto.seller.SellerDashboardResponse;
+import com.revshop.dto.seller.SellerSalesTrendResponse;
+import com.revshop.entity.RollupGranularity;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import com.revshop.service.SellerDashboardService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.LocalDate;
 
 @RestController
 @RequestMapping("/api/seller/dashboard")
@@ -29,14 +36,43 @@ public class SellerDashboardController {
             Authentication auth,
             @RequestParam(defaultValue = "5") int recentLimit,
             @RequestParam(defaultValue = "5") int topLimit,
-            @RequestParam(defaultValue = "5") int lowStockThreshold
+            @RequestParam(defaultValue = "5") int lowStockThreshold,
+            WebRequest webRequest
     ) {
+        // The stamp is read before the data, so a write landing in between only costs one extra refetch.
+        long version = sellerDashboardService.getDashboardVersion(auth.getName());
+        String etag = "\"d" + version + "-" + recentLimit + "-" + topLimit + "-" + lowStockThreshold + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+
         SellerDashboardResponse response = sellerDashboardService.getDashboard(
                 auth.getName(),
                 recentLimit,
                 topLimit,
                 lowStockThreshold
         );
-        return ResponseEntity.ok(ApiResponse.success("Seller dashboard fetched", response));
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(ApiResponse.success("Seller dashboard fetched", response));
+    }
+
+    @GetMapping("/sales-trend")
+    public ResponseEntity<ApiResponse<SellerSalesTrendResponse>> salesTrend(
+            Authentication auth,
+            @RequestParam(defaultValue = "DAY") RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) Long productId
+    ) {
+        SellerSalesTrendResponse response = sellerDashboardService.getSalesTrend(
+                auth.getName(),
+                granularity,
+                fromDate,
+                toDate,
+                productId
+        );
+        return ResponseEntity.ok(ApiResponse.success("Seller sales trend fetched", response));
     }
 }
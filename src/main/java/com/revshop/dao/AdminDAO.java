@@ -1,5 +1,6 @@
 package com.revshop.dao;
 
+import com.revshop.dto.admin.CacheStatsResponse;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
 
@@ -29,4 +30,6 @@ public interface AdminDAO {
     Optional<User> findUserByIdAnyState(Long userId);
 
     User saveUser(User user);
+
+    CacheStatsResponse getQueryPlanCacheStats();
 }
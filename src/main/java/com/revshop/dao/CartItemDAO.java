@@ -9,6 +9,8 @@ public interface CartItemDAO {
 
     CartItem save(CartItem cartItem);
 
+    int softDeleteByIds(List<Long> itemIds);
+
     List<CartItem> findActiveByCartId(Long cartId);
 
     Optional<CartItem> findByIdAndCartId(Long itemId, Long cartId);
@@ -2,6 +2,7 @@ package com.revshop.dao;
 
 import com.revshop.entity.Notification;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -9,12 +10,16 @@ public interface NotificationDAO {
 
     Notification save(Notification notification);
 
+    void saveAll(List<Notification> notifications);
+
     Optional<Notification> findById(Long notificationId);
 
     List<Notification> findByRecipientEmail(String recipientEmail);
 
     List<Notification> findUnreadByRecipientEmail(String recipientEmail);
 
+    List<Notification> findChangedByRecipientId(Long recipientId, LocalDateTime changedSince);
+
     long countUnreadByRecipientEmail(String recipientEmail);
 
     long markAllAsReadByRecipientId(Long recipientId);
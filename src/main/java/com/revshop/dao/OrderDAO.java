@@ -1,7 +1,10 @@
 package com.revshop.dao;
 
+import com.revshop.dto.order.SellerOrderCursor;
 import com.revshop.entity.Order;
+import com.revshop.entity.OrderStatus;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -11,7 +14,19 @@ public interface OrderDAO {
 
     Optional<Order> findById(Long orderId);
 
+    List<Order> findAllByIds(List<Long> orderIds);
+
     List<Order> findByBuyerId(Long buyerId);
 
     List<Order> findBySellerEmail(String sellerEmail);
+
+    List<Order> findSellerInboxPage(
+            Long sellerId,
+            OrderStatus status,
+            LocalDateTime createdFrom,
+            LocalDateTime createdTo,
+            String orderNumberPrefix,
+            SellerOrderCursor after,
+            int limit
+    );
 }
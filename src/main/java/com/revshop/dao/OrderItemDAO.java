@@ -2,15 +2,26 @@ package com.revshop.dao;
 
 import com.revshop.entity.OrderItem;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public interface OrderItemDAO {
 
     OrderItem save(OrderItem orderItem);
 
+    List<OrderItem> saveAll(List<OrderItem> orderItems);
+
     List<OrderItem> findByOrderId(Long orderId);
 
-    List<OrderItem> findBySellerEmail(String sellerEmail);
+    Map<Long, List<OrderItem>> findByOrderIds(List<Long> orderIds);
+
+    boolean existsByOrderIdAndSellerId(Long orderId, Long sellerId);
+
+    Map<Long, Set<Long>> findSellerIdsByOrderIds(List<Long> orderIds);
+
+    List<Object[]> findRecentOrderSummariesBySellerId(Long sellerId, int limit);
 
     long countDistinctOrdersBySellerEmail(String sellerEmail);
 
@@ -21,4 +32,8 @@ public interface OrderItemDAO {
     java.math.BigDecimal sumRevenueBySellerEmail(String sellerEmail);
 
     List<Object[]> findTopProductsBySellerEmail(String sellerEmail, int limit);
+
+    List<Object[]> sumSoldQuantityByProduct();
+
+    List<Object[]> findSalesLinesBySellerIdSince(Long sellerId, LocalDateTime createdFrom);
 }
@@ -3,6 +3,7 @@ package com.revshop.dao;
 import com.revshop.entity.Payment;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface PaymentDAO {
@@ -13,5 +14,7 @@ public interface PaymentDAO {
 
     Optional<Payment> findByOrderId(Long orderId);
 
+    Map<Long, Payment> findByOrderIds(List<Long> orderIds);
+
     List<Payment> findByBuyerId(Long buyerId);
 }
@@ -0,0 +1,16 @@
+package com.revshop.dao;
+
+import com.revshop.entity.PendingStockDelta;
+
+import java.util.List;
+
+public interface PendingStockDeltaDAO {
+
+    void save(PendingStockDelta delta);
+
+    List<PendingStockDelta> findAll();
+
+    List<PendingStockDelta> findByProductId(Long productId);
+
+    int deleteByIds(List<Long> ids);
+}
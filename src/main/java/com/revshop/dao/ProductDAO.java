@@ -1,10 +1,16 @@
 package com.revshop.dao;
 
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductSearchCursor;
 import com.revshop.entity.Product;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface ProductDAO {
 
@@ -12,15 +18,35 @@ public interface ProductDAO {
 
     Optional<Product> findById(Long id);
 
-    List<Product> findBySellerEmail(String email);
+    List<Product> findAllByIds(List<Long> ids);
 
-    List<Product> findByCategory(Long categoryId);
+    boolean decrementStock(Long productId, int quantity);
+
+    Set<Long> decrementStock(Map<Long, Integer> quantities);
+
+    void incrementStock(Map<Long, Integer> quantities);
+
+    void refreshStock(Collection<Product> products);
+
+    Optional<ProductListRow> findRowById(Long id);
+
+    List<ProductListRow> findRowsByIds(List<Long> ids);
+
+    List<ProductListRow> findRowsBySellerEmail(String email);
+
+    List<ProductListRow> findRowsByCategory(Long categoryId);
+
+    List<ProductListRow> findActiveRows();
 
     List<Product> findActiveProducts();
 
-    List<Product> searchByName(String keyword);
+    Stream<Product> streamActiveProducts(Long categoryId, String sellerEmail, int fetchSize);
+
+    void detach(List<Product> products);
+
+    List<ProductListRow> searchRowsByKeyword(String keyword);
 
-    List<Product> searchPublicProducts(
+    List<ProductListRow> searchPublicProducts(
             String keyword,
             Long categoryId,
             BigDecimal minPrice,
@@ -32,6 +58,16 @@ public interface ProductDAO {
             int limit
     );
 
+    List<ProductListRow> seekPublicProducts(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            ProductSearchCursor after,
+            int limit
+    );
+
     long countPublicProducts(
             String keyword,
             Long categoryId,
@@ -40,13 +76,21 @@ public interface ProductDAO {
             Boolean inStock
     );
 
+    List<Object[]> countPublicProductFacets(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock
+    );
+
     long countBySellerEmail(String sellerEmail);
 
     long countActiveBySellerEmail(String sellerEmail);
 
     long countLowStockBySellerEmail(String sellerEmail, int threshold);
 
-    List<Product> findLowStockBySellerEmail(String sellerEmail);
+    List<ProductListRow> findLowStockRowsBySellerEmail(String sellerEmail);
 
     long countActiveByCategoryId(Long categoryId);
 }
@@ -3,6 +3,7 @@ package com.revshop.dao;
 import com.revshop.entity.ProductImage;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public interface ProductImageDAO {
@@ -11,6 +12,8 @@ public interface ProductImageDAO {
 
     List<ProductImage> findByProductId(Long productId);
 
+    Map<Long, List<String>> findImageUrlsByProductIds(List<Long> productIds);
+
     Optional<ProductImage> findById(Long imageId);
 
     long countByProductId(Long productId);
@@ -0,0 +1,32 @@
+package com.revshop.dao;
+
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SalesRollup;
+import com.revshop.entity.SalesRollupId;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface SalesRollupDAO {
+
+    void save(SalesRollup rollup);
+
+    void insertEmptyIfAbsent(SalesRollupId id);
+
+    int applyDelta(SalesRollupId id, long unitsSold, BigDecimal revenue);
+
+    List<Object[]> findSeries(
+            Long sellerId,
+            Long productId,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    );
+
+    int deleteBySellerIdSince(Long sellerId, LocalDateTime from);
+
+    int deleteOlderThan(RollupGranularity granularity, LocalDateTime before);
+
+    boolean isEmpty();
+}
@@ -0,0 +1,24 @@
+package com.revshop.dao;
+
+import com.revshop.entity.SellerStats;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SellerStatsDAO {
+
+    Optional<SellerStats> findById(Long sellerId);
+
+    Optional<SellerStats> findByIdForUpdate(Long sellerId);
+
+    SellerStats save(SellerStats stats);
+
+    List<Object[]> findReconciledAtBySellerIds(List<Long> sellerIds);
+
+    int applyOrderDelta(Long sellerId, LocalDateTime reconciledAt, long orders, long pendingOrders,
+                        long unitsSold, BigDecimal revenue);
+
+    List<Long> findSellerIds();
+}
@@ -10,6 +10,8 @@ public interface UserDAO {
 
     Optional<User> findById(Long id);
 
+    User getReference(Long id);
+
     Optional<User> findByEmail(String email);
 
     boolean existsByEmail(String email);
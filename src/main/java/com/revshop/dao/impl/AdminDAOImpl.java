@@ -2,11 +2,15 @@ package com.revshop.dao.impl;
 
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dao.AdminDAO;
+import com.revshop.dto.admin.CacheStatsResponse;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -20,6 +24,9 @@ public class AdminDAOImpl implements AdminDAO {
     @PersistenceContext
     private EntityManager em;
 
+    @Value("${spring.jpa.properties.hibernate.query.plan_cache_max_size:2048}")
+    private int queryPlanCacheMaxSize;
+
     @Override
     public long countUsers(Boolean includeDeleted) {
         String jpql = includeDeleted != null && includeDeleted
@@ -163,4 +170,23 @@ public class AdminDAOImpl implements AdminDAO {
         }
         return em.merge(user);
     }
+
+    @Override
+    public CacheStatsResponse getQueryPlanCacheStats() {
+        Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        long hits = statistics.getQueryPlanCacheHitCount();
+        long misses = statistics.getQueryPlanCacheMissCount();
+        long lookups = hits + misses;
+        // Hibernate does not expose plan cache occupancy; getQueries() lists the distinct query
+        // strings seen since statistics were enabled, which is reported as such.
+        return CacheStatsResponse.builder()
+                .name("hibernate-query-plan")
+                .distinctQueries(statistics.getQueries().length)
+                .maxSize(queryPlanCacheMaxSize)
+                .statisticsEnabled(statistics.isStatisticsEnabled())
+                .hits(hits)
+                .misses(misses)
+                .hitRatio(lookups == 0 ? 0.0 : (double) hits / lookups)
+                .build();
+    }
 }
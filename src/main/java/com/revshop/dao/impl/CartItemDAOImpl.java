@@ -7,6 +7,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,25 @@ public class CartItemDAOImpl implements CartItemDAO {
         return em.merge(cartItem);
     }
 
+    @Override
+    public int softDeleteByIds(List<Long> itemIds) {
+        if (itemIds == null || itemIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return DaoSupport.updateInChunks(itemIds, ids -> em.createQuery("""
+                UPDATE CartItem ci
+                SET ci.active = false,
+                    ci.isDeleted = true,
+                    ci.updatedAt = :now
+                WHERE ci.id IN :ids
+                AND ci.isDeleted = false
+                """)
+                .setParameter("now", now)
+                .setParameter("ids", ids)
+                .executeUpdate());
+    }
+
     @Override
     public List<CartItem> findActiveByCartId(Long cartId) {
         return em.createQuery("""
@@ -0,0 +1,44 @@
+package com.revshop.dao.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+final class DaoSupport {
+
+    // Oracle rejects IN lists with more than 1000 expressions (ORA-01795).
+    static final int MAX_IN_LIST_SIZE = 1000;
+
+    private DaoSupport() {
+    }
+
+    static <T, R> List<R> inChunks(List<T> ids, Function<List<T>, List<R>> query) {
+        if (ids.size() <= MAX_IN_LIST_SIZE) {
+            return query.apply(ids);
+        }
+        List<R> results = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+            results.addAll(query.apply(ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size()))));
+        }
+        return results;
+    }
+
+    static <T> int updateInChunks(List<T> ids, ToIntFunction<List<T>> update) {
+        int updated = 0;
+        for (int from = 0; from < ids.size(); from += MAX_IN_LIST_SIZE) {
+            updated += update.applyAsInt(ids.subList(from, Math.min(from + MAX_IN_LIST_SIZE, ids.size())));
+        }
+        return updated;
+    }
+
+    static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    // Bound against LOWER(column) LIKE ... ESCAPE '\'; the search index lower-cases the same way.
+    static String containsPattern(String value) {
+        return "%" + escapeLike(value.toLowerCase(Locale.ROOT)) + "%";
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,6 +27,11 @@ public class NotificationDAOImpl implements NotificationDAO {
         return em.merge(notification);
     }
 
+    @Override
+    public void saveAll(List<Notification> notifications) {
+        notifications.forEach(em::persist);
+    }
+
     @Override
     public Optional<Notification> findById(Long notificationId) {
         return em.createQuery("""
@@ -72,6 +78,21 @@ public class NotificationDAOImpl implements NotificationDAO {
                 .getResultList();
     }
 
+    @Override
+    public List<Notification> findChangedByRecipientId(Long recipientId, LocalDateTime changedSince) {
+        return em.createQuery("""
+                SELECT n FROM Notification n
+                WHERE n.recipient.id = :recipientId
+                AND n.active = true
+                AND n.isDeleted = false
+                AND (n.createdAt >= :changedSince OR n.updatedAt >= :changedSince)
+                ORDER BY n.createdAt DESC
+                """, Notification.class)
+                .setParameter("recipientId", recipientId)
+                .setParameter("changedSince", changedSince)
+                .getResultList();
+    }
+
     @Override
     public long countUnreadByRecipientEmail(String recipientEmail) {
         return em.createQuery("""
@@ -91,13 +112,15 @@ public class NotificationDAOImpl implements NotificationDAO {
     public long markAllAsReadByRecipientId(Long recipientId) {
         return em.createQuery("""
                 UPDATE Notification n
-                SET n.isRead = true
+                SET n.isRead = true,
+                    n.updatedAt = :now
                 WHERE n.recipient.id = :recipientId
                 AND n.active = true
                 AND n.isDeleted = false
                 AND n.isRead = false
                 """)
                 .setParameter("recipientId", recipientId)
+                .setParameter("now", LocalDateTime.now())
                 .executeUpdate();
     }
 }
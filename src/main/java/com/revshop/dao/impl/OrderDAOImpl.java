@@ -2,11 +2,15 @@ package com.revshop.dao.impl;
 
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dao.OrderDAO;
+import com.revshop.dto.order.SellerOrderCursor;
 import com.revshop.entity.Order;
+import com.revshop.entity.OrderStatus;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,11 +43,28 @@ public class OrderDAOImpl implements OrderDAO {
                 .findFirst();
     }
 
+    @Override
+    public List<Order> findAllByIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return List.of();
+        }
+        List<Long> sortedIds = orderIds.stream().distinct().sorted().toList();
+        return DaoSupport.inChunks(sortedIds, ids -> em.createQuery("""
+                SELECT o FROM CustomerOrder o
+                JOIN FETCH o.buyer b
+                WHERE o.id IN :ids
+                ORDER BY o.id
+                """, Order.class)
+                .setParameter("ids", ids)
+                .getResultList());
+    }
+
     @Override
     public List<Order> findByBuyerId(Long buyerId) {
         return em.createQuery("""
                 SELECT o FROM CustomerOrder o
-                WHERE o.buyer.id = :buyerId
+                JOIN FETCH o.buyer b
+                WHERE b.id = :buyerId
                 AND o.active = true
                 AND o.isDeleted = false
                 ORDER BY o.createdAt DESC
@@ -56,6 +77,7 @@ public class OrderDAOImpl implements OrderDAO {
     public List<Order> findBySellerEmail(String sellerEmail) {
         return em.createQuery("""
                 SELECT DISTINCT o FROM CustomerOrder o
+                JOIN FETCH o.buyer b
                 JOIN o.items oi
                 WHERE oi.seller.email = :sellerEmail
                 AND oi.active = true
@@ -67,4 +89,68 @@ public class OrderDAOImpl implements OrderDAO {
                 .setParameter("sellerEmail", sellerEmail)
                 .getResultList();
     }
+
+    @Override
+    public List<Order> findSellerInboxPage(
+            Long sellerId,
+            OrderStatus status,
+            LocalDateTime createdFrom,
+            LocalDateTime createdTo,
+            String orderNumberPrefix,
+            SellerOrderCursor after,
+            int limit
+    ) {
+        // EXISTS on the seller's items keeps one row per order without DISTINCT, and is answered
+        // from idx_order_items_seller_order; the (created_at, id) seek walks idx_orders_created_id.
+        StringBuilder jpql = new StringBuilder("""
+                SELECT o FROM CustomerOrder o
+                JOIN FETCH o.buyer b
+                WHERE o.active = true
+                AND o.isDeleted = false
+                AND EXISTS (
+                    SELECT 1 FROM OrderItem oi
+                    WHERE oi.order = o
+                    AND oi.seller.id = :sellerId
+                    AND oi.active = true
+                    AND oi.isDeleted = false
+                )
+                """);
+        if (status != null) {
+            jpql.append(" AND o.status = :status");
+        }
+        if (createdFrom != null) {
+            jpql.append(" AND o.createdAt >= :createdFrom");
+        }
+        if (createdTo != null) {
+            jpql.append(" AND o.createdAt < :createdTo");
+        }
+        if (orderNumberPrefix != null) {
+            jpql.append(" AND o.orderNumber LIKE :orderNumberPrefix ESCAPE '\\'");
+        }
+        if (after != null) {
+            jpql.append(" AND (o.createdAt < :cursorCreatedAt OR (o.createdAt = :cursorCreatedAt AND o.id < :cursorId))");
+        }
+        jpql.append(" ORDER BY o.createdAt DESC, o.id DESC");
+
+        TypedQuery<Order> query = em.createQuery(jpql.toString(), Order.class)
+                .setParameter("sellerId", sellerId)
+                .setMaxResults(limit);
+        if (status != null) {
+            query.setParameter("status", status);
+        }
+        if (createdFrom != null) {
+            query.setParameter("createdFrom", createdFrom);
+        }
+        if (createdTo != null) {
+            query.setParameter("createdTo", createdTo);
+        }
+        if (orderNumberPrefix != null) {
+            query.setParameter("orderNumberPrefix", DaoSupport.escapeLike(orderNumberPrefix) + "%");
+        }
+        if (after != null) {
+            query.setParameter("cursorCreatedAt", after.getLastCreatedAt())
+                    .setParameter("cursorId", after.getLastId());
+        }
+        return query.getResultList();
+    }
 }
@@ -9,12 +9,27 @@ import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Repository
 @Log4j2
 public class OrderItemDAOImpl implements OrderItemDAO {
 
+    private static final List<OrderStatus> SALES_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::countsAsSale)
+            .toList();
+    private static final List<OrderStatus> PENDING_STATUSES = Arrays.stream(OrderStatus.values())
+            .filter(OrderStatus::isPending)
+            .toList();
+
     @PersistenceContext
     private EntityManager em;
 
@@ -27,10 +42,19 @@ public class OrderItemDAOImpl implements OrderItemDAO {
         return em.merge(orderItem);
     }
 
+    @Override
+    public List<OrderItem> saveAll(List<OrderItem> orderItems) {
+        // Persist without flushing; Hibernate sends the inserts as one JDBC batch at flush time.
+        orderItems.forEach(em::persist);
+        return orderItems;
+    }
+
     @Override
     public List<OrderItem> findByOrderId(Long orderId) {
         return em.createQuery("""
                 SELECT oi FROM OrderItem oi
+                JOIN FETCH oi.product p
+                JOIN FETCH oi.seller s
                 WHERE oi.order.id = :orderId
                 AND oi.active = true
                 AND oi.isDeleted = false
@@ -41,21 +65,102 @@ public class OrderItemDAOImpl implements OrderItemDAO {
     }
 
     @Override
-    public List<OrderItem> findBySellerEmail(String sellerEmail) {
-        return em.createQuery("""
-                SELECT oi FROM OrderItem oi
-                JOIN FETCH oi.order o
-                JOIN FETCH o.buyer b
-                JOIN FETCH oi.product p
-                WHERE oi.seller.email = :sellerEmail
+    public Map<Long, List<OrderItem>> findByOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<OrderItem>> itemsByOrder = new LinkedHashMap<>();
+        DaoSupport.inChunks(orderIds, ids -> em.createQuery("""
+                        SELECT oi FROM OrderItem oi
+                        JOIN FETCH oi.product p
+                        JOIN FETCH oi.seller s
+                        WHERE oi.order.id IN :orderIds
+                        AND oi.active = true
+                        AND oi.isDeleted = false
+                        ORDER BY oi.createdAt ASC
+                        """, OrderItem.class)
+                        .setParameter("orderIds", ids)
+                        .getResultList())
+                .forEach(item -> itemsByOrder.computeIfAbsent(item.getOrder().getId(), ignored -> new ArrayList<>())
+                        .add(item));
+        return itemsByOrder;
+    }
+
+    @Override
+    public boolean existsByOrderIdAndSellerId(Long orderId, Long sellerId) {
+        // Stops at the first matching idx_order_items_seller_order entry instead of reading the order's items.
+        return !em.createQuery("""
+                SELECT 1 FROM OrderItem oi
+                WHERE oi.order.id = :orderId
+                AND oi.seller.id = :sellerId
                 AND oi.active = true
                 AND oi.isDeleted = false
-                AND o.active = true
+                """, Integer.class)
+                .setParameter("orderId", orderId)
+                .setParameter("sellerId", sellerId)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
+    @Override
+    public Map<Long, Set<Long>> findSellerIdsByOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Set<Long>> sellerIds = new LinkedHashMap<>();
+        DaoSupport.inChunks(orderIds, ids -> em.createQuery("""
+                        SELECT DISTINCT oi.order.id, oi.seller.id FROM OrderItem oi
+                        WHERE oi.order.id IN :orderIds
+                        AND oi.active = true
+                        AND oi.isDeleted = false
+                        """, Object[].class)
+                        .setParameter("orderIds", ids)
+                        .getResultList())
+                .forEach(row -> sellerIds.computeIfAbsent((Long) row[0], ignored -> new LinkedHashSet<>())
+                        .add((Long) row[1]));
+        return sellerIds;
+    }
+
+    @Override
+    public List<Object[]> findRecentOrderSummariesBySellerId(Long sellerId, int limit) {
+        // Pick the newest order ids first so the aggregate below only touches recentLimit orders.
+        List<Long> orderIds = em.createQuery("""
+                SELECT o.id FROM CustomerOrder o
+                WHERE o.active = true
                 AND o.isDeleted = false
-                ORDER BY o.createdAt DESC
-                """, OrderItem.class)
-                .setParameter("sellerEmail", sellerEmail)
+                AND EXISTS (
+                    SELECT 1 FROM OrderItem oi
+                    WHERE oi.order = o
+                    AND oi.seller.id = :sellerId
+                    AND oi.active = true
+                    AND oi.isDeleted = false
+                )
+                ORDER BY o.createdAt DESC, o.id DESC
+                """, Long.class)
+                .setParameter("sellerId", sellerId)
+                .setMaxResults(Math.min(Math.max(1, limit), DaoSupport.MAX_IN_LIST_SIZE))
                 .getResultList();
+        if (orderIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = new ArrayList<>(em.createQuery("""
+                SELECT o.id, o.orderNumber, b.email, o.status, o.createdAt, SUM(oi.quantity), SUM(oi.lineTotal)
+                FROM OrderItem oi
+                JOIN oi.order o
+                JOIN o.buyer b
+                WHERE o.id IN :orderIds
+                AND oi.seller.id = :sellerId
+                AND oi.active = true
+                AND oi.isDeleted = false
+                GROUP BY o.id, o.orderNumber, b.email, o.status, o.createdAt
+                """, Object[].class)
+                .setParameter("orderIds", orderIds)
+                .setParameter("sellerId", sellerId)
+                .getResultList());
+        rows.sort(Comparator.comparingInt(row -> orderIds.indexOf((Long) row[0])));
+        return rows;
     }
 
     @Override
@@ -87,7 +192,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 AND o.status IN :statuses
                 """, Long.class)
                 .setParameter("sellerEmail", sellerEmail)
-                .setParameter("statuses", List.of(OrderStatus.PLACED, OrderStatus.CONFIRMED, OrderStatus.SHIPPED))
+                .setParameter("statuses", PENDING_STATUSES)
                 .getSingleResult();
         return count == null ? 0 : count;
     }
@@ -105,14 +210,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 AND o.status IN :salesStatuses
                 """, Long.class)
                 .setParameter("sellerEmail", sellerEmail)
-                .setParameter("salesStatuses", List.of(
-                        OrderStatus.CONFIRMED,
-                        OrderStatus.SHIPPED,
-                        OrderStatus.DELIVERED,
-                        OrderStatus.RETURN_REQUESTED,
-                        OrderStatus.EXCHANGE_REQUESTED,
-                        OrderStatus.EXCHANGED
-                ))
+                .setParameter("salesStatuses", SALES_STATUSES)
                 .getSingleResult();
         return count == null ? 0 : count;
     }
@@ -130,14 +228,7 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 AND o.status IN :salesStatuses
                 """, BigDecimal.class)
                 .setParameter("sellerEmail", sellerEmail)
-                .setParameter("salesStatuses", List.of(
-                        OrderStatus.CONFIRMED,
-                        OrderStatus.SHIPPED,
-                        OrderStatus.DELIVERED,
-                        OrderStatus.RETURN_REQUESTED,
-                        OrderStatus.EXCHANGE_REQUESTED,
-                        OrderStatus.EXCHANGED
-                ))
+                .setParameter("salesStatuses", SALES_STATUSES)
                 .getSingleResult();
         return total == null ? BigDecimal.ZERO : total;
     }
@@ -159,15 +250,45 @@ public class OrderItemDAOImpl implements OrderItemDAO {
                 ORDER BY SUM(oi.lineTotal) DESC
                 """, Object[].class)
                 .setParameter("sellerEmail", sellerEmail)
-                .setParameter("salesStatuses", List.of(
-                        OrderStatus.CONFIRMED,
-                        OrderStatus.SHIPPED,
-                        OrderStatus.DELIVERED,
-                        OrderStatus.RETURN_REQUESTED,
-                        OrderStatus.EXCHANGE_REQUESTED,
-                        OrderStatus.EXCHANGED
-                ))
+                .setParameter("salesStatuses", SALES_STATUSES)
                 .setMaxResults(Math.max(1, limit))
                 .getResultList();
     }
+
+    @Override
+    public List<Object[]> sumSoldQuantityByProduct() {
+        return em.createQuery("""
+                SELECT oi.product.id, SUM(oi.quantity)
+                FROM OrderItem oi
+                JOIN oi.order o
+                WHERE oi.active = true
+                AND oi.isDeleted = false
+                AND o.active = true
+                AND o.isDeleted = false
+                AND o.status IN :salesStatuses
+                GROUP BY oi.product.id
+                """, Object[].class)
+                .setParameter("salesStatuses", SALES_STATUSES)
+                .getResultList();
+    }
+
+    @Override
+    public List<Object[]> findSalesLinesBySellerIdSince(Long sellerId, LocalDateTime createdFrom) {
+        return em.createQuery("""
+                SELECT oi.product.id, o.createdAt, oi.quantity, oi.lineTotal
+                FROM OrderItem oi
+                JOIN oi.order o
+                WHERE oi.seller.id = :sellerId
+                AND oi.active = true
+                AND oi.isDeleted = false
+                AND o.active = true
+                AND o.isDeleted = false
+                AND o.status IN :salesStatuses
+                AND o.createdAt >= :createdFrom
+                """, Object[].class)
+                .setParameter("sellerId", sellerId)
+                .setParameter("salesStatuses", SALES_STATUSES)
+                .setParameter("createdFrom", createdFrom)
+                .getResultList();
+    }
 }
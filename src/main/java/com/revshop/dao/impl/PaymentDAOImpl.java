@@ -7,7 +7,9 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -52,6 +54,24 @@ public class PaymentDAOImpl implements PaymentDAO {
                 .findFirst();
     }
 
+    @Override
+    public Map<Long, Payment> findByOrderIds(List<Long> orderIds) {
+        if (orderIds == null || orderIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, Payment> paymentsByOrder = new HashMap<>();
+        DaoSupport.inChunks(orderIds, ids -> em.createQuery("""
+                        SELECT p FROM Payment p
+                        WHERE p.order.id IN :orderIds
+                        AND p.active = true
+                        AND p.isDeleted = false
+                        """, Payment.class)
+                        .setParameter("orderIds", ids)
+                        .getResultList())
+                .forEach(payment -> paymentsByOrder.putIfAbsent(payment.getOrder().getId(), payment));
+        return paymentsByOrder;
+    }
+
     @Override
     public List<Payment> findByBuyerId(Long buyerId) {
         return em.createQuery("""
@@ -0,0 +1,51 @@
+package com.revshop.dao.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.PendingStockDeltaDAO;
+import com.revshop.entity.PendingStockDelta;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+@Log4j2
+public class PendingStockDeltaDAOImpl implements PendingStockDeltaDAO {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void save(PendingStockDelta delta) {
+        em.persist(delta);
+    }
+
+    @Override
+    public List<PendingStockDelta> findAll() {
+        return em.createQuery("SELECT d FROM PendingStockDelta d ORDER BY d.id", PendingStockDelta.class)
+                .getResultList();
+    }
+
+    @Override
+    public List<PendingStockDelta> findByProductId(Long productId) {
+        return em.createQuery("""
+                SELECT d FROM PendingStockDelta d
+                WHERE d.productId = :productId
+                ORDER BY d.id
+                """, PendingStockDelta.class)
+                .setParameter("productId", productId)
+                .getResultList();
+    }
+
+    @Override
+    public int deleteByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return 0;
+        }
+        return DaoSupport.updateInChunks(ids, chunk -> em.createQuery(
+                        "DELETE FROM PendingStockDelta d WHERE d.id IN :ids")
+                .setParameter("ids", chunk)
+                .executeUpdate());
+    }
+}
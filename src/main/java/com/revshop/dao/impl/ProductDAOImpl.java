@@ -2,23 +2,69 @@ package com.revshop.dao.impl;
 
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dao.ProductDAO;
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductSearchCursor;
 import com.revshop.entity.Product;
+import com.revshop.entity.ProductStatus;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.TypedQuery;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.util.ArrayList;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
 
 @Repository
 @RequiredArgsConstructor
 @Log4j2
 public class ProductDAOImpl implements ProductDAO {
 
+    static final String ROW_SELECT = """
+            SELECT new com.revshop.dto.product.ProductListRow(
+                p.id, p.name, p.description, p.price, p.mrpPrice, p.discountedPrice,
+                p.stock, p.lowStockThreshold, p.inStock, p.active, p.status,
+                c.id, c.name, s.id, s.email, p.createdAt, p.updatedAt
+            )
+            FROM Product p
+            JOIN p.category c
+            JOIN p.seller s
+            """;
+
+    private static final String DECREMENT_STOCK_SQL = """
+            UPDATE products
+            SET stock = stock - ?,
+                in_stock = CASE WHEN stock - ? > 0 THEN ? ELSE ? END,
+                status = CASE WHEN stock - ? > 0 THEN status ELSE ? END,
+                updated_at = ?
+            WHERE id = ?
+            AND stock >= ?
+            AND active = ?
+            AND is_deleted = ?
+            """;
+
+    private static final String INCREMENT_STOCK_SQL = """
+            UPDATE products
+            SET stock = stock + ?,
+                in_stock = CASE WHEN stock + ? > 0 THEN ? ELSE ? END,
+                status = CASE WHEN stock + ? > 0 AND status = ? THEN ? ELSE status END,
+                updated_at = ?
+            WHERE id = ?
+            """;
+
     private final EntityManager em;
+    private final ProductSearchQueryRegistry searchQueries;
 
     @Override
     public Product save(Product product) {
@@ -42,52 +88,232 @@ public class ProductDAOImpl implements ProductDAO {
     }
 
     @Override
-    public List<Product> findBySellerEmail(String email) {
-        return em.createQuery("""
+    public Optional<ProductListRow> findRowById(Long id) {
+        return em.createQuery(ROW_SELECT + """
+                WHERE p.id = :id
+                AND p.isDeleted = false
+                """, ProductListRow.class)
+                .setParameter("id", id)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public List<Product> findAllByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        List<Long> sortedIds = ids.stream().distinct().sorted().toList();
+        return DaoSupport.inChunks(sortedIds, chunk -> em.createQuery("""
                 SELECT p FROM Product p
-                WHERE p.seller.email = :email
-                AND p.active = true
+                WHERE p.id IN :ids
                 AND p.isDeleted = false
+                ORDER BY p.id
                 """, Product.class)
+                .setParameter("ids", chunk)
+                .getResultList());
+    }
+
+    @Override
+    public boolean decrementStock(Long productId, int quantity) {
+        return decrementStock(Map.of(productId, quantity)).isEmpty();
+    }
+
+    @Override
+    public Set<Long> decrementStock(Map<Long, Integer> quantities) {
+        if (quantities == null || quantities.isEmpty()) {
+            return Set.of();
+        }
+        // Ascending id order keeps concurrent multi-product checkouts from deadlocking on row locks.
+        List<Map.Entry<Long, Integer>> ordered = sortedById(quantities);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] updated = em.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(DECREMENT_STOCK_SQL)) {
+                for (Map.Entry<Long, Integer> entry : ordered) {
+                    int quantity = entry.getValue();
+                    statement.setInt(1, quantity);
+                    statement.setInt(2, quantity);
+                    statement.setBoolean(3, true);
+                    statement.setBoolean(4, false);
+                    statement.setInt(5, quantity);
+                    statement.setString(6, ProductStatus.OUT_OF_STOCK.name());
+                    statement.setTimestamp(7, now);
+                    statement.setLong(8, entry.getKey());
+                    statement.setInt(9, quantity);
+                    statement.setBoolean(10, true);
+                    statement.setBoolean(11, false);
+                    statement.addBatch();
+                }
+                return statement.executeBatch();
+            }
+        });
+
+        Set<Long> rejected = new LinkedHashSet<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            if (updated[i] == 0) {
+                rejected.add(ordered.get(i).getKey());
+            }
+        }
+        return rejected;
+    }
+
+    @Override
+    public void incrementStock(Map<Long, Integer> quantities) {
+        if (quantities == null || quantities.isEmpty()) {
+            return;
+        }
+        List<Map.Entry<Long, Integer>> ordered = sortedById(quantities);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        em.unwrap(Session.class).doWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(INCREMENT_STOCK_SQL)) {
+                for (Map.Entry<Long, Integer> entry : ordered) {
+                    int quantity = entry.getValue();
+                    statement.setInt(1, quantity);
+                    statement.setInt(2, quantity);
+                    statement.setBoolean(3, true);
+                    statement.setBoolean(4, false);
+                    statement.setInt(5, quantity);
+                    statement.setString(6, ProductStatus.OUT_OF_STOCK.name());
+                    statement.setString(7, ProductStatus.ACTIVE.name());
+                    statement.setTimestamp(8, now);
+                    statement.setLong(9, entry.getKey());
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        });
+    }
+
+    @Override
+    public void refreshStock(Collection<Product> products) {
+        if (products == null || products.isEmpty()) {
+            return;
+        }
+        // The stock columns were changed by SQL behind the persistence context. Pending changes are written
+        // first and the products are then detached, so the values read back below are never flushed over a
+        // later SQL change; anyone who needs the rows managed again loads them afresh.
+        em.flush();
+        products.forEach(em::detach);
+        List<Long> ids = products.stream().map(Product::getId).distinct().toList();
+        Map<Long, Object[]> rows = new HashMap<>();
+        DaoSupport.inChunks(ids, chunk -> em.createQuery("""
+                        SELECT p.id, p.stock, p.inStock, p.status FROM Product p
+                        WHERE p.id IN :ids
+                        """, Object[].class)
+                        .setParameter("ids", chunk)
+                        .getResultList())
+                .forEach(row -> rows.put((Long) row[0], row));
+
+        for (Product product : products) {
+            Object[] row = rows.get(product.getId());
+            if (row == null) {
+                continue;
+            }
+            product.setStock((Integer) row[1]);
+            product.setInStock((Boolean) row[2]);
+            product.setStatus((ProductStatus) row[3]);
+        }
+    }
+
+    @Override
+    public List<ProductListRow> findRowsByIds(List<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return List.of();
+        }
+        return DaoSupport.inChunks(ids, chunk -> em.createQuery(ROW_SELECT + """
+                WHERE p.id IN :ids
+                AND p.active = true
+                AND p.isDeleted = false
+                """, ProductListRow.class)
+                .setParameter("ids", chunk)
+                .getResultList());
+    }
+
+    @Override
+    public List<ProductListRow> findRowsBySellerEmail(String email) {
+        return em.createQuery(ROW_SELECT + """
+                WHERE s.email = :email
+                AND p.active = true
+                AND p.isDeleted = false
+                """, ProductListRow.class)
                 .setParameter("email", email)
                 .getResultList();
     }
 
     @Override
-    public List<Product> findByCategory(Long categoryId) {
-        return em.createQuery("""
-                SELECT p FROM Product p
-                WHERE p.category.id = :id
+    public List<ProductListRow> findRowsByCategory(Long categoryId) {
+        return em.createQuery(ROW_SELECT + """
+                WHERE c.id = :id
                 AND p.active = true
                 AND p.isDeleted = false
-                """, Product.class)
+                """, ProductListRow.class)
                 .setParameter("id", categoryId)
                 .getResultList();
     }
 
+    @Override
+    public List<ProductListRow> findActiveRows() {
+        return em.createQuery(ROW_SELECT + """
+                WHERE p.active = true
+                AND p.isDeleted = false
+                """, ProductListRow.class).getResultList();
+    }
+
     @Override
     public List<Product> findActiveProducts() {
         return em.createQuery("""
                 SELECT p FROM Product p
+                JOIN FETCH p.category
                 WHERE p.active = true
                 AND p.isDeleted = false
                 """, Product.class).getResultList();
     }
 
     @Override
-    public List<Product> searchByName(String keyword) {
-        return em.createQuery("""
+    public Stream<Product> streamActiveProducts(Long categoryId, String sellerEmail, int fetchSize) {
+        StringBuilder jpql = new StringBuilder("""
                 SELECT p FROM Product p
-                WHERE LOWER(p.name) LIKE LOWER(CONCAT('%', :k, '%'))
-                AND p.active = true
+                JOIN FETCH p.category
+                JOIN FETCH p.seller
+                WHERE p.active = true
                 AND p.isDeleted = false
-                """, Product.class)
-                .setParameter("k", keyword)
+                """);
+        if (categoryId != null) {
+            jpql.append(" AND p.category.id = :categoryId");
+        }
+        if (sellerEmail != null) {
+            jpql.append(" AND p.seller.email = :sellerEmail");
+        }
+        jpql.append(" ORDER BY p.id");
+
+        TypedQuery<Product> query = em.createQuery(jpql.toString(), Product.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (sellerEmail != null) {
+            query.setParameter("sellerEmail", sellerEmail);
+        }
+        return query.getResultStream();
+    }
+
+    @Override
+    public void detach(List<Product> products) {
+        products.forEach(em::detach);
+    }
+
+    @Override
+    public List<ProductListRow> searchRowsByKeyword(String keyword) {
+        return em.createQuery(ROW_SELECT + " WHERE p.active = true AND p.isDeleted = false"
+                        + ProductSearchQueryRegistry.KEYWORD_CLAUSE, ProductListRow.class)
+                .setParameter("keyword", DaoSupport.containsPattern(keyword))
                 .getResultList();
     }
 
     @Override
-    public List<Product> searchPublicProducts(
+    public List<ProductListRow> searchPublicProducts(
             String keyword,
             Long categoryId,
             BigDecimal minPrice,
@@ -98,60 +324,37 @@ public class ProductDAOImpl implements ProductDAO {
             int offset,
             int limit
     ) {
-        String orderByExpr = switch (sortBy) {
-            case "name" -> "LOWER(p.name)";
-            case "price" -> "p.price";
-            case "createdAt" -> "p.createdAt";
-            default -> "p.createdAt";
-        };
-        String direction = "asc".equalsIgnoreCase(sortDir) ? "ASC" : "DESC";
-
-        StringBuilder jpql = new StringBuilder("""
-                SELECT p FROM Product p
-                WHERE p.active = true
-                AND p.isDeleted = false
-                """);
-        List<String> clauses = new ArrayList<>();
+        int filters = ProductSearchQueryRegistry.filterMask(keyword, categoryId, minPrice, maxPrice, inStock);
+        TypedQuery<ProductListRow> query = em.createNamedQuery(
+                searchQueries.pageQuery(filters, sortBy, "asc".equalsIgnoreCase(sortDir)),
+                ProductListRow.class
+        );
+        bindPublicFilters(query, keyword, categoryId, minPrice, maxPrice, inStock);
 
-        if (keyword != null && !keyword.isBlank()) {
-            clauses.add("LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))");
-        }
-        if (categoryId != null) {
-            clauses.add("p.category.id = :categoryId");
-        }
-        if (minPrice != null) {
-            clauses.add("p.price >= :minPrice");
-        }
-        if (maxPrice != null) {
-            clauses.add("p.price <= :maxPrice");
-        }
-        if (inStock != null) {
-            clauses.add("p.inStock = :inStock");
-        }
-
-        for (String clause : clauses) {
-            jpql.append(" AND ").append(clause);
-        }
-        jpql.append(" ORDER BY ").append(orderByExpr).append(" ").append(direction);
+        return query.setFirstResult(Math.max(0, offset))
+                .setMaxResults(Math.max(1, limit))
+                .getResultList();
+    }
 
-        TypedQuery<Product> query = em.createQuery(jpql.toString(), Product.class);
-        if (keyword != null && !keyword.isBlank()) {
-            query.setParameter("keyword", keyword);
-        }
-        if (categoryId != null) {
-            query.setParameter("categoryId", categoryId);
-        }
-        if (minPrice != null) {
-            query.setParameter("minPrice", minPrice);
-        }
-        if (maxPrice != null) {
-            query.setParameter("maxPrice", maxPrice);
-        }
-        if (inStock != null) {
-            query.setParameter("inStock", inStock);
-        }
+    @Override
+    public List<ProductListRow> seekPublicProducts(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            ProductSearchCursor after,
+            int limit
+    ) {
+        int filters = ProductSearchQueryRegistry.filterMask(keyword, categoryId, minPrice, maxPrice, inStock);
+        TypedQuery<ProductListRow> query = em.createNamedQuery(
+                searchQueries.seekQuery(filters, after.getSortBy(), after.isAscending()),
+                ProductListRow.class
+        );
+        bindPublicFilters(query, keyword, categoryId, minPrice, maxPrice, inStock);
 
-        return query.setFirstResult(Math.max(0, offset))
+        return query.setParameter("cursorKey", after.sortKey())
+                .setParameter("cursorId", after.getLastId())
                 .setMaxResults(Math.max(1, limit))
                 .getResultList();
     }
@@ -164,54 +367,28 @@ public class ProductDAOImpl implements ProductDAO {
             BigDecimal maxPrice,
             Boolean inStock
     ) {
-        StringBuilder jpql = new StringBuilder("""
-                SELECT COUNT(p) FROM Product p
-                WHERE p.active = true
-                AND p.isDeleted = false
-                """);
-        List<String> clauses = new ArrayList<>();
-
-        if (keyword != null && !keyword.isBlank()) {
-            clauses.add("LOWER(p.name) LIKE LOWER(CONCAT('%', :keyword, '%'))");
-        }
-        if (categoryId != null) {
-            clauses.add("p.category.id = :categoryId");
-        }
-        if (minPrice != null) {
-            clauses.add("p.price >= :minPrice");
-        }
-        if (maxPrice != null) {
-            clauses.add("p.price <= :maxPrice");
-        }
-        if (inStock != null) {
-            clauses.add("p.inStock = :inStock");
-        }
-
-        for (String clause : clauses) {
-            jpql.append(" AND ").append(clause);
-        }
-
-        TypedQuery<Long> query = em.createQuery(jpql.toString(), Long.class);
-        if (keyword != null && !keyword.isBlank()) {
-            query.setParameter("keyword", keyword);
-        }
-        if (categoryId != null) {
-            query.setParameter("categoryId", categoryId);
-        }
-        if (minPrice != null) {
-            query.setParameter("minPrice", minPrice);
-        }
-        if (maxPrice != null) {
-            query.setParameter("maxPrice", maxPrice);
-        }
-        if (inStock != null) {
-            query.setParameter("inStock", inStock);
-        }
+        int filters = ProductSearchQueryRegistry.filterMask(keyword, categoryId, minPrice, maxPrice, inStock);
+        TypedQuery<Long> query = em.createNamedQuery(searchQueries.countQuery(filters), Long.class);
+        bindPublicFilters(query, keyword, categoryId, minPrice, maxPrice, inStock);
 
         Long total = query.getSingleResult();
         return total == null ? 0 : total;
     }
 
+    @Override
+    public List<Object[]> countPublicProductFacets(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock
+    ) {
+        int filters = ProductSearchQueryRegistry.filterMask(keyword, categoryId, minPrice, maxPrice, inStock);
+        TypedQuery<Object[]> query = em.createNamedQuery(searchQueries.facetQuery(filters), Object[].class);
+        bindPublicFilters(query, keyword, categoryId, minPrice, maxPrice, inStock);
+        return query.getResultList();
+    }
+
     @Override
     public long countBySellerEmail(String sellerEmail) {
         Long count = em.createQuery("""
@@ -253,15 +430,14 @@ public class ProductDAOImpl implements ProductDAO {
     }
 
     @Override
-    public List<Product> findLowStockBySellerEmail(String sellerEmail) {
-        return em.createQuery("""
-                SELECT p FROM Product p
-                WHERE p.seller.email = :sellerEmail
+    public List<ProductListRow> findLowStockRowsBySellerEmail(String sellerEmail) {
+        return em.createQuery(ROW_SELECT + """
+                WHERE s.email = :sellerEmail
                 AND p.active = true
                 AND p.isDeleted = false
                 AND p.stock <= COALESCE(p.lowStockThreshold, 5)
                 ORDER BY p.stock ASC, p.updatedAt DESC
-                """, Product.class)
+                """, ProductListRow.class)
                 .setParameter("sellerEmail", sellerEmail)
                 .getResultList();
     }
@@ -278,4 +454,36 @@ public class ProductDAOImpl implements ProductDAO {
                 .getSingleResult();
         return count == null ? 0 : count;
     }
+
+    private List<Map.Entry<Long, Integer>> sortedById(Map<Long, Integer> quantities) {
+        return quantities.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .toList();
+    }
+
+    private void bindPublicFilters(
+            TypedQuery<?> query,
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock
+    ) {
+        if (keyword != null && !keyword.isBlank()) {
+            query.setParameter("keyword", DaoSupport.containsPattern(keyword));
+        }
+        if (categoryId != null) {
+            query.setParameter("categoryId", categoryId);
+        }
+        if (minPrice != null) {
+            query.setParameter("minPrice", minPrice);
+        }
+        if (maxPrice != null) {
+            query.setParameter("maxPrice", maxPrice);
+        }
+        if (inStock != null) {
+            query.setParameter("inStock", inStock);
+        }
+    }
 }
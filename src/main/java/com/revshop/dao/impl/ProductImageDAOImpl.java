@@ -7,7 +7,10 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 @Repository
@@ -37,6 +40,24 @@ public class ProductImageDAOImpl implements ProductImageDAO {
                 .getResultList();
     }
 
+    @Override
+    public Map<Long, List<String>> findImageUrlsByProductIds(List<Long> productIds) {
+        if (productIds == null || productIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<Long, List<String>> imageUrls = new LinkedHashMap<>();
+        DaoSupport.inChunks(productIds, ids -> em.createQuery("""
+                        SELECT i.product.id, i.imageUrl FROM ProductImage i
+                        WHERE i.product.id IN :productIds
+                        ORDER BY i.product.id, i.displayOrder ASC NULLS LAST
+                        """, Object[].class)
+                        .setParameter("productIds", ids)
+                        .getResultList())
+                .forEach(row -> imageUrls.computeIfAbsent((Long) row[0], ignored -> new ArrayList<>())
+                        .add((String) row[1]));
+        return imageUrls;
+    }
+
     @Override
     public Optional<ProductImage> findById(Long imageId) {
         return Optional.ofNullable(em.find(ProductImage.class, imageId));
@@ -0,0 +1,161 @@
+package com.revshop.dao.impl;
+
+import com.revshop.dto.product.PriceBucket;
+import com.revshop.dto.product.ProductListRow;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.log4j.Log4j2;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Registers every public product search variant as a named query at startup. Each optional
+ * filter is one bit of a mask, so a request only picks a name and binds its values; the JPQL is
+ * never rebuilt or re-parsed on the request path.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class ProductSearchQueryRegistry {
+
+    static final int KEYWORD = 1;
+    static final int CATEGORY = 1 << 1;
+    static final int MIN_PRICE = 1 << 2;
+    static final int MAX_PRICE = 1 << 3;
+    static final int IN_STOCK = 1 << 4;
+    static final int FILTER_COMBINATIONS = 1 << 5;
+
+    static final List<String> SORT_KEYS = List.of("createdAt", "name", "price");
+    private static final List<String> DIRECTIONS = List.of("ASC", "DESC");
+
+    private static final String PUBLIC_WHERE = " WHERE p.active = true AND p.isDeleted = false";
+    static final String KEYWORD_CLAUSE = " AND (LOWER(p.name) LIKE :keyword ESCAPE '\\'"
+            + " OR LOWER(p.description) LIKE :keyword ESCAPE '\\'"
+            + " OR LOWER(p.category.name) LIKE :keyword ESCAPE '\\')";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    private int registeredCount;
+
+    @PostConstruct
+    void registerQueries() {
+        EntityManager em = entityManagerFactory.createEntityManager();
+        try {
+            String priceBucketExpr = priceBucketExpr();
+            for (int filters = 0; filters < FILTER_COMBINATIONS; filters++) {
+                String where = PUBLIC_WHERE + filterClauses(filters);
+                for (String sortBy : SORT_KEYS) {
+                    String orderByExpr = orderByExpr(sortBy);
+                    for (String direction : DIRECTIONS) {
+                        String comparison = "ASC".equals(direction) ? ">" : "<";
+                        String orderBy = " ORDER BY " + orderByExpr + " " + direction + ", p.id " + direction;
+                        register(em, pageQuery(filters, sortBy, "ASC".equals(direction)),
+                                ProductDAOImpl.ROW_SELECT + where + orderBy, ProductListRow.class);
+                        register(em, seekQuery(filters, sortBy, "ASC".equals(direction)),
+                                ProductDAOImpl.ROW_SELECT + where
+                                        + " AND (" + orderByExpr + " " + comparison + " :cursorKey"
+                                        + " OR (" + orderByExpr + " = :cursorKey AND p.id " + comparison + " :cursorId))"
+                                        + orderBy,
+                                ProductListRow.class);
+                    }
+                }
+                register(em, countQuery(filters), "SELECT COUNT(p) FROM Product p" + where, Long.class);
+                register(em, facetQuery(filters),
+                        "SELECT p.category.id, " + priceBucketExpr + ", p.inStock, COUNT(p) FROM Product p" + where
+                                + " GROUP BY p.category.id, " + priceBucketExpr + ", p.inStock",
+                        Object[].class);
+            }
+        } finally {
+            em.close();
+        }
+        log.info("Registered {} product search queries", registeredCount);
+    }
+
+    static int filterMask(String keyword, Long categoryId, BigDecimal minPrice, BigDecimal maxPrice, Boolean inStock) {
+        int filters = 0;
+        if (keyword != null && !keyword.isBlank()) {
+            filters |= KEYWORD;
+        }
+        if (categoryId != null) {
+            filters |= CATEGORY;
+        }
+        if (minPrice != null) {
+            filters |= MIN_PRICE;
+        }
+        if (maxPrice != null) {
+            filters |= MAX_PRICE;
+        }
+        if (inStock != null) {
+            filters |= IN_STOCK;
+        }
+        return filters;
+    }
+
+    String pageQuery(int filters, String sortBy, boolean ascending) {
+        return "ProductSearch.page." + filters + "." + sortKey(sortBy) + "." + (ascending ? "ASC" : "DESC");
+    }
+
+    String seekQuery(int filters, String sortBy, boolean ascending) {
+        return "ProductSearch.seek." + filters + "." + sortKey(sortBy) + "." + (ascending ? "ASC" : "DESC");
+    }
+
+    String countQuery(int filters) {
+        return "ProductSearch.count." + filters;
+    }
+
+    String facetQuery(int filters) {
+        return "ProductSearch.facets." + filters;
+    }
+
+    private void register(EntityManager em, String name, String jpql, Class<?> resultType) {
+        entityManagerFactory.addNamedQuery(name, em.createQuery(jpql, resultType));
+        registeredCount++;
+    }
+
+    private static String sortKey(String sortBy) {
+        return SORT_KEYS.contains(sortBy) ? sortBy : "createdAt";
+    }
+
+    private static String orderByExpr(String sortBy) {
+        return switch (sortBy) {
+            case "name" -> "LOWER(p.name)";
+            case "price" -> "p.price";
+            default -> "p.createdAt";
+        };
+    }
+
+    private static String filterClauses(int filters) {
+        StringBuilder clauses = new StringBuilder();
+        if ((filters & KEYWORD) != 0) {
+            clauses.append(KEYWORD_CLAUSE);
+        }
+        if ((filters & CATEGORY) != 0) {
+            clauses.append(" AND p.category.id = :categoryId");
+        }
+        if ((filters & MIN_PRICE) != 0) {
+            clauses.append(" AND p.price >= :minPrice");
+        }
+        if ((filters & MAX_PRICE) != 0) {
+            clauses.append(" AND p.price <= :maxPrice");
+        }
+        if ((filters & IN_STOCK) != 0) {
+            clauses.append(" AND p.inStock = :inStock");
+        }
+        return clauses.toString();
+    }
+
+    private static String priceBucketExpr() {
+        StringBuilder expr = new StringBuilder("CASE");
+        for (PriceBucket bucket : PriceBucket.values()) {
+            if (bucket.getMax() != null) {
+                expr.append(" WHEN p.price < ").append(bucket.getMax().toPlainString())
+                        .append(" THEN ").append(bucket.ordinal());
+            }
+        }
+        return expr.append(" ELSE ").append(PriceBucket.values().length - 1).append(" END").toString();
+    }
+}
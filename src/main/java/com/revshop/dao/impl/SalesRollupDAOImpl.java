@@ -0,0 +1,127 @@
+package com.revshop.dao.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SalesRollup;
+import com.revshop.entity.SalesRollupId;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@Log4j2
+public class SalesRollupDAOImpl implements SalesRollupDAO {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public void save(SalesRollup rollup) {
+        em.persist(rollup);
+    }
+
+    @Override
+    public void insertEmptyIfAbsent(SalesRollupId id) {
+        em.createQuery("""
+                INSERT INTO SalesRollup (id.sellerId, id.productId, id.granularity, id.bucketStart,
+                                         unitsSold, revenue, updatedAt)
+                VALUES (:sellerId, :productId, :granularity, :bucketStart, 0, 0, :now)
+                ON CONFLICT DO NOTHING
+                """)
+                .setParameter("sellerId", id.getSellerId())
+                .setParameter("productId", id.getProductId())
+                .setParameter("granularity", id.getGranularity())
+                .setParameter("bucketStart", id.getBucketStart())
+                .setParameter("now", LocalDateTime.now())
+                .executeUpdate();
+    }
+
+    @Override
+    public int applyDelta(SalesRollupId id, long unitsSold, BigDecimal revenue) {
+        return em.createQuery("""
+                UPDATE SalesRollup r
+                SET r.unitsSold = r.unitsSold + :unitsSold,
+                    r.revenue = r.revenue + :revenue,
+                    r.updatedAt = :now
+                WHERE r.id.sellerId = :sellerId
+                AND r.id.productId = :productId
+                AND r.id.granularity = :granularity
+                AND r.id.bucketStart = :bucketStart
+                """)
+                .setParameter("unitsSold", unitsSold)
+                .setParameter("revenue", revenue)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("sellerId", id.getSellerId())
+                .setParameter("productId", id.getProductId())
+                .setParameter("granularity", id.getGranularity())
+                .setParameter("bucketStart", id.getBucketStart())
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Object[]> findSeries(
+            Long sellerId,
+            Long productId,
+            RollupGranularity granularity,
+            LocalDateTime from,
+            LocalDateTime to
+    ) {
+        String jpql = """
+                SELECT r.id.bucketStart, SUM(r.unitsSold), SUM(r.revenue)
+                FROM SalesRollup r
+                WHERE r.id.sellerId = :sellerId
+                AND r.id.granularity = :granularity
+                AND r.id.bucketStart >= :from
+                AND r.id.bucketStart < :to
+                """
+                + (productId == null ? "" : " AND r.id.productId = :productId")
+                + " GROUP BY r.id.bucketStart ORDER BY r.id.bucketStart";
+        TypedQuery<Object[]> query = em.createQuery(jpql, Object[].class)
+                .setParameter("sellerId", sellerId)
+                .setParameter("granularity", granularity)
+                .setParameter("from", from)
+                .setParameter("to", to);
+        if (productId != null) {
+            query.setParameter("productId", productId);
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    public int deleteBySellerIdSince(Long sellerId, LocalDateTime from) {
+        return em.createQuery("""
+                DELETE FROM SalesRollup r
+                WHERE r.id.sellerId = :sellerId
+                AND r.id.bucketStart >= :from
+                """)
+                .setParameter("sellerId", sellerId)
+                .setParameter("from", from)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteOlderThan(RollupGranularity granularity, LocalDateTime before) {
+        return em.createQuery("""
+                DELETE FROM SalesRollup r
+                WHERE r.id.granularity = :granularity
+                AND r.id.bucketStart < :before
+                """)
+                .setParameter("granularity", granularity)
+                .setParameter("before", before)
+                .executeUpdate();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return em.createQuery("SELECT 1 FROM SalesRollup r", Integer.class)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+}
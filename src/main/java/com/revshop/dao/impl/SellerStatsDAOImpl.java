@@ -0,0 +1,95 @@
+package com.revshop.dao.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.entity.Role;
+import com.revshop.entity.SellerStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@Log4j2
+public class SellerStatsDAOImpl implements SellerStatsDAO {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public Optional<SellerStats> findById(Long sellerId) {
+        return Optional.ofNullable(em.find(SellerStats.class, sellerId));
+    }
+
+    @Override
+    public Optional<SellerStats> findByIdForUpdate(Long sellerId) {
+        return Optional.ofNullable(em.find(SellerStats.class, sellerId, LockModeType.PESSIMISTIC_WRITE));
+    }
+
+    @Override
+    public SellerStats save(SellerStats stats) {
+        if (!em.contains(stats)) {
+            em.persist(stats);
+        }
+        return stats;
+    }
+
+    @Override
+    public List<Object[]> findReconciledAtBySellerIds(List<Long> sellerIds) {
+        if (sellerIds == null || sellerIds.isEmpty()) {
+            return List.of();
+        }
+        return DaoSupport.inChunks(sellerIds, chunk -> em.createQuery("""
+                        SELECT s.sellerId, s.reconciledAt FROM SellerStats s
+                        WHERE s.sellerId IN :sellerIds
+                        """, Object[].class)
+                .setParameter("sellerIds", chunk)
+                .getResultList());
+    }
+
+    @Override
+    public int applyOrderDelta(Long sellerId, LocalDateTime reconciledAt, long orders, long pendingOrders,
+                               long unitsSold, BigDecimal revenue) {
+        // A row recounted since the order read it may already include the order, so the delta only lands on the
+        // recount it was computed against.
+        String jpql = """
+                UPDATE SellerStats s
+                SET s.totalOrders = s.totalOrders + :orders,
+                    s.pendingOrders = s.pendingOrders + :pendingOrders,
+                    s.unitsSold = s.unitsSold + :unitsSold,
+                    s.grossRevenue = s.grossRevenue + :revenue,
+                    s.updatedAt = :now
+                WHERE s.sellerId = :sellerId
+                """ + (reconciledAt == null ? "AND s.reconciledAt IS NULL" : "AND s.reconciledAt = :reconciledAt");
+        Query query = em.createQuery(jpql);
+        if (reconciledAt != null) {
+            query.setParameter("reconciledAt", reconciledAt);
+        }
+        return query
+                .setParameter("orders", orders)
+                .setParameter("pendingOrders", pendingOrders)
+                .setParameter("unitsSold", unitsSold)
+                .setParameter("revenue", revenue)
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("sellerId", sellerId)
+                .executeUpdate();
+    }
+
+    @Override
+    public List<Long> findSellerIds() {
+        return em.createQuery("""
+                SELECT u.id FROM User u
+                WHERE u.role = :role
+                AND u.isDeleted = false
+                ORDER BY u.id
+                """, Long.class)
+                .setParameter("role", Role.SELLER)
+                .getResultList();
+    }
+}
@@ -24,6 +24,11 @@ public class UserDAOImpl implements UserDAO {
         return user;
     }
 
+    @Override
+    public User getReference(Long id) {
+        return entityManager.getReference(User.class, id);
+    }
+
     @Override
     public Optional<User> findById(Long id) {
         TypedQuery<User> query = entityManager.createQuery(
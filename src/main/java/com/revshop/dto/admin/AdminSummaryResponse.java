@@ -3,6 +3,8 @@ package com.revshop.dto.admin;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.time.LocalDateTime;
+
 @Getter
 @Builder
 public class AdminSummaryResponse {
@@ -15,4 +17,8 @@ public class AdminSummaryResponse {
     private long totalProducts;
     private long totalOrders;
     private long totalPayments;
+    private LocalDateTime countersReconciledAt;
+    private LocalDateTime countersChangedAt;
+    private long secondsSinceReconcile;
+    private long lastReconcileDrift;
 }
@@ -0,0 +1,22 @@
+package com.revshop.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+
+    private String name;
+    private Integer size;
+    private Integer distinctQueries;
+    @Builder.Default
+    private boolean statisticsEnabled = true;
+    private int maxSize;
+    private long ttlSeconds;
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long invalidations;
+    private double hitRatio;
+}
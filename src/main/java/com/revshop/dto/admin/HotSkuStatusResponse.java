@@ -0,0 +1,19 @@
+package com.revshop.dto.admin;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class HotSkuStatusResponse {
+
+    private Long productId;
+    private long available;
+    private long reserved;
+    private long unflushed;
+    private long lastDrift;
+    private long totalDrift;
+    private LocalDateTime lastReconciledAt;
+}
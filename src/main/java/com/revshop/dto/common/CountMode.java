@@ -0,0 +1,7 @@
+package com.revshop.dto.common;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATED,
+    NONE
+}
@@ -0,0 +1,12 @@
+package com.revshop.dto.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class FacetCount {
+
+    private String value;
+    private long count;
+}
@@ -4,6 +4,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -12,10 +13,13 @@ public class PagedResponse<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;
+    private Integer totalPages;
+    private CountMode countMode;
     private boolean hasNext;
     private boolean hasPrevious;
     private String sortBy;
     private String sortDir;
+    private String nextCursor;
+    private Map<String, List<FacetCount>> facets;
 }
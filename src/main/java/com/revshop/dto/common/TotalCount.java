@@ -0,0 +1,24 @@
+package com.revshop.dto.common;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class TotalCount {
+
+    private Long value;
+    private CountMode mode;
+
+    public static TotalCount exact(long value) {
+        return TotalCount.builder().value(value).mode(CountMode.EXACT).build();
+    }
+
+    public static TotalCount estimated(long value) {
+        return TotalCount.builder().value(value).mode(CountMode.ESTIMATED).build();
+    }
+
+    public static TotalCount none() {
+        return TotalCount.builder().mode(CountMode.NONE).build();
+    }
+}
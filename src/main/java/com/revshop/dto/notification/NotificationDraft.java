@@ -0,0 +1,17 @@
+package com.revshop.dto.notification;
+
+import com.revshop.entity.NotificationType;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class NotificationDraft {
+
+    private Long recipientUserId;
+    private NotificationType type;
+    private String title;
+    private String message;
+    private String referenceType;
+    private Long referenceId;
+}
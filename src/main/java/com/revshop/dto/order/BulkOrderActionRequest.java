@@ -0,0 +1,18 @@
+package com.revshop.dto.order;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+public class BulkOrderActionRequest {
+
+    @NotEmpty(message = "At least one order id is required")
+    @Size(max = 500, message = "At most 500 orders can be updated at once")
+    private List<@NotNull(message = "Order id is required") Long> orderIds;
+}
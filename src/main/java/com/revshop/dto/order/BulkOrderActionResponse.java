@@ -0,0 +1,16 @@
+package com.revshop.dto.order;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class BulkOrderActionResponse {
+
+    private int requested;
+    private int succeeded;
+    private int failed;
+    private List<BulkOrderOutcome> outcomes;
+}
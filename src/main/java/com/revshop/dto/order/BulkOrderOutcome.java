@@ -0,0 +1,16 @@
+package com.revshop.dto.order;
+
+import com.revshop.entity.OrderStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class BulkOrderOutcome {
+
+    private Long orderId;
+    private String orderNumber;
+    private Boolean success;
+    private OrderStatus status;
+    private String message;
+}
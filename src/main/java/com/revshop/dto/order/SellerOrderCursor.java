@@ -0,0 +1,48 @@
+package com.revshop.dto.order;
+
+import com.revshop.exception.BadRequestException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+@Getter
+@Builder
+public class SellerOrderCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private LocalDateTime lastCreatedAt;
+    private Long lastId;
+
+    public static SellerOrderCursor after(OrderResponse last) {
+        return SellerOrderCursor.builder()
+                .lastCreatedAt(last.getCreatedAt())
+                .lastId(last.getOrderId())
+                .build();
+    }
+
+    public static SellerOrderCursor decode(String token) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split("\\" + SEPARATOR, 2);
+            if (parts.length != 2) {
+                throw new BadRequestException("Invalid cursor");
+            }
+            return SellerOrderCursor.builder()
+                    .lastCreatedAt(LocalDateTime.parse(parts[0]))
+                    .lastId(Long.valueOf(parts[1]))
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+    }
+
+    public String encode() {
+        String raw = lastCreatedAt + SEPARATOR + lastId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,39 @@
+package com.revshop.dto.product;
+
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+@Getter
+public enum PriceBucket {
+    UNDER_500(null, new BigDecimal("500")),
+    FROM_500_TO_1000(new BigDecimal("500"), new BigDecimal("1000")),
+    FROM_1000_TO_5000(new BigDecimal("1000"), new BigDecimal("5000")),
+    FROM_5000_TO_10000(new BigDecimal("5000"), new BigDecimal("10000")),
+    FROM_10000_TO_50000(new BigDecimal("10000"), new BigDecimal("50000")),
+    FROM_50000(new BigDecimal("50000"), null);
+
+    private final BigDecimal min;
+    private final BigDecimal max;
+
+    PriceBucket(BigDecimal min, BigDecimal max) {
+        this.min = min;
+        this.max = max;
+    }
+
+    public static PriceBucket of(BigDecimal price) {
+        if (price == null) {
+            return UNDER_500;
+        }
+        for (PriceBucket bucket : values()) {
+            if (bucket.max == null || price.compareTo(bucket.max) < 0) {
+                return bucket;
+            }
+        }
+        return FROM_50000;
+    }
+
+    public String key() {
+        return (min == null ? "0" : min.toPlainString()) + "-" + (max == null ? "" : max.toPlainString());
+    }
+}
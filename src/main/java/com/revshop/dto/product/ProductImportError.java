@@ -0,0 +1,12 @@
+package com.revshop.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductImportError {
+
+    private long rowNumber;
+    private String message;
+}
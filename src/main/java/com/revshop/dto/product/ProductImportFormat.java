@@ -0,0 +1,6 @@
+package com.revshop.dto.product;
+
+public enum ProductImportFormat {
+    CSV,
+    NDJSON
+}
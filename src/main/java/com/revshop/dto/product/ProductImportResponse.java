@@ -0,0 +1,19 @@
+package com.revshop.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+public class ProductImportResponse {
+
+    private long totalRows;
+    private long importedCount;
+    private long failedCount;
+    private List<ProductImportError> errors;
+    private boolean errorsTruncated;
+    private boolean completed;
+    private String streamError;
+}
@@ -0,0 +1,120 @@
+package com.revshop.dto.product;
+
+import com.revshop.exception.BadRequestException;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.Objects;
+
+@Getter
+@Builder
+public class ProductSearchCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private String sortBy;
+    private String sortDir;
+    private String filters;
+    private Long lastId;
+    private String lastSortValue;
+
+    public static ProductSearchCursor after(ProductResponse last, String sortBy, String sortDir, String filters) {
+        String sortValue = switch (sortBy) {
+            case "name" -> last.getName() == null ? "" : last.getName().toLowerCase(Locale.ROOT);
+            case "price" -> last.getPrice().toPlainString();
+            default -> last.getCreatedAt().toString();
+        };
+        return ProductSearchCursor.builder()
+                .sortBy(sortBy)
+                .sortDir(sortDir)
+                .filters(filters)
+                .lastId(last.getId())
+                .lastSortValue(sortValue)
+                .build();
+    }
+
+    public static ProductSearchCursor decode(String token, String sortBy, String sortDir, String filters) {
+        String[] parts;
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            parts = decoded.split("\\" + SEPARATOR, 5);
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (parts.length != 5) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        if (!parts[0].equals(sortBy) || !parts[1].equals(sortDir)) {
+            throw new BadRequestException("Cursor does not match sortBy/sortDir");
+        }
+        if (!parts[2].equals(filters)) {
+            throw new BadRequestException("Cursor does not match the search filters");
+        }
+
+        ProductSearchCursor cursor;
+        try {
+            cursor = ProductSearchCursor.builder()
+                    .sortBy(parts[0])
+                    .sortDir(parts[1])
+                    .filters(parts[2])
+                    .lastId(Long.valueOf(parts[3]))
+                    .lastSortValue(parts[4])
+                    .build();
+            cursor.sortKey();
+        } catch (NumberFormatException | DateTimeParseException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+        return cursor;
+    }
+
+    public String encode() {
+        String raw = sortBy + SEPARATOR + sortDir + SEPARATOR + filters + SEPARATOR + lastId + SEPARATOR + lastSortValue;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Short digest of the search filters a cursor was issued for. A cursor only marks a position
+     * within one result set, so it is rejected when the next request asks for different filters.
+     */
+    public static String filtersOf(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock
+    ) {
+        String canonical = String.join("\u0000",
+                keyword == null || keyword.isBlank() ? "" : keyword.toLowerCase(Locale.ROOT),
+                Objects.toString(categoryId, ""),
+                minPrice == null ? "" : minPrice.stripTrailingZeros().toPlainString(),
+                maxPrice == null ? "" : maxPrice.stripTrailingZeros().toPlainString(),
+                Objects.toString(inStock, ""));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 9));
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException("SHA-256 is not available", ex);
+        }
+    }
+
+    public boolean isAscending() {
+        return "asc".equalsIgnoreCase(sortDir);
+    }
+
+    public Comparable<?> sortKey() {
+        return switch (sortBy) {
+            case "name" -> lastSortValue;
+            case "price" -> new BigDecimal(lastSortValue);
+            default -> LocalDateTime.parse(lastSortValue);
+        };
+    }
+}
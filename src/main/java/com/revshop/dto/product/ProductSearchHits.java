@@ -0,0 +1,17 @@
+package com.revshop.dto.product;
+
+import com.revshop.dto.common.FacetCount;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+public class ProductSearchHits {
+
+    private List<Long> productIds;
+    private long totalElements;
+    private Map<String, List<FacetCount>> facets;
+}
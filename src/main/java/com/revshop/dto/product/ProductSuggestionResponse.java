@@ -0,0 +1,14 @@
+package com.revshop.dto.product;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class ProductSuggestionResponse {
+
+    private SuggestionType type;
+    private Long id;
+    private String text;
+    private long weight;
+}
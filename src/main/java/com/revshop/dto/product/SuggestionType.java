@@ -0,0 +1,6 @@
+package com.revshop.dto.product;
+
+public enum SuggestionType {
+    PRODUCT,
+    CATEGORY
+}
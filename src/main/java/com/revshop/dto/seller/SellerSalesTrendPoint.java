@@ -0,0 +1,16 @@
+package com.revshop.dto.seller;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+public class SellerSalesTrendPoint {
+
+    private LocalDateTime bucketStart;
+    private Long unitsSold;
+    private BigDecimal revenue;
+}
@@ -0,0 +1,22 @@
+package com.revshop.dto.seller;
+
+import com.revshop.entity.RollupGranularity;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+@Getter
+@Builder
+public class SellerSalesTrendResponse {
+
+    private RollupGranularity granularity;
+    private LocalDate fromDate;
+    private LocalDate toDate;
+    private Long productId;
+    private Long totalUnitsSold;
+    private BigDecimal totalRevenue;
+    private List<SellerSalesTrendPoint> points;
+}
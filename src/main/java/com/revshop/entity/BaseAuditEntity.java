@@ -4,10 +4,13 @@ import jakarta.persistence.Column;
 import jakarta.persistence.MappedSuperclass;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.time.LocalDateTime;
+import java.util.Set;
 
 @Getter
 @Setter
@@ -24,6 +27,12 @@ public abstract class BaseAuditEntity {
     @Column(name = "is_deleted", nullable = false)
     protected Boolean isDeleted = false;
 
+    // Counters this row was last counted in; only maintained for entities using PlatformCounterListener.
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    Set<PlatformCounter> countedIn;
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now();
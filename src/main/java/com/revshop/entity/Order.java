@@ -1,18 +1,18 @@
 package com.revshop.entity;
 
+import com.revshop.entity.id.PooledSequence;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
-import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -25,7 +25,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity(name = "CustomerOrder")
-@Table(name = "orders")
+@EntityListeners(PlatformCounterListener.class)
+@Table(
+        name = "orders",
+        indexes = @Index(name = "idx_orders_created_id", columnList = "created_at DESC, id DESC")
+)
 @Getter
 @Setter
 @Builder
@@ -34,8 +38,7 @@ import java.util.List;
 public class Order extends BaseAuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_seq_gen")
-    @SequenceGenerator(name = "order_seq_gen", sequenceName = "order_seq", allocationSize = 1)
+    @PooledSequence("order_seq")
     private Long id;
 
     @Column(name = "order_number", nullable = false, unique = true, length = 40)
@@ -1,14 +1,13 @@
 package com.revshop.entity;
 
+import com.revshop.entity.id.PooledSequence;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
-import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -19,7 +18,10 @@ import lombok.Setter;
 import java.math.BigDecimal;
 
 @Entity
-@Table(name = "order_items")
+@Table(
+        name = "order_items",
+        indexes = @Index(name = "idx_order_items_seller_order", columnList = "seller_id, order_id, active, is_deleted")
+)
 @Getter
 @Setter
 @Builder
@@ -28,8 +30,7 @@ import java.math.BigDecimal;
 public class OrderItem extends BaseAuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_item_seq_gen")
-    @SequenceGenerator(name = "order_item_seq_gen", sequenceName = "order_item_seq", allocationSize = 1)
+    @PooledSequence("order_item_seq")
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
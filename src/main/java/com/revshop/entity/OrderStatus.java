@@ -9,5 +9,18 @@ public enum OrderStatus {
     RETURN_REQUESTED,
     RETURNED,
     EXCHANGE_REQUESTED,
-    EXCHANGED
+    EXCHANGED;
+
+    public boolean isPending() {
+        return this == PLACED || this == CONFIRMED || this == SHIPPED;
+    }
+
+    public boolean countsAsSale() {
+        return this == CONFIRMED
+                || this == SHIPPED
+                || this == DELIVERED
+                || this == RETURN_REQUESTED
+                || this == EXCHANGE_REQUESTED
+                || this == EXCHANGED;
+    }
 }
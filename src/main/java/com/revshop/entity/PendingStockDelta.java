@@ -0,0 +1,46 @@
+package com.revshop.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Units of a hot SKU sold (positive) or put back (negative) that products.stock does not show yet.
+ * Written in the order transaction and deleted by the flush that applies it to products.stock.
+ */
+@Entity
+@Table(
+        name = "pending_stock_deltas",
+        indexes = @Index(name = "idx_pending_stock_deltas_product", columnList = "product_id")
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingStockDelta {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "product_id", nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private Integer quantity;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,12 @@
+package com.revshop.entity;
+
+public enum PlatformCounter {
+    USERS,
+    BUYERS,
+    SELLERS,
+    ACTIVE_USERS,
+    DELETED_USERS,
+    PRODUCTS,
+    ORDERS,
+    PAYMENTS
+}
@@ -0,0 +1,106 @@
+package com.revshop.entity;
+
+import com.revshop.service.PlatformCounterService;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps the platform counters in step with User, Product, Order and Payment writes. Each entity
+ * remembers which counters it was last counted in, so an update only moves the counters whose
+ * membership actually changed. The registry applies the deltas once the transaction commits.
+ */
+public class PlatformCounterListener {
+
+    private final ObjectProvider<PlatformCounterService> platformCounterServiceProvider;
+
+    public PlatformCounterListener(ObjectProvider<PlatformCounterService> platformCounterServiceProvider) {
+        this.platformCounterServiceProvider = platformCounterServiceProvider;
+    }
+
+    @PostLoad
+    public void onLoad(BaseAuditEntity entity) {
+        entity.countedIn = countersFor(entity);
+    }
+
+    @PostPersist
+    public void onPersist(BaseAuditEntity entity) {
+        Set<PlatformCounter> current = countersFor(entity);
+        record(current, EnumSet.noneOf(PlatformCounter.class));
+        entity.countedIn = current;
+    }
+
+    @PostUpdate
+    public void onUpdate(BaseAuditEntity entity) {
+        Set<PlatformCounter> current = countersFor(entity);
+        // Without a loaded snapshot the old membership is unknown; reconcile picks up any difference.
+        if (entity.countedIn != null) {
+            record(current, entity.countedIn);
+        }
+        entity.countedIn = current;
+    }
+
+    @PostRemove
+    public void onRemove(BaseAuditEntity entity) {
+        if (entity.countedIn != null) {
+            record(EnumSet.noneOf(PlatformCounter.class), entity.countedIn);
+        }
+        entity.countedIn = null;
+    }
+
+    static Set<PlatformCounter> countersFor(BaseAuditEntity entity) {
+        Set<PlatformCounter> counters = EnumSet.noneOf(PlatformCounter.class);
+        boolean deleted = Boolean.TRUE.equals(entity.getIsDeleted());
+        if (entity instanceof User user) {
+            counters.add(PlatformCounter.USERS);
+            if (user.getRole() == Role.BUYER) {
+                counters.add(PlatformCounter.BUYERS);
+            } else if (user.getRole() == Role.SELLER) {
+                counters.add(PlatformCounter.SELLERS);
+            }
+            if (Boolean.TRUE.equals(user.getActive())) {
+                counters.add(PlatformCounter.ACTIVE_USERS);
+            }
+            if (deleted) {
+                counters.add(PlatformCounter.DELETED_USERS);
+            }
+        } else if (!deleted) {
+            if (entity instanceof Product) {
+                counters.add(PlatformCounter.PRODUCTS);
+            } else if (entity instanceof Order) {
+                counters.add(PlatformCounter.ORDERS);
+            } else if (entity instanceof Payment) {
+                counters.add(PlatformCounter.PAYMENTS);
+            }
+        }
+        return counters;
+    }
+
+    private void record(Set<PlatformCounter> current, Set<PlatformCounter> previous) {
+        Map<PlatformCounter, Long> deltas = new EnumMap<>(PlatformCounter.class);
+        for (PlatformCounter counter : current) {
+            if (!previous.contains(counter)) {
+                deltas.put(counter, 1L);
+            }
+        }
+        for (PlatformCounter counter : previous) {
+            if (!current.contains(counter)) {
+                deltas.put(counter, -1L);
+            }
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+        PlatformCounterService platformCounterService = platformCounterServiceProvider.getIfAvailable();
+        if (platformCounterService != null) {
+            platformCounterService.record(deltas);
+        }
+    }
+}
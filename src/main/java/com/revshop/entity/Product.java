@@ -1,13 +1,18 @@
 package com.revshop.entity;
 
+import com.revshop.entity.id.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 @Entity
+@EntityListeners(PlatformCounterListener.class)
 @Table(name = "products")
+// Stock is moved by conditional SQL, so an update must only write the columns that actually changed.
+@DynamicUpdate
 @Getter
 @Setter
 @Builder
@@ -16,7 +21,7 @@ import java.util.List;
 public class Product extends BaseAuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @PooledSequence("product_seq")
     private Long id;
 
     // ================= BASIC =================
@@ -0,0 +1,23 @@
+package com.revshop.entity;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+public enum RollupGranularity {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS);
+
+    private final ChronoUnit unit;
+
+    RollupGranularity(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public LocalDateTime bucketStart(LocalDateTime time) {
+        return time.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+}
@@ -0,0 +1,46 @@
+package com.revshop.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Units and revenue one seller sold of one product within an hour or a day, bucketed by the order's
+ * creation time so a later cancel or return lands in the bucket the sale was counted in.
+ */
+@Entity
+@Table(
+        name = "sales_rollups",
+        indexes = @Index(name = "idx_sales_rollups_seller_bucket", columnList = "seller_id, granularity, bucket_start")
+)
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollup {
+
+    @EmbeddedId
+    private SalesRollupId id;
+
+    @Column(name = "units_sold", nullable = false)
+    @Builder.Default
+    private Long unitsSold = 0L;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal revenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,67 @@
+package com.revshop.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Dashboard counters for one seller, keyed by the seller's user id. Order counters move by deltas
+ * applied after the order commits; product counters and the nightly reconcile overwrite them.
+ * reconciled_at marks the last order recount, and a delta read against an older one is dropped.
+ */
+@Entity
+@Table(name = "seller_stats")
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SellerStats {
+
+    @Id
+    @Column(name = "seller_id")
+    private Long sellerId;
+
+    @Column(name = "total_products", nullable = false)
+    @Builder.Default
+    private Long totalProducts = 0L;
+
+    @Column(name = "active_products", nullable = false)
+    @Builder.Default
+    private Long activeProducts = 0L;
+
+    @Column(name = "low_stock_products", nullable = false)
+    @Builder.Default
+    private Long lowStockProducts = 0L;
+
+    @Column(name = "total_orders", nullable = false)
+    @Builder.Default
+    private Long totalOrders = 0L;
+
+    @Column(name = "pending_orders", nullable = false)
+    @Builder.Default
+    private Long pendingOrders = 0L;
+
+    @Column(name = "units_sold", nullable = false)
+    @Builder.Default
+    private Long unitsSold = 0L;
+
+    @Column(name = "gross_revenue", nullable = false, precision = 14, scale = 2)
+    @Builder.Default
+    private BigDecimal grossRevenue = BigDecimal.ZERO;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+}
@@ -1,9 +1,11 @@
 package com.revshop.entity;
 
+import com.revshop.entity.id.PooledSequence;
 import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
+@EntityListeners(PlatformCounterListener.class)
 @Table(name = "users")
 @Getter
 @Setter
@@ -13,8 +15,7 @@ import lombok.*;
 public class User extends BaseAuditEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq_gen")
-    @SequenceGenerator(name = "user_seq_gen", sequenceName = "user_seq", allocationSize = 1)
+    @PooledSequence("user_seq")
     private Long id;
 
     @Column(nullable = false, unique = true, length = 120)
@@ -0,0 +1,20 @@
+package com.revshop.entity.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Sequence-backed id whose allocation size comes from the {@code revshop.id.allocation-size}
+ * Hibernate setting instead of being fixed in the mapping.
+ */
+@IdGeneratorType(PooledSequenceGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface PooledSequence {
+
+    String value();
+}
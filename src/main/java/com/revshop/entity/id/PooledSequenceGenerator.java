@@ -0,0 +1,46 @@
+package com.revshop.entity.id;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.generator.AnnotationBasedGenerator;
+import org.hibernate.generator.GeneratorCreationContext;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+public class PooledSequenceGenerator extends SequenceStyleGenerator implements AnnotationBasedGenerator<PooledSequence> {
+
+    public static final String ALLOCATION_SIZE_SETTING = "revshop.id.allocation-size";
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    private String sequenceName;
+
+    @Override
+    public void initialize(PooledSequence annotation, Member member, GeneratorCreationContext context) {
+        sequenceName = annotation.value();
+    }
+
+    @Override
+    public void configure(GeneratorCreationContext creationContext, Properties parameters) throws MappingException {
+        Object configured = creationContext.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings()
+                .get(ALLOCATION_SIZE_SETTING);
+        parameters.setProperty(SEQUENCE_PARAM, sequenceName);
+        parameters.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(allocationSize(configured)));
+        super.configure(creationContext, parameters);
+    }
+
+    static int allocationSize(Object configured) {
+        if (configured == null || configured.toString().isBlank()) {
+            return DEFAULT_ALLOCATION_SIZE;
+        }
+        int allocationSize = Integer.parseInt(configured.toString().trim());
+        if (allocationSize < 1) {
+            throw new MappingException(ALLOCATION_SIZE_SETTING + " must be at least 1");
+        }
+        return allocationSize;
+    }
+}
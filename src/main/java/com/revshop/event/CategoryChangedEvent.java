@@ -0,0 +1,12 @@
+package com.revshop.event;
+
+import com.revshop.entity.Category;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CategoryChangedEvent {
+
+    private final Category category;
+}
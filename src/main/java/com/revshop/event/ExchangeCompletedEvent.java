@@ -0,0 +1,13 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+
+import java.util.List;
+
+public final class ExchangeCompletedEvent extends OrderEvent {
+
+    public ExchangeCompletedEvent(Order order, List<OrderItem> orderItems) {
+        super(order, orderItems);
+    }
+}
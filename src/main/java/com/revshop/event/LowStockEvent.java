@@ -0,0 +1,14 @@
+package com.revshop.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class LowStockEvent {
+
+    private final Long productId;
+    private final String productName;
+    private final Long sellerId;
+    private final int stock;
+}
@@ -0,0 +1,30 @@
+package com.revshop.event;
+
+import com.revshop.entity.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * One bulk seller transition moving every listed order to the same status. Listeners aggregate
+ * per recipient instead of reacting to each order separately.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderBatchEvent {
+
+    private final OrderStatus status;
+    private final List<Entry> orders;
+
+    public record Entry(
+            Long orderId,
+            String orderNumber,
+            Long buyerId,
+            Set<Long> sellerIds,
+            boolean cashOnDelivery,
+            boolean paymentSettled
+    ) {
+    }
+}
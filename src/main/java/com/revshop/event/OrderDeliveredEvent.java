@@ -0,0 +1,28 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.PaymentMethod;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public final class OrderDeliveredEvent extends OrderEvent {
+
+    private final boolean confirmedByBuyer;
+    private final boolean cashOnDelivery;
+    private final boolean paymentCollected;
+
+    public OrderDeliveredEvent(
+            Order order,
+            List<OrderItem> orderItems,
+            boolean confirmedByBuyer,
+            boolean paymentCollected
+    ) {
+        super(order, orderItems);
+        this.confirmedByBuyer = confirmedByBuyer;
+        this.cashOnDelivery = order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY;
+        this.paymentCollected = paymentCollected;
+    }
+}
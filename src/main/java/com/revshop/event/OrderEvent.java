@@ -0,0 +1,38 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Snapshot of an order lifecycle transition. Listeners run after the order transaction commits,
+ * so events carry plain values instead of managed entities.
+ */
+@Getter
+public abstract sealed class OrderEvent permits OrderPlacedEvent, OrderCancelledEvent, OrderShippedEvent,
+        OrderDeliveredEvent, ReturnRequestedEvent, ReturnCompletedEvent, ExchangeRequestedEvent,
+        ExchangeCompletedEvent {
+
+    private final Long orderId;
+    private final String orderNumber;
+    private final Long buyerId;
+    private final Set<Long> sellerIds;
+
+    protected OrderEvent(Order order, List<OrderItem> orderItems) {
+        this.orderId = order.getId();
+        this.orderNumber = order.getOrderNumber();
+        this.buyerId = order.getBuyer().getId();
+        Set<Long> ids = new LinkedHashSet<>();
+        for (OrderItem item : orderItems) {
+            if (item.getSeller() != null && item.getSeller().getId() != null) {
+                ids.add(item.getSeller().getId());
+            }
+        }
+        this.sellerIds = Collections.unmodifiableSet(ids);
+    }
+}
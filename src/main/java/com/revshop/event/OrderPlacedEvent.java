@@ -0,0 +1,31 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+public final class OrderPlacedEvent extends OrderEvent {
+
+    private final String buyerEmail;
+    private final Map<Long, BigDecimal> sellerAmounts;
+    private final Map<Long, Integer> sellerItemCounts;
+
+    public OrderPlacedEvent(Order order, List<OrderItem> orderItems) {
+        super(order, orderItems);
+        this.buyerEmail = order.getBuyer().getEmail();
+        Map<Long, BigDecimal> amounts = new HashMap<>();
+        Map<Long, Integer> itemCounts = new HashMap<>();
+        for (OrderItem item : orderItems) {
+            amounts.merge(item.getSeller().getId(), item.getLineTotal(), BigDecimal::add);
+            itemCounts.merge(item.getSeller().getId(), item.getQuantity(), Integer::sum);
+        }
+        this.sellerAmounts = Map.copyOf(amounts);
+        this.sellerItemCounts = Map.copyOf(itemCounts);
+    }
+}
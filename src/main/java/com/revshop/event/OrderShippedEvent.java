@@ -0,0 +1,19 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.PaymentMethod;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public final class OrderShippedEvent extends OrderEvent {
+
+    private final boolean cashOnDelivery;
+
+    public OrderShippedEvent(Order order, List<OrderItem> orderItems) {
+        super(order, orderItems);
+        this.cashOnDelivery = order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY;
+    }
+}
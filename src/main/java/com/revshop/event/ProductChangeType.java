@@ -0,0 +1,15 @@
+package com.revshop.event;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    STOCK_CHANGED,
+    AVAILABILITY_CHANGED,
+    IMAGES_CHANGED,
+    THRESHOLD_CHANGED;
+
+    public boolean affectsSearchFilters() {
+        return this == CREATED || this == UPDATED || this == DELETED || this == AVAILABILITY_CHANGED;
+    }
+}
@@ -0,0 +1,17 @@
+package com.revshop.event;
+
+import com.revshop.entity.Product;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductChangedEvent {
+
+    private final Product product;
+    private final ProductChangeType changeType;
+
+    public Long getProductId() {
+        return product.getId();
+    }
+}
@@ -0,0 +1,18 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public final class ReturnCompletedEvent extends OrderEvent {
+
+    private final boolean refunded;
+
+    public ReturnCompletedEvent(Order order, List<OrderItem> orderItems, boolean refunded) {
+        super(order, orderItems);
+        this.refunded = refunded;
+    }
+}
@@ -0,0 +1,18 @@
+package com.revshop.event;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+public final class ReturnRequestedEvent extends OrderEvent {
+
+    private final String reason;
+
+    public ReturnRequestedEvent(Order order, List<OrderItem> orderItems) {
+        super(order, orderItems);
+        this.reason = order.getReturnReason();
+    }
+}
@@ -2,6 +2,7 @@ package com.revshop.mapper;
 
 import com.revshop.entity.Product;
 import com.revshop.entity.ProductImage;
+import com.revshop.dto.product.ProductListRow;
 import com.revshop.dto.product.ProductResponse;
 import org.springframework.stereotype.Component;
 
@@ -19,7 +20,10 @@ public class ProductMapper {
                         .sorted(Comparator.comparing(ProductImage::getDisplayOrder, Comparator.nullsLast(Integer::compareTo)))
                         .map(ProductImage::getImageUrl)
                         .toList();
+        return toResponse(product, imageUrls);
+    }
 
+    public ProductResponse toResponse(Product product, List<String> imageUrls) {
         BigDecimal effectiveDiscounted = product.getDiscountedPrice() == null ? product.getPrice() : product.getDiscountedPrice();
         BigDecimal effectiveMrp = product.getMrpPrice() == null ? effectiveDiscounted : product.getMrpPrice();
         Integer effectiveLowStockThreshold = product.getLowStockThreshold() == null ? 5 : product.getLowStockThreshold();
@@ -45,4 +49,31 @@ public class ProductMapper {
                 .updatedAt(product.getUpdatedAt())
                 .build();
     }
+
+    public ProductResponse toResponse(ProductListRow row, List<String> imageUrls) {
+        BigDecimal effectiveDiscounted = row.getDiscountedPrice() == null ? row.getPrice() : row.getDiscountedPrice();
+        BigDecimal effectiveMrp = row.getMrpPrice() == null ? effectiveDiscounted : row.getMrpPrice();
+        Integer effectiveLowStockThreshold = row.getLowStockThreshold() == null ? 5 : row.getLowStockThreshold();
+
+        return ProductResponse.builder()
+                .id(row.getId())
+                .name(row.getName())
+                .description(row.getDescription())
+                .price(row.getPrice())
+                .mrpPrice(effectiveMrp)
+                .discountedPrice(effectiveDiscounted)
+                .stock(row.getStock())
+                .lowStockThreshold(effectiveLowStockThreshold)
+                .inStock(row.getInStock())
+                .active(row.getActive())
+                .status(row.getStatus())
+                .categoryId(row.getCategoryId())
+                .categoryName(row.getCategoryName())
+                .sellerId(row.getSellerId())
+                .sellerEmail(row.getSellerEmail())
+                .imageUrls(imageUrls)
+                .createdAt(row.getCreatedAt())
+                .updatedAt(row.getUpdatedAt())
+                .build();
+    }
 }
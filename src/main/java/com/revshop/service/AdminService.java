@@ -2,13 +2,23 @@ package com.revshop.service;
 
 import com.revshop.dto.admin.AdminSummaryResponse;
 import com.revshop.dto.admin.AdminUserResponse;
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.admin.HotSkuStatusResponse;
 import com.revshop.dto.common.PagedResponse;
 import com.revshop.entity.Role;
 
+import java.util.List;
+
 public interface AdminService {
 
     AdminSummaryResponse getSummary(String authEmail, String adminKey);
 
+    List<CacheStatsResponse> getCacheStats(String authEmail, String adminKey);
+
+    List<HotSkuStatusResponse> getHotSkuStatus(String authEmail, String adminKey);
+
+    List<HotSkuStatusResponse> reconcileHotSkus(String authEmail, String adminKey);
+
     PagedResponse<AdminUserResponse> searchUsers(
             String authEmail,
             String adminKey,
@@ -0,0 +1,14 @@
+package com.revshop.service;
+
+import java.util.Collection;
+
+public interface DataVersionService {
+
+    long getSellerDashboardVersion(Long sellerId);
+
+    long getNotificationVersion(Long userId);
+
+    void bumpSellerDashboards(Collection<Long> sellerIds);
+
+    void bumpNotifications(Collection<Long> userIds);
+}
@@ -1,5 +1,6 @@
 package com.revshop.service;
 
+import com.revshop.dto.notification.NotificationDraft;
 import com.revshop.dto.notification.NotificationResponse;
 import com.revshop.entity.NotificationType;
 
@@ -16,8 +17,14 @@ public interface NotificationService {
             Long referenceId
     );
 
+    void createNotifications(List<NotificationDraft> drafts);
+
     List<NotificationResponse> getMyNotifications(String userEmail, boolean unreadOnly);
 
+    List<NotificationResponse> getMyNotificationsChangedSince(String userEmail, long sinceVersion);
+
+    long getNotificationVersion(String userEmail);
+
     NotificationResponse markAsRead(String userEmail, Long notificationId);
 
     long markAllAsRead(String userEmail);
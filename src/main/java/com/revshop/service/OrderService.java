@@ -1,8 +1,12 @@
 package com.revshop.service;
 
+import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.order.BulkOrderActionResponse;
 import com.revshop.dto.order.OrderResponse;
 import com.revshop.dto.order.PlaceOrderRequest;
+import com.revshop.entity.OrderStatus;
 
+import java.time.LocalDate;
 import java.util.List;
 
 public interface OrderService {
@@ -15,6 +19,16 @@ public interface OrderService {
 
     List<OrderResponse> getSellerOrders(String sellerEmail);
 
+    PagedResponse<OrderResponse> getSellerOrderInbox(
+            String sellerEmail,
+            OrderStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String orderNumberPrefix,
+            String cursor,
+            int size
+    );
+
     OrderResponse cancelBuyerOrder(String buyerEmail, Long orderId, String reason);
 
     OrderResponse requestReturn(String buyerEmail, Long orderId, String reason);
@@ -30,4 +44,10 @@ public interface OrderService {
     OrderResponse completeReturnBySeller(String sellerEmail, Long orderId);
 
     OrderResponse completeExchangeBySeller(String sellerEmail, Long orderId);
+
+    BulkOrderActionResponse markOrdersShippedBySeller(String sellerEmail, List<Long> orderIds);
+
+    BulkOrderActionResponse markOrdersDeliveredBySeller(String sellerEmail, List<Long> orderIds);
+
+    BulkOrderActionResponse completeReturnsBySeller(String sellerEmail, List<Long> orderIds);
 }
@@ -0,0 +1,15 @@
+package com.revshop.service;
+
+import com.revshop.dto.admin.AdminSummaryResponse;
+import com.revshop.entity.PlatformCounter;
+
+import java.util.Map;
+
+public interface PlatformCounterService {
+
+    void record(Map<PlatformCounter, Long> deltas);
+
+    AdminSummaryResponse getSummary();
+
+    AdminSummaryResponse reconcile();
+}
@@ -0,0 +1,15 @@
+package com.revshop.service;
+
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.product.ProductResponse;
+
+import java.util.function.Supplier;
+
+public interface ProductDetailCacheService {
+
+    ProductResponse getOrLoad(Long productId, Supplier<ProductResponse> loader);
+
+    void evict(Long productId);
+
+    CacheStatsResponse getStats();
+}
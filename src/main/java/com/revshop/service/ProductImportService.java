@@ -0,0 +1,11 @@
+package com.revshop.service;
+
+import com.revshop.dto.product.ProductImportFormat;
+import com.revshop.dto.product.ProductImportResponse;
+
+import java.io.InputStream;
+
+public interface ProductImportService {
+
+    ProductImportResponse importProducts(String sellerEmail, ProductImportFormat format, InputStream input);
+}
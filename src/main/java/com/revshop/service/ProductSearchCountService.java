@@ -0,0 +1,20 @@
+package com.revshop.service;
+
+import com.revshop.dto.common.CountMode;
+import com.revshop.dto.common.TotalCount;
+
+import java.math.BigDecimal;
+
+public interface ProductSearchCountService {
+
+    TotalCount count(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            CountMode mode
+    );
+
+    void invalidate();
+}
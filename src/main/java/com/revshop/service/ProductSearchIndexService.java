@@ -0,0 +1,32 @@
+package com.revshop.service;
+
+import com.revshop.dto.product.ProductSearchCursor;
+import com.revshop.dto.product.ProductSearchHits;
+import com.revshop.entity.Product;
+
+import java.math.BigDecimal;
+
+public interface ProductSearchIndexService {
+
+    boolean isReady();
+
+    void rebuild();
+
+    void index(Product product);
+
+    void remove(Long productId);
+
+    ProductSearchHits search(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            String sortBy,
+            String sortDir,
+            ProductSearchCursor after,
+            int offset,
+            int limit,
+            boolean withFacets
+    );
+}
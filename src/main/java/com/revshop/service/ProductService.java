@@ -4,11 +4,13 @@ import com.revshop.dto.common.PagedResponse;
 import com.revshop.dto.product.ProductCreateRequest;
 import com.revshop.dto.product.ProductImageResponse;
 import com.revshop.dto.product.ProductResponse;
+import com.revshop.dto.product.ProductSuggestionResponse;
 import com.revshop.dto.product.ProductUpdateRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface ProductService {
 
@@ -30,8 +32,12 @@ public interface ProductService {
 
     List<ProductResponse> getProductsByCategory(Long categoryId);
 
+    void streamActiveProducts(Long categoryId, String sellerEmail, Consumer<ProductResponse> consumer);
+
     List<ProductResponse> searchProducts(String keyword);
 
+    List<ProductSuggestionResponse> suggestProducts(String prefix, int limit);
+
     PagedResponse<ProductResponse> searchProducts(
             String keyword,
             Long categoryId,
@@ -41,7 +47,10 @@ public interface ProductService {
             int page,
             int size,
             String sortBy,
-            String sortDir
+            String sortDir,
+            String cursor,
+            String count,
+            boolean facets
     );
 
     List<ProductImageResponse> uploadProductImages(Long productId, String sellerEmail, List<MultipartFile> files);
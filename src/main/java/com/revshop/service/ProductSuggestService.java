@@ -0,0 +1,14 @@
+package com.revshop.service;
+
+import com.revshop.dto.product.ProductSuggestionResponse;
+
+import java.util.List;
+
+public interface ProductSuggestService {
+
+    void rebuild();
+
+    void refreshWeights();
+
+    List<ProductSuggestionResponse> suggest(String prefix, int limit);
+}
@@ -0,0 +1,12 @@
+package com.revshop.service;
+
+import com.revshop.entity.OrderItem;
+
+import java.util.List;
+
+public interface SalesRollupService {
+
+    void applySaleDelta(List<OrderItem> orderItems, int saleDelta);
+
+    int reconcile();
+}
@@ -1,8 +1,22 @@
 package com.revshop.service;
 
 import com.revshop.dto.seller.SellerDashboardResponse;
+import com.revshop.dto.seller.SellerSalesTrendResponse;
+import com.revshop.entity.RollupGranularity;
+
+import java.time.LocalDate;
 
 public interface SellerDashboardService {
 
     SellerDashboardResponse getDashboard(String sellerEmail, int recentLimit, int topLimit, int lowStockThreshold);
+
+    long getDashboardVersion(String sellerEmail);
+
+    SellerSalesTrendResponse getSalesTrend(
+            String sellerEmail,
+            RollupGranularity granularity,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Long productId
+    );
 }
@@ -0,0 +1,20 @@
+package com.revshop.service;
+
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
+
+import java.util.List;
+
+public interface SellerStatsService {
+
+    int getLowStockThreshold();
+
+    void recordTransition(Order order, OrderStatus from, OrderStatus to);
+
+    void recordTransition(List<OrderItem> orderItems, OrderStatus from, OrderStatus to);
+
+    void requestRecompute(Long sellerId);
+
+    int reconcile();
+}
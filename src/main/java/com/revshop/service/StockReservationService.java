@@ -0,0 +1,24 @@
+package com.revshop.service;
+
+import com.revshop.dto.admin.HotSkuStatusResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public interface StockReservationService {
+
+    boolean isHot(Long productId);
+
+    long available(Long productId);
+
+    Set<Long> reserve(Map<Long, Integer> quantities);
+
+    void restock(Map<Long, Integer> quantities);
+
+    void flush();
+
+    List<HotSkuStatusResponse> reconcile();
+
+    List<HotSkuStatusResponse> getStatus();
+}
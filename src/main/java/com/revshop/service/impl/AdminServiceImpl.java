@@ -5,6 +5,9 @@ import com.revshop.dao.AdminDAO;
 import com.revshop.dao.UserDAO;
 import com.revshop.dto.admin.AdminSummaryResponse;
 import com.revshop.dto.admin.AdminUserResponse;
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.admin.HotSkuStatusResponse;
+import com.revshop.dto.common.CountMode;
 import com.revshop.dto.common.PagedResponse;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
@@ -12,6 +15,9 @@ import com.revshop.exception.BadRequestException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
 import com.revshop.service.AdminService;
+import com.revshop.service.PlatformCounterService;
+import com.revshop.service.ProductDetailCacheService;
+import com.revshop.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -26,6 +32,9 @@ public class AdminServiceImpl implements AdminService {
 
     private final AdminDAO adminDAO;
     private final UserDAO userDAO;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final StockReservationService stockReservationService;
+    private final PlatformCounterService platformCounterService;
 
     @Value("${app.admin.api-key:change-me-admin-key}")
     private String configuredAdminKey;
@@ -34,17 +43,26 @@ public class AdminServiceImpl implements AdminService {
     @Transactional(readOnly = true)
     public AdminSummaryResponse getSummary(String authEmail, String adminKey) {
         validateAdminAccess(authEmail, adminKey);
+        return platformCounterService.getSummary();
+    }
 
-        return AdminSummaryResponse.builder()
-                .totalUsers(adminDAO.countUsers(true))
-                .totalBuyers(adminDAO.countUsersByRole(Role.BUYER, true))
-                .totalSellers(adminDAO.countUsersByRole(Role.SELLER, true))
-                .activeUsers(adminDAO.countUsersByActive(true, true))
-                .deletedUsers(adminDAO.countDeletedUsers())
-                .totalProducts(adminDAO.countProducts())
-                .totalOrders(adminDAO.countOrders())
-                .totalPayments(adminDAO.countPayments())
-                .build();
+    @Override
+    @Transactional(readOnly = true)
+    public List<CacheStatsResponse> getCacheStats(String authEmail, String adminKey) {
+        validateAdminAccess(authEmail, adminKey);
+        return List.of(productDetailCacheService.getStats(), adminDAO.getQueryPlanCacheStats());
+    }
+
+    @Override
+    public List<HotSkuStatusResponse> getHotSkuStatus(String authEmail, String adminKey) {
+        validateAdminAccess(authEmail, adminKey);
+        return stockReservationService.getStatus();
+    }
+
+    @Override
+    public List<HotSkuStatusResponse> reconcileHotSkus(String authEmail, String adminKey) {
+        validateAdminAccess(authEmail, adminKey);
+        return stockReservationService.reconcile();
     }
 
     @Override
@@ -81,6 +99,7 @@ public class AdminServiceImpl implements AdminService {
                 .page(page)
                 .size(size)
                 .totalElements(totalElements)
+                .countMode(CountMode.EXACT)
                 .totalPages(totalPages)
                 .hasNext(page + 1 < totalPages)
                 .hasPrevious(page > 0)
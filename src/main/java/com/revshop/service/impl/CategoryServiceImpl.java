@@ -11,12 +11,14 @@ import com.revshop.dto.category.CategoryUpdateRequest;
 import com.revshop.entity.Category;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
+import com.revshop.event.CategoryChangedEvent;
 import com.revshop.exception.BadRequestException;
 import com.revshop.exception.ConflictException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
 import com.revshop.service.CategoryService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class CategoryServiceImpl implements CategoryService {
     private final CategoryDAO categoryDAO;
     private final ProductDAO productDAO;
     private final UserDAO userDAO;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -65,7 +68,7 @@ public class CategoryServiceImpl implements CategoryService {
                 existing.setSlug(slug);
                 existing.setDescription(normalizedDescription);
                 existing.setParent(parent);
-                return mapToResponse(categoryDAO.save(existing));
+                return mapToResponse(saveAndPublish(existing));
             }
             if (parent != null && parent.getId().equals(existing.getId())) {
                 throw new BadRequestException("Category cannot be its own parent");
@@ -76,7 +79,7 @@ public class CategoryServiceImpl implements CategoryService {
             existing.setParent(parent);
             existing.setActive(true);
             existing.setIsDeleted(false);
-            return mapToResponse(categoryDAO.save(existing));
+            return mapToResponse(saveAndPublish(existing));
         }
 
         Category category = Category.builder()
@@ -87,7 +90,7 @@ public class CategoryServiceImpl implements CategoryService {
                 .active(true)
                 .build();
 
-        return mapToResponse(categoryDAO.save(category));
+        return mapToResponse(saveAndPublish(category));
     }
 
     @Override
@@ -125,7 +128,7 @@ public class CategoryServiceImpl implements CategoryService {
         category.setDescription(normalizedDescription);
         category.setParent(parent);
 
-        return mapToResponse(categoryDAO.save(category));
+        return mapToResponse(saveAndPublish(category));
     }
 
     @Override
@@ -148,7 +151,7 @@ public class CategoryServiceImpl implements CategoryService {
 
         category.setActive(false);
         category.setIsDeleted(true);
-        categoryDAO.save(category);
+        saveAndPublish(category);
     }
 
     @Override
@@ -216,6 +219,12 @@ public class CategoryServiceImpl implements CategoryService {
                 .build();
     }
 
+    private Category saveAndPublish(Category category) {
+        Category saved = categoryDAO.save(category);
+        eventPublisher.publishEvent(new CategoryChangedEvent(saved));
+        return saved;
+    }
+
     private CategoryResponse mapToResponse(Category category) {
         Category parent = category.getParent();
         boolean parentVisible = parent != null
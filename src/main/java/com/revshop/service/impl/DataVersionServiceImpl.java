@@ -0,0 +1,63 @@
+package com.revshop.service.impl;
+
+import com.revshop.service.DataVersionService;
+import org.springframework.stereotype.Service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user change stamps for polled endpoints. A stamp is the epoch millisecond of the last
+ * committed write, forced to move forward by at least one, so it doubles as the lower bound for
+ * since= deltas. Users untouched since startup report the startup time, which invalidates every
+ * tag handed out by an earlier process.
+ */
+@Service
+public class DataVersionServiceImpl implements DataVersionService {
+
+    private final long startedAt = System.currentTimeMillis();
+    private final Map<Long, AtomicLong> dashboardVersions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> notificationVersions = new ConcurrentHashMap<>();
+
+    @Override
+    public long getSellerDashboardVersion(Long sellerId) {
+        return current(dashboardVersions, sellerId);
+    }
+
+    @Override
+    public long getNotificationVersion(Long userId) {
+        return current(notificationVersions, userId);
+    }
+
+    @Override
+    public void bumpSellerDashboards(Collection<Long> sellerIds) {
+        bumpAfterCommit(dashboardVersions, sellerIds);
+    }
+
+    @Override
+    public void bumpNotifications(Collection<Long> userIds) {
+        bumpAfterCommit(notificationVersions, userIds);
+    }
+
+    private long current(Map<Long, AtomicLong> versions, Long userId) {
+        AtomicLong version = versions.get(userId);
+        return version == null ? startedAt : version.get();
+    }
+
+    // Bumping after commit means a poll that saw the new stamp also sees the rows this transaction
+    // wrote, so callers bump from the transaction that writes what the poll reads.
+    private void bumpAfterCommit(Map<Long, AtomicLong> versions, Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = List.copyOf(userIds);
+        TransactionCallbacks.afterCommit(() -> {
+            long now = System.currentTimeMillis();
+            ids.forEach(userId -> versions.computeIfAbsent(userId, ignored -> new AtomicLong(startedAt))
+                    .accumulateAndGet(now, (previous, next) -> Math.max(previous + 1, next)));
+        });
+    }
+}
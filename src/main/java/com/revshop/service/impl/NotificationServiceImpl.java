@@ -3,18 +3,25 @@ package com.revshop.service.impl;
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dao.NotificationDAO;
 import com.revshop.dao.UserDAO;
+import com.revshop.dto.notification.NotificationDraft;
 import com.revshop.dto.notification.NotificationResponse;
 import com.revshop.entity.Notification;
 import com.revshop.entity.NotificationType;
 import com.revshop.entity.User;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
+import com.revshop.service.DataVersionService;
 import com.revshop.service.NotificationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +30,10 @@ public class NotificationServiceImpl implements NotificationService {
 
     private final NotificationDAO notificationDAO;
     private final UserDAO userDAO;
+    private final DataVersionService dataVersionService;
+
+    @Value("${app.sync.since-overlap-ms:5000}")
+    private long sinceOverlapMs = 5000;
 
     @Override
     @Transactional
@@ -48,6 +59,32 @@ public class NotificationServiceImpl implements NotificationService {
                 .active(true)
                 .build();
         notificationDAO.save(notification);
+        dataVersionService.bumpNotifications(List.of(recipientUserId));
+    }
+
+    @Override
+    @Transactional
+    public void createNotifications(List<NotificationDraft> drafts) {
+        if (drafts.isEmpty()) {
+            return;
+        }
+        // Recipients are proxies, so the batch is only inserts; no user rows are read.
+        List<Notification> notifications = drafts.stream()
+                .map(draft -> Notification.builder()
+                        .recipient(userDAO.getReference(draft.getRecipientUserId()))
+                        .type(draft.getType())
+                        .title(draft.getTitle())
+                        .message(draft.getMessage())
+                        .referenceType(draft.getReferenceType())
+                        .referenceId(draft.getReferenceId())
+                        .isRead(false)
+                        .active(true)
+                        .build())
+                .toList();
+        notificationDAO.saveAll(notifications);
+        dataVersionService.bumpNotifications(drafts.stream()
+                .map(NotificationDraft::getRecipientUserId)
+                .collect(Collectors.toSet()));
     }
 
     @Override
@@ -63,6 +100,29 @@ public class NotificationServiceImpl implements NotificationService {
                 .toList();
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getMyNotificationsChangedSince(String userEmail, long sinceVersion) {
+        User user = getActiveUserByEmail(userEmail);
+        if (sinceVersion >= dataVersionService.getNotificationVersion(user.getId())) {
+            return List.of();
+        }
+        // Stamps are taken at commit while updated_at is set at flush, so look back a little further.
+        LocalDateTime changedSince = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(sinceVersion - sinceOverlapMs), ZoneId.systemDefault());
+        return notificationDAO.findChangedByRecipientId(user.getId(), changedSince)
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getNotificationVersion(String userEmail) {
+        User user = getActiveUserByEmail(userEmail);
+        return dataVersionService.getNotificationVersion(user.getId());
+    }
+
     @Override
     @Transactional
     public NotificationResponse markAsRead(String userEmail, Long notificationId) {
@@ -77,6 +137,7 @@ public class NotificationServiceImpl implements NotificationService {
         if (!Boolean.TRUE.equals(notification.getIsRead())) {
             notification.setIsRead(true);
             notificationDAO.save(notification);
+            dataVersionService.bumpNotifications(List.of(user.getId()));
         }
         return mapToResponse(notification);
     }
@@ -85,7 +146,11 @@ public class NotificationServiceImpl implements NotificationService {
     @Transactional
     public long markAllAsRead(String userEmail) {
         User user = getActiveUserByEmail(userEmail);
-        return notificationDAO.markAllAsReadByRecipientId(user.getId());
+        long updated = notificationDAO.markAllAsReadByRecipientId(user.getId());
+        if (updated > 0) {
+            dataVersionService.bumpNotifications(List.of(user.getId()));
+        }
+        return updated;
     }
 
     @Override
@@ -0,0 +1,269 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dto.notification.NotificationDraft;
+import com.revshop.entity.NotificationType;
+import com.revshop.entity.OrderStatus;
+import com.revshop.event.ExchangeCompletedEvent;
+import com.revshop.event.ExchangeRequestedEvent;
+import com.revshop.event.LowStockEvent;
+import com.revshop.event.OrderBatchEvent;
+import com.revshop.event.OrderCancelledEvent;
+import com.revshop.event.OrderDeliveredEvent;
+import com.revshop.event.OrderEvent;
+import com.revshop.event.OrderPlacedEvent;
+import com.revshop.event.OrderShippedEvent;
+import com.revshop.event.ReturnCompletedEvent;
+import com.revshop.event.ReturnRequestedEvent;
+import com.revshop.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Turns committed order transitions into buyer and seller notifications on the bounded
+ * notification executor, so the order transaction never waits on notification inserts.
+ */
+@Component
+@RequiredArgsConstructor
+@Log4j2
+public class OrderNotificationListener {
+
+    private static final int MAX_LISTED_ORDERS = 20;
+
+    private final NotificationService notificationService;
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderEvent(OrderEvent event) {
+        deliver(draftsFor(event), "order " + event.getOrderNumber());
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onOrderBatch(OrderBatchEvent event) {
+        deliver(draftsFor(event), event.getOrders().size() + " " + event.getStatus() + " orders");
+    }
+
+    @Async("notificationExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLowStock(LowStockEvent event) {
+        deliver(List.of(NotificationDraft.builder()
+                .recipientUserId(event.getSellerId())
+                .type(NotificationType.LOW_STOCK_ALERT)
+                .title("Low stock alert")
+                .message("Product '" + event.getProductName() + "' is low on stock. Current stock: "
+                        + event.getStock() + ".")
+                .referenceType("PRODUCT")
+                .referenceId(event.getProductId())
+                .build()), "product " + event.getProductId());
+    }
+
+    List<NotificationDraft> draftsFor(OrderEvent event) {
+        List<NotificationDraft> drafts = new ArrayList<>();
+        switch (event) {
+            case OrderPlacedEvent placed -> {
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.ORDER_PLACED,
+                        "Order placed successfully",
+                        "Your order " + event.getOrderNumber() + " has been placed."));
+                placed.getSellerAmounts().forEach((sellerId, amount) -> drafts.add(draft(event, sellerId,
+                        NotificationType.ORDER_RECEIVED,
+                        "New order received",
+                        "Order " + event.getOrderNumber()
+                                + " from " + placed.getBuyerEmail()
+                                + " | Items: " + placed.getSellerItemCounts().getOrDefault(sellerId, 0)
+                                + " | Amount: INR " + amount.setScale(2, RoundingMode.HALF_UP).toPlainString())));
+            }
+            case OrderCancelledEvent cancelled -> {
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.ORDER_CANCELLED,
+                        "Order cancelled",
+                        "Order " + event.getOrderNumber() + " has been cancelled. Reason: "
+                                + orDash(cancelled.getReason())));
+                addSellerDrafts(drafts, event, NotificationType.ORDER_CANCELLED,
+                        "Buyer cancelled order",
+                        "Order " + event.getOrderNumber() + " was cancelled by buyer.");
+            }
+            case OrderShippedEvent shipped -> {
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.ORDER_SHIPPED,
+                        "Order shipped",
+                        "Your order " + event.getOrderNumber() + " has been shipped."));
+                addSellerDrafts(drafts, event, NotificationType.ORDER_SHIPPED,
+                        "Order marked as shipped",
+                        "Order " + event.getOrderNumber() + " is now marked as shipped."
+                                + (shipped.isCashOnDelivery()
+                                ? " COD payment is pending until delivery confirmation."
+                                : ""));
+            }
+            case OrderDeliveredEvent delivered -> {
+                boolean byBuyer = delivered.isConfirmedByBuyer();
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.ORDER_DELIVERED,
+                        byBuyer ? "Delivery confirmed" : "Order delivered",
+                        byBuyer
+                                ? "You confirmed delivery for order " + event.getOrderNumber() + "."
+                                : "Your order " + event.getOrderNumber() + " has been delivered."));
+                String codPaymentNote = !delivered.isCashOnDelivery()
+                        ? ""
+                        : delivered.isPaymentCollected()
+                        ? " COD payment has been collected."
+                        : " COD payment is pending.";
+                addSellerDrafts(drafts, event, NotificationType.ORDER_DELIVERED,
+                        byBuyer ? "Buyer confirmed delivery" : "Order marked as delivered",
+                        (byBuyer
+                                ? "Buyer confirmed delivery for order " + event.getOrderNumber() + "."
+                                : "Order " + event.getOrderNumber() + " is now marked as delivered.")
+                                + codPaymentNote);
+            }
+            case ReturnRequestedEvent requested -> {
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.RETURN_REQUESTED,
+                        "Return requested",
+                        "Return request submitted for order " + event.getOrderNumber() + ". Reason: "
+                                + orDash(requested.getReason())));
+                addSellerDrafts(drafts, event, NotificationType.RETURN_REQUESTED,
+                        "Return request received",
+                        "Buyer requested return for order " + event.getOrderNumber() + ".");
+            }
+            case ReturnCompletedEvent completed -> {
+                String message = "Return for order " + event.getOrderNumber() + " has been completed.";
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.RETURN_COMPLETED,
+                        "Return completed",
+                        message + (completed.isRefunded()
+                                ? " Payment has been refunded to buyer."
+                                : " Payment refund is not applicable for this order.")));
+                addSellerDrafts(drafts, event, NotificationType.RETURN_COMPLETED,
+                        "Return completed",
+                        message + (completed.isRefunded()
+                                ? " Payment has been refunded to buyer."
+                                : " No payment refund was required."));
+            }
+            case ExchangeRequestedEvent requested -> {
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.EXCHANGE_REQUESTED,
+                        "Exchange requested",
+                        "Exchange request submitted for order " + event.getOrderNumber() + ". Reason: "
+                                + orDash(requested.getReason())));
+                addSellerDrafts(drafts, event, NotificationType.EXCHANGE_REQUESTED,
+                        "Exchange request received",
+                        "Buyer requested exchange for order " + event.getOrderNumber() + ".");
+            }
+            case ExchangeCompletedEvent completed -> {
+                String message = "Exchange for order " + event.getOrderNumber() + " has been completed.";
+                drafts.add(draft(event, event.getBuyerId(), NotificationType.EXCHANGE_COMPLETED,
+                        "Exchange completed", message));
+                addSellerDrafts(drafts, event, NotificationType.EXCHANGE_COMPLETED, "Exchange completed", message);
+            }
+        }
+        return drafts;
+    }
+
+    // One notification per buyer and per seller, however many of their orders the batch moved.
+    List<NotificationDraft> draftsFor(OrderBatchEvent event) {
+        Map<Long, List<OrderBatchEvent.Entry>> byBuyer = new LinkedHashMap<>();
+        Map<Long, List<OrderBatchEvent.Entry>> bySeller = new LinkedHashMap<>();
+        for (OrderBatchEvent.Entry entry : event.getOrders()) {
+            byBuyer.computeIfAbsent(entry.buyerId(), ignored -> new ArrayList<>()).add(entry);
+            entry.sellerIds().forEach(sellerId -> bySeller.computeIfAbsent(sellerId, ignored -> new ArrayList<>()).add(entry));
+        }
+
+        List<NotificationDraft> drafts = new ArrayList<>();
+        byBuyer.forEach((buyerId, entries) -> drafts.add(batchDraft(buyerId, event.getStatus(), entries, true)));
+        bySeller.forEach((sellerId, entries) -> drafts.add(batchDraft(sellerId, event.getStatus(), entries, false)));
+        return drafts;
+    }
+
+    private NotificationDraft batchDraft(
+            Long recipientUserId,
+            OrderStatus status,
+            List<OrderBatchEvent.Entry> entries,
+            boolean buyer
+    ) {
+        boolean single = entries.size() == 1;
+        String orders = (single ? "order " : entries.size() + " orders ") + orderNumbers(entries);
+        long settled = entries.stream().filter(OrderBatchEvent.Entry::paymentSettled).count();
+        NotificationType type;
+        String title;
+        String message;
+        switch (status) {
+            case SHIPPED -> {
+                type = NotificationType.ORDER_SHIPPED;
+                title = buyer ? (single ? "Order shipped" : "Orders shipped") : "Orders marked as shipped";
+                message = buyer
+                        ? "Your " + orders + (single ? " has" : " have") + " been shipped."
+                        : "Marked " + orders + " as shipped.";
+            }
+            case DELIVERED -> {
+                type = NotificationType.ORDER_DELIVERED;
+                title = buyer ? (single ? "Order delivered" : "Orders delivered") : "Orders marked as delivered";
+                message = (buyer
+                        ? "Your " + orders + (single ? " has" : " have") + " been delivered."
+                        : "Marked " + orders + " as delivered.")
+                        + (settled == 0 ? "" : " COD payment collected for " + settled + " of them.");
+            }
+            case RETURNED -> {
+                type = NotificationType.RETURN_COMPLETED;
+                title = single ? "Return completed" : "Returns completed";
+                message = "Return completed for " + orders + "."
+                        + (settled == 0 ? "" : " Payment refunded to buyer for " + settled + " of them.");
+            }
+            default -> throw new IllegalArgumentException("Unsupported batch status " + status);
+        }
+        return NotificationDraft.builder()
+                .recipientUserId(recipientUserId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .referenceType(single ? "ORDER" : null)
+                .referenceId(single ? entries.get(0).orderId() : null)
+                .build();
+    }
+
+    private String orderNumbers(List<OrderBatchEvent.Entry> entries) {
+        String listed = String.join(", ", entries.stream()
+                .limit(MAX_LISTED_ORDERS)
+                .map(OrderBatchEvent.Entry::orderNumber)
+                .toList());
+        return entries.size() > MAX_LISTED_ORDERS
+                ? listed + " and " + (entries.size() - MAX_LISTED_ORDERS) + " more"
+                : listed;
+    }
+
+    private void deliver(List<NotificationDraft> drafts, String source) {
+        try {
+            notificationService.createNotifications(drafts);
+        } catch (RuntimeException ex) {
+            log.error("Failed to store {} notifications for {}", drafts.size(), source, ex);
+        }
+    }
+
+    private void addSellerDrafts(
+            List<NotificationDraft> drafts,
+            OrderEvent event,
+            NotificationType type,
+            String title,
+            String message
+    ) {
+        for (Long sellerId : event.getSellerIds()) {
+            drafts.add(draft(event, sellerId, type, title, message));
+        }
+    }
+
+    private NotificationDraft draft(OrderEvent event, Long recipientUserId, NotificationType type, String title, String message) {
+        return NotificationDraft.builder()
+                .recipientUserId(recipientUserId)
+                .type(type)
+                .title(title)
+                .message(message)
+                .referenceType("ORDER")
+                .referenceId(event.getOrderId())
+                .build();
+    }
+
+    private String orDash(String reason) {
+        return reason == null ? "-" : reason;
+    }
+}
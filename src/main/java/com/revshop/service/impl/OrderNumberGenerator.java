@@ -0,0 +1,63 @@
+package com.revshop.service.impl;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Issues order numbers without touching the database. Each number packs milliseconds since
+ * 2024-01-01, a per-instance node id and a per-millisecond counter into 64 bits, rendered as
+ * fixed-width Crockford base32 so string order matches issue order. Instances must run with
+ * distinct node ids for numbers to stay unique across the cluster.
+ */
+@Component
+public class OrderNumberGenerator {
+
+    static final String PREFIX = "ORD-";
+
+    private static final long EPOCH_MILLIS = Instant.parse("2024-01-01T00:00:00Z").toEpochMilli();
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int ENCODED_LENGTH = 13;
+
+    private final long nodeId;
+
+    private long lastMillis = -1;
+    private long sequence;
+
+    public OrderNumberGenerator(@Value("${app.orders.number.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("app.orders.number.node-id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public String next() {
+        return PREFIX + encode(nextId(System.currentTimeMillis()));
+    }
+
+    synchronized long nextId(long nowMillis) {
+        // A clock that steps backwards, or a full counter, borrows from the next millisecond instead of waiting.
+        if (nowMillis > lastMillis) {
+            lastMillis = nowMillis;
+            sequence = 0;
+        } else if (++sequence > SEQUENCE_MASK) {
+            lastMillis++;
+            sequence = 0;
+        }
+        return ((lastMillis - EPOCH_MILLIS) << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    static String encode(long id) {
+        char[] encoded = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            encoded[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(encoded);
+    }
+}
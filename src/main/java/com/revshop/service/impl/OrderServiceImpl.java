@@ -8,12 +8,15 @@ import com.revshop.dao.OrderItemDAO;
 import com.revshop.dao.PaymentDAO;
 import com.revshop.dao.ProductDAO;
 import com.revshop.dao.UserDAO;
+import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.order.BulkOrderActionResponse;
+import com.revshop.dto.order.BulkOrderOutcome;
 import com.revshop.dto.order.OrderItemResponse;
 import com.revshop.dto.order.OrderResponse;
 import com.revshop.dto.order.PlaceOrderRequest;
+import com.revshop.dto.order.SellerOrderCursor;
 import com.revshop.entity.Cart;
 import com.revshop.entity.CartItem;
-import com.revshop.entity.NotificationType;
 import com.revshop.entity.Order;
 import com.revshop.entity.OrderItem;
 import com.revshop.entity.OrderStatus;
@@ -21,34 +24,53 @@ import com.revshop.entity.Payment;
 import com.revshop.entity.PaymentMethod;
 import com.revshop.entity.PaymentStatus;
 import com.revshop.entity.Product;
-import com.revshop.entity.ProductStatus;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
+import com.revshop.event.ExchangeCompletedEvent;
+import com.revshop.event.ExchangeRequestedEvent;
+import com.revshop.event.LowStockEvent;
+import com.revshop.event.OrderBatchEvent;
+import com.revshop.event.OrderCancelledEvent;
+import com.revshop.event.OrderDeliveredEvent;
+import com.revshop.event.OrderPlacedEvent;
+import com.revshop.event.OrderShippedEvent;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.event.ReturnCompletedEvent;
+import com.revshop.event.ReturnRequestedEvent;
 import com.revshop.exception.BadRequestException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
-import com.revshop.service.NotificationService;
 import com.revshop.service.OrderService;
+import com.revshop.service.SellerStatsService;
+import com.revshop.service.StockReservationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
-import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class OrderServiceImpl implements OrderService {
 
+    private static final int MAX_BULK_ORDERS = 500;
+
     private final OrderDAO orderDAO;
     private final OrderItemDAO orderItemDAO;
     private final CartDAO cartDAO;
@@ -56,7 +78,10 @@ public class OrderServiceImpl implements OrderService {
     private final PaymentDAO paymentDAO;
     private final ProductDAO productDAO;
     private final UserDAO userDAO;
-    private final NotificationService notificationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StockReservationService stockReservationService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final SellerStatsService sellerStatsService;
 
     @Override
     @Transactional
@@ -70,24 +95,43 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Cart is empty");
         }
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
         for (CartItem cartItem : cartItems) {
-            Product product = productDAO.findById(cartItem.getProduct().getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + cartItem.getProduct().getId()));
+            quantities.merge(cartItem.getProduct().getId(), cartItem.getQuantity(), Integer::sum);
+        }
+        Map<Long, Product> products = new HashMap<>();
+        for (Product product : productDAO.findAllByIds(new ArrayList<>(quantities.keySet()))) {
+            products.put(product.getId(), product);
+        }
 
+        BigDecimal totalAmount = BigDecimal.ZERO;
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            if (product == null) {
+                throw new ResourceNotFoundException("Product not found: " + entry.getKey());
+            }
             if (!Boolean.TRUE.equals(product.getActive()) || Boolean.TRUE.equals(product.getIsDeleted())) {
                 throw new BadRequestException("Product is not available: " + product.getName());
             }
-            if (cartItem.getQuantity() > product.getStock()) {
+            if (entry.getValue() > product.getStock()) {
                 throw new BadRequestException("Insufficient stock for product: " + product.getName());
             }
 
-            BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(cartItem.getQuantity()));
+            BigDecimal lineTotal = product.getPrice().multiply(BigDecimal.valueOf(entry.getValue()));
             totalAmount = totalAmount.add(lineTotal);
         }
 
+        // The read above is only a pre-check; the conditional decrement is what guarantees no oversell.
+        Set<Long> outOfStock = takeStock(quantities);
+        if (!outOfStock.isEmpty()) {
+            throw new BadRequestException(
+                    "Insufficient stock for product: " + products.get(outOfStock.iterator().next()).getName()
+            );
+        }
+        refreshColdStock(products.values());
+
         Order order = Order.builder()
-                .orderNumber(generateOrderNumber())
+                .orderNumber(orderNumberGenerator.next())
                 .buyer(buyer)
                 .status(OrderStatus.PLACED)
                 .paymentMethod(request.getPaymentMethod())
@@ -98,53 +142,42 @@ public class OrderServiceImpl implements OrderService {
                 .build();
         orderDAO.save(order);
 
-        List<OrderItem> createdOrderItems = new ArrayList<>();
+        List<OrderItem> orderItems = new ArrayList<>(cartItems.size());
         for (CartItem cartItem : cartItems) {
-            Product product = productDAO.findById(cartItem.getProduct().getId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Product not found: " + cartItem.getProduct().getId()));
-
+            Product product = products.get(cartItem.getProduct().getId());
             BigDecimal unitPrice = product.getPrice();
-            BigDecimal lineTotal = unitPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity()));
-
-            OrderItem orderItem = OrderItem.builder()
+            orderItems.add(OrderItem.builder()
                     .order(order)
                     .product(product)
                     .seller(product.getSeller())
                     .quantity(cartItem.getQuantity())
                     .unitPrice(unitPrice)
-                    .lineTotal(lineTotal)
+                    .lineTotal(unitPrice.multiply(BigDecimal.valueOf(cartItem.getQuantity())))
                     .active(true)
-                    .build();
-            OrderItem savedOrderItem = orderItemDAO.save(orderItem);
-            createdOrderItems.add(savedOrderItem);
-
-            int previousStock = product.getStock();
-            int updatedStock = product.getStock() - cartItem.getQuantity();
-            product.setStock(updatedStock);
-            product.setInStock(updatedStock > 0);
-            if (updatedStock <= 0) {
-                product.setStatus(com.revshop.entity.ProductStatus.OUT_OF_STOCK);
-            }
-            productDAO.save(product);
-            sendLowStockNotificationIfNeeded(product, previousStock, updatedStock);
+                    .build());
+        }
+        List<OrderItem> createdOrderItems = orderItemDAO.saveAll(orderItems);
+        sellerStatsService.recordTransition(createdOrderItems, null, order.getStatus());
 
-            cartItem.setActive(false);
-            cartItem.setIsDeleted(true);
-            cartItemDAO.save(cartItem);
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Product product = products.get(entry.getKey());
+            int updatedStock = currentStock(product);
+            int previousStock = updatedStock + entry.getValue();
+            publishStockChange(product, previousStock > 0);
+            sendLowStockNotificationIfNeeded(product, previousStock, updatedStock);
         }
 
-        sendOrderNotifications(order, createdOrderItems);
-        return buildOrderResponse(order);
+        cartItemDAO.softDeleteByIds(cartItems.stream().map(CartItem::getId).toList());
+
+        eventPublisher.publishEvent(new OrderPlacedEvent(order, createdOrderItems));
+        return buildOrderResponse(order, createdOrderItems);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<OrderResponse> getBuyerOrders(String buyerEmail) {
         User buyer = getValidatedBuyer(buyerEmail);
-        return orderDAO.findByBuyerId(buyer.getId())
-                .stream()
-                .map(this::buildOrderResponse)
-                .toList();
+        return buildOrderResponses(orderDAO.findByBuyerId(buyer.getId()), null);
     }
 
     @Override
@@ -159,10 +192,54 @@ public class OrderServiceImpl implements OrderService {
     @Transactional(readOnly = true)
     public List<OrderResponse> getSellerOrders(String sellerEmail) {
         User seller = getValidatedSeller(sellerEmail);
-        return orderDAO.findBySellerEmail(seller.getEmail())
-                .stream()
-                .map(order -> buildOrderResponseForSeller(order, seller.getEmail()))
-                .toList();
+        return buildOrderResponses(orderDAO.findBySellerEmail(seller.getEmail()), seller.getEmail());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public PagedResponse<OrderResponse> getSellerOrderInbox(
+            String sellerEmail,
+            OrderStatus status,
+            LocalDate fromDate,
+            LocalDate toDate,
+            String orderNumberPrefix,
+            String cursor,
+            int size
+    ) {
+        if (size <= 0 || size > 100) {
+            throw new BadRequestException("Size must be between 1 and 100");
+        }
+        if (fromDate != null && toDate != null && fromDate.isAfter(toDate)) {
+            throw new BadRequestException("fromDate cannot be after toDate");
+        }
+        User seller = getValidatedSeller(sellerEmail);
+        SellerOrderCursor after = cursor == null || cursor.isBlank() ? null : SellerOrderCursor.decode(cursor);
+        String prefix = orderNumberPrefix == null || orderNumberPrefix.isBlank()
+                ? null
+                : orderNumberPrefix.trim().toUpperCase(Locale.ROOT);
+        LocalDateTime createdFrom = fromDate == null ? null : fromDate.atStartOfDay();
+        LocalDateTime createdTo = toDate == null ? null : toDate.plusDays(1).atStartOfDay();
+
+        List<Order> orders = orderDAO.findSellerInboxPage(
+                seller.getId(),
+                status,
+                createdFrom,
+                createdTo,
+                prefix,
+                after,
+                size + 1
+        );
+        boolean hasNext = orders.size() > size;
+        List<OrderResponse> content = buildOrderResponses(hasNext ? orders.subList(0, size) : orders, seller.getEmail());
+        return PagedResponse.<OrderResponse>builder()
+                .content(content)
+                .size(size)
+                .hasNext(hasNext)
+                .hasPrevious(after != null)
+                .sortBy("createdAt")
+                .sortDir("desc")
+                .nextCursor(hasNext ? SellerOrderCursor.after(content.get(content.size() - 1)).encode() : null)
+                .build();
     }
 
     @Override
@@ -174,16 +251,19 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Order cannot be cancelled in current status: " + order.getStatus());
         }
 
+        OrderStatus previousStatus = order.getStatus();
         order.setStatus(OrderStatus.CANCELLED);
         order.setCancelReason(normalizeReason(reason, "Cancelled by buyer"));
         order.setReturnReason(null);
         order.setExchangeReason(null);
         order.setExchangeRequestedProductId(null);
-        restoreOrderStock(order);
+        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
+        restoreOrderStock(orderItems);
         orderDAO.save(order);
+        sellerStatsService.recordTransition(orderItems, previousStatus, OrderStatus.CANCELLED);
 
-        sendOrderCancelledNotifications(order, orderItemDAO.findByOrderId(order.getId()));
-        return buildOrderResponse(order);
+        eventPublisher.publishEvent(new OrderCancelledEvent(order, orderItems));
+        return buildOrderResponse(order, orderItems);
     }
 
     @Override
@@ -202,8 +282,10 @@ public class OrderServiceImpl implements OrderService {
         order.setExchangeRequestedProductId(null);
         orderDAO.save(order);
 
-        sendReturnRequestedNotifications(order, orderItemDAO.findByOrderId(order.getId()));
-        return buildOrderResponse(order);
+        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
+        sellerStatsService.recordTransition(orderItems, OrderStatus.DELIVERED, OrderStatus.RETURN_REQUESTED);
+        eventPublisher.publishEvent(new ReturnRequestedEvent(order, orderItems));
+        return buildOrderResponse(order, orderItems);
     }
 
     @Override
@@ -232,8 +314,10 @@ public class OrderServiceImpl implements OrderService {
         order.setReturnReason(null);
         orderDAO.save(order);
 
-        sendExchangeRequestedNotifications(order, orderItemDAO.findByOrderId(order.getId()));
-        return buildOrderResponse(order);
+        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
+        sellerStatsService.recordTransition(orderItems, OrderStatus.DELIVERED, OrderStatus.EXCHANGE_REQUESTED);
+        eventPublisher.publishEvent(new ExchangeRequestedEvent(order, orderItems));
+        return buildOrderResponse(order, orderItems);
     }
 
     @Override
@@ -249,8 +333,9 @@ public class OrderServiceImpl implements OrderService {
         orderDAO.save(order);
 
         List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
-        sendOrderShippedNotifications(order, orderItems);
-        return buildOrderResponseForSeller(order, seller.getEmail());
+        sellerStatsService.recordTransition(orderItems, OrderStatus.CONFIRMED, OrderStatus.SHIPPED);
+        eventPublisher.publishEvent(new OrderShippedEvent(order, orderItems));
+        return buildOrderResponseForSeller(order, orderItems, seller.getEmail());
     }
 
     @Override
@@ -267,8 +352,10 @@ public class OrderServiceImpl implements OrderService {
         boolean codPaymentCollected = settleCodPaymentIfPending(order);
 
         List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
-        sendOrderDeliveredNotifications(order, orderItems, false, codPaymentCollected);
-        return buildOrderResponseForSeller(order, seller.getEmail());
+        sellerStatsService.recordTransition(orderItems, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+        eventPublisher.publishEvent(new OrderDeliveredEvent(
+                order, orderItems, false, isPaymentCollected(order, codPaymentCollected)));
+        return buildOrderResponseForSeller(order, orderItems, seller.getEmail());
     }
 
     @Override
@@ -285,8 +372,10 @@ public class OrderServiceImpl implements OrderService {
         boolean codPaymentCollected = settleCodPaymentIfPending(order);
 
         List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
-        sendOrderDeliveredNotifications(order, orderItems, true, codPaymentCollected);
-        return buildOrderResponse(order);
+        sellerStatsService.recordTransition(orderItems, OrderStatus.SHIPPED, OrderStatus.DELIVERED);
+        eventPublisher.publishEvent(new OrderDeliveredEvent(
+                order, orderItems, true, isPaymentCollected(order, codPaymentCollected)));
+        return buildOrderResponse(order, orderItems);
     }
 
     @Override
@@ -300,12 +389,13 @@ public class OrderServiceImpl implements OrderService {
 
         order.setStatus(OrderStatus.RETURNED);
         orderDAO.save(order);
-        restoreOrderStock(order);
+        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
+        restoreOrderStock(orderItems);
+        sellerStatsService.recordTransition(orderItems, OrderStatus.RETURN_REQUESTED, OrderStatus.RETURNED);
         boolean refunded = refundPaymentIfApplicable(order);
 
-        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
-        sendReturnCompletedNotifications(order, orderItems, refunded);
-        return buildOrderResponseForSeller(order, seller.getEmail());
+        eventPublisher.publishEvent(new ReturnCompletedEvent(order, orderItems, refunded));
+        return buildOrderResponseForSeller(order, orderItems, seller.getEmail());
     }
 
     @Override
@@ -317,23 +407,98 @@ public class OrderServiceImpl implements OrderService {
             throw new BadRequestException("Only exchange requested orders can be marked as exchanged");
         }
 
+        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
         if (order.getExchangeRequestedProductId() != null) {
             Product target = productDAO.findById(order.getExchangeRequestedProductId())
                     .orElseThrow(() -> new ResourceNotFoundException("Exchange target product not found"));
             if (!Boolean.TRUE.equals(target.getActive()) || Boolean.TRUE.equals(target.getIsDeleted())) {
                 throw new BadRequestException("Exchange target product is not active");
             }
-            if (target.getStock() <= 0) {
-                throw new BadRequestException("Exchange target product is out of stock");
+            // A seller only moves their own stock: the replacement units come out of the target for this
+            // seller's lines, and those returned lines go back on the shelf. Another seller's target is
+            // only checked for availability.
+            if (!target.getSeller().getId().equals(seller.getId())) {
+                if (currentStock(target) <= 0) {
+                    throw new BadRequestException("Exchange target product is out of stock");
+                }
+            } else {
+                List<OrderItem> sellerItems = orderItems.stream()
+                        .filter(item -> item.getSeller().getId().equals(seller.getId()))
+                        .toList();
+                int quantity = sellerItems.stream().mapToInt(OrderItem::getQuantity).sum();
+                if (!takeStock(Map.of(target.getId(), quantity)).isEmpty()) {
+                    throw new BadRequestException("Exchange target product is out of stock");
+                }
+                refreshColdStock(List.of(target));
+                int updatedStock = currentStock(target);
+                publishStockChange(target, updatedStock + quantity > 0);
+                sendLowStockNotificationIfNeeded(target, updatedStock + quantity, updatedStock);
+                restoreOrderStock(sellerItems);
             }
         }
 
         order.setStatus(OrderStatus.EXCHANGED);
         orderDAO.save(order);
+        sellerStatsService.recordTransition(orderItems, OrderStatus.EXCHANGE_REQUESTED, OrderStatus.EXCHANGED);
 
-        List<OrderItem> orderItems = orderItemDAO.findByOrderId(order.getId());
-        sendExchangeCompletedNotifications(order, orderItems);
-        return buildOrderResponseForSeller(order, seller.getEmail());
+        eventPublisher.publishEvent(new ExchangeCompletedEvent(order, orderItems));
+        return buildOrderResponseForSeller(order, orderItems, seller.getEmail());
+    }
+
+    @Override
+    @Transactional
+    public BulkOrderActionResponse markOrdersShippedBySeller(String sellerEmail, List<Long> orderIds) {
+        User seller = getValidatedSeller(sellerEmail);
+        BulkSelection selection = selectSellerOrders(
+                seller, orderIds, OrderStatus.CONFIRMED, "Only confirmed orders can be marked as shipped");
+
+        selection.eligible().forEach(order -> order.setStatus(OrderStatus.SHIPPED));
+        if (!selection.eligible().isEmpty()) {
+            sellerStatsService.recordTransition(
+                    flatten(orderItemDAO.findByOrderIds(selection.eligibleIds())),
+                    OrderStatus.CONFIRMED,
+                    OrderStatus.SHIPPED
+            );
+        }
+        return completeBulkTransition(selection, OrderStatus.SHIPPED, Set.of(), "Order marked as shipped", "");
+    }
+
+    @Override
+    @Transactional
+    public BulkOrderActionResponse markOrdersDeliveredBySeller(String sellerEmail, List<Long> orderIds) {
+        User seller = getValidatedSeller(sellerEmail);
+        BulkSelection selection = selectSellerOrders(
+                seller, orderIds, OrderStatus.SHIPPED, "Only shipped orders can be marked as delivered");
+
+        selection.eligible().forEach(order -> order.setStatus(OrderStatus.DELIVERED));
+        if (!selection.eligible().isEmpty()) {
+            sellerStatsService.recordTransition(
+                    flatten(orderItemDAO.findByOrderIds(selection.eligibleIds())),
+                    OrderStatus.SHIPPED,
+                    OrderStatus.DELIVERED
+            );
+        }
+        Set<Long> collected = settleCodPaymentsIfPending(selection.eligible());
+        return completeBulkTransition(
+                selection, OrderStatus.DELIVERED, collected, "Order marked as delivered", " COD payment collected.");
+    }
+
+    @Override
+    @Transactional
+    public BulkOrderActionResponse completeReturnsBySeller(String sellerEmail, List<Long> orderIds) {
+        User seller = getValidatedSeller(sellerEmail);
+        BulkSelection selection = selectSellerOrders(
+                seller, orderIds, OrderStatus.RETURN_REQUESTED, "Only return requested orders can be marked as returned");
+
+        selection.eligible().forEach(order -> order.setStatus(OrderStatus.RETURNED));
+        if (!selection.eligible().isEmpty()) {
+            List<OrderItem> orderItems = flatten(orderItemDAO.findByOrderIds(selection.eligibleIds()));
+            restoreOrderStock(orderItems);
+            sellerStatsService.recordTransition(orderItems, OrderStatus.RETURN_REQUESTED, OrderStatus.RETURNED);
+        }
+        Set<Long> refunded = refundPaymentsIfApplicable(selection.eligible());
+        return completeBulkTransition(
+                selection, OrderStatus.RETURNED, refunded, "Return completed", " Payment refunded to buyer.");
     }
 
     private User getValidatedBuyer(String email) {
@@ -377,15 +542,106 @@ public class OrderServiceImpl implements OrderService {
     private Order getSellerVisibleOrder(User seller, Long orderId) {
         Order order = orderDAO.findById(orderId)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found"));
-        List<OrderItem> items = orderItemDAO.findByOrderId(order.getId());
-        boolean sellerOwnsAnyItem = items.stream()
-                .anyMatch(item -> item.getSeller() != null && seller.getId().equals(item.getSeller().getId()));
-        if (!sellerOwnsAnyItem) {
+        if (!orderItemDAO.existsByOrderIdAndSellerId(order.getId(), seller.getId())) {
             throw new ForbiddenOperationException("Order does not belong to seller");
         }
         return order;
     }
 
+    // Ownership and status for the whole set come from two IN queries; failures become per-order outcomes.
+    private BulkSelection selectSellerOrders(
+            User seller,
+            List<Long> orderIds,
+            OrderStatus requiredStatus,
+            String invalidStatusMessage
+    ) {
+        List<Long> requestedIds = orderIds.stream().distinct().toList();
+        if (requestedIds.isEmpty()) {
+            throw new BadRequestException("At least one order id is required");
+        }
+        if (requestedIds.size() > MAX_BULK_ORDERS) {
+            throw new BadRequestException("At most " + MAX_BULK_ORDERS + " orders can be updated at once");
+        }
+
+        Map<Long, Order> orders = orderDAO.findAllByIds(requestedIds)
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        Map<Long, Set<Long>> sellerIds = orderItemDAO.findSellerIdsByOrderIds(requestedIds);
+        List<Order> eligible = new ArrayList<>();
+        Map<Long, BulkOrderOutcome> rejected = new HashMap<>();
+        for (Long orderId : requestedIds) {
+            Order order = orders.get(orderId);
+            if (order == null || !Boolean.TRUE.equals(order.getActive()) || Boolean.TRUE.equals(order.getIsDeleted())) {
+                rejected.put(orderId, bulkFailure(orderId, null, "Order not found"));
+            } else if (!sellerIds.getOrDefault(orderId, Set.of()).contains(seller.getId())) {
+                rejected.put(orderId, bulkFailure(orderId, null, "Order does not belong to seller"));
+            } else if (order.getStatus() != requiredStatus) {
+                rejected.put(orderId, bulkFailure(orderId, order, invalidStatusMessage));
+            } else {
+                eligible.add(order);
+            }
+        }
+        return new BulkSelection(requestedIds, eligible, rejected, sellerIds);
+    }
+
+    // Status changes on the loaded orders flush as JDBC batches at commit (hibernate.jdbc.batch_size).
+    private BulkOrderActionResponse completeBulkTransition(
+            BulkSelection selection,
+            OrderStatus status,
+            Set<Long> paymentSettled,
+            String successMessage,
+            String paymentSettledNote
+    ) {
+        Map<Long, Order> eligible = selection.eligible()
+                .stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        if (!eligible.isEmpty()) {
+            eventPublisher.publishEvent(new OrderBatchEvent(status, selection.eligible()
+                    .stream()
+                    .map(order -> new OrderBatchEvent.Entry(
+                            order.getId(),
+                            order.getOrderNumber(),
+                            order.getBuyer().getId(),
+                            Set.copyOf(selection.sellerIds().get(order.getId())),
+                            order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY,
+                            paymentSettled.contains(order.getId())))
+                    .toList()));
+        }
+
+        List<BulkOrderOutcome> outcomes = selection.requestedIds()
+                .stream()
+                .map(orderId -> {
+                    Order order = eligible.get(orderId);
+                    if (order == null) {
+                        return selection.rejected().get(orderId);
+                    }
+                    return BulkOrderOutcome.builder()
+                            .orderId(orderId)
+                            .orderNumber(order.getOrderNumber())
+                            .success(true)
+                            .status(order.getStatus())
+                            .message(successMessage + "." + (paymentSettled.contains(orderId) ? paymentSettledNote : ""))
+                            .build();
+                })
+                .toList();
+        return BulkOrderActionResponse.builder()
+                .requested(outcomes.size())
+                .succeeded(eligible.size())
+                .failed(outcomes.size() - eligible.size())
+                .outcomes(outcomes)
+                .build();
+    }
+
+    private BulkOrderOutcome bulkFailure(Long orderId, Order order, String message) {
+        return BulkOrderOutcome.builder()
+                .orderId(orderId)
+                .orderNumber(order == null ? null : order.getOrderNumber())
+                .success(false)
+                .status(order == null ? null : order.getStatus())
+                .message(message)
+                .build();
+    }
+
     private boolean canCancel(OrderStatus status) {
         return status == OrderStatus.PLACED || status == OrderStatus.CONFIRMED;
     }
@@ -408,12 +664,39 @@ public class OrderServiceImpl implements OrderService {
                 .orElse(null);
     }
 
+    // Order lists load items and payments with one IN query each instead of two lookups per order.
+    private List<OrderResponse> buildOrderResponses(List<Order> orders, String sellerEmail) {
+        if (orders.isEmpty()) {
+            return List.of();
+        }
+        List<Long> orderIds = orders.stream().map(Order::getId).toList();
+        Map<Long, List<OrderItem>> itemsByOrder = orderItemDAO.findByOrderIds(orderIds);
+        Map<Long, Payment> paymentsByOrder = paymentDAO.findByOrderIds(orderIds);
+        return orders.stream()
+                .map(order -> {
+                    List<OrderItem> orderItems = itemsByOrder.getOrDefault(order.getId(), List.of());
+                    Payment payment = paymentsByOrder.get(order.getId());
+                    PaymentStatus paymentStatus = payment == null ? null : payment.getStatus();
+                    return sellerEmail == null
+                            ? buildOrderResponse(order, orderItems, paymentStatus)
+                            : buildOrderResponseForSeller(order, orderItems, sellerEmail, paymentStatus);
+                })
+                .toList();
+    }
+
     private OrderResponse buildOrderResponse(Order order) {
-        List<OrderItemResponse> items = orderItemDAO.findByOrderId(order.getId())
+        return buildOrderResponse(order, orderItemDAO.findByOrderId(order.getId()));
+    }
+
+    private OrderResponse buildOrderResponse(Order order, List<OrderItem> orderItems) {
+        return buildOrderResponse(order, orderItems, getPaymentStatus(order));
+    }
+
+    private OrderResponse buildOrderResponse(Order order, List<OrderItem> orderItems, PaymentStatus paymentStatus) {
+        List<OrderItemResponse> items = orderItems
                 .stream()
                 .map(this::mapOrderItem)
                 .toList();
-        PaymentStatus paymentStatus = getPaymentStatus(order);
 
         return OrderResponse.builder()
                 .orderId(order.getId())
@@ -439,13 +722,21 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
-    private OrderResponse buildOrderResponseForSeller(Order order, String sellerEmail) {
-        List<OrderItemResponse> items = orderItemDAO.findByOrderId(order.getId())
+    private OrderResponse buildOrderResponseForSeller(Order order, List<OrderItem> orderItems, String sellerEmail) {
+        return buildOrderResponseForSeller(order, orderItems, sellerEmail, getPaymentStatus(order));
+    }
+
+    private OrderResponse buildOrderResponseForSeller(
+            Order order,
+            List<OrderItem> orderItems,
+            String sellerEmail,
+            PaymentStatus paymentStatus
+    ) {
+        List<OrderItemResponse> items = orderItems
                 .stream()
                 .filter(item -> item.getSeller().getEmail().equals(sellerEmail))
                 .map(this::mapOrderItem)
                 .toList();
-        PaymentStatus paymentStatus = getPaymentStatus(order);
 
         return OrderResponse.builder()
                 .orderId(order.getId())
@@ -484,20 +775,62 @@ public class OrderServiceImpl implements OrderService {
                 .build();
     }
 
-    private void restoreOrderStock(Order order) {
-        List<OrderItem> items = orderItemDAO.findByOrderId(order.getId());
-        for (OrderItem item : items) {
-            Product product = item.getProduct();
-            int updatedStock = product.getStock() + item.getQuantity();
-            product.setStock(updatedStock);
-            product.setInStock(updatedStock > 0);
-            if (updatedStock > 0 && product.getStatus() == ProductStatus.OUT_OF_STOCK) {
-                product.setStatus(ProductStatus.ACTIVE);
-            }
-            productDAO.save(product);
+    private List<OrderItem> flatten(Map<Long, List<OrderItem>> itemsByOrder) {
+        return itemsByOrder.values().stream().flatMap(List::stream).toList();
+    }
+
+    private void restoreOrderStock(List<OrderItem> orderItems) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (OrderItem item : orderItems) {
+            quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum);
+            products.putIfAbsent(item.getProduct().getId(), item.getProduct());
+        }
+        Map<Long, Integer> hot = new HashMap<>();
+        Map<Long, Integer> cold = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) ->
+                (stockReservationService.isHot(productId) ? hot : cold).put(productId, quantity));
+        stockReservationService.restock(hot);
+        productDAO.incrementStock(cold);
+        refreshColdStock(products.values());
+        for (Product product : products.values()) {
+            publishStockChange(product, product.getStock() - quantities.get(product.getId()) > 0);
         }
     }
 
+    // Hot SKUs are taken from the in-memory ledger; the rest go straight to products.stock.
+    private Set<Long> takeStock(Map<Long, Integer> quantities) {
+        Map<Long, Integer> hot = new HashMap<>();
+        Map<Long, Integer> cold = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) ->
+                (stockReservationService.isHot(productId) ? hot : cold).put(productId, quantity));
+        Set<Long> rejected = stockReservationService.reserve(hot);
+        return rejected.isEmpty() ? productDAO.decrementStock(cold) : rejected;
+    }
+
+    private void refreshColdStock(Collection<Product> products) {
+        productDAO.refreshStock(products.stream()
+                .filter(product -> !stockReservationService.isHot(product.getId()))
+                .toList());
+    }
+
+    private int currentStock(Product product) {
+        return stockReservationService.isHot(product.getId())
+                ? (int) stockReservationService.available(product.getId())
+                : product.getStock();
+    }
+
+    private void publishStockChange(Product product, boolean wasInStock) {
+        if (stockReservationService.isHot(product.getId())) {
+            // The ledger flush publishes hot SKU changes once products.stock has caught up.
+            return;
+        }
+        ProductChangeType changeType = wasInStock == Boolean.TRUE.equals(product.getInStock())
+                ? ProductChangeType.STOCK_CHANGED
+                : ProductChangeType.AVAILABILITY_CHANGED;
+        eventPublisher.publishEvent(new ProductChangedEvent(product, changeType));
+    }
+
     private boolean settleCodPaymentIfPending(Order order) {
         if (order.getPaymentMethod() != PaymentMethod.CASH_ON_DELIVERY) {
             return false;
@@ -513,6 +846,47 @@ public class OrderServiceImpl implements OrderService {
         return true;
     }
 
+    // Returns the COD orders whose payment is collected after this pass, including ones settled earlier.
+    private Set<Long> settleCodPaymentsIfPending(List<Order> orders) {
+        List<Long> codOrderIds = orders.stream()
+                .filter(order -> order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY)
+                .map(Order::getId)
+                .toList();
+        if (codOrderIds.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> collected = new HashSet<>();
+        paymentDAO.findByOrderIds(codOrderIds).forEach((orderId, payment) -> {
+            if (payment.getStatus() == PaymentStatus.PENDING) {
+                payment.setStatus(PaymentStatus.SUCCESS);
+                payment.setProcessedAt(now);
+                payment.setGatewayResponse("Mock COD payment collected on delivery.");
+            }
+            if (payment.getStatus() == PaymentStatus.SUCCESS) {
+                collected.add(orderId);
+            }
+        });
+        return collected;
+    }
+
+    private Set<Long> refundPaymentsIfApplicable(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Set.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        Set<Long> refunded = new HashSet<>();
+        paymentDAO.findByOrderIds(orders.stream().map(Order::getId).toList()).forEach((orderId, payment) -> {
+            if (payment.getStatus() == PaymentStatus.SUCCESS) {
+                payment.setStatus(PaymentStatus.REFUNDED);
+                payment.setProcessedAt(now);
+                payment.setGatewayResponse("Mock refund processed to buyer after return completion.");
+                refunded.add(orderId);
+            }
+        });
+        return refunded;
+    }
+
     private boolean refundPaymentIfApplicable(Order order) {
         Payment payment = paymentDAO.findByOrderId(order.getId()).orElse(null);
         if (payment == null || payment.getStatus() != PaymentStatus.SUCCESS) {
@@ -525,16 +899,6 @@ public class OrderServiceImpl implements OrderService {
         return true;
     }
 
-    private String codPaymentNoteForSeller(Order order, PaymentStatus paymentStatus, boolean codPaymentCollected) {
-        if (order.getPaymentMethod() != PaymentMethod.CASH_ON_DELIVERY) {
-            return "";
-        }
-        if (codPaymentCollected || paymentStatus == PaymentStatus.SUCCESS) {
-            return " COD payment has been collected.";
-        }
-        return " COD payment is pending.";
-    }
-
     private String normalizeReason(String reason, String fallback) {
         if (reason == null || reason.isBlank()) {
             return fallback;
@@ -543,251 +907,33 @@ public class OrderServiceImpl implements OrderService {
         return normalized.length() > 500 ? normalized.substring(0, 500) : normalized;
     }
 
-    private void sendOrderNotifications(Order order, List<OrderItem> orderItems) {
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.ORDER_PLACED,
-                "Order placed successfully",
-                "Your order " + order.getOrderNumber() + " has been placed.",
-                "ORDER",
-                order.getId()
-        );
-
-        Map<Long, BigDecimal> sellerAmounts = new HashMap<>();
-        Map<Long, Integer> sellerItemCounts = new HashMap<>();
-
-        for (OrderItem orderItem : orderItems) {
-            Long sellerId = orderItem.getSeller().getId();
-            sellerAmounts.merge(sellerId, orderItem.getLineTotal(), BigDecimal::add);
-            sellerItemCounts.merge(sellerId, orderItem.getQuantity(), Integer::sum);
-        }
-
-        for (Map.Entry<Long, BigDecimal> entry : sellerAmounts.entrySet()) {
-            Long sellerId = entry.getKey();
-            BigDecimal sellerAmount = entry.getValue().setScale(2, RoundingMode.HALF_UP);
-            Integer itemCount = sellerItemCounts.getOrDefault(sellerId, 0);
-
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.ORDER_RECEIVED,
-                    "New order received",
-                    "Order " + order.getOrderNumber()
-                            + " from " + order.getBuyer().getEmail()
-                            + " | Items: " + itemCount
-                            + " | Amount: INR " + sellerAmount.toPlainString(),
-                    "ORDER",
-                    order.getId()
-            );
+    private void sendLowStockNotificationIfNeeded(Product product, int previousStock, int updatedStock) {
+        int threshold = product.getLowStockThreshold() == null ? 5 : product.getLowStockThreshold();
+        if (previousStock > threshold && updatedStock <= threshold) {
+            eventPublisher.publishEvent(new LowStockEvent(
+                    product.getId(),
+                    product.getName(),
+                    product.getSeller().getId(),
+                    updatedStock
+            ));
         }
     }
 
-    private void sendOrderCancelledNotifications(Order order, List<OrderItem> orderItems) {
-        String reason = order.getCancelReason() == null ? "-" : order.getCancelReason();
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.ORDER_CANCELLED,
-                "Order cancelled",
-                "Order " + order.getOrderNumber() + " has been cancelled. Reason: " + reason,
-                "ORDER",
-                order.getId()
-        );
-
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.ORDER_CANCELLED,
-                    "Buyer cancelled order",
-                    "Order " + order.getOrderNumber() + " was cancelled by buyer.",
-                    "ORDER",
-                    order.getId()
-            );
-        }
+    private boolean isPaymentCollected(Order order, boolean codPaymentCollected) {
+        return codPaymentCollected
+                || (order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY
+                && getPaymentStatus(order) == PaymentStatus.SUCCESS);
     }
 
-    private void sendOrderShippedNotifications(Order order, List<OrderItem> orderItems) {
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.ORDER_SHIPPED,
-                "Order shipped",
-                "Your order " + order.getOrderNumber() + " has been shipped.",
-                "ORDER",
-                order.getId()
-        );
-        String codPaymentNote = order.getPaymentMethod() == PaymentMethod.CASH_ON_DELIVERY
-                ? " COD payment is pending until delivery confirmation."
-                : "";
-
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.ORDER_SHIPPED,
-                    "Order marked as shipped",
-                    "Order " + order.getOrderNumber() + " is now marked as shipped." + codPaymentNote,
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private void sendOrderDeliveredNotifications(
-            Order order,
-            List<OrderItem> orderItems,
-            boolean confirmedByBuyer,
-            boolean codPaymentCollected
+    private record BulkSelection(
+            List<Long> requestedIds,
+            List<Order> eligible,
+            Map<Long, BulkOrderOutcome> rejected,
+            Map<Long, Set<Long>> sellerIds
     ) {
-        String buyerTitle = confirmedByBuyer ? "Delivery confirmed" : "Order delivered";
-        String buyerMessage = confirmedByBuyer
-                ? "You confirmed delivery for order " + order.getOrderNumber() + "."
-                : "Your order " + order.getOrderNumber() + " has been delivered.";
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.ORDER_DELIVERED,
-                buyerTitle,
-                buyerMessage,
-                "ORDER",
-                order.getId()
-        );
-        PaymentStatus paymentStatus = getPaymentStatus(order);
-        String codPaymentNote = codPaymentNoteForSeller(order, paymentStatus, codPaymentCollected);
-        String sellerTitle = confirmedByBuyer ? "Buyer confirmed delivery" : "Order marked as delivered";
-        String sellerMessage = confirmedByBuyer
-                ? "Buyer confirmed delivery for order " + order.getOrderNumber() + "." + codPaymentNote
-                : "Order " + order.getOrderNumber() + " is now marked as delivered." + codPaymentNote;
-
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.ORDER_DELIVERED,
-                    sellerTitle,
-                    sellerMessage,
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private void sendReturnRequestedNotifications(Order order, List<OrderItem> orderItems) {
-        String reason = order.getReturnReason() == null ? "-" : order.getReturnReason();
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.RETURN_REQUESTED,
-                "Return requested",
-                "Return request submitted for order " + order.getOrderNumber() + ". Reason: " + reason,
-                "ORDER",
-                order.getId()
-        );
-
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.RETURN_REQUESTED,
-                    "Return request received",
-                    "Buyer requested return for order " + order.getOrderNumber() + ".",
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private void sendReturnCompletedNotifications(Order order, List<OrderItem> orderItems, boolean refunded) {
-        String refundNoteBuyer = refunded
-                ? " Payment has been refunded to buyer."
-                : " Payment refund is not applicable for this order.";
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.RETURN_COMPLETED,
-                "Return completed",
-                "Return for order " + order.getOrderNumber() + " has been completed." + refundNoteBuyer,
-                "ORDER",
-                order.getId()
-        );
-
-        String refundNoteSeller = refunded
-                ? " Payment has been refunded to buyer."
-                : " No payment refund was required.";
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.RETURN_COMPLETED,
-                    "Return completed",
-                    "Return for order " + order.getOrderNumber() + " has been completed." + refundNoteSeller,
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private void sendExchangeRequestedNotifications(Order order, List<OrderItem> orderItems) {
-        String reason = order.getExchangeReason() == null ? "-" : order.getExchangeReason();
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.EXCHANGE_REQUESTED,
-                "Exchange requested",
-                "Exchange request submitted for order " + order.getOrderNumber() + ". Reason: " + reason,
-                "ORDER",
-                order.getId()
-        );
 
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.EXCHANGE_REQUESTED,
-                    "Exchange request received",
-                    "Buyer requested exchange for order " + order.getOrderNumber() + ".",
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private void sendExchangeCompletedNotifications(Order order, List<OrderItem> orderItems) {
-        notificationService.createNotification(
-                order.getBuyer().getId(),
-                NotificationType.EXCHANGE_COMPLETED,
-                "Exchange completed",
-                "Exchange for order " + order.getOrderNumber() + " has been completed.",
-                "ORDER",
-                order.getId()
-        );
-
-        for (Long sellerId : getOrderSellerIds(orderItems)) {
-            notificationService.createNotification(
-                    sellerId,
-                    NotificationType.EXCHANGE_COMPLETED,
-                    "Exchange completed",
-                    "Exchange for order " + order.getOrderNumber() + " has been completed.",
-                    "ORDER",
-                    order.getId()
-            );
-        }
-    }
-
-    private Set<Long> getOrderSellerIds(List<OrderItem> orderItems) {
-        Set<Long> sellerIds = new LinkedHashSet<>();
-        for (OrderItem item : orderItems) {
-            if (item.getSeller() != null && item.getSeller().getId() != null) {
-                sellerIds.add(item.getSeller().getId());
-            }
+        private List<Long> eligibleIds() {
+            return eligible.stream().map(Order::getId).toList();
         }
-        return sellerIds;
-    }
-
-    private void sendLowStockNotificationIfNeeded(Product product, int previousStock, int updatedStock) {
-        int threshold = product.getLowStockThreshold() == null ? 5 : product.getLowStockThreshold();
-        if (previousStock > threshold && updatedStock <= threshold) {
-            notificationService.createNotification(
-                    product.getSeller().getId(),
-                    NotificationType.LOW_STOCK_ALERT,
-                    "Low stock alert",
-                    "Product '" + product.getName() + "' is low on stock. Current stock: " + updatedStock + ".",
-                    "PRODUCT",
-                    product.getId()
-            );
-        }
-    }
-
-    private String generateOrderNumber() {
-        String token = UUID.randomUUID().toString().replace("-", "").substring(0, 12).toUpperCase();
-        return "ORD-" + token;
     }
 }
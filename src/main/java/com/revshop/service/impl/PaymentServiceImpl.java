@@ -18,6 +18,7 @@ import com.revshop.exception.ConflictException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
 import com.revshop.service.PaymentService;
+import com.revshop.service.SellerStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +35,7 @@ public class PaymentServiceImpl implements PaymentService {
     private final PaymentDAO paymentDAO;
     private final OrderDAO orderDAO;
     private final UserDAO userDAO;
+    private final SellerStatsService sellerStatsService;
 
     @Override
     @Transactional
@@ -68,12 +70,14 @@ public class PaymentServiceImpl implements PaymentService {
         payment.setProcessedAt(LocalDateTime.now());
         paymentDAO.save(payment);
 
+        OrderStatus previousStatus = order.getStatus();
         if (status == PaymentStatus.SUCCESS || status == PaymentStatus.PENDING) {
             order.setStatus(OrderStatus.CONFIRMED);
         } else if (status == PaymentStatus.FAILED) {
             order.setStatus(OrderStatus.PLACED);
         }
         orderDAO.save(order);
+        sellerStatsService.recordTransition(order, previousStatus, order.getStatus());
 
         return mapToResponse(payment);
     }
@@ -0,0 +1,196 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.AdminDAO;
+import com.revshop.dto.admin.AdminSummaryResponse;
+import com.revshop.entity.PlatformCounter;
+import com.revshop.entity.Role;
+import com.revshop.service.PlatformCounterService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Serves the admin summary from in-memory counters that the entity listeners move on every
+ * committed write. Changes from one transaction are folded into a single delta and applied after
+ * commit, so a rollback never touches the counters. The reconcile pass recounts from the database
+ * and corrects drift; a counter that moved while the recount was running is left for the next pass.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class PlatformCounterServiceImpl implements PlatformCounterService {
+
+    private final AdminDAO adminDAO;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Map<PlatformCounter, Counter> counters = initCounters();
+    private volatile boolean loaded;
+    private volatile LocalDateTime lastReconciledAt;
+    private volatile LocalDateTime lastChangedAt;
+    private volatile long lastDrift;
+
+    @Override
+    public void record(Map<PlatformCounter, Long> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(deltas);
+            return;
+        }
+        Map<PlatformCounter, Long> pending = transactionDeltas();
+        deltas.forEach((counter, delta) -> pending.merge(counter, delta, Long::sum));
+    }
+
+    @Override
+    public AdminSummaryResponse getSummary() {
+        if (!loaded) {
+            return reconcile();
+        }
+        return toSummary();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        reconcile();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.platform-counters.reconcile-ms:300000}",
+            initialDelayString = "${app.platform-counters.reconcile-ms:300000}"
+    )
+    public void reconcileOnSchedule() {
+        reconcile();
+    }
+
+    @Override
+    public synchronized AdminSummaryResponse reconcile() {
+        Map<PlatformCounter, Long> before = changeSequences();
+        Map<PlatformCounter, Long> database = readCounts();
+        Map<PlatformCounter, Long> after = changeSequences();
+
+        long drift = 0;
+        for (Map.Entry<PlatformCounter, Counter> entry : counters.entrySet()) {
+            PlatformCounter name = entry.getKey();
+            Counter counter = entry.getValue();
+            if (loaded && !before.get(name).equals(after.get(name))) {
+                log.debug("Platform counter {} changed during reconcile; left for the next pass", name);
+                continue;
+            }
+            long correction = database.get(name) - counter.value.sum();
+            if (correction != 0) {
+                counter.value.add(correction);
+                if (loaded) {
+                    log.warn("Platform counter {} drifted {} from the database; corrected", name, correction);
+                }
+            }
+            drift += Math.abs(correction);
+        }
+        lastDrift = loaded ? drift : 0;
+        lastReconciledAt = LocalDateTime.now();
+        loaded = true;
+        return toSummary();
+    }
+
+    // One delta map per transaction, bound to the thread and applied once on commit.
+    @SuppressWarnings("unchecked")
+    private Map<PlatformCounter, Long> transactionDeltas() {
+        Map<PlatformCounter, Long> pending =
+                (Map<PlatformCounter, Long>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        Map<PlatformCounter, Long> created = new EnumMap<>(PlatformCounter.class);
+        TransactionSynchronizationManager.bindResource(this, created);
+        TransactionCallbacks.afterCompletion(committed -> {
+            TransactionSynchronizationManager.unbindResourceIfPossible(this);
+            if (committed) {
+                apply(created);
+            }
+        });
+        return created;
+    }
+
+    private void apply(Map<PlatformCounter, Long> deltas) {
+        boolean changed = false;
+        for (Map.Entry<PlatformCounter, Long> entry : deltas.entrySet()) {
+            if (entry.getValue() != 0) {
+                Counter counter = counters.get(entry.getKey());
+                counter.value.add(entry.getValue());
+                counter.changes.incrementAndGet();
+                changed = true;
+            }
+        }
+        if (changed) {
+            lastChangedAt = LocalDateTime.now();
+        }
+    }
+
+    private Map<PlatformCounter, Long> readCounts() {
+        Map<PlatformCounter, Long> counts = new EnumMap<>(PlatformCounter.class);
+        transactionTemplate.executeWithoutResult(status -> {
+            counts.put(PlatformCounter.USERS, adminDAO.countUsers(true));
+            counts.put(PlatformCounter.BUYERS, adminDAO.countUsersByRole(Role.BUYER, true));
+            counts.put(PlatformCounter.SELLERS, adminDAO.countUsersByRole(Role.SELLER, true));
+            counts.put(PlatformCounter.ACTIVE_USERS, adminDAO.countUsersByActive(true, true));
+            counts.put(PlatformCounter.DELETED_USERS, adminDAO.countDeletedUsers());
+            counts.put(PlatformCounter.PRODUCTS, adminDAO.countProducts());
+            counts.put(PlatformCounter.ORDERS, adminDAO.countOrders());
+            counts.put(PlatformCounter.PAYMENTS, adminDAO.countPayments());
+        });
+        return counts;
+    }
+
+    private Map<PlatformCounter, Long> changeSequences() {
+        Map<PlatformCounter, Long> sequences = new EnumMap<>(PlatformCounter.class);
+        counters.forEach((name, counter) -> sequences.put(name, counter.changes.get()));
+        return sequences;
+    }
+
+    private AdminSummaryResponse toSummary() {
+        LocalDateTime reconciledAt = lastReconciledAt;
+        return AdminSummaryResponse.builder()
+                .totalUsers(count(PlatformCounter.USERS))
+                .totalBuyers(count(PlatformCounter.BUYERS))
+                .totalSellers(count(PlatformCounter.SELLERS))
+                .activeUsers(count(PlatformCounter.ACTIVE_USERS))
+                .deletedUsers(count(PlatformCounter.DELETED_USERS))
+                .totalProducts(count(PlatformCounter.PRODUCTS))
+                .totalOrders(count(PlatformCounter.ORDERS))
+                .totalPayments(count(PlatformCounter.PAYMENTS))
+                .countersReconciledAt(reconciledAt)
+                .countersChangedAt(lastChangedAt)
+                .secondsSinceReconcile(reconciledAt == null
+                        ? 0
+                        : Duration.between(reconciledAt, LocalDateTime.now()).toSeconds())
+                .lastReconcileDrift(lastDrift)
+                .build();
+    }
+
+    private long count(PlatformCounter counter) {
+        return counters.get(counter).value.sum();
+    }
+
+    private static Map<PlatformCounter, Counter> initCounters() {
+        Map<PlatformCounter, Counter> counters = new EnumMap<>(PlatformCounter.class);
+        for (PlatformCounter counter : PlatformCounter.values()) {
+            counters.put(counter, new Counter());
+        }
+        return counters;
+    }
+
+    private static final class Counter {
+
+        private final LongAdder value = new LongAdder();
+        private final AtomicLong changes = new AtomicLong();
+    }
+}
@@ -0,0 +1,123 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.product.ProductResponse;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.ProductDetailCacheService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Service
+@Log4j2
+public class ProductDetailCacheServiceImpl implements ProductDetailCacheService {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final Map<Long, CachedProduct> entries = new LinkedHashMap<>(64, 0.75f, true);
+
+    @Value("${app.cache.product-detail.max-size:1000}")
+    private int maxSize = 1000;
+
+    @Value("${app.cache.product-detail.ttl-seconds:300}")
+    private long ttlSeconds = 300;
+
+    @Override
+    public ProductResponse getOrLoad(Long productId, Supplier<ProductResponse> loader) {
+        synchronized (entries) {
+            CachedProduct cached = entries.get(productId);
+            if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+                hits.incrementAndGet();
+                return cached.response();
+            }
+            if (cached != null) {
+                entries.remove(productId);
+                evictions.incrementAndGet();
+            }
+        }
+
+        misses.incrementAndGet();
+        long generationAtLoad = invalidations.get();
+        ProductResponse loaded = loader.get();
+
+        synchronized (entries) {
+            // A write committed while we were loading; the loaded copy may already be stale.
+            if (invalidations.get() == generationAtLoad) {
+                entries.put(productId, new CachedProduct(loaded, Instant.now().plus(Duration.ofSeconds(ttlSeconds))));
+                evictOverflow();
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public void evict(Long productId) {
+        if (productId == null) {
+            return;
+        }
+        removeEntry(productId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            // Drop again once committed so a read racing the writer cannot re-cache the old row.
+            TransactionCallbacks.afterCommit(() -> removeEntry(productId));
+        }
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    @Override
+    public CacheStatsResponse getStats() {
+        int size;
+        synchronized (entries) {
+            size = entries.size();
+        }
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long lookups = hitCount + missCount;
+        return CacheStatsResponse.builder()
+                .name("product-detail")
+                .size(size)
+                .maxSize(maxSize)
+                .ttlSeconds(ttlSeconds)
+                .hits(hitCount)
+                .misses(missCount)
+                .evictions(evictions.get())
+                .invalidations(invalidations.get())
+                .hitRatio(lookups == 0 ? 0.0 : (double) hitCount / lookups)
+                .build();
+    }
+
+    private void removeEntry(Long productId) {
+        synchronized (entries) {
+            invalidations.incrementAndGet();
+            entries.remove(productId);
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Long> eldest = entries.keySet().iterator();
+        while (entries.size() > maxSize && eldest.hasNext()) {
+            eldest.next();
+            eldest.remove();
+            evictions.incrementAndGet();
+        }
+    }
+
+    private record CachedProduct(ProductResponse response, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,67 @@
+package com.revshop.service.impl;
+
+import com.revshop.dto.common.FacetCount;
+import com.revshop.dto.product.PriceBucket;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ProductFacetAccumulator {
+
+    static final String CATEGORY_FACET = "categoryId";
+    static final String PRICE_FACET = "price";
+    static final String STOCK_FACET = "inStock";
+
+    private final Map<Long, Long> categoryCounts = new HashMap<>();
+    private final Map<PriceBucket, Long> priceCounts = new EnumMap<>(PriceBucket.class);
+    private long inStockCount;
+    private long outOfStockCount;
+    private long total;
+
+    void add(Long categoryId, PriceBucket priceBucket, boolean inStock, long count) {
+        if (count <= 0) {
+            return;
+        }
+        if (categoryId != null) {
+            categoryCounts.merge(categoryId, count, Long::sum);
+        }
+        priceCounts.merge(priceBucket, count, Long::sum);
+        if (inStock) {
+            inStockCount += count;
+        } else {
+            outOfStockCount += count;
+        }
+        total += count;
+    }
+
+    long total() {
+        return total;
+    }
+
+    Map<String, List<FacetCount>> toFacets() {
+        Map<String, List<FacetCount>> facets = new LinkedHashMap<>();
+        facets.put(CATEGORY_FACET, categoryCounts.entrySet()
+                .stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> facet(String.valueOf(entry.getKey()), entry.getValue()))
+                .toList());
+        facets.put(PRICE_FACET, priceCounts.entrySet()
+                .stream()
+                .map(entry -> facet(entry.getKey().key(), entry.getValue()))
+                .toList());
+        facets.put(STOCK_FACET, List.of(
+                facet("true", inStockCount),
+                facet("false", outOfStockCount)
+        ));
+        return facets;
+    }
+
+    private FacetCount facet(String value, long count) {
+        return FacetCount.builder().value(value).count(count).build();
+    }
+}
@@ -0,0 +1,204 @@
+package com.revshop.service.impl;
+
+import com.revshop.dto.product.ProductImportFormat;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Reads one import record at a time so uploads are never held in memory. Field names are
+ * normalized (lower case, no separators) so "mrp_price", "MRP Price" and "mrpPrice" all match.
+ * A record longer than maxRecordChars (typically an unterminated CSV quote) is reported as a
+ * failed row and reading resumes on the next physical line.
+ */
+final class ProductImportReader {
+
+    private final BufferedReader reader;
+    private final ProductImportFormat format;
+    private final ObjectMapper objectMapper;
+    private final int maxRecordChars;
+    private List<String> csvHeader;
+    private long rowNumber;
+    private boolean oversized;
+
+    ProductImportReader(BufferedReader reader, ProductImportFormat format, ObjectMapper objectMapper, int maxRecordChars) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        this.maxRecordChars = maxRecordChars;
+    }
+
+    ImportRecord next() throws IOException {
+        return format == ProductImportFormat.CSV ? nextCsv() : nextNdjson();
+    }
+
+    private ImportRecord nextCsv() throws IOException {
+        if (csvHeader == null) {
+            List<String> header = readCsvRecord();
+            if (header == null) {
+                return null;
+            }
+            if (oversized) {
+                throw new IOException("CSV header is longer than " + maxRecordChars + " characters");
+            }
+            csvHeader = header.stream().map(ProductImportReader::normalizeKey).toList();
+        }
+
+        List<String> values;
+        do {
+            values = readCsvRecord();
+            if (values == null) {
+                return null;
+            }
+        } while (values.size() == 1 && values.get(0).isBlank());
+
+        rowNumber++;
+        if (oversized) {
+            return oversizedRecord();
+        }
+        if (values.size() != csvHeader.size()) {
+            return ImportRecord.failed(rowNumber, "Expected " + csvHeader.size() + " columns but found " + values.size());
+        }
+        Map<String, String> fields = new HashMap<>();
+        for (int i = 0; i < values.size(); i++) {
+            fields.put(csvHeader.get(i), values.get(i));
+        }
+        return ImportRecord.parsed(rowNumber, fields);
+    }
+
+    private ImportRecord nextNdjson() throws IOException {
+        String line;
+        do {
+            line = readLine();
+            if (line == null) {
+                return null;
+            }
+        } while (line.isBlank() && !oversized);
+
+        rowNumber++;
+        if (oversized) {
+            return oversizedRecord();
+        }
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (JacksonException ex) {
+            return ImportRecord.failed(rowNumber, "Malformed JSON");
+        }
+        if (node == null || !node.isObject()) {
+            return ImportRecord.failed(rowNumber, "Each line must be a JSON object");
+        }
+        Map<String, String> fields = new HashMap<>();
+        node.properties().forEach(entry -> fields.put(
+                normalizeKey(entry.getKey()),
+                entry.getValue().isNull() ? null : entry.getValue().asString()
+        ));
+        return ImportRecord.parsed(rowNumber, fields);
+    }
+
+    private List<String> readCsvRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean readAny = false;
+        int length = 0;
+        int ch;
+        while ((ch = reader.read()) != -1) {
+            readAny = true;
+            if (++length > maxRecordChars) {
+                skipRestOfLine(ch);
+                oversized = true;
+                return List.of();
+            }
+            char c = (char) ch;
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                    continue;
+                }
+                reader.mark(1);
+                int next = reader.read();
+                if (next == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    if (next != -1) {
+                        reader.reset();
+                    }
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                fields.add(field.toString());
+                return fields;
+            } else if (c != '\r') {
+                field.append(c);
+            }
+        }
+        if (!readAny) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private String readLine() throws IOException {
+        StringBuilder line = new StringBuilder();
+        int ch = reader.read();
+        if (ch == -1) {
+            return null;
+        }
+        while (ch != -1 && ch != '\n') {
+            if (line.length() >= maxRecordChars) {
+                skipRestOfLine(ch);
+                oversized = true;
+                break;
+            }
+            line.append((char) ch);
+            ch = reader.read();
+        }
+        int end = line.length();
+        return end > 0 && line.charAt(end - 1) == '\r' ? line.substring(0, end - 1) : line.toString();
+    }
+
+    private void skipRestOfLine(int current) throws IOException {
+        int ch = current;
+        while (ch != -1 && ch != '\n') {
+            ch = reader.read();
+        }
+    }
+
+    private ImportRecord oversizedRecord() {
+        oversized = false;
+        return ImportRecord.failed(
+                rowNumber,
+                "Row is longer than " + maxRecordChars + " characters; check for an unterminated quote"
+        );
+    }
+
+    private static String normalizeKey(String key) {
+        return key == null ? "" : key.replaceAll("[^A-Za-z0-9]", "").toLowerCase(Locale.ROOT);
+    }
+
+    record ImportRecord(long rowNumber, Map<String, String> fields, String error) {
+
+        static ImportRecord parsed(long rowNumber, Map<String, String> fields) {
+            return new ImportRecord(rowNumber, fields, null);
+        }
+
+        static ImportRecord failed(long rowNumber, String error) {
+            return new ImportRecord(rowNumber, Map.of(), error);
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.CategoryDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.product.ProductCreateRequest;
+import com.revshop.dto.product.ProductImportError;
+import com.revshop.dto.product.ProductImportFormat;
+import com.revshop.dto.product.ProductImportResponse;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.exception.BadRequestException;
+import com.revshop.exception.ForbiddenOperationException;
+import com.revshop.exception.ResourceNotFoundException;
+import com.revshop.service.ProductImportService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ProductImportServiceImpl implements ProductImportService {
+
+    private final ProductDAO productDAO;
+    private final CategoryDAO categoryDAO;
+    private final UserDAO userDAO;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.products.import.chunk-size:500}")
+    private int chunkSize = 500;
+    @Value("${app.products.import.max-reported-errors:1000}")
+    private int maxReportedErrors = 1000;
+    @Value("${app.products.import.max-record-chars:65536}")
+    private int maxRecordChars = 65536;
+
+    @Override
+    public ProductImportResponse importProducts(String sellerEmail, ProductImportFormat format, InputStream input) {
+        User seller = userDAO.findByEmail(sellerEmail)
+                .orElseThrow(() -> new ResourceNotFoundException("Seller not found"));
+        if (seller.getRole() != Role.SELLER) {
+            throw new ForbiddenOperationException("User is not a seller");
+        }
+
+        Map<Long, Category> categoriesById = new HashMap<>();
+        Map<String, Category> categoriesByName = new HashMap<>();
+        for (Category category : categoryDAO.findAllActive()) {
+            categoriesById.put(category.getId(), category);
+            categoriesByName.put(category.getName().toLowerCase(Locale.ROOT), category);
+        }
+
+        ImportReport report = new ImportReport(maxReportedErrors);
+        List<PendingProduct> pending = new ArrayList<>(chunkSize);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            ProductImportReader records = new ProductImportReader(reader, format, objectMapper, maxRecordChars);
+            ProductImportReader.ImportRecord record;
+            while ((record = records.next()) != null) {
+                report.totalRows++;
+                if (record.error() != null) {
+                    report.fail(record.rowNumber(), record.error());
+                    continue;
+                }
+                try {
+                    Product product = toProduct(record.fields(), seller, categoriesById, categoriesByName);
+                    pending.add(new PendingProduct(record.rowNumber(), product));
+                } catch (BadRequestException ex) {
+                    report.fail(record.rowNumber(), ex.getMessage());
+                }
+                if (pending.size() >= chunkSize) {
+                    flush(pending, report);
+                }
+            }
+        } catch (IOException ex) {
+            // Earlier chunks are already committed, so report them instead of failing the whole request.
+            log.warn("Product import stream for {} failed after {} rows", sellerEmail, report.totalRows, ex);
+            report.streamError = "Could not read import stream after row " + report.totalRows + ": " + rootMessage(ex);
+        } finally {
+            flush(pending, report);
+        }
+
+        log.info("Imported {} of {} products for {}", report.importedCount, report.totalRows, sellerEmail);
+        return report.toResponse();
+    }
+
+    private Product toProduct(
+            Map<String, String> fields,
+            User seller,
+            Map<Long, Category> categoriesById,
+            Map<String, Category> categoriesByName
+    ) {
+        ProductCreateRequest request = new ProductCreateRequest();
+        request.setName(text(fields, "name"));
+        request.setDescription(text(fields, "description"));
+        request.setPrice(decimal(fields, "price"));
+        request.setMrpPrice(decimal(fields, "mrpprice"));
+        request.setDiscountedPrice(decimal(fields, "discountedprice"));
+        request.setStock(integer(fields, "stock"));
+        request.setLowStockThreshold(integer(fields, "lowstockthreshold"));
+
+        Category category = resolveCategory(fields, categoriesById, categoriesByName);
+        request.setCategoryId(category == null ? null : category.getId());
+
+        String violations = validator.validate(request)
+                .stream()
+                .sorted(Comparator.comparing(violation -> violation.getPropertyPath().toString()))
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining("; "));
+        if (!violations.isEmpty()) {
+            throw new BadRequestException(violations);
+        }
+
+        BigDecimal mrpPrice = ProductPricing.resolveMrpPrice(request.getPrice(), request.getMrpPrice());
+        BigDecimal discountedPrice = ProductPricing.resolveDiscountedPrice(
+                request.getPrice(),
+                request.getDiscountedPrice(),
+                mrpPrice
+        );
+        ProductPricing.validatePricing(mrpPrice, discountedPrice);
+
+        return Product.builder()
+                .name(request.getName())
+                .description(request.getDescription())
+                .price(discountedPrice)
+                .mrpPrice(mrpPrice)
+                .discountedPrice(discountedPrice)
+                .stock(request.getStock())
+                .lowStockThreshold(ProductPricing.resolveLowStockThreshold(request.getLowStockThreshold()))
+                .inStock(request.getStock() > 0)
+                .active(true)
+                .seller(seller)
+                .category(category)
+                .build();
+    }
+
+    private Category resolveCategory(
+            Map<String, String> fields,
+            Map<Long, Category> categoriesById,
+            Map<String, Category> categoriesByName
+    ) {
+        String categoryId = text(fields, "categoryid");
+        String categoryName = text(fields, "categoryname");
+        if (categoryId == null && categoryName == null) {
+            return null;
+        }
+        Category category;
+        try {
+            category = categoryId != null
+                    ? categoriesById.get(Long.valueOf(categoryId))
+                    : categoriesByName.get(categoryName.toLowerCase(Locale.ROOT));
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException("categoryId must be a number");
+        }
+        if (category == null) {
+            throw new BadRequestException("Category not found");
+        }
+        return category;
+    }
+
+    private void flush(List<PendingProduct> pending, ImportReport report) {
+        if (pending.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                for (PendingProduct row : pending) {
+                    Product saved = productDAO.save(row.product());
+                    eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangeType.CREATED));
+                }
+            });
+            report.importedCount += pending.size();
+        } catch (RuntimeException ex) {
+            log.warn("Product import chunk of {} rows rolled back", pending.size(), ex);
+            String message = "Chunk rolled back: " + rootMessage(ex);
+            pending.forEach(row -> report.fail(row.rowNumber(), message));
+        }
+        pending.clear();
+    }
+
+    private String text(Map<String, String> fields, String key) {
+        String value = fields.get(key);
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private BigDecimal decimal(Map<String, String> fields, String key) {
+        String value = text(fields, key);
+        try {
+            return value == null ? null : new BigDecimal(value);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException(key + " must be a number");
+        }
+    }
+
+    private Integer integer(Map<String, String> fields, String key) {
+        String value = text(fields, key);
+        try {
+            return value == null ? null : Integer.valueOf(value);
+        } catch (NumberFormatException ex) {
+            throw new BadRequestException(key + " must be a whole number");
+        }
+    }
+
+    private String rootMessage(Throwable ex) {
+        Throwable root = ex;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        return root.getMessage() == null ? root.getClass().getSimpleName() : root.getMessage();
+    }
+
+    private record PendingProduct(long rowNumber, Product product) {
+    }
+
+    private static final class ImportReport {
+
+        private final int maxReportedErrors;
+        private final List<ProductImportError> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedCount;
+        private long failedCount;
+        private String streamError;
+
+        private ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(long rowNumber, String message) {
+            failedCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(ProductImportError.builder().rowNumber(rowNumber).message(message).build());
+            }
+        }
+
+        private ProductImportResponse toResponse() {
+            return ProductImportResponse.builder()
+                    .totalRows(totalRows)
+                    .importedCount(importedCount)
+                    .failedCount(failedCount)
+                    .errors(errors.stream().sorted(Comparator.comparingLong(ProductImportError::getRowNumber)).toList())
+                    .errorsTruncated(failedCount > errors.size())
+                    .completed(streamError == null)
+                    .streamError(streamError)
+                    .build();
+        }
+    }
+}
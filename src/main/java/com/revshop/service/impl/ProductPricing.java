@@ -0,0 +1,51 @@
+package com.revshop.service.impl;
+
+import com.revshop.exception.BadRequestException;
+
+import java.math.BigDecimal;
+
+final class ProductPricing {
+
+    static final int DEFAULT_LOW_STOCK_THRESHOLD = 5;
+
+    private ProductPricing() {
+    }
+
+    static BigDecimal resolveMrpPrice(BigDecimal fallbackPrice, BigDecimal mrpPrice) {
+        if (mrpPrice != null) {
+            return mrpPrice;
+        }
+        return fallbackPrice;
+    }
+
+    static BigDecimal resolveDiscountedPrice(BigDecimal fallbackPrice, BigDecimal discountedPrice, BigDecimal mrpPrice) {
+        BigDecimal resolvedDiscounted = discountedPrice == null ? fallbackPrice : discountedPrice;
+        if (resolvedDiscounted == null) {
+            throw new BadRequestException("Price is required");
+        }
+        if (mrpPrice == null) {
+            throw new BadRequestException("MRP price is required");
+        }
+        return resolvedDiscounted;
+    }
+
+    static int resolveLowStockThreshold(Integer lowStockThreshold) {
+        int resolved = lowStockThreshold == null ? DEFAULT_LOW_STOCK_THRESHOLD : lowStockThreshold;
+        if (resolved < 0) {
+            throw new BadRequestException("Low stock threshold cannot be negative");
+        }
+        return resolved;
+    }
+
+    static void validatePricing(BigDecimal mrpPrice, BigDecimal discountedPrice) {
+        if (mrpPrice.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BadRequestException("MRP must be greater than 0");
+        }
+        if (discountedPrice.compareTo(BigDecimal.ZERO) <= 0) {
+            throw new BadRequestException("Discounted price must be greater than 0");
+        }
+        if (discountedPrice.compareTo(mrpPrice) > 0) {
+            throw new BadRequestException("Discounted price cannot be greater than MRP");
+        }
+    }
+}
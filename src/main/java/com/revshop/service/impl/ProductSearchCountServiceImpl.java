@@ -0,0 +1,139 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.common.CountMode;
+import com.revshop.dto.common.TotalCount;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.ProductSearchCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ProductSearchCountServiceImpl implements ProductSearchCountService {
+
+    private final ProductDAO productDAO;
+
+    private final AtomicLong catalogVersion = new AtomicLong();
+    private final Map<String, CachedCount> counts = Collections.synchronizedMap(
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                    return size() > maxCachedFilters;
+                }
+            });
+
+    private volatile CatalogShape catalogShape;
+
+    @Value("${app.search.count.max-cached-filters:1000}")
+    private int maxCachedFilters = 1000;
+
+    @Value("${app.search.count.estimate-max-age-seconds:300}")
+    private long estimateMaxAgeSeconds = 300;
+
+    @Override
+    public TotalCount count(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            CountMode mode
+    ) {
+        if (mode == CountMode.NONE) {
+            return TotalCount.none();
+        }
+
+        String filterKey = buildFilterKey(keyword, categoryId, minPrice, maxPrice, inStock);
+        long version = catalogVersion.get();
+        CachedCount cached = counts.get(filterKey);
+
+        if (cached != null && cached.version() == version) {
+            return TotalCount.exact(cached.value());
+        }
+        if (mode == CountMode.ESTIMATED && isBroadFilter(keyword, minPrice, maxPrice)) {
+            return TotalCount.estimated(catalogShape().estimate(categoryId, inStock));
+        }
+
+        long total = productDAO.countPublicProducts(keyword, categoryId, minPrice, maxPrice, inStock);
+        counts.put(filterKey, new CachedCount(total, version));
+        return TotalCount.exact(total);
+    }
+
+    @Override
+    public void invalidate() {
+        TransactionCallbacks.afterCommit(catalogVersion::incrementAndGet);
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType().affectsSearchFilters()) {
+            invalidate();
+        }
+    }
+
+    /**
+     * Broad filters are estimated from one grouped count of the whole catalogue, shared by every
+     * category/stock combination and refreshed by age rather than on each catalogue write.
+     */
+    private CatalogShape catalogShape() {
+        CatalogShape shape = catalogShape;
+        Instant now = Instant.now();
+        if (shape == null || shape.countedAt().plus(Duration.ofSeconds(estimateMaxAgeSeconds)).isBefore(now)) {
+            shape = new CatalogShape(productDAO.countPublicProductFacets(null, null, null, null, null), now);
+            catalogShape = shape;
+        }
+        return shape;
+    }
+
+    private boolean isBroadFilter(String keyword, BigDecimal minPrice, BigDecimal maxPrice) {
+        return (keyword == null || keyword.isBlank()) && minPrice == null && maxPrice == null;
+    }
+
+    private String buildFilterKey(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock
+    ) {
+        String normalizedKeyword = keyword == null ? "" : keyword.trim().toLowerCase(Locale.ROOT);
+        return normalizedKeyword
+                + "|" + (categoryId == null ? "" : categoryId)
+                + "|" + (minPrice == null ? "" : minPrice.stripTrailingZeros().toPlainString())
+                + "|" + (maxPrice == null ? "" : maxPrice.stripTrailingZeros().toPlainString())
+                + "|" + (inStock == null ? "" : inStock);
+    }
+
+    private record CachedCount(long value, long version) {
+    }
+
+    private record CatalogShape(List<Object[]> rows, Instant countedAt) {
+
+        long estimate(Long categoryId, Boolean inStock) {
+            long total = 0;
+            for (Object[] row : rows) {
+                if ((categoryId == null || Objects.equals(categoryId, row[0]))
+                        && (inStock == null || inStock == Boolean.TRUE.equals(row[2]))) {
+                    total += ((Number) row[3]).longValue();
+                }
+            }
+            return total;
+        }
+    }
+}
@@ -0,0 +1,413 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.product.PriceBucket;
+import com.revshop.dto.product.ProductSearchCursor;
+import com.revshop.dto.product.ProductSearchHits;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.event.CategoryChangedEvent;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.ProductSearchIndexService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory keyword index over product name, description and category name. A keyword matches
+ * when it occurs anywhere in one of those fields, ignoring case, which is exactly what the
+ * database path's LIKE '%keyword%' does. Postings by token narrow the candidates; every index term
+ * is also filed under its short substrings so a keyword fragment from the middle of a word still
+ * finds its postings, and the surviving candidates are checked against the stored field text.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ProductSearchIndexServiceImpl implements ProductSearchIndexService {
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final int GRAM_LENGTH = 3;
+
+    private final ProductDAO productDAO;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, IndexedProduct> documents = new HashMap<>();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    private final Map<String, Set<String>> termsByGram = new HashMap<>();
+    private final Map<Long, Set<Long>> categoryPostings = new HashMap<>();
+    private volatile boolean ready;
+
+    @Value("${app.search.index.enabled:true}")
+    private boolean enabled = true;
+
+    @Override
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        List<IndexedProduct> loaded = productDAO.findActiveProducts()
+                .stream()
+                .map(this::toDocument)
+                .toList();
+
+        lock.writeLock().lock();
+        try {
+            documents.clear();
+            postings.clear();
+            termsByGram.clear();
+            categoryPostings.clear();
+            loaded.forEach(this::addDocument);
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Product search index built with {} products and {} terms", loaded.size(), postings.size());
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType().affectsSearchFilters()) {
+            index(event.getProduct());
+        }
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Category category = event.getCategory();
+        if (!enabled || category.getId() == null) {
+            return;
+        }
+        Long categoryId = category.getId();
+        String categoryName = lowerCase(category.getName());
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                // Products keep their category even when it is deactivated, so only the name is re-indexed.
+                for (Long productId : List.copyOf(categoryPostings.getOrDefault(categoryId, Set.of()))) {
+                    IndexedProduct existing = documents.get(productId);
+                    if (existing != null && !existing.categoryName().equals(categoryName)) {
+                        removeDocument(productId);
+                        addDocument(existing.withCategoryName(categoryName));
+                    }
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void index(Product product) {
+        if (!enabled || product == null || product.getId() == null) {
+            return;
+        }
+        if (!Boolean.TRUE.equals(product.getActive()) || Boolean.TRUE.equals(product.getIsDeleted())) {
+            remove(product.getId());
+            return;
+        }
+        IndexedProduct document = toDocument(product);
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(document.id());
+                addDocument(document);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public void remove(Long productId) {
+        if (!enabled || productId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> {
+            lock.writeLock().lock();
+            try {
+                removeDocument(productId);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        });
+    }
+
+    @Override
+    public ProductSearchHits search(
+            String keyword,
+            Long categoryId,
+            BigDecimal minPrice,
+            BigDecimal maxPrice,
+            Boolean inStock,
+            String sortBy,
+            String sortDir,
+            ProductSearchCursor after,
+            int offset,
+            int limit,
+            boolean withFacets
+    ) {
+        String needle = keyword == null || keyword.isBlank() ? null : lowerCase(keyword);
+        Set<String> queryTokens = needle == null ? Set.of() : tokenize(needle);
+        List<IndexedProduct> matches;
+
+        lock.readLock().lock();
+        try {
+            matches = resolveCandidates(queryTokens, categoryId)
+                    .stream()
+                    .map(documents::get)
+                    .filter(document -> document != null)
+                    .filter(document -> needle == null || document.contains(needle))
+                    .filter(document -> minPrice == null || document.price().compareTo(minPrice) >= 0)
+                    .filter(document -> maxPrice == null || document.price().compareTo(maxPrice) <= 0)
+                    .filter(document -> inStock == null || document.inStock() == inStock)
+                    .sorted(resolveComparator(sortBy, sortDir))
+                    .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        int from = after == null
+                ? Math.min(Math.max(0, offset), matches.size())
+                : firstIndexAfter(matches, after);
+        int to = (int) Math.min((long) from + Math.max(1, limit), matches.size());
+        List<Long> pageIds = matches.subList(from, to)
+                .stream()
+                .map(IndexedProduct::id)
+                .toList();
+
+        ProductFacetAccumulator facets = null;
+        if (withFacets) {
+            facets = new ProductFacetAccumulator();
+            for (IndexedProduct document : matches) {
+                facets.add(document.categoryId(), PriceBucket.of(document.price()), document.inStock(), 1);
+            }
+        }
+
+        return ProductSearchHits.builder()
+                .productIds(pageIds)
+                .totalElements(matches.size())
+                .facets(facets == null ? null : facets.toFacets())
+                .build();
+    }
+
+    private Set<Long> resolveCandidates(Set<String> queryTokens, Long categoryId) {
+        Set<Long> candidates = null;
+        if (categoryId != null) {
+            candidates = new HashSet<>(categoryPostings.getOrDefault(categoryId, Set.of()));
+        }
+        for (String token : queryTokens) {
+            Set<Long> tokenMatches = new HashSet<>();
+            String gram = token.length() > GRAM_LENGTH ? token.substring(0, GRAM_LENGTH) : token;
+            for (String term : termsByGram.getOrDefault(gram, Set.of())) {
+                if (term.contains(token)) {
+                    tokenMatches.addAll(postings.get(term));
+                }
+            }
+            if (candidates == null) {
+                candidates = tokenMatches;
+            } else {
+                candidates.retainAll(tokenMatches);
+            }
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+        return candidates == null ? new HashSet<>(documents.keySet()) : candidates;
+    }
+
+    private Comparator<IndexedProduct> resolveComparator(String sortBy, String sortDir) {
+        Comparator<IndexedProduct> comparator = switch (sortBy == null ? "createdAt" : sortBy) {
+            case "name" -> Comparator.comparing(IndexedProduct::sortName);
+            case "price" -> Comparator.comparing(IndexedProduct::price);
+            default -> Comparator.comparing(IndexedProduct::createdAt, Comparator.nullsFirst(Comparator.naturalOrder()));
+        };
+        comparator = comparator.thenComparing(IndexedProduct::id);
+        return "asc".equalsIgnoreCase(sortDir) ? comparator : comparator.reversed();
+    }
+
+    private int firstIndexAfter(List<IndexedProduct> sortedMatches, ProductSearchCursor cursor) {
+        int low = 0;
+        int high = sortedMatches.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (isAfterCursor(sortedMatches.get(mid), cursor)) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    private boolean isAfterCursor(IndexedProduct document, ProductSearchCursor cursor) {
+        int comparison = switch (cursor.getSortBy()) {
+            case "name" -> document.sortName().compareTo(cursor.getLastSortValue());
+            case "price" -> document.price().compareTo((BigDecimal) cursor.sortKey());
+            default -> document.createdAt() == null
+                    ? -1
+                    : document.createdAt().compareTo((LocalDateTime) cursor.sortKey());
+        };
+        if (comparison == 0) {
+            comparison = document.id().compareTo(cursor.getLastId());
+        }
+        return cursor.isAscending() ? comparison > 0 : comparison < 0;
+    }
+
+    private void addDocument(IndexedProduct document) {
+        documents.put(document.id(), document);
+        for (String token : document.tokens()) {
+            postings.computeIfAbsent(token, term -> {
+                grams(term).forEach(gram -> termsByGram.computeIfAbsent(gram, ignored -> new HashSet<>()).add(term));
+                return new HashSet<>();
+            }).add(document.id());
+        }
+        if (document.categoryId() != null) {
+            categoryPostings.computeIfAbsent(document.categoryId(), ignored -> new HashSet<>()).add(document.id());
+        }
+    }
+
+    private void removeDocument(Long productId) {
+        IndexedProduct existing = documents.remove(productId);
+        if (existing == null) {
+            return;
+        }
+        for (String token : existing.tokens()) {
+            Set<Long> ids = postings.get(token);
+            if (ids != null) {
+                ids.remove(productId);
+                if (ids.isEmpty()) {
+                    postings.remove(token);
+                    removeGrams(token);
+                }
+            }
+        }
+        Set<Long> categoryIds = categoryPostings.get(existing.categoryId());
+        if (categoryIds != null) {
+            categoryIds.remove(productId);
+            if (categoryIds.isEmpty()) {
+                categoryPostings.remove(existing.categoryId());
+            }
+        }
+    }
+
+    private void removeGrams(String term) {
+        for (String gram : grams(term)) {
+            Set<String> terms = termsByGram.get(gram);
+            if (terms != null) {
+                terms.remove(term);
+                if (terms.isEmpty()) {
+                    termsByGram.remove(gram);
+                }
+            }
+        }
+    }
+
+    private static Set<String> grams(String term) {
+        Set<String> grams = new HashSet<>();
+        for (int start = 0; start < term.length(); start++) {
+            for (int end = start + 1; end <= Math.min(start + GRAM_LENGTH, term.length()); end++) {
+                grams.add(term.substring(start, end));
+            }
+        }
+        return grams;
+    }
+
+    private IndexedProduct toDocument(Product product) {
+        Category category = product.getCategory();
+        return new IndexedProduct(
+                product.getId(),
+                lowerCase(product.getName()),
+                lowerCase(product.getDescription()),
+                category == null ? null : category.getId(),
+                lowerCase(category == null ? null : category.getName()),
+                product.getPrice() == null ? BigDecimal.ZERO : product.getPrice(),
+                Boolean.TRUE.equals(product.getInStock()),
+                product.getCreatedAt()
+        );
+    }
+
+    private static String lowerCase(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return Set.of();
+        }
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isBlank()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    private record IndexedProduct(
+            Long id,
+            String sortName,
+            String description,
+            Long categoryId,
+            String categoryName,
+            BigDecimal price,
+            boolean inStock,
+            LocalDateTime createdAt,
+            Set<String> tokens
+    ) {
+
+        private IndexedProduct(
+                Long id,
+                String sortName,
+                String description,
+                Long categoryId,
+                String categoryName,
+                BigDecimal price,
+                boolean inStock,
+                LocalDateTime createdAt
+        ) {
+            this(id, sortName, description, categoryId, categoryName, price, inStock, createdAt,
+                    tokensOf(sortName, description, categoryName));
+        }
+
+        private IndexedProduct withCategoryName(String newCategoryName) {
+            return new IndexedProduct(id, sortName, description, categoryId, newCategoryName, price, inStock, createdAt);
+        }
+
+        private boolean contains(String needle) {
+            return sortName.contains(needle) || description.contains(needle) || categoryName.contains(needle);
+        }
+
+        private static Set<String> tokensOf(String name, String description, String categoryName) {
+            Set<String> tokens = new LinkedHashSet<>();
+            tokens.addAll(tokenize(name));
+            tokens.addAll(tokenize(description));
+            tokens.addAll(tokenize(categoryName));
+            return Set.copyOf(tokens);
+        }
+    }
+}
@@ -5,25 +5,41 @@ import com.revshop.dao.CategoryDAO;
 import com.revshop.dao.ProductDAO;
 import com.revshop.dao.ProductImageDAO;
 import com.revshop.dao.UserDAO;
+import com.revshop.dto.common.CountMode;
+import com.revshop.dto.common.FacetCount;
 import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.common.TotalCount;
+import com.revshop.dto.product.PriceBucket;
 import com.revshop.dto.product.ProductCreateRequest;
 import com.revshop.dto.product.ProductImageResponse;
+import com.revshop.dto.product.ProductListRow;
 import com.revshop.dto.product.ProductResponse;
+import com.revshop.dto.product.ProductSearchCursor;
+import com.revshop.dto.product.ProductSearchHits;
+import com.revshop.dto.product.ProductSuggestionResponse;
 import com.revshop.dto.product.ProductUpdateRequest;
 import com.revshop.entity.Category;
 import com.revshop.entity.Product;
 import com.revshop.entity.ProductImage;
 import com.revshop.entity.Role;
 import com.revshop.entity.User;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
 import com.revshop.exception.BadRequestException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.InternalServerException;
 import com.revshop.exception.ResourceNotFoundException;
 import com.revshop.mapper.ProductMapper;
+import com.revshop.service.ProductDetailCacheService;
+import com.revshop.service.ProductSearchCountService;
+import com.revshop.service.ProductSearchIndexService;
 import com.revshop.service.ProductService;
+import com.revshop.service.ProductSuggestService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -33,27 +49,39 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Log4j2
 public class ProductServiceImpl implements ProductService {
 
-    private static final int DEFAULT_LOW_STOCK_THRESHOLD = 5;
-
     private final ProductDAO productDAO;
     private final ProductImageDAO productImageDAO;
     private final CategoryDAO categoryDAO;
     private final UserDAO userDAO;
     private final ProductMapper productMapper;
+    private final ProductSearchIndexService productSearchIndexService;
+    private final ProductSearchCountService productSearchCountService;
+    private final ProductDetailCacheService productDetailCacheService;
+    private final ProductSuggestService productSuggestService;
+    private final ApplicationEventPublisher eventPublisher;
     @Value("${app.upload.product-images-dir:uploads/product-images}")
     private String productImagesDir;
     @Value("${app.upload.public-base-url:http://localhost:8080}")
     private String publicBaseUrl;
+    @Value("${app.products.stream.chunk-size:500}")
+    private int streamChunkSize = 500;
 
     @Override
     @Transactional
@@ -68,9 +96,9 @@ public class ProductServiceImpl implements ProductService {
         Category category = categoryDAO.findById(request.getCategoryId())
                 .orElseThrow(() -> new ResourceNotFoundException("Category not found"));
 
-        BigDecimal mrpPrice = resolveMrpPrice(request.getPrice(), request.getMrpPrice());
-        BigDecimal discountedPrice = resolveDiscountedPrice(request.getPrice(), request.getDiscountedPrice(), mrpPrice);
-        validatePricing(mrpPrice, discountedPrice);
+        BigDecimal mrpPrice = ProductPricing.resolveMrpPrice(request.getPrice(), request.getMrpPrice());
+        BigDecimal discountedPrice = ProductPricing.resolveDiscountedPrice(request.getPrice(), request.getDiscountedPrice(), mrpPrice);
+        ProductPricing.validatePricing(mrpPrice, discountedPrice);
 
         Product product = Product.builder()
                 .name(request.getName())
@@ -79,23 +107,25 @@ public class ProductServiceImpl implements ProductService {
                 .mrpPrice(mrpPrice)
                 .discountedPrice(discountedPrice)
                 .stock(request.getStock())
-                .lowStockThreshold(resolveLowStockThreshold(request.getLowStockThreshold()))
+                .lowStockThreshold(ProductPricing.resolveLowStockThreshold(request.getLowStockThreshold()))
                 .inStock(request.getStock() > 0)
                 .active(true)
                 .seller(seller)
                 .category(category)
                 .build();
 
-        return productMapper.toResponse(productDAO.save(product));
+        Product saved = productDAO.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangeType.CREATED));
+        return productMapper.toResponse(saved);
     }
 
     @Override
     @Transactional
     public ProductResponse updateProduct(Long productId, String sellerEmail, ProductUpdateRequest request) {
         Product product = getOwnedProduct(productId, sellerEmail);
-        BigDecimal mrpPrice = resolveMrpPrice(request.getPrice(), request.getMrpPrice());
-        BigDecimal discountedPrice = resolveDiscountedPrice(request.getPrice(), request.getDiscountedPrice(), mrpPrice);
-        validatePricing(mrpPrice, discountedPrice);
+        BigDecimal mrpPrice = ProductPricing.resolveMrpPrice(request.getPrice(), request.getMrpPrice());
+        BigDecimal discountedPrice = ProductPricing.resolveDiscountedPrice(request.getPrice(), request.getDiscountedPrice(), mrpPrice);
+        ProductPricing.validatePricing(mrpPrice, discountedPrice);
 
         product.setName(request.getName());
         product.setDescription(request.getDescription());
@@ -104,21 +134,25 @@ public class ProductServiceImpl implements ProductService {
         product.setDiscountedPrice(discountedPrice);
         product.setStock(request.getStock());
         if (request.getLowStockThreshold() != null) {
-            product.setLowStockThreshold(resolveLowStockThreshold(request.getLowStockThreshold()));
+            product.setLowStockThreshold(ProductPricing.resolveLowStockThreshold(request.getLowStockThreshold()));
         } else if (product.getLowStockThreshold() == null) {
-            product.setLowStockThreshold(DEFAULT_LOW_STOCK_THRESHOLD);
+            product.setLowStockThreshold(ProductPricing.DEFAULT_LOW_STOCK_THRESHOLD);
         }
         product.setInStock(request.getStock() > 0);
 
-        return productMapper.toResponse(productDAO.save(product));
+        Product saved = productDAO.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangeType.UPDATED));
+        return productMapper.toResponse(saved);
     }
 
     @Override
     @Transactional
     public ProductResponse updateLowStockThreshold(Long productId, String sellerEmail, Integer lowStockThreshold) {
         Product product = getOwnedProduct(productId, sellerEmail);
-        product.setLowStockThreshold(resolveLowStockThreshold(lowStockThreshold));
-        return productMapper.toResponse(productDAO.save(product));
+        product.setLowStockThreshold(ProductPricing.resolveLowStockThreshold(lowStockThreshold));
+        Product saved = productDAO.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangeType.THRESHOLD_CHANGED));
+        return productMapper.toResponse(saved);
     }
 
     @Override
@@ -128,59 +162,86 @@ public class ProductServiceImpl implements ProductService {
         product.setActive(false);
         product.setIsDeleted(true);
         productDAO.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangeType.DELETED));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getSellerProducts(String sellerEmail) {
-        return productDAO.findBySellerEmail(sellerEmail)
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+        return toResponses(productDAO.findRowsBySellerEmail(sellerEmail));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getMyLowStockProducts(String sellerEmail) {
-        return productDAO.findLowStockBySellerEmail(sellerEmail)
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+        return toResponses(productDAO.findLowStockRowsBySellerEmail(sellerEmail));
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getAllActiveProducts() {
-        return productDAO.findActiveProducts()
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+        return toResponses(productDAO.findActiveRows());
     }
 
     @Override
-    @Transactional(readOnly = true)
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProductResponse getProductById(Long id) {
-        Product product = productDAO.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
-        return productMapper.toResponse(product);
+        return productDetailCacheService.getOrLoad(id, () -> {
+            ProductListRow row = productDAO.findRowById(id)
+                    .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
+            return productMapper.toResponse(
+                    row,
+                    productImageDAO.findImageUrlsByProductIds(List.of(id)).getOrDefault(id, List.of())
+            );
+        });
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> getProductsByCategory(Long categoryId) {
-        return productDAO.findByCategory(categoryId)
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+        return toResponses(productDAO.findRowsByCategory(categoryId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamActiveProducts(Long categoryId, String sellerEmail, Consumer<ProductResponse> consumer) {
+        List<Product> chunk = new ArrayList<>(streamChunkSize);
+        try (Stream<Product> products = productDAO.streamActiveProducts(categoryId, sellerEmail, streamChunkSize)) {
+            products.forEach(product -> {
+                chunk.add(product);
+                if (chunk.size() >= streamChunkSize) {
+                    writeChunk(chunk, consumer);
+                }
+            });
+        }
+        writeChunk(chunk, consumer);
     }
 
     @Override
     @Transactional(readOnly = true)
     public List<ProductResponse> searchProducts(String keyword) {
-        return productDAO.searchByName(keyword)
-                .stream()
-                .map(productMapper::toResponse)
-                .toList();
+        if (productSearchIndexService.isReady()) {
+            ProductSearchHits hits = productSearchIndexService.search(
+                    keyword, null, null, null, null, "name", "asc", null, 0, Integer.MAX_VALUE, false
+            );
+            return loadInOrder(hits.getProductIds());
+        }
+        // Same rule as the index: a blank keyword is no filter rather than a LIKE on whitespace.
+        if (keyword == null || keyword.isBlank()) {
+            return toResponses(productDAO.findActiveRows());
+        }
+        return toResponses(productDAO.searchRowsByKeyword(keyword));
+    }
+
+    @Override
+    public List<ProductSuggestionResponse> suggestProducts(String prefix, int limit) {
+        if (limit < 1 || limit > 20) {
+            throw new BadRequestException("Limit must be between 1 and 20");
+        }
+        if (prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return productSuggestService.suggest(prefix, limit);
     }
 
     @Override
@@ -194,7 +255,10 @@ public class ProductServiceImpl implements ProductService {
             int page,
             int size,
             String sortBy,
-            String sortDir
+            String sortDir,
+            String cursor,
+            String count,
+            boolean facets
     ) {
         if (page < 0) {
             throw new BadRequestException("Page must be >= 0");
@@ -214,9 +278,45 @@ public class ProductServiceImpl implements ProductService {
 
         String resolvedSortBy = resolveSortBy(sortBy);
         String resolvedSortDir = resolveSortDir(sortDir);
+        CountMode countMode = resolveCountMode(count);
+        String filters = ProductSearchCursor.filtersOf(keyword, categoryId, minPrice, maxPrice, inStock);
+        ProductSearchCursor after = cursor == null || cursor.isBlank()
+                ? null
+                : ProductSearchCursor.decode(cursor, resolvedSortBy, resolvedSortDir, filters);
         int offset = page * size;
 
-        List<ProductResponse> content = productDAO.searchPublicProducts(
+        if (productSearchIndexService.isReady()) {
+            ProductSearchHits hits = productSearchIndexService.search(
+                    keyword,
+                    categoryId,
+                    minPrice,
+                    maxPrice,
+                    inStock,
+                    resolvedSortBy,
+                    resolvedSortDir,
+                    after,
+                    offset,
+                    size + 1,
+                    facets
+            );
+            List<Long> productIds = hits.getProductIds();
+            boolean hasNext = productIds.size() > size;
+            return toPagedResponse(
+                    loadInOrder(hasNext ? productIds.subList(0, size) : productIds),
+                    knownTotal(countMode, hits.getTotalElements()),
+                    hits.getFacets(),
+                    page,
+                    size,
+                    resolvedSortBy,
+                    resolvedSortDir,
+                    filters,
+                    hasNext,
+                    after != null || page > 0
+            );
+        }
+
+        List<ProductListRow> rows = after == null
+                ? productDAO.searchPublicProducts(
                         keyword,
                         categoryId,
                         minPrice,
@@ -225,25 +325,48 @@ public class ProductServiceImpl implements ProductService {
                         resolvedSortBy,
                         resolvedSortDir,
                         offset,
-                        size
-                ).stream()
-                .map(productMapper::toResponse)
-                .toList();
-
-        long totalElements = productDAO.countPublicProducts(keyword, categoryId, minPrice, maxPrice, inStock);
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-
-        return PagedResponse.<ProductResponse>builder()
-                .content(content)
-                .page(page)
-                .size(size)
-                .totalElements(totalElements)
-                .totalPages(totalPages)
-                .hasNext(page + 1 < totalPages)
-                .hasPrevious(page > 0)
-                .sortBy(resolvedSortBy)
-                .sortDir(resolvedSortDir)
-                .build();
+                        size + 1
+                )
+                : productDAO.seekPublicProducts(keyword, categoryId, minPrice, maxPrice, inStock, after, size + 1);
+        boolean hasNext = rows.size() > size;
+        List<ProductResponse> content = toResponses(hasNext ? rows.subList(0, size) : rows);
+
+        Map<String, List<FacetCount>> facetCounts = null;
+        TotalCount totalCount;
+        if (facets) {
+            ProductFacetAccumulator accumulator = new ProductFacetAccumulator();
+            for (Object[] row : productDAO.countPublicProductFacets(keyword, categoryId, minPrice, maxPrice, inStock)) {
+                accumulator.add(
+                        (Long) row[0],
+                        PriceBucket.values()[((Number) row[1]).intValue()],
+                        Boolean.TRUE.equals(row[2]),
+                        ((Number) row[3]).longValue()
+                );
+            }
+            facetCounts = accumulator.toFacets();
+            totalCount = knownTotal(countMode, accumulator.total());
+        } else {
+            totalCount = productSearchCountService.count(
+                    keyword,
+                    categoryId,
+                    minPrice,
+                    maxPrice,
+                    inStock,
+                    countMode
+            );
+        }
+        return toPagedResponse(
+                content,
+                totalCount,
+                facetCounts,
+                page,
+                size,
+                resolvedSortBy,
+                resolvedSortDir,
+                filters,
+                hasNext,
+                after != null || page > 0
+        );
     }
 
     @Override
@@ -257,9 +380,11 @@ public class ProductServiceImpl implements ProductService {
 
         AtomicLong orderCounter = new AtomicLong(productImageDAO.countByProductId(productId));
 
-        return files.stream()
+        List<ProductImageResponse> uploaded = files.stream()
                 .map(file -> saveProductImage(product, file, orderCounter.incrementAndGet()))
                 .toList();
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangeType.IMAGES_CHANGED));
+        return uploaded;
     }
 
     @Override
@@ -294,55 +419,88 @@ public class ProductServiceImpl implements ProductService {
 
         deletePhysicalFileIfExists(image.getImageUrl());
         productImageDAO.delete(image);
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangeType.IMAGES_CHANGED));
     }
 
-    private Product getOwnedProduct(Long productId, String sellerEmail) {
-        Product product = productDAO.findById(productId)
-                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
-
-        if (!product.getSeller().getEmail().equals(sellerEmail)) {
-            throw new ForbiddenOperationException("Not owner of this product");
+    private void writeChunk(List<Product> chunk, Consumer<ProductResponse> consumer) {
+        if (chunk.isEmpty()) {
+            return;
         }
-
-        return product;
+        Map<Long, List<String>> imageUrls = productImageDAO.findImageUrlsByProductIds(
+                chunk.stream().map(Product::getId).toList()
+        );
+        for (Product product : chunk) {
+            consumer.accept(productMapper.toResponse(product, imageUrls.getOrDefault(product.getId(), List.of())));
+        }
+        productDAO.detach(chunk);
+        chunk.clear();
     }
 
-    private BigDecimal resolveMrpPrice(BigDecimal fallbackPrice, BigDecimal mrpPrice) {
-        if (mrpPrice != null) {
-            return mrpPrice;
-        }
-        return fallbackPrice;
+    private List<ProductResponse> loadInOrder(List<Long> productIds) {
+        Map<Long, ProductListRow> rowsById = productDAO.findRowsByIds(productIds)
+                .stream()
+                .collect(Collectors.toMap(ProductListRow::getId, Function.identity()));
+        return toResponses(productIds.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList());
     }
 
-    private BigDecimal resolveDiscountedPrice(BigDecimal fallbackPrice, BigDecimal discountedPrice, BigDecimal mrpPrice) {
-        BigDecimal resolvedDiscounted = discountedPrice == null ? fallbackPrice : discountedPrice;
-        if (resolvedDiscounted == null) {
-            throw new BadRequestException("Price is required");
+    private List<ProductResponse> toResponses(List<ProductListRow> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
         }
-        if (mrpPrice == null) {
-            throw new BadRequestException("MRP price is required");
-        }
-        return resolvedDiscounted;
+        Map<Long, List<String>> imageUrls = productImageDAO.findImageUrlsByProductIds(
+                rows.stream().map(ProductListRow::getId).toList()
+        );
+        return rows.stream()
+                .map(row -> productMapper.toResponse(row, imageUrls.getOrDefault(row.getId(), List.of())))
+                .toList();
     }
 
-    private int resolveLowStockThreshold(Integer lowStockThreshold) {
-        int resolved = lowStockThreshold == null ? DEFAULT_LOW_STOCK_THRESHOLD : lowStockThreshold;
-        if (resolved < 0) {
-            throw new BadRequestException("Low stock threshold cannot be negative");
-        }
-        return resolved;
+    private PagedResponse<ProductResponse> toPagedResponse(
+            List<ProductResponse> content,
+            TotalCount totalCount,
+            Map<String, List<FacetCount>> facets,
+            int page,
+            int size,
+            String sortBy,
+            String sortDir,
+            String filters,
+            boolean hasNext,
+            boolean hasPrevious
+    ) {
+        Integer totalPages = totalCount.getValue() == null
+                ? null
+                : (int) Math.ceil((double) totalCount.getValue() / size);
+        String nextCursor = hasNext && !content.isEmpty()
+                ? ProductSearchCursor.after(content.get(content.size() - 1), sortBy, sortDir, filters).encode()
+                : null;
+        return PagedResponse.<ProductResponse>builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalCount.getValue())
+                .totalPages(totalPages)
+                .countMode(totalCount.getMode())
+                .hasNext(hasNext)
+                .hasPrevious(hasPrevious)
+                .sortBy(sortBy)
+                .sortDir(sortDir)
+                .nextCursor(nextCursor)
+                .facets(facets)
+                .build();
     }
 
-    private void validatePricing(BigDecimal mrpPrice, BigDecimal discountedPrice) {
-        if (mrpPrice.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BadRequestException("MRP must be greater than 0");
-        }
-        if (discountedPrice.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BadRequestException("Discounted price must be greater than 0");
-        }
-        if (discountedPrice.compareTo(mrpPrice) > 0) {
-            throw new BadRequestException("Discounted price cannot be greater than MRP");
+    private Product getOwnedProduct(Long productId, String sellerEmail) {
+        Product product = productDAO.findById(productId)
+                .orElseThrow(() -> new ResourceNotFoundException("Product not found"));
+
+        if (!product.getSeller().getEmail().equals(sellerEmail)) {
+            throw new ForbiddenOperationException("Not owner of this product");
         }
+
+        return product;
     }
 
     private ProductImageResponse saveProductImage(Product product, MultipartFile file, long orderValue) {
@@ -445,6 +603,22 @@ public class ProductServiceImpl implements ProductService {
         };
     }
 
+    private TotalCount knownTotal(CountMode countMode, long total) {
+        return countMode == CountMode.NONE ? TotalCount.none() : TotalCount.exact(total);
+    }
+
+    private CountMode resolveCountMode(String count) {
+        if (count == null || count.isBlank()) {
+            return CountMode.EXACT;
+        }
+        return switch (count.toLowerCase(Locale.ROOT)) {
+            case "exact" -> CountMode.EXACT;
+            case "estimated" -> CountMode.ESTIMATED;
+            case "none" -> CountMode.NONE;
+            default -> throw new BadRequestException("Invalid count. Allowed: exact, estimated, none");
+        };
+    }
+
     private String resolveSortDir(String sortDir) {
         if (sortDir == null || sortDir.isBlank()) {
             return "desc";
@@ -0,0 +1,232 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.CategoryDAO;
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductSuggestionResponse;
+import com.revshop.dto.product.SuggestionType;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.event.CategoryChangedEvent;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.ProductSuggestService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class ProductSuggestServiceImpl implements ProductSuggestService {
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{Nd}]+");
+    private static final char KEY_SEPARATOR = '\u0000';
+    private static final Comparator<ProductSuggestionResponse> RANKING =
+            Comparator.comparingLong(ProductSuggestionResponse::getWeight).reversed()
+                    .thenComparingInt(suggestion -> suggestion.getText().length())
+                    .thenComparing(ProductSuggestionResponse::getText);
+
+    private final ProductDAO productDAO;
+    private final CategoryDAO categoryDAO;
+    private final OrderItemDAO orderItemDAO;
+
+    // One key per word start ("wireless headphones", "headphones"), so prefixes match inside names too.
+    private final ConcurrentNavigableMap<String, Suggestion> entries = new ConcurrentSkipListMap<>();
+    private final Map<String, List<String>> keysBySource = new ConcurrentHashMap<>();
+    private final Map<Long, Long> productCategories = new ConcurrentHashMap<>();
+    private volatile Map<Long, Long> productSales = Map.of();
+    private volatile Map<Long, Long> categorySales = Map.of();
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        List<ProductListRow> products = productDAO.findActiveRows();
+        List<Category> categories = categoryDAO.findAllActive();
+        Map<Long, Long> sales = loadSales();
+
+        synchronized (this) {
+            entries.clear();
+            keysBySource.clear();
+            productCategories.clear();
+            products.forEach(row -> putEntry(SuggestionType.PRODUCT, row.getId(), row.getName(), row.getCategoryId()));
+            categories.forEach(category -> putEntry(SuggestionType.CATEGORY, category.getId(), category.getName(), null));
+            applyWeights(sales);
+        }
+        log.info("Suggestion index built with {} products, {} categories and {} keys",
+                products.size(), categories.size(), entries.size());
+    }
+
+    @Override
+    @Scheduled(
+            fixedDelayString = "${app.search.suggest.weight-refresh-ms:600000}",
+            initialDelayString = "${app.search.suggest.weight-refresh-ms:600000}"
+    )
+    @Transactional(readOnly = true)
+    public void refreshWeights() {
+        Map<Long, Long> sales = loadSales();
+        synchronized (this) {
+            applyWeights(sales);
+        }
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (!event.getChangeType().affectsSearchFilters() || event.getProductId() == null) {
+            return;
+        }
+        Product product = event.getProduct();
+        boolean visible = Boolean.TRUE.equals(product.getActive()) && !Boolean.TRUE.equals(product.getIsDeleted());
+        Long productId = product.getId();
+        String name = product.getName();
+        Long categoryId = product.getCategory() == null ? null : product.getCategory().getId();
+
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                if (visible) {
+                    putEntry(SuggestionType.PRODUCT, productId, name, categoryId);
+                } else {
+                    removeEntry(SuggestionType.PRODUCT, productId);
+                }
+            }
+        });
+    }
+
+    @EventListener
+    public void onCategoryChanged(CategoryChangedEvent event) {
+        Category category = event.getCategory();
+        if (category.getId() == null) {
+            return;
+        }
+        boolean visible = Boolean.TRUE.equals(category.getActive()) && !Boolean.TRUE.equals(category.getIsDeleted());
+        Long categoryId = category.getId();
+        String name = category.getName();
+
+        TransactionCallbacks.afterCommit(() -> {
+            synchronized (this) {
+                if (visible) {
+                    putEntry(SuggestionType.CATEGORY, categoryId, name, null);
+                } else {
+                    removeEntry(SuggestionType.CATEGORY, categoryId);
+                }
+            }
+        });
+    }
+
+    @Override
+    public List<ProductSuggestionResponse> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        Map<Long, Long> productWeights = productSales;
+        Map<Long, Long> categoryWeights = categorySales;
+
+        PriorityQueue<ProductSuggestionResponse> top = new PriorityQueue<>(RANKING.reversed());
+        Set<Suggestion> seen = new HashSet<>();
+        for (Suggestion suggestion : entries.subMap(normalized, normalized + Character.MAX_VALUE).values()) {
+            if (!seen.add(suggestion)) {
+                continue;
+            }
+            Map<Long, Long> weights = suggestion.type() == SuggestionType.PRODUCT ? productWeights : categoryWeights;
+            top.offer(ProductSuggestionResponse.builder()
+                    .type(suggestion.type())
+                    .id(suggestion.id())
+                    .text(suggestion.text())
+                    .weight(weights.getOrDefault(suggestion.id(), 0L))
+                    .build());
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<ProductSuggestionResponse> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING);
+        return ranked;
+    }
+
+    private Map<Long, Long> loadSales() {
+        Map<Long, Long> sales = new HashMap<>();
+        for (Object[] row : orderItemDAO.sumSoldQuantityByProduct()) {
+            sales.put((Long) row[0], ((Number) row[1]).longValue());
+        }
+        return sales;
+    }
+
+    private void applyWeights(Map<Long, Long> sales) {
+        Map<Long, Long> byCategory = new HashMap<>();
+        sales.forEach((productId, quantity) -> {
+            Long categoryId = productCategories.get(productId);
+            if (categoryId != null) {
+                byCategory.merge(categoryId, quantity, Long::sum);
+            }
+        });
+        productSales = Map.copyOf(sales);
+        categorySales = Map.copyOf(byCategory);
+    }
+
+    private void putEntry(SuggestionType type, Long id, String text, Long categoryId) {
+        removeEntry(type, id);
+        String normalized = normalize(text);
+        if (normalized.isEmpty()) {
+            return;
+        }
+        Suggestion suggestion = new Suggestion(type, id, text.trim());
+        String sourceSuffix = KEY_SEPARATOR + type.name() + ":" + id;
+        List<String> keys = new ArrayList<>();
+        int offset = 0;
+        for (String word : normalized.split(" ")) {
+            String key = normalized.substring(offset) + sourceSuffix;
+            entries.put(key, suggestion);
+            keys.add(key);
+            offset += word.length() + 1;
+        }
+        keysBySource.put(sourceKey(type, id), keys);
+        if (type == SuggestionType.PRODUCT && categoryId != null) {
+            productCategories.put(id, categoryId);
+        }
+    }
+
+    private void removeEntry(SuggestionType type, Long id) {
+        List<String> keys = keysBySource.remove(sourceKey(type, id));
+        if (keys != null) {
+            keys.forEach(entries::remove);
+        }
+        if (type == SuggestionType.PRODUCT) {
+            productCategories.remove(id);
+        }
+    }
+
+    private String sourceKey(SuggestionType type, Long id) {
+        return type.name() + ":" + id;
+    }
+
+    private String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return String.join(" ", WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT).trim())).trim();
+    }
+
+    private record Suggestion(SuggestionType type, Long id, String text) {
+    }
+}
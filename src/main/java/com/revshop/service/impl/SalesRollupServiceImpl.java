@@ -0,0 +1,196 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SalesRollup;
+import com.revshop.entity.SalesRollupId;
+import com.revshop.service.SalesRollupService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains hourly and daily sales buckets per seller and product. Sales move the buckets by deltas
+ * applied in a short transaction of their own once the order change commits, so checkouts of one
+ * product never queue on its bucket rows; a delta that fails marks the seller for a rebuild from
+ * the affected day instead. A nightly pass rebuilds the most recent days from order_items and drops
+ * hourly buckets past their retention. An empty table is backfilled once at startup.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SalesRollupServiceImpl implements SalesRollupService {
+
+    private static final Comparator<SalesRollupId> LOCK_ORDER = Comparator.comparing(SalesRollupId::getSellerId)
+            .thenComparing(SalesRollupId::getProductId)
+            .thenComparing(SalesRollupId::getGranularity)
+            .thenComparing(SalesRollupId::getBucketStart);
+
+    private final SalesRollupDAO salesRollupDAO;
+    private final SellerStatsDAO sellerStatsDAO;
+    private final OrderItemDAO orderItemDAO;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.sales-rollups.hourly-retention-days:90}")
+    private int hourlyRetentionDays = 90;
+    @Value("${app.sales-rollups.reconcile-days:2}")
+    private int reconcileDays = 2;
+
+    private final Map<Long, LocalDateTime> staleSellers = new ConcurrentHashMap<>();
+
+    @Override
+    public void applySaleDelta(List<OrderItem> orderItems, int saleDelta) {
+        if (orderItems.isEmpty() || saleDelta == 0) {
+            return;
+        }
+        Map<SalesRollupId, SalesRollup> deltas = new TreeMap<>(LOCK_ORDER);
+        for (OrderItem item : orderItems) {
+            LocalDateTime orderedAt = Objects.requireNonNullElseGet(item.getOrder().getCreatedAt(), LocalDateTime::now);
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                accumulate(deltas, item.getSeller().getId(), item.getProduct().getId(), granularity, orderedAt,
+                        (long) saleDelta * item.getQuantity(),
+                        item.getLineTotal().multiply(BigDecimal.valueOf(saleDelta)));
+            }
+        }
+
+        TransactionCallbacks.afterCommit(() -> applyDeltas(deltas, saleDelta > 0));
+    }
+
+    @Scheduled(fixedDelayString = "${app.sales-rollups.refresh-ms:2000}")
+    public void rebuildStale() {
+        for (Long sellerId : new ArrayList<>(staleSellers.keySet())) {
+            LocalDateTime from = staleSellers.remove(sellerId);
+            if (from != null && !rebuildQuietly(sellerId, from)) {
+                markStale(sellerId, from);
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (Boolean.TRUE.equals(transactionTemplate.execute(status -> salesRollupDAO.isEmpty()))) {
+            log.info("Sales rollups are empty; backfilling the last {} days", hourlyRetentionDays);
+            rebuildAll(hourlyRetentionDays);
+        }
+    }
+
+    @Scheduled(cron = "${app.sales-rollups.reconcile-cron:0 45 2 * * *}")
+    public void reconcileOnSchedule() {
+        reconcile();
+    }
+
+    @Override
+    public int reconcile() {
+        LocalDateTime hourlyCutoff = LocalDate.now().minusDays(hourlyRetentionDays).atStartOfDay();
+        Integer purged = transactionTemplate.execute(status ->
+                salesRollupDAO.deleteOlderThan(RollupGranularity.HOUR, hourlyCutoff));
+        log.info("Purged {} hourly sales rollups before {}", purged, hourlyCutoff);
+        return rebuildAll(reconcileDays);
+    }
+
+    private int rebuildAll(int days) {
+        LocalDateTime from = LocalDate.now().minusDays(days).atStartOfDay();
+        List<Long> sellerIds = Objects.requireNonNull(transactionTemplate.execute(status -> sellerStatsDAO.findSellerIds()));
+        int rebuilt = 0;
+        for (Long sellerId : sellerIds) {
+            if (rebuildQuietly(sellerId, from)) {
+                rebuilt++;
+            }
+        }
+        log.info("Sales rollups rebuilt from {} for {} of {} sellers", from, rebuilt, sellerIds.size());
+        return rebuilt;
+    }
+
+    private boolean rebuildQuietly(Long sellerId, LocalDateTime from) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> rebuild(sellerId, from));
+            return true;
+        } catch (RuntimeException ex) {
+            log.warn("Sales rollup rebuild failed for seller {}; the next pass retries it", sellerId, ex);
+            return false;
+        }
+    }
+
+    // The seller row keeps two rebuilds of one seller apart; deleting the buckets waits out any delta
+    // transaction that already moved one of them.
+    private void rebuild(Long sellerId, LocalDateTime from) {
+        sellerStatsDAO.findByIdForUpdate(sellerId);
+        salesRollupDAO.deleteBySellerIdSince(sellerId, from);
+
+        Map<SalesRollupId, SalesRollup> rollups = new HashMap<>();
+        for (Object[] row : orderItemDAO.findSalesLinesBySellerIdSince(sellerId, from)) {
+            for (RollupGranularity granularity : RollupGranularity.values()) {
+                accumulate(rollups, sellerId, (Long) row[0], granularity, (LocalDateTime) row[1],
+                        ((Number) row[2]).longValue(), (BigDecimal) row[3]);
+            }
+        }
+        LocalDateTime now = LocalDateTime.now();
+        rollups.values().forEach(rollup -> {
+            rollup.setUpdatedAt(now);
+            salesRollupDAO.save(rollup);
+        });
+    }
+
+    private void applyDeltas(Map<SalesRollupId, SalesRollup> deltas, boolean createMissing) {
+        try {
+            requiresNew().executeWithoutResult(status -> deltas.forEach((id, delta) -> {
+                int updated = salesRollupDAO.applyDelta(id, delta.getUnitsSold(), delta.getRevenue());
+                // A reversal with no bucket is a sale made before rollups existed; there is nothing to take back.
+                if (updated == 0 && createMissing) {
+                    salesRollupDAO.insertEmptyIfAbsent(id);
+                    salesRollupDAO.applyDelta(id, delta.getUnitsSold(), delta.getRevenue());
+                }
+            }));
+        } catch (RuntimeException ex) {
+            log.warn("Sales rollup delta failed for buckets {}; rebuilding those sellers instead", deltas.keySet(), ex);
+            deltas.keySet().forEach(id -> markStale(id.getSellerId(), id.getBucketStart().toLocalDate().atStartOfDay()));
+        }
+    }
+
+    private void markStale(Long sellerId, LocalDateTime from) {
+        staleSellers.merge(sellerId, from, (previous, next) -> previous.isBefore(next) ? previous : next);
+    }
+
+    // After commit the finished transaction's resources are still bound, so joining it would write nothing.
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private void accumulate(
+            Map<SalesRollupId, SalesRollup> rollups,
+            Long sellerId,
+            Long productId,
+            RollupGranularity granularity,
+            LocalDateTime orderedAt,
+            long unitsSold,
+            BigDecimal revenue
+    ) {
+        SalesRollupId id = new SalesRollupId(sellerId, productId, granularity, granularity.bucketStart(orderedAt));
+        SalesRollup rollup = rollups.computeIfAbsent(id, key -> SalesRollup.builder().id(key).build());
+        rollup.setUnitsSold(rollup.getUnitsSold() + unitsSold);
+        rollup.setRevenue(rollup.getRevenue().add(revenue));
+    }
+}
@@ -3,24 +3,36 @@ package com.revshop.service.impl;
 import lombok.extern.log4j.Log4j2;
 import com.revshop.dao.OrderItemDAO;
 import com.revshop.dao.ProductDAO;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.dao.SellerStatsDAO;
 import com.revshop.dao.UserDAO;
 import com.revshop.dto.seller.SellerDashboardOverviewResponse;
 import com.revshop.dto.seller.SellerDashboardResponse;
 import com.revshop.dto.seller.SellerRecentOrderResponse;
+import com.revshop.dto.seller.SellerSalesTrendPoint;
+import com.revshop.dto.seller.SellerSalesTrendResponse;
 import com.revshop.dto.seller.SellerTopProductResponse;
-import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
 import com.revshop.entity.Role;
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SellerStats;
 import com.revshop.entity.User;
+import com.revshop.exception.BadRequestException;
 import com.revshop.exception.ForbiddenOperationException;
 import com.revshop.exception.ResourceNotFoundException;
+import com.revshop.service.DataVersionService;
 import com.revshop.service.SellerDashboardService;
+import com.revshop.service.SellerStatsService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -29,34 +41,31 @@ import java.util.Map;
 @Log4j2
 public class SellerDashboardServiceImpl implements SellerDashboardService {
 
+    private static final int DEFAULT_TREND_DAYS = 30;
+    private static final int MAX_TREND_DAYS = 90;
+
     private final UserDAO userDAO;
     private final ProductDAO productDAO;
     private final OrderItemDAO orderItemDAO;
+    private final SellerStatsDAO sellerStatsDAO;
+    private final SellerStatsService sellerStatsService;
+    private final DataVersionService dataVersionService;
+    private final SalesRollupDAO salesRollupDAO;
 
     @Override
     @Transactional(readOnly = true)
     public SellerDashboardResponse getDashboard(String sellerEmail, int recentLimit, int topLimit, int lowStockThreshold) {
-        validateSeller(sellerEmail);
-
-        long totalProducts = productDAO.countBySellerEmail(sellerEmail);
-        long activeProducts = productDAO.countActiveBySellerEmail(sellerEmail);
-        long lowStockProducts = productDAO.countLowStockBySellerEmail(sellerEmail, Math.max(0, lowStockThreshold));
-        long totalOrders = orderItemDAO.countDistinctOrdersBySellerEmail(sellerEmail);
-        long pendingOrders = orderItemDAO.countDistinctPendingOrdersBySellerEmail(sellerEmail);
-        long totalUnitsSold = orderItemDAO.sumQuantityBySellerEmail(sellerEmail);
-        BigDecimal grossRevenue = orderItemDAO.sumRevenueBySellerEmail(sellerEmail);
-
-        SellerDashboardOverviewResponse overview = SellerDashboardOverviewResponse.builder()
-                .totalProducts(totalProducts)
-                .activeProducts(activeProducts)
-                .lowStockProducts(lowStockProducts)
-                .totalOrders(totalOrders)
-                .pendingOrders(pendingOrders)
-                .totalUnitsSold(totalUnitsSold)
-                .grossRevenue(grossRevenue)
-                .build();
+        User seller = validateSeller(sellerEmail);
+        int threshold = Math.max(0, lowStockThreshold);
+
+        SellerDashboardOverviewResponse overview = sellerStatsDAO.findById(seller.getId())
+                .map(stats -> buildOverview(stats, sellerEmail, threshold))
+                .orElseGet(() -> {
+                    sellerStatsService.requestRecompute(seller.getId());
+                    return buildLiveOverview(sellerEmail, threshold);
+                });
 
-        List<SellerRecentOrderResponse> recentOrders = buildRecentOrders(sellerEmail, recentLimit);
+        List<SellerRecentOrderResponse> recentOrders = buildRecentOrders(seller.getId(), recentLimit);
         List<SellerTopProductResponse> topProducts = buildTopProducts(sellerEmail, topLimit);
 
         return SellerDashboardResponse.builder()
@@ -66,7 +75,96 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
                 .build();
     }
 
-    private void validateSeller(String sellerEmail) {
+    @Override
+    @Transactional(readOnly = true)
+    public long getDashboardVersion(String sellerEmail) {
+        return dataVersionService.getSellerDashboardVersion(validateSeller(sellerEmail).getId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public SellerSalesTrendResponse getSalesTrend(
+            String sellerEmail,
+            RollupGranularity granularity,
+            LocalDate fromDate,
+            LocalDate toDate,
+            Long productId
+    ) {
+        User seller = validateSeller(sellerEmail);
+        RollupGranularity resolvedGranularity = granularity == null ? RollupGranularity.DAY : granularity;
+        LocalDate to = toDate == null ? LocalDate.now() : toDate;
+        LocalDate from = fromDate == null ? to.minusDays(DEFAULT_TREND_DAYS - 1) : fromDate;
+        if (from.isAfter(to)) {
+            throw new BadRequestException("fromDate cannot be after toDate");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_TREND_DAYS) {
+            throw new BadRequestException("Sales trend range cannot exceed " + MAX_TREND_DAYS + " days");
+        }
+
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        Map<LocalDateTime, Object[]> buckets = new HashMap<>();
+        for (Object[] row : salesRollupDAO.findSeries(seller.getId(), productId, resolvedGranularity, start, end)) {
+            buckets.put((LocalDateTime) row[0], row);
+        }
+
+        // Charts want a continuous axis, so buckets without sales are returned as zeros.
+        List<SellerSalesTrendPoint> points = new ArrayList<>();
+        long totalUnitsSold = 0;
+        BigDecimal totalRevenue = BigDecimal.ZERO;
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = resolvedGranularity.next(bucket)) {
+            Object[] row = buckets.get(bucket);
+            long unitsSold = row == null ? 0 : ((Number) row[1]).longValue();
+            BigDecimal revenue = row == null ? BigDecimal.ZERO : (BigDecimal) row[2];
+            points.add(SellerSalesTrendPoint.builder()
+                    .bucketStart(bucket)
+                    .unitsSold(unitsSold)
+                    .revenue(revenue)
+                    .build());
+            totalUnitsSold += unitsSold;
+            totalRevenue = totalRevenue.add(revenue);
+        }
+
+        return SellerSalesTrendResponse.builder()
+                .granularity(resolvedGranularity)
+                .fromDate(from)
+                .toDate(to)
+                .productId(productId)
+                .totalUnitsSold(totalUnitsSold)
+                .totalRevenue(totalRevenue)
+                .points(points)
+                .build();
+    }
+
+    private SellerDashboardOverviewResponse buildOverview(SellerStats stats, String sellerEmail, int threshold) {
+        // The read model tracks the configured threshold; any other one still needs a live count.
+        long lowStockProducts = threshold == sellerStatsService.getLowStockThreshold()
+                ? stats.getLowStockProducts()
+                : productDAO.countLowStockBySellerEmail(sellerEmail, threshold);
+        return SellerDashboardOverviewResponse.builder()
+                .totalProducts(stats.getTotalProducts())
+                .activeProducts(stats.getActiveProducts())
+                .lowStockProducts(lowStockProducts)
+                .totalOrders(stats.getTotalOrders())
+                .pendingOrders(stats.getPendingOrders())
+                .totalUnitsSold(stats.getUnitsSold())
+                .grossRevenue(stats.getGrossRevenue())
+                .build();
+    }
+
+    private SellerDashboardOverviewResponse buildLiveOverview(String sellerEmail, int threshold) {
+        return SellerDashboardOverviewResponse.builder()
+                .totalProducts(productDAO.countBySellerEmail(sellerEmail))
+                .activeProducts(productDAO.countActiveBySellerEmail(sellerEmail))
+                .lowStockProducts(productDAO.countLowStockBySellerEmail(sellerEmail, threshold))
+                .totalOrders(orderItemDAO.countDistinctOrdersBySellerEmail(sellerEmail))
+                .pendingOrders(orderItemDAO.countDistinctPendingOrdersBySellerEmail(sellerEmail))
+                .totalUnitsSold(orderItemDAO.sumQuantityBySellerEmail(sellerEmail))
+                .grossRevenue(orderItemDAO.sumRevenueBySellerEmail(sellerEmail))
+                .build();
+    }
+
+    private User validateSeller(String sellerEmail) {
         User seller = userDAO.findByEmail(sellerEmail)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -76,46 +174,22 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
         if (!Boolean.TRUE.equals(seller.getActive()) || Boolean.TRUE.equals(seller.getIsDeleted())) {
             throw new ForbiddenOperationException("Seller account is inactive");
         }
+        return seller;
     }
 
-    private List<SellerRecentOrderResponse> buildRecentOrders(String sellerEmail, int recentLimit) {
-        List<OrderItem> items = orderItemDAO.findBySellerEmail(sellerEmail);
-        Map<Long, SellerRecentOrderAccumulator> map = new LinkedHashMap<>();
-
-        for (OrderItem item : items) {
-            Long orderId = item.getOrder().getId();
-            SellerRecentOrderAccumulator acc = map.computeIfAbsent(orderId, id -> new SellerRecentOrderAccumulator(
-                    id,
-                    item.getOrder().getOrderNumber(),
-                    item.getOrder().getBuyer().getEmail(),
-                    item.getOrder().getStatus(),
-                    item.getOrder().getCreatedAt(),
-                    0,
-                    BigDecimal.ZERO
-            ));
-            acc.itemCount += item.getQuantity();
-            acc.orderAmountForSeller = acc.orderAmountForSeller.add(item.getLineTotal());
-        }
-
-        int limit = Math.max(1, recentLimit);
-        List<SellerRecentOrderResponse> response = new ArrayList<>();
-        int i = 0;
-        for (SellerRecentOrderAccumulator acc : map.values()) {
-            if (i >= limit) {
-                break;
-            }
-            response.add(SellerRecentOrderResponse.builder()
-                    .orderId(acc.orderId)
-                    .orderNumber(acc.orderNumber)
-                    .buyerEmail(acc.buyerEmail)
-                    .orderStatus(acc.orderStatus)
-                    .itemCount(acc.itemCount)
-                    .orderAmountForSeller(acc.orderAmountForSeller)
-                    .orderedAt(acc.orderedAt)
-                    .build());
-            i++;
-        }
-        return response;
+    private List<SellerRecentOrderResponse> buildRecentOrders(Long sellerId, int recentLimit) {
+        return orderItemDAO.findRecentOrderSummariesBySellerId(sellerId, Math.max(1, recentLimit))
+                .stream()
+                .map(row -> SellerRecentOrderResponse.builder()
+                        .orderId((Long) row[0])
+                        .orderNumber((String) row[1])
+                        .buyerEmail((String) row[2])
+                        .orderStatus((OrderStatus) row[3])
+                        .orderedAt((LocalDateTime) row[4])
+                        .itemCount(((Number) row[5]).intValue())
+                        .orderAmountForSeller((BigDecimal) row[6])
+                        .build())
+                .toList();
     }
 
     private List<SellerTopProductResponse> buildTopProducts(String sellerEmail, int topLimit) {
@@ -131,32 +205,4 @@ public class SellerDashboardServiceImpl implements SellerDashboardService {
                         .build())
                 .toList();
     }
-
-    private static class SellerRecentOrderAccumulator {
-        Long orderId;
-        String orderNumber;
-        String buyerEmail;
-        com.revshop.entity.OrderStatus orderStatus;
-        java.time.LocalDateTime orderedAt;
-        int itemCount;
-        BigDecimal orderAmountForSeller;
-
-        SellerRecentOrderAccumulator(
-                Long orderId,
-                String orderNumber,
-                String buyerEmail,
-                com.revshop.entity.OrderStatus orderStatus,
-                java.time.LocalDateTime orderedAt,
-                int itemCount,
-                BigDecimal orderAmountForSeller
-        ) {
-            this.orderId = orderId;
-            this.orderNumber = orderNumber;
-            this.buyerEmail = buyerEmail;
-            this.orderStatus = orderStatus;
-            this.orderedAt = orderedAt;
-            this.itemCount = itemCount;
-            this.orderAmountForSeller = orderAmountForSeller;
-        }
-    }
 }
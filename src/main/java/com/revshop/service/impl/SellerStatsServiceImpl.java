@@ -0,0 +1,269 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
+import com.revshop.entity.SellerStats;
+import com.revshop.entity.User;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.DataVersionService;
+import com.revshop.service.SalesRollupService;
+import com.revshop.service.SellerStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the seller_stats read model behind the seller dashboard. Order counters move by deltas
+ * applied in a short transaction of their own once the order change commits, so checkouts never
+ * hold a seller's row lock. Each delta carries the reconciled_at the order transaction read and
+ * lands only if no recount has happened since; a delta that fails or misses marks the seller for
+ * recompute instead. Product counters are recounted for sellers whose products changed, and a
+ * nightly pass recomputes every row.
+ * The dashboard stamp moves when the transaction that rewrote the row commits, never before it.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class SellerStatsServiceImpl implements SellerStatsService {
+
+    private final SellerStatsDAO sellerStatsDAO;
+    private final OrderItemDAO orderItemDAO;
+    private final ProductDAO productDAO;
+    private final UserDAO userDAO;
+    private final TransactionTemplate transactionTemplate;
+    private final DataVersionService dataVersionService;
+    private final SalesRollupService salesRollupService;
+
+    @Value("${app.seller-stats.low-stock-threshold:5}")
+    private int lowStockThreshold = 5;
+
+    private final Set<Long> staleSellers = ConcurrentHashMap.newKeySet();
+    private final Set<Long> staleProductCounts = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public int getLowStockThreshold() {
+        return lowStockThreshold;
+    }
+
+    @Override
+    public void recordTransition(Order order, OrderStatus from, OrderStatus to) {
+        if (from != to) {
+            recordTransition(orderItemDAO.findByOrderId(order.getId()), from, to);
+        }
+    }
+
+    @Override
+    public void recordTransition(List<OrderItem> orderItems, OrderStatus from, OrderStatus to) {
+        if (orderItems.isEmpty() || from == to) {
+            return;
+        }
+        if (!affectsCounters(from, to)) {
+            // Recent orders show the status, so the tag still moves once this transaction commits.
+            dataVersionService.bumpSellerDashboards(orderItems.stream()
+                    .map(item -> item.getSeller().getId())
+                    .collect(Collectors.toSet()));
+            return;
+        }
+        int orderDelta = from == null ? 1 : 0;
+        int pendingDelta = (to.isPending() ? 1 : 0) - (from != null && from.isPending() ? 1 : 0);
+        int saleDelta = (to.countsAsSale() ? 1 : 0) - (from != null && from.countsAsSale() ? 1 : 0);
+
+        // Ascending seller ids keep the row lock order identical across concurrent transactions.
+        Map<Long, SellerDelta> deltas = new TreeMap<>();
+        for (OrderItem item : orderItems) {
+            SellerDelta delta = deltas.computeIfAbsent(item.getSeller().getId(), ignored -> new SellerDelta());
+            delta.orderIds.add(item.getOrder().getId());
+            delta.units += item.getQuantity();
+            delta.revenue = delta.revenue.add(item.getLineTotal());
+        }
+        // Read before this transaction commits: a recount that committed earlier cannot have counted this order.
+        sellerStatsDAO.findReconciledAtBySellerIds(new ArrayList<>(deltas.keySet()))
+                .forEach(row -> deltas.get((Long) row[0]).reconciledAt = (LocalDateTime) row[1]);
+        TransactionCallbacks.afterCommit(() -> applyOrderDeltas(deltas, orderDelta, pendingDelta, saleDelta));
+        salesRollupService.applySaleDelta(orderItems, saleDelta);
+    }
+
+    @Override
+    public void requestRecompute(Long sellerId) {
+        staleSellers.add(sellerId);
+    }
+
+    @EventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getChangeType() == ProductChangeType.IMAGES_CHANGED
+                || event.getChangeType() == ProductChangeType.THRESHOLD_CHANGED) {
+            return;
+        }
+        User seller = event.getProduct().getSeller();
+        if (seller == null || seller.getId() == null) {
+            return;
+        }
+        Long sellerId = seller.getId();
+        TransactionCallbacks.afterCommit(() -> staleProductCounts.add(sellerId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.seller-stats.refresh-ms:2000}")
+    public void refreshStale() {
+        for (Long sellerId : drain(staleSellers)) {
+            staleProductCounts.remove(sellerId);
+            recomputeQuietly(sellerId, true);
+        }
+        for (Long sellerId : drain(staleProductCounts)) {
+            recomputeQuietly(sellerId, false);
+        }
+    }
+
+    @Scheduled(cron = "${app.seller-stats.reconcile-cron:0 30 2 * * *}")
+    public void reconcileOnSchedule() {
+        reconcile();
+    }
+
+    @Override
+    public int reconcile() {
+        List<Long> sellerIds = transactionTemplate.execute(status -> sellerStatsDAO.findSellerIds());
+        int drifted = 0;
+        for (Long sellerId : Objects.requireNonNull(sellerIds)) {
+            if (recomputeQuietly(sellerId, true)) {
+                drifted++;
+            }
+        }
+        log.info("Seller stats reconciled for {} sellers; {} had drifted", sellerIds.size(), drifted);
+        return drifted;
+    }
+
+    private boolean recomputeQuietly(Long sellerId, boolean includeOrders) {
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> recompute(sellerId, includeOrders)));
+        } catch (RuntimeException ex) {
+            log.warn("Seller stats recompute failed for seller {}; retrying on the next pass", sellerId, ex);
+            (includeOrders ? staleSellers : staleProductCounts).add(sellerId);
+            return false;
+        }
+    }
+
+    // Moving reconciled_at turns away every delta read against the previous count; those sellers are recounted again.
+    private boolean recompute(Long sellerId, boolean includeOrders) {
+        User seller = userDAO.findById(sellerId).orElse(null);
+        if (seller == null) {
+            return false;
+        }
+        SellerStats stats = sellerStatsDAO.findByIdForUpdate(sellerId).orElse(null);
+        boolean created = stats == null;
+        if (created) {
+            stats = SellerStats.builder().sellerId(sellerId).build();
+        }
+        String email = seller.getEmail();
+        LocalDateTime now = LocalDateTime.now();
+        stats.setTotalProducts(productDAO.countBySellerEmail(email));
+        stats.setActiveProducts(productDAO.countActiveBySellerEmail(email));
+        stats.setLowStockProducts(productDAO.countLowStockBySellerEmail(email, lowStockThreshold));
+        stats.setUpdatedAt(now);
+
+        boolean drifted = false;
+        if (includeOrders || created) {
+            long totalOrders = orderItemDAO.countDistinctOrdersBySellerEmail(email);
+            long pendingOrders = orderItemDAO.countDistinctPendingOrdersBySellerEmail(email);
+            long unitsSold = orderItemDAO.sumQuantityBySellerEmail(email);
+            BigDecimal grossRevenue = orderItemDAO.sumRevenueBySellerEmail(email);
+            drifted = !created && (stats.getTotalOrders() != totalOrders
+                    || stats.getPendingOrders() != pendingOrders
+                    || stats.getUnitsSold() != unitsSold
+                    || stats.getGrossRevenue().compareTo(grossRevenue) != 0);
+            if (drifted) {
+                log.warn("Seller {} stats drifted: orders {}->{}, pending {}->{}, units {}->{}, revenue {}->{}",
+                        sellerId,
+                        stats.getTotalOrders(), totalOrders,
+                        stats.getPendingOrders(), pendingOrders,
+                        stats.getUnitsSold(), unitsSold,
+                        stats.getGrossRevenue(), grossRevenue);
+            }
+            stats.setTotalOrders(totalOrders);
+            stats.setPendingOrders(pendingOrders);
+            stats.setUnitsSold(unitsSold);
+            stats.setGrossRevenue(grossRevenue);
+            stats.setReconciledAt(now);
+        }
+        sellerStatsDAO.save(stats);
+        dataVersionService.bumpSellerDashboards(List.of(sellerId));
+        return drifted;
+    }
+
+    private void applyOrderDeltas(Map<Long, SellerDelta> deltas, int orderDelta, int pendingDelta, int saleDelta) {
+        try {
+            Set<Long> withoutRow = requiresNew().execute(status -> {
+                Set<Long> missing = new HashSet<>();
+                Set<Long> applied = new HashSet<>();
+                deltas.forEach((sellerId, delta) -> {
+                    int updated = sellerStatsDAO.applyOrderDelta(
+                            sellerId,
+                            delta.reconciledAt,
+                            (long) orderDelta * delta.orderIds.size(),
+                            (long) pendingDelta * delta.orderIds.size(),
+                            saleDelta * delta.units,
+                            delta.revenue.multiply(BigDecimal.valueOf(saleDelta))
+                    );
+                    (updated == 0 ? missing : applied).add(sellerId);
+                });
+                dataVersionService.bumpSellerDashboards(applied);
+                return missing;
+            });
+            // No row yet, or one recounted since the order read it; the recompute counts the orders now committed.
+            staleSellers.addAll(Objects.requireNonNull(withoutRow));
+        } catch (RuntimeException ex) {
+            log.warn("Seller stats delta failed for sellers {}; recomputing them instead", deltas.keySet(), ex);
+            staleSellers.addAll(deltas.keySet());
+        }
+    }
+
+    // After commit the finished transaction's resources are still bound, so joining it would write nothing.
+    private TransactionTemplate requiresNew() {
+        TransactionTemplate template = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private boolean affectsCounters(OrderStatus from, OrderStatus to) {
+        return from == null || from.isPending() != to.isPending() || from.countsAsSale() != to.countsAsSale();
+    }
+
+    private List<Long> drain(Set<Long> sellerIds) {
+        List<Long> drained = new ArrayList<>();
+        for (Long sellerId : new HashSet<>(sellerIds)) {
+            if (sellerIds.remove(sellerId)) {
+                drained.add(sellerId);
+            }
+        }
+        return drained;
+    }
+
+    private static final class SellerDelta {
+
+        private final Set<Long> orderIds = new HashSet<>();
+        private long units;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private LocalDateTime reconciledAt;
+    }
+}
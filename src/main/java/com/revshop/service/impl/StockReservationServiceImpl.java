@@ -0,0 +1,394 @@
+package com.revshop.service.impl;
+
+import lombok.extern.log4j.Log4j2;
+import com.revshop.dao.PendingStockDeltaDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.admin.HotSkuStatusResponse;
+import com.revshop.entity.PendingStockDelta;
+import com.revshop.entity.Product;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.StockReservationService;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Holds stock for flagged flash-sale products in memory. Checkouts reserve against striped
+ * counters instead of the products row; each order writes its quantity to pending_stock_deltas,
+ * and the flush applies those rows to products.stock in one batch. A restart reseeds every
+ * ledger from products.stock less the rows still pending, and the reconcile pass treats the
+ * database as truth. A sale products.stock keeps rejecting is handed to reconcile to write off.
+ */
+@Service
+@RequiredArgsConstructor
+@Log4j2
+public class StockReservationServiceImpl implements StockReservationService {
+
+    private static final int MAX_REJECTED_FLUSHES = 3;
+
+    private final ProductDAO productDAO;
+    private final PendingStockDeltaDAO pendingStockDeltaDAO;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.inventory.hot-sku.product-ids:}")
+    private List<Long> hotProductIds = List.of();
+    @Value("${app.inventory.hot-sku.stripes:8}")
+    private int stripeCount = 8;
+
+    private final Map<Long, Ledger> ledgers = new ConcurrentHashMap<>();
+    private final Set<Long> writeOffs = ConcurrentHashMap.newKeySet();
+    // Rows left by the previous process may belong to products that are no longer hot.
+    private volatile boolean sweepPending = true;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void load() {
+        if (hotProductIds.isEmpty()) {
+            return;
+        }
+        Map<Long, Integer> stock = new HashMap<>();
+        Map<Long, Long> pending = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status -> {
+            productDAO.findAllByIds(hotProductIds).forEach(product -> stock.put(product.getId(), product.getStock()));
+            pendingStockDeltaDAO.findAll().forEach(delta ->
+                    pending.merge(delta.getProductId(), (long) delta.getQuantity(), Long::sum));
+        });
+        stock.forEach((productId, productStock) -> {
+            long unflushed = pending.getOrDefault(productId, 0L);
+            Ledger ledger = new Ledger(new StripedStockCounter(stripeCount, Math.max(0, productStock - unflushed)));
+            ledger.unflushed.add(unflushed);
+            ledgers.put(productId, ledger);
+        });
+        log.info("Hot SKU ledger seeded for products {} with {} pending deltas", ledgers.keySet(), pending);
+    }
+
+    @Override
+    public boolean isHot(Long productId) {
+        return ledgers.containsKey(productId);
+    }
+
+    @Override
+    public long available(Long productId) {
+        Ledger ledger = ledgers.get(productId);
+        return ledger == null ? 0 : ledger.counter.available();
+    }
+
+    @Override
+    public Set<Long> reserve(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return Set.of();
+        }
+        Map<Ledger, Integer> taken = new HashMap<>();
+        for (Map.Entry<Long, Integer> entry : quantities.entrySet()) {
+            Ledger ledger = ledgers.get(entry.getKey());
+            int quantity = entry.getValue();
+            // Every move between counters raises the ledger total first, so reconcile never sees phantom stock.
+            if (ledger != null) {
+                ledger.reserved.add(quantity);
+            }
+            if (ledger == null || !ledger.counter.tryTake(quantity)) {
+                if (ledger != null) {
+                    ledger.reserved.add(-quantity);
+                }
+                taken.forEach((heldLedger, heldQuantity) -> {
+                    heldLedger.counter.put(heldQuantity);
+                    heldLedger.reserved.add(-heldQuantity);
+                });
+                return Set.of(entry.getKey());
+            }
+            taken.put(ledger, quantity);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        quantities.forEach((productId, quantity) -> saveDelta(productId, quantity, now));
+
+        TransactionCallbacks.afterCompletion(committed -> taken.forEach((ledger, quantity) -> {
+            if (committed) {
+                ledger.unflushed.add(quantity);
+            } else {
+                ledger.counter.put(quantity);
+            }
+            ledger.reserved.add(-quantity);
+        }));
+        return Set.of();
+    }
+
+    @Override
+    public void restock(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        quantities.forEach((productId, quantity) -> saveDelta(productId, -quantity, now));
+        TransactionCallbacks.afterCommit(() -> quantities.forEach((productId, quantity) -> {
+            Ledger ledger = ledgers.get(productId);
+            if (ledger == null) {
+                log.warn("Hot SKU {} was dropped; its {} restocked units reach products.stock with the next flush",
+                        productId, quantity);
+                return;
+            }
+            ledger.counter.put(quantity);
+            ledger.unflushed.add(-quantity);
+        }));
+    }
+
+    @Override
+    @PreDestroy
+    @Scheduled(fixedDelayString = "${app.inventory.hot-sku.flush-ms:1000}")
+    public synchronized void flush() {
+        if (!sweepPending && ledgers.entrySet().stream()
+                .noneMatch(entry -> entry.getValue().unflushed.sum() != 0 && !writeOffs.contains(entry.getKey()))) {
+            return;
+        }
+
+        Map<Long, Long> applied = new HashMap<>();
+        Set<Long> rejected = new HashSet<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Map<Long, List<PendingStockDelta>> pending = pendingDeltas();
+                pending.keySet().removeAll(writeOffs);
+                Map<Long, Integer> sold = new HashMap<>();
+                Map<Long, Integer> restocked = new HashMap<>();
+                pending.forEach((productId, deltas) -> {
+                    int delta = deltas.stream().mapToInt(PendingStockDelta::getQuantity).sum();
+                    if (delta > 0) {
+                        sold.put(productId, delta);
+                    } else if (delta < 0) {
+                        restocked.put(productId, -delta);
+                    }
+                });
+                rejected.addAll(productDAO.decrementStock(sold));
+                productDAO.incrementStock(restocked);
+                Map<Long, Integer> flushed = new HashMap<>(sold);
+                flushed.keySet().removeAll(rejected);
+                pending.keySet().removeAll(rejected);
+                pendingStockDeltaDAO.deleteByIds(pending.values()
+                        .stream()
+                        .flatMap(List::stream)
+                        .map(PendingStockDelta::getId)
+                        .toList());
+                publishFlushed(flushed, restocked);
+                flushed.forEach((productId, quantity) -> applied.put(productId, (long) quantity));
+                restocked.forEach((productId, quantity) -> applied.put(productId, (long) -quantity));
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Hot SKU flush failed; pending deltas stay for the next pass", ex);
+            return;
+        }
+        sweepPending = false;
+
+        applied.forEach((productId, delta) -> {
+            Ledger ledger = ledgers.get(productId);
+            if (ledger != null) {
+                ledger.unflushed.add(-delta);
+                ledger.rejectedFlushes = 0;
+            }
+        });
+        // The sale already happened; the rows stay so a later flush, or reconcile, still counts it.
+        for (Long productId : rejected) {
+            Ledger ledger = ledgers.get(productId);
+            int attempts = ledger == null ? MAX_REJECTED_FLUSHES : ++ledger.rejectedFlushes;
+            if (attempts < MAX_REJECTED_FLUSHES) {
+                log.warn("Hot SKU {} sold more than products.stock holds; retrying ({} of {})",
+                        productId, attempts, MAX_REJECTED_FLUSHES);
+            } else {
+                writeOffs.add(productId);
+                log.error("Hot SKU {} sold more than products.stock holds after {} flushes; leaving it to reconcile",
+                        productId, attempts);
+            }
+        }
+    }
+
+    @Scheduled(
+            fixedDelayString = "${app.inventory.hot-sku.reconcile-ms:60000}",
+            initialDelayString = "${app.inventory.hot-sku.reconcile-ms:60000}"
+    )
+    public void reconcileOnSchedule() {
+        reconcile();
+    }
+
+    @Override
+    public synchronized List<HotSkuStatusResponse> reconcile() {
+        flush();
+        writeOffs.forEach(this::writeOff);
+        if (ledgers.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Long> before = ledgerTotals();
+        Map<Long, Integer> stock = readStock(new ArrayList<>(ledgers.keySet()));
+        Map<Long, Long> after = ledgerTotals();
+        LocalDateTime now = LocalDateTime.now();
+
+        ledgers.forEach((productId, ledger) -> {
+            Integer databaseStock = stock.get(productId);
+            if (databaseStock == null) {
+                ledgers.remove(productId);
+                log.warn("Hot SKU {} no longer exists; ledger dropped", productId);
+                return;
+            }
+            if (!before.get(productId).equals(after.get(productId))) {
+                return;
+            }
+            long drift = databaseStock - after.get(productId);
+            if (drift > 0) {
+                ledger.counter.put(drift);
+            } else if (drift < 0) {
+                ledger.counter.drain(-drift);
+            }
+            if (drift != 0) {
+                log.warn("Hot SKU {} drifted {} units from products.stock; ledger corrected", productId, drift);
+            }
+            ledger.lastDrift = drift;
+            ledger.totalDrift += Math.abs(drift);
+            ledger.lastReconciledAt = now;
+        });
+        return getStatus();
+    }
+
+    @Override
+    public List<HotSkuStatusResponse> getStatus() {
+        return ledgers.entrySet()
+                .stream()
+                .sorted(Map.Entry.comparingByKey())
+                .map(entry -> HotSkuStatusResponse.builder()
+                        .productId(entry.getKey())
+                        .available(entry.getValue().counter.available())
+                        .reserved(entry.getValue().reserved.sum())
+                        .unflushed(entry.getValue().unflushed.sum())
+                        .lastDrift(entry.getValue().lastDrift)
+                        .totalDrift(entry.getValue().totalDrift)
+                        .lastReconciledAt(entry.getValue().lastReconciledAt)
+                        .build())
+                .toList();
+    }
+
+    // Applies what products.stock still covers and drops the rest, so the oversold rows stop blocking the flush.
+    private void writeOff(Long productId) {
+        long[] outcome = new long[2];
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<PendingStockDelta> deltas = pendingStockDeltaDAO.findByProductId(productId);
+                int sold = deltas.stream().mapToInt(PendingStockDelta::getQuantity).sum();
+                if (sold <= 0) {
+                    // A restock has since covered the sale; the next flush applies the rows as they are.
+                    return;
+                }
+                int stock = productDAO.findAllByIds(List.of(productId))
+                        .stream()
+                        .mapToInt(Product::getStock)
+                        .findFirst()
+                        .orElse(0);
+                int applied = Math.max(0, Math.min(stock, sold));
+                if (applied > 0 && !productDAO.decrementStock(Map.of(productId, applied)).isEmpty()) {
+                    throw new IllegalStateException("products.stock moved during the write-off");
+                }
+                pendingStockDeltaDAO.deleteByIds(deltas.stream().map(PendingStockDelta::getId).toList());
+                if (applied > 0) {
+                    publishFlushed(Map.of(productId, applied), Map.of());
+                }
+                outcome[0] = sold;
+                outcome[1] = applied;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Hot SKU {} write-off failed; retrying on the next reconcile", productId, ex);
+            return;
+        }
+        writeOffs.remove(productId);
+        Ledger ledger = ledgers.get(productId);
+        if (ledger != null) {
+            ledger.unflushed.add(-outcome[0]);
+            ledger.rejectedFlushes = 0;
+        }
+        if (outcome[0] > outcome[1]) {
+            log.error("Hot SKU {} wrote off {} of {} pending units that products.stock could not cover",
+                    productId, outcome[0] - outcome[1], outcome[0]);
+        }
+    }
+
+    private Map<Long, Long> ledgerTotals() {
+        Map<Long, Long> totals = new HashMap<>();
+        ledgers.forEach((productId, ledger) -> totals.put(productId, ledger.total()));
+        return totals;
+    }
+
+    private Map<Long, Integer> readStock(List<Long> productIds) {
+        Map<Long, Integer> stock = new HashMap<>();
+        transactionTemplate.executeWithoutResult(status ->
+                productDAO.findAllByIds(productIds).forEach(product -> stock.put(product.getId(), product.getStock())));
+        return stock;
+    }
+
+    private Map<Long, List<PendingStockDelta>> pendingDeltas() {
+        Map<Long, List<PendingStockDelta>> pending = new HashMap<>();
+        pendingStockDeltaDAO.findAll().forEach(delta ->
+                pending.computeIfAbsent(delta.getProductId(), productId -> new ArrayList<>()).add(delta));
+        return pending;
+    }
+
+    private void saveDelta(Long productId, int quantity, LocalDateTime now) {
+        pendingStockDeltaDAO.save(PendingStockDelta.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .createdAt(now)
+                .build());
+    }
+
+    private void publishFlushed(Map<Long, Integer> sold, Map<Long, Integer> restocked) {
+        List<Long> productIds = new ArrayList<>(sold.keySet());
+        productIds.addAll(restocked.keySet());
+        if (productIds.isEmpty()) {
+            return;
+        }
+        List<Product> products = new ArrayList<>(productDAO.findAllByIds(productIds));
+        products.sort(Comparator.comparing(Product::getId));
+        productDAO.refreshStock(products);
+        for (Product product : products) {
+            int previousStock = product.getStock()
+                    + sold.getOrDefault(product.getId(), 0)
+                    - restocked.getOrDefault(product.getId(), 0);
+            ProductChangeType changeType = (previousStock > 0) == (product.getStock() > 0)
+                    ? ProductChangeType.STOCK_CHANGED
+                    : ProductChangeType.AVAILABILITY_CHANGED;
+            eventPublisher.publishEvent(new ProductChangedEvent(product, changeType));
+        }
+    }
+
+    private static final class Ledger {
+
+        private final StripedStockCounter counter;
+        private final LongAdder reserved = new LongAdder();
+        private final LongAdder unflushed = new LongAdder();
+        private volatile long lastDrift;
+        private volatile long totalDrift;
+        private volatile LocalDateTime lastReconciledAt;
+        private int rejectedFlushes;
+
+        private Ledger(StripedStockCounter counter) {
+            this.counter = counter;
+        }
+
+        // Units the database should still show: free stock plus anything held or sold but not yet flushed.
+        private long total() {
+            return counter.available() + reserved.sum() + unflushed.sum();
+        }
+    }
+}
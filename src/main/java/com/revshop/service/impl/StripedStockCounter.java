@@ -0,0 +1,67 @@
+package com.revshop.service.impl;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Available units for one product, split over independent CAS cells so concurrent checkouts
+ * rarely touch the same cell. A take that no single cell can cover falls back to a locked pass
+ * that pools every cell first, which keeps the total exact without ever going below zero.
+ */
+final class StripedStockCounter {
+
+    private final AtomicLongArray stripes;
+
+    StripedStockCounter(int stripeCount, long initial) {
+        stripes = new AtomicLongArray(Math.max(1, stripeCount));
+        long share = initial / stripes.length();
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.set(i, share);
+        }
+        stripes.addAndGet(0, initial - share * stripes.length());
+    }
+
+    boolean tryTake(long quantity) {
+        int home = homeStripe();
+        for (int offset = 0; offset < stripes.length(); offset++) {
+            int index = (home + offset) % stripes.length();
+            long current = stripes.get(index);
+            while (current >= quantity) {
+                if (stripes.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+                current = stripes.get(index);
+            }
+        }
+        return takePooled(quantity, false) == quantity;
+    }
+
+    void put(long quantity) {
+        stripes.addAndGet(homeStripe(), quantity);
+    }
+
+    long drain(long quantity) {
+        return takePooled(quantity, true);
+    }
+
+    long available() {
+        long total = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            total += stripes.get(i);
+        }
+        return total;
+    }
+
+    private synchronized long takePooled(long quantity, boolean partial) {
+        long pooled = 0;
+        for (int i = 0; i < stripes.length(); i++) {
+            pooled += stripes.getAndSet(i, 0);
+        }
+        long taken = pooled >= quantity ? quantity : (partial ? pooled : 0);
+        stripes.addAndGet(0, pooled - taken);
+        return taken;
+    }
+
+    private int homeStripe() {
+        return (int) (Thread.currentThread().threadId() % stripes.length());
+    }
+}
@@ -0,0 +1,43 @@
+-- Moves the pooled id generators onto sequences that step by revshop.id.allocation-size.
+-- Run once against the application schema with every instance stopped, before starting a release
+-- that uses pooled ids: an instance still running takes ids from its old block, and products
+-- inserts fail while the identity column is being dropped. Safe to run again.
+DECLARE
+    c_increment CONSTANT PLS_INTEGER := 50;
+
+    PROCEDURE align_sequence(p_table VARCHAR2, p_sequence VARCHAR2) IS
+        v_max_id NUMBER;
+        v_last_number NUMBER := 0;
+    BEGIN
+        EXECUTE IMMEDIATE 'SELECT NVL(MAX(id), 0) FROM ' || p_table INTO v_max_id;
+        BEGIN
+            SELECT last_number INTO v_last_number FROM user_sequences WHERE sequence_name = UPPER(p_sequence);
+            EXECUTE IMMEDIATE 'DROP SEQUENCE ' || p_sequence;
+        EXCEPTION
+            WHEN NO_DATA_FOUND THEN
+                NULL;
+        END;
+        -- The pooled optimizer hands out (value - increment, value], so the first value clears MAX(id)
+        -- by a full block and never steps back behind anything the old sequence may have handed out.
+        EXECUTE IMMEDIATE 'CREATE SEQUENCE ' || p_sequence
+                || ' START WITH ' || GREATEST(v_max_id + c_increment, v_last_number + c_increment)
+                || ' INCREMENT BY ' || c_increment;
+    END;
+BEGIN
+    FOR identity_column IN (
+        SELECT 1
+        FROM user_tab_identity_cols
+        WHERE table_name = 'PRODUCTS'
+          AND column_name = 'ID'
+    ) LOOP
+        EXECUTE IMMEDIATE 'ALTER TABLE products MODIFY id DROP IDENTITY';
+    END LOOP;
+
+    align_sequence('users', 'user_seq');
+    align_sequence('products', 'product_seq');
+    align_sequence('orders', 'order_seq');
+    align_sequence('order_items', 'order_item_seq');
+    align_sequence('payments', 'payment_seq');
+    align_sequence('notifications', 'notification_seq');
+END;
+/
@@ -144,9 +144,14 @@ window.RevShopApp = (() => {
         const response = await fetch(`${API_BASE}${path}`, {
             method,
             headers,
+            cache: options.cache || "default",
             body: body == null ? null : (isFormData ? body : JSON.stringify(body))
         });
 
+        if (response.status === 304) {
+            return { success: true, notModified: true, headers: response.headers };
+        }
+
         let payload = null;
         const text = await response.text();
         if (text) {
@@ -169,6 +174,7 @@ window.RevShopApp = (() => {
             throw error;
         }
 
+        payload.headers = response.headers;
         return payload;
     }
 
@@ -177,6 +183,25 @@ window.RevShopApp = (() => {
         return payload.data;
     }
 
+    const conditionalResponses = new Map();
+
+    // Revalidates with the last ETag for this path and reuses the cached body on 304 Not Modified.
+    async function apiConditional(path) {
+        const cached = conditionalResponses.get(path);
+        const payload = await apiRaw(path, {
+            cache: "no-store",
+            headers: cached ? { "If-None-Match": cached.etag } : {}
+        });
+        if (payload.notModified && cached) {
+            return cached.data;
+        }
+        const etag = payload.headers ? payload.headers.get("ETag") : null;
+        if (etag) {
+            conditionalResponses.set(path, { etag, data: payload.data });
+        }
+        return payload.data;
+    }
+
     function formatCurrency(value) {
         if (value == null || Number.isNaN(Number(value))) return currencyFormatter.format(0);
         return currencyFormatter.format(Number(value));
@@ -525,6 +550,7 @@ window.RevShopApp = (() => {
     return {
         applyTheme,
         api,
+        apiConditional,
         apiRaw,
         clearSession,
         decodeJwtPayload,
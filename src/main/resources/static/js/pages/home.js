@@ -17,10 +17,12 @@ document.addEventListener("DOMContentLoaded", () => {
 
     const searchForm = document.getElementById("searchForm");
     const keywordInput = document.getElementById("keywordInput");
+    const keywordSuggestions = document.getElementById("keywordSuggestions");
     const categorySelect = document.getElementById("categorySelect");
     const minPriceInput = document.getElementById("minPriceInput");
     const maxPriceInput = document.getElementById("maxPriceInput");
     const stockSelect = document.getElementById("stockSelect");
+    const priceFacets = document.getElementById("priceFacets");
     const clearFiltersBtn = document.getElementById("clearFiltersBtn");
 
     const productGrid = document.getElementById("productGrid");
@@ -42,6 +44,7 @@ document.addEventListener("DOMContentLoaded", () => {
                 const option = document.createElement("option");
                 option.value = String(category.id);
                 option.textContent = category.name;
+                option.dataset.label = category.name;
                 categorySelect.appendChild(option);
             });
         } catch (error) {
@@ -66,9 +69,52 @@ document.addEventListener("DOMContentLoaded", () => {
         params.set("size", String(state.size));
         params.set("sortBy", "createdAt");
         params.set("sortDir", "desc");
+        params.set("count", "estimated");
+        params.set("facets", "true");
         return params.toString();
     }
 
+    function facetCounts(facets, name) {
+        const counts = new Map();
+        ((facets && facets[name]) || []).forEach((facet) => counts.set(facet.value, facet.count));
+        return counts;
+    }
+
+    function renderFacets(facets) {
+        const categoryCounts = facetCounts(facets, "categoryId");
+        Array.from(categorySelect.options).forEach((option) => {
+            if (!option.value) return;
+            const label = option.dataset.label || option.textContent;
+            option.textContent = `${label} (${categoryCounts.get(option.value) ?? 0})`;
+        });
+
+        const stockCounts = facetCounts(facets, "inStock");
+        Array.from(stockSelect.options).forEach((option) => {
+            if (!option.value) return;
+            option.dataset.label = option.dataset.label || option.textContent;
+            option.textContent = `${option.dataset.label} (${stockCounts.get(option.value) ?? 0})`;
+        });
+
+        priceFacets.innerHTML = ((facets && facets.price) || []).map((facet) => {
+            const [min, max] = facet.value.split("-");
+            const label = max ? `${app.formatCurrency(min)} - ${app.formatCurrency(max)}` : `${app.formatCurrency(min)}+`;
+            return `
+                <button type="button" class="btn btn-sm btn-outline-secondary price-facet-btn" data-min="${min}" data-max="${max}">
+                    ${app.escapeHtml(label)} (${facet.count})
+                </button>
+            `;
+        }).join("");
+
+        priceFacets.querySelectorAll(".price-facet-btn").forEach((btn) => {
+            btn.addEventListener("click", () => {
+                minPriceInput.value = btn.dataset.min === "0" ? "" : btn.dataset.min;
+                maxPriceInput.value = btn.dataset.max ? (Number(btn.dataset.max) - 0.01).toFixed(2) : "";
+                state.page = 0;
+                loadProducts();
+            });
+        });
+    }
+
     function buildStars(rating) {
         const value = Number.isFinite(Number(rating)) ? Number(rating) : 0;
         const safe = Math.max(0, Math.min(5, Math.round(value)));
@@ -224,7 +270,9 @@ document.addEventListener("DOMContentLoaded", () => {
             const reviewInsights = await fetchReviewInsights(products);
             renderProducts(products, reviewInsights);
             renderPagination(result);
-            catalogMeta.textContent = `${result.totalElements ?? 0} products found`;
+            renderFacets(result.facets);
+            const approx = result.countMode === "ESTIMATED" ? "~" : "";
+            catalogMeta.textContent = `${approx}${result.totalElements ?? 0} products found`;
         } catch (error) {
             productGrid.innerHTML = "";
             emptyCatalog.classList.remove("d-none");
@@ -266,6 +314,32 @@ document.addEventListener("DOMContentLoaded", () => {
         }
     }
 
+    let suggestTimer = null;
+    let suggestSequence = 0;
+
+    async function loadSuggestions() {
+        const prefix = keywordInput.value.trim();
+        const sequence = ++suggestSequence;
+        if (prefix.length < 2) {
+            keywordSuggestions.innerHTML = "";
+            return;
+        }
+        try {
+            const suggestions = await app.api(`/products/suggest?q=${encodeURIComponent(prefix)}&limit=8`);
+            if (sequence !== suggestSequence) return;
+            keywordSuggestions.innerHTML = (suggestions || [])
+                .map((suggestion) => `<option value="${app.escapeHtml(suggestion.text)}"></option>`)
+                .join("");
+        } catch (error) {
+            keywordSuggestions.innerHTML = "";
+        }
+    }
+
+    keywordInput.addEventListener("input", () => {
+        clearTimeout(suggestTimer);
+        suggestTimer = setTimeout(loadSuggestions, 150);
+    });
+
     searchForm.addEventListener("submit", (event) => {
         event.preventDefault();
         state.page = 0;
@@ -125,6 +125,29 @@ document.addEventListener("DOMContentLoaded", async () => {
     const DASHBOARD_REFRESH_MS = 15000;
     let refreshInFlight = false;
     let initialLoadDone = false;
+    const unreadAlerts = new Map();
+    let alertsVersion = null;
+
+    // After the first full load only notifications changed since the last data version are fetched.
+    async function loadUnreadAlerts() {
+        const path = alertsVersion == null
+            ? "/notifications/my?unreadOnly=true"
+            : `/notifications/my?since=${encodeURIComponent(alertsVersion)}`;
+        const payload = await app.apiRaw(path, { cache: "no-store" });
+        if (alertsVersion == null) {
+            unreadAlerts.clear();
+        }
+        (payload.data || []).forEach((item) => {
+            if (item.isRead) {
+                unreadAlerts.delete(item.notificationId);
+            } else {
+                unreadAlerts.set(item.notificationId, item);
+            }
+        });
+        alertsVersion = payload.headers ? payload.headers.get("X-Data-Version") : null;
+        return Array.from(unreadAlerts.values())
+            .sort((left, right) => String(right.createdAt).localeCompare(String(left.createdAt)));
+    }
 
     async function loadDashboard({ silent = false } = {}) {
         if (refreshInFlight) {
@@ -132,13 +155,12 @@ document.addEventListener("DOMContentLoaded", async () => {
         }
 
         refreshInFlight = true;
-        const cacheBust = `_=${Date.now()}`;
 
         try {
             const [data, unread, alerts] = await Promise.all([
-                app.api(`/seller/dashboard?recentLimit=8&topLimit=8&lowStockThreshold=5&${cacheBust}`),
-                app.api(`/notifications/my/unread-count?${cacheBust}`),
-                app.api(`/notifications/my?unreadOnly=true&${cacheBust}`)
+                app.apiConditional("/seller/dashboard?recentLimit=8&topLimit=8&lowStockThreshold=5"),
+                app.apiConditional("/notifications/my/unread-count"),
+                loadUnreadAlerts()
             ]);
             renderOverview(data.overview || {}, unread.unreadCount || 0);
             renderRecentOrders(data.recentOrders || []);
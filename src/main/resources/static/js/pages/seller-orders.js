@@ -12,6 +12,17 @@ document.addEventListener("DOMContentLoaded", () => {
 
     const ordersList = document.getElementById("sellerOrdersList");
     const emptyState = document.getElementById("emptySellerOrdersState");
+    const filterForm = document.getElementById("sellerOrderFilters");
+    const statusFilter = document.getElementById("statusFilter");
+    const fromDateFilter = document.getElementById("fromDateFilter");
+    const toDateFilter = document.getElementById("toDateFilter");
+    const orderNumberFilter = document.getElementById("orderNumberFilter");
+    const loadMoreBtn = document.getElementById("loadMoreOrdersBtn");
+
+    const state = {
+        size: 20,
+        nextCursor: null
+    };
 
     function statusClass(status) {
         if (!status) return "warning";
@@ -58,9 +69,11 @@ document.addEventListener("DOMContentLoaded", () => {
         return `<span class="small market-muted">No action available</span>`;
     }
 
-    function renderOrders(orders) {
-        ordersList.innerHTML = "";
-        if (!orders || orders.length === 0) {
+    function renderOrders(orders, append) {
+        if (!append) {
+            ordersList.innerHTML = "";
+        }
+        if (!append && (!orders || orders.length === 0)) {
             emptyState.classList.remove("d-none");
             return;
         }
@@ -110,10 +123,24 @@ document.addEventListener("DOMContentLoaded", () => {
         });
     }
 
-    async function loadOrders() {
+    function buildInboxQuery(cursor) {
+        const params = new URLSearchParams();
+        const orderNumber = orderNumberFilter.value.trim();
+        if (statusFilter.value) params.set("status", statusFilter.value);
+        if (fromDateFilter.value) params.set("fromDate", fromDateFilter.value);
+        if (toDateFilter.value) params.set("toDate", toDateFilter.value);
+        if (orderNumber) params.set("orderNumber", orderNumber);
+        if (cursor) params.set("cursor", cursor);
+        params.set("size", String(state.size));
+        return params.toString();
+    }
+
+    async function loadOrders(append = false) {
         try {
-            const orders = await app.api("/orders/seller");
-            renderOrders(orders);
+            const page = await app.api(`/orders/seller/inbox?${buildInboxQuery(append ? state.nextCursor : null)}`);
+            state.nextCursor = page.nextCursor;
+            renderOrders(page.content, append);
+            loadMoreBtn.classList.toggle("d-none", !page.hasNext);
         } catch (error) {
             app.showToast(error.message || "Failed to fetch seller orders", "error");
         }
@@ -138,5 +165,12 @@ document.addEventListener("DOMContentLoaded", () => {
         }
     });
 
+    filterForm.addEventListener("submit", (event) => {
+        event.preventDefault();
+        loadOrders();
+    });
+
+    loadMoreBtn.addEventListener("click", () => loadOrders(true));
+
     loadOrders();
 });
@@ -0,0 +1,183 @@
+package com.revshop.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class IdempotencyFilterTest {
+
+    private final IdempotencyStore store = new IdempotencyStore();
+    private final IdempotencyFilter filter = new IdempotencyFilter(store, JsonMapper.builder().build());
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @After
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    public void duplicateKey_replaysTheFirstResponseWithoutRunningAgain() throws Exception {
+        MockHttpServletResponse first = send("buyer@test.com", "key-1", "{\"cart\":1}", okChain());
+        MockHttpServletResponse second = send("buyer@test.com", "key-1", "{\"cart\":1}", okChain());
+
+        assertEquals(1, executions.get());
+        assertEquals(201, second.getStatus());
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+        assertEquals("true", second.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertNull(first.getHeader(IdempotencyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    public void keysAreScopedPerUser() throws Exception {
+        send("buyer@test.com", "key-1", "{}", okChain());
+        send("other@test.com", "key-1", "{}", okChain());
+
+        assertEquals(2, executions.get());
+    }
+
+    @Test
+    public void reusedKeyWithDifferentBody_isRejected() throws Exception {
+        send("buyer@test.com", "key-1", "{\"cart\":1}", okChain());
+        MockHttpServletResponse second = send("buyer@test.com", "key-1", "{\"cart\":2}", okChain());
+
+        assertEquals(1, executions.get());
+        assertEquals(422, second.getStatus());
+    }
+
+    @Test
+    public void serverError_releasesTheKeyForTheNextAttempt() throws Exception {
+        FilterChain failing = (request, response) -> {
+            executions.incrementAndGet();
+            ((jakarta.servlet.http.HttpServletResponse) response).setStatus(503);
+        };
+        send("buyer@test.com", "key-1", "{}", failing);
+        MockHttpServletResponse retry = send("buyer@test.com", "key-1", "{}", okChain());
+
+        assertEquals(2, executions.get());
+        assertEquals(201, retry.getStatus());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    public void concurrentDuplicates_waitForTheInFlightResult() throws Exception {
+        CountDownLatch inFlight = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FilterChain slow = (request, response) -> {
+            executions.incrementAndGet();
+            inFlight.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            response.setContentType("application/json");
+            response.getOutputStream().write("{\"order\":\"ORD-1\"}".getBytes(StandardCharsets.UTF_8));
+        };
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<MockHttpServletResponse> original = executor.submit(() -> send("buyer@test.com", "key-1", "{}", slow));
+            assertTrue(inFlight.await(5, TimeUnit.SECONDS));
+            List<Future<MockHttpServletResponse>> duplicates = List.of(
+                    executor.submit(() -> send("buyer@test.com", "key-1", "{}", slow)),
+                    executor.submit(() -> send("buyer@test.com", "key-1", "{}", slow))
+            );
+            Thread.sleep(100);
+            release.countDown();
+
+            assertEquals("{\"order\":\"ORD-1\"}", original.get(5, TimeUnit.SECONDS).getContentAsString());
+            for (Future<MockHttpServletResponse> duplicate : duplicates) {
+                assertEquals("{\"order\":\"ORD-1\"}", duplicate.get(5, TimeUnit.SECONDS).getContentAsString());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    public void fullStore_answersServiceUnavailableWithoutRunningTheRequest() throws Exception {
+        ReflectionTestUtils.setField(store, "maxEntries", 1);
+        store.claim("buyer@test.com", "in-flight", "f");
+
+        MockHttpServletResponse response = send("buyer@test.com", "key-1", "{}", okChain());
+
+        assertEquals(503, response.getStatus());
+        assertEquals(0, executions.get());
+    }
+
+    @Test
+    public void cachedBody_reportsAllDataReadToAReadListener() throws Exception {
+        AtomicInteger allDataRead = new AtomicInteger();
+        FilterChain asyncReader = (request, response) -> {
+            executions.incrementAndGet();
+            request.getInputStream().setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() {
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.incrementAndGet();
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                }
+            });
+        };
+
+        send("buyer@test.com", "key-1", "{}", asyncReader);
+
+        assertEquals(1, allDataRead.get());
+    }
+
+    @Test
+    public void requestsWithoutKey_areNotFiltered() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders/checkout");
+
+        assertTrue(filter.shouldNotFilter(request));
+    }
+
+    private FilterChain okChain() {
+        return (request, response) -> {
+            int run = executions.incrementAndGet();
+            ((jakarta.servlet.http.HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getOutputStream().write(("{\"run\":" + run + ",\"body\":\""
+                    + new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8).length() + "\"}")
+                    .getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private MockHttpServletResponse send(String user, String key, String body, FilterChain chain) throws Exception {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, List.of()));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/orders/checkout");
+        request.addHeader(IdempotencyFilter.HEADER, key);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+}
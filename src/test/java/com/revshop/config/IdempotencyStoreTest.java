@@ -0,0 +1,69 @@
+package com.revshop.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore();
+
+    @Before
+    public void setUp() {
+        ReflectionTestUtils.setField(store, "maxEntries", 2);
+    }
+
+    @Test
+    public void claim_evictsTheLeastRecentlyUsedCompletedKeyAtTheBound() {
+        completed("a");
+        completed("b");
+        store.claim("buyer@test.com", "a", "f");
+
+        assertTrue(store.claim("buyer@test.com", "c", "f").isOwner());
+
+        assertEquals(2, store.size());
+        assertFalse(store.claim("buyer@test.com", "a", "f").isOwner());
+        assertTrue(store.claim("buyer@test.com", "b", "f").isOwner());
+    }
+
+    @Test
+    public void claim_evictsExpiredKeysBeforeCompletedOnes() {
+        completed("kept");
+        ReflectionTestUtils.setField(store, "ttlSeconds", 0L);
+        completed("expired");
+
+        assertTrue(store.claim("buyer@test.com", "c", "f").isOwner());
+
+        assertFalse(store.claim("buyer@test.com", "kept", "f").isOwner());
+    }
+
+    @Test
+    public void claim_neverEvictsInFlightKeysAndRefusesNewOnesInstead() {
+        store.claim("buyer@test.com", "a", "f");
+        store.claim("buyer@test.com", "b", "f");
+
+        IdempotencyStore.Claim refused = store.claim("buyer@test.com", "c", "f");
+
+        assertTrue(refused.isRejected());
+        assertFalse(refused.isOwner());
+        assertEquals(2, store.size());
+        assertFalse(store.claim("buyer@test.com", "a", "f").isOwner());
+        assertFalse(store.claim("buyer@test.com", "b", "f").isRejected());
+    }
+
+    @Test
+    public void release_freesTheSlotOfAFailedOwner() {
+        store.claim("buyer@test.com", "a", "f");
+        store.release(store.claim("buyer@test.com", "b", "f"));
+
+        assertTrue(store.claim("buyer@test.com", "c", "f").isOwner());
+    }
+
+    private void completed(String key) {
+        store.complete(store.claim("buyer@test.com", key, "f"), new IdempotencyStore.StoredResponse(201, null, new byte[0]));
+    }
+}
@@ -0,0 +1,93 @@
+package com.revshop.config;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SequenceCheckConfigTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Map<String, Map<String, Object>> sequences = new HashMap<>();
+
+    @Before
+    public void setUp() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("Oracle");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(0);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT MAX("), eq(Long.class)))
+                .thenAnswer(invocation -> invocation.<String>getArgument(0).endsWith("FROM orders") ? 500L : 10L);
+        when(jdbcTemplate.queryForList(anyString(), any(Object[].class))).thenAnswer(invocation -> {
+            Map<String, Object> sequence = sequences.get(invocation.<String>getArgument(1));
+            return sequence == null ? List.of() : List.of(sequence);
+        });
+        for (String name : List.of("user_seq", "product_seq", "order_seq", "order_item_seq", "payment_seq", "notification_seq")) {
+            sequence(name, 50, 600);
+        }
+    }
+
+    @Test
+    public void verifySequences_acceptsAMigratedSchemaWithoutChangingIt() {
+        verifySequences();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    @Test
+    public void verifySequences_failsOnAnIncrementThatDiffersFromTheAllocationSize() {
+        sequence("order_seq", 1, 600);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, this::verifySequences);
+
+        assertTrue(ex.getMessage().contains("order_seq increments by 1"));
+    }
+
+    @Test
+    public void verifySequences_failsOnASequenceBehindTheTableOrAnIdentityColumn() {
+        sequence("order_seq", 50, 520);
+        sequences.remove("PAYMENT_SEQ");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), eq("PRODUCTS"), eq("ID"))).thenReturn(1);
+
+        IllegalStateException ex = assertThrows(IllegalStateException.class, this::verifySequences);
+
+        assertTrue(ex.getMessage().contains("order_seq is behind orders"));
+        assertTrue(ex.getMessage().contains("payment_seq is missing"));
+        assertTrue(ex.getMessage().contains("products.id is still an identity column"));
+    }
+
+    @Test
+    public void verifySequences_skipsDatabasesOtherThanOracle() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn("H2");
+        sequence("order_seq", 1, 0);
+
+        verifySequences();
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), any(Object[].class));
+    }
+
+    private void verifySequences() {
+        SequenceCheckConfig config = new SequenceCheckConfig(jdbcTemplate);
+        ReflectionTestUtils.setField(config, "allocationSize", 50);
+        config.verifySequences();
+    }
+
+    private void sequence(String name, long incrementBy, long lastNumber) {
+        sequences.put(name.toUpperCase(Locale.ROOT), Map.of("INCREMENT_BY", incrementBy, "LAST_NUMBER", lastNumber));
+    }
+}
@@ -1,6 +1,25 @@
 package com.revshop.controller;
 
+import com.revshop.dto.common.ApiResponse;
+import com.revshop.dto.notification.NotificationResponse;
+import com.revshop.service.NotificationService;
 import org.junit.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NotificationControllerTest {
 
@@ -8,4 +27,33 @@ public class NotificationControllerTest {
     public void unreadCount_returnsWrappedCountResponse() {
         new RemainingControllerCoverageTest().notificationController_unreadCount_returnsWrappedCountResponse();
     }
+
+    @Test
+    public void myNotifications_returnsOnlyChangesSinceTheGivenVersion() {
+        NotificationService notificationService = mock(NotificationService.class);
+        NotificationController controller = new NotificationController(notificationService);
+        Authentication authentication = authentication("buyer@test.com");
+        NotificationResponse changed = NotificationResponse.builder().notificationId(8L).isRead(true).build();
+
+        when(notificationService.getNotificationVersion("buyer@test.com")).thenReturn(1700L);
+        when(notificationService.getMyNotificationsChangedSince("buyer@test.com", 1600L)).thenReturn(List.of(changed));
+
+        ResponseEntity<ApiResponse<List<NotificationResponse>>> response =
+                controller.myNotifications(authentication, false, 1600L, getRequest());
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals("1700", response.getHeaders().getFirst("X-Data-Version"));
+        assertEquals(List.of(changed), response.getBody().getData());
+        verify(notificationService, never()).getMyNotifications(any(), anyBoolean());
+    }
+
+    private ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api"), new MockHttpServletResponse());
+    }
+
+    private Authentication authentication(String email) {
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(email);
+        return authentication;
+    }
 }
@@ -1,6 +1,24 @@
 package com.revshop.controller;
 
+import com.revshop.dto.product.ProductResponse;
+import com.revshop.service.ProductImportService;
+import com.revshop.service.ProductService;
 import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 
 public class ProductControllerTest {
 
@@ -8,4 +26,28 @@ public class ProductControllerTest {
     public void publicProducts_returnsWrappedSuccessResponse() {
         new RemainingControllerCoverageTest().productController_publicProducts_returnsWrappedSuccessResponse();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void streamPublicProducts_writesOneJsonObjectPerLine() throws Exception {
+        ProductService productService = mock(ProductService.class);
+        ProductController controller = new ProductController(productService, new ObjectMapper(), mock(ProductImportService.class));
+
+        doAnswer(invocation -> {
+            Consumer<ProductResponse> consumer = invocation.getArgument(2);
+            consumer.accept(ProductResponse.builder().id(51L).name("Laptop").build());
+            consumer.accept(ProductResponse.builder().id(52L).name("Mouse").build());
+            return null;
+        }).when(productService).streamActiveProducts(eq(null), eq(null), any(Consumer.class));
+
+        ResponseEntity<StreamingResponseBody> response = controller.streamPublicProducts();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"name\":\"Laptop\""));
+        assertTrue(lines[1].contains("\"id\":52"));
+    }
 }
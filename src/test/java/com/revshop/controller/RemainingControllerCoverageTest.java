@@ -18,6 +18,7 @@ import com.revshop.service.CartService;
 import com.revshop.service.NotificationService;
 import com.revshop.service.OrderService;
 import com.revshop.service.PaymentService;
+import com.revshop.service.ProductImportService;
 import com.revshop.service.ProductService;
 import com.revshop.service.ProfileService;
 import com.revshop.service.ReviewService;
@@ -26,7 +27,11 @@ import com.revshop.service.WishlistService;
 import org.junit.Test;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+import tools.jackson.databind.ObjectMapper;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -93,7 +98,7 @@ public class RemainingControllerCoverageTest {
 
         when(notificationService.getUnreadCount("buyer@test.com")).thenReturn(4L);
 
-        ResponseEntity<ApiResponse<UnreadCountResponse>> response = controller.unreadCount(authentication);
+        ResponseEntity<ApiResponse<UnreadCountResponse>> response = controller.unreadCount(authentication, getRequest());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
@@ -151,7 +156,7 @@ public class RemainingControllerCoverageTest {
     @Test
     public void productController_publicProducts_returnsWrappedSuccessResponse() {
         ProductService productService = mock(ProductService.class);
-        ProductController controller = new ProductController(productService);
+        ProductController controller = new ProductController(productService, new ObjectMapper(), mock(ProductImportService.class));
 
         List<ProductResponse> products = List.of(
                 ProductResponse.builder()
@@ -227,13 +232,15 @@ public class RemainingControllerCoverageTest {
                 .build();
         when(sellerDashboardService.getDashboard("seller@test.com", 5, 5, 3)).thenReturn(dashboardResponse);
 
-        ResponseEntity<ApiResponse<SellerDashboardResponse>> response = controller.dashboard(authentication, 5, 5, 3);
+        ResponseEntity<ApiResponse<SellerDashboardResponse>> response =
+                controller.dashboard(authentication, 5, 5, 3, getRequest());
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals("Seller dashboard fetched", response.getBody().getMessage());
         assertEquals(Long.valueOf(9L), response.getBody().getData().getOverview().getTotalProducts());
         verify(sellerDashboardService).getDashboard("seller@test.com", 5, 5, 3);
+        assertNotNull(response.getHeaders().getETag());
     }
 
     @Test
@@ -279,6 +286,10 @@ public class RemainingControllerCoverageTest {
         verify(wishlistService).getWishlistStatus("buyer@test.com", 91L);
     }
 
+    private ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api"), new MockHttpServletResponse());
+    }
+
     private Authentication authentication(String email) {
         Authentication authentication = mock(Authentication.class);
         when(authentication.getName()).thenReturn(email);
@@ -1,6 +1,20 @@
 package com.revshop.controller;
 
+import com.revshop.service.SellerDashboardService;
 import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class SellerDashboardControllerTest {
 
@@ -8,4 +22,31 @@ public class SellerDashboardControllerTest {
     public void dashboard_returnsWrappedSuccessResponse() {
         new RemainingControllerCoverageTest().sellerDashboardController_dashboard_returnsWrappedSuccessResponse();
     }
+
+    @Test
+    public void dashboard_answersAMatchingETagWithNotModified() {
+        SellerDashboardService sellerDashboardService = mock(SellerDashboardService.class);
+        SellerDashboardController controller = new SellerDashboardController(sellerDashboardService);
+        Authentication authentication = authentication("seller@test.com");
+        when(sellerDashboardService.getDashboardVersion("seller@test.com")).thenReturn(42L);
+
+        String etag = controller.dashboard(authentication, 5, 5, 3, getRequest()).getHeaders().getETag();
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/seller/dashboard");
+        request.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        assertNull(controller.dashboard(authentication, 5, 5, 3, new ServletWebRequest(request, servletResponse)));
+        assertEquals(HttpStatus.NOT_MODIFIED.value(), servletResponse.getStatus());
+        verify(sellerDashboardService, times(1)).getDashboard("seller@test.com", 5, 5, 3);
+    }
+
+    private ServletWebRequest getRequest() {
+        return new ServletWebRequest(new MockHttpServletRequest("GET", "/api"), new MockHttpServletResponse());
+    }
+
+    private Authentication authentication(String email) {
+        Authentication authentication = mock(Authentication.class);
+        when(authentication.getName()).thenReturn(email);
+        return authentication;
+    }
 }
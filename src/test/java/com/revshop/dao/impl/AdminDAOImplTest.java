@@ -1,6 +1,18 @@
 package com.revshop.dao.impl;
 
+import com.revshop.dto.admin.CacheStatsResponse;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 public class AdminDAOImplTest {
 
@@ -8,4 +20,30 @@ public class AdminDAOImplTest {
     public void saveUser_persistsNewEntity() {
         new RemainingDaoImplCoverageTest().adminDAOImpl_saveUser_persistsNewEntity();
     }
+
+    @Test
+    public void getQueryPlanCacheStats_reportsDistinctQueriesRatherThanCacheSize() {
+        EntityManager entityManager = mock(EntityManager.class);
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        SessionFactory sessionFactory = mock(SessionFactory.class);
+        Statistics statistics = mock(Statistics.class);
+        when(entityManager.getEntityManagerFactory()).thenReturn(entityManagerFactory);
+        when(entityManagerFactory.unwrap(SessionFactory.class)).thenReturn(sessionFactory);
+        when(sessionFactory.getStatistics()).thenReturn(statistics);
+        when(statistics.isStatisticsEnabled()).thenReturn(false);
+        when(statistics.getQueries()).thenReturn(new String[]{"select a", "select b"});
+        when(statistics.getQueryPlanCacheHitCount()).thenReturn(3L);
+        when(statistics.getQueryPlanCacheMissCount()).thenReturn(1L);
+        AdminDAOImpl dao = new AdminDAOImpl();
+        ReflectionTestUtils.setField(dao, "em", entityManager);
+        ReflectionTestUtils.setField(dao, "queryPlanCacheMaxSize", 2048);
+
+        CacheStatsResponse stats = dao.getQueryPlanCacheStats();
+
+        assertNull(stats.getSize());
+        assertEquals(Integer.valueOf(2), stats.getDistinctQueries());
+        assertEquals(2048, stats.getMaxSize());
+        assertFalse(stats.isStatisticsEnabled());
+        assertEquals(0.75, stats.getHitRatio(), 0.0001);
+    }
 }
@@ -0,0 +1,52 @@
+package com.revshop.dao.impl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.junit.Assert.assertEquals;
+
+public class DaoSupportTest {
+
+    @Test
+    public void inChunks_splitsIdsAtTheInListLimitAndConcatenatesResults() {
+        List<Long> ids = LongStream.rangeClosed(1, 2500).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        List<Long> results = DaoSupport.inChunks(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            return chunk;
+        });
+
+        assertEquals(List.of(1000, 1000, 500), chunkSizes);
+        assertEquals(ids, results);
+    }
+
+    @Test
+    public void inChunks_runsASingleQueryForShortLists() {
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        DaoSupport.inChunks(List.of(1L, 2L), chunk -> {
+            chunkSizes.add(chunk.size());
+            return List.of();
+        });
+
+        assertEquals(List.of(2), chunkSizes);
+    }
+
+    @Test
+    public void updateInChunks_sumsTheRowsUpdatedPerChunk() {
+        List<Long> ids = LongStream.rangeClosed(1, 1001).boxed().toList();
+
+        int updated = DaoSupport.updateInChunks(ids, List::size);
+
+        assertEquals(1001, updated);
+    }
+
+    @Test
+    public void containsPattern_escapesLikeWildcards() {
+        assertEquals("%50\\% off\\_now\\\\%", DaoSupport.containsPattern("50% OFF_now\\"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.revshop.dao.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.hibernate.SpringBeanContainer;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * An in-memory H2 database carrying the real entity mappings, for tests that need the SQL a DAO
+ * actually sends instead of the calls made on a mocked EntityManager. Settings that change how
+ * statements are issued mirror application.properties.
+ */
+public final class EmbeddedJpa implements AutoCloseable {
+
+    private final LocalContainerEntityManagerFactoryBean factoryBean;
+    private final EntityManagerFactory entityManagerFactory;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    private EmbeddedJpa() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000", "sa", "");
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("com.revshop.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", "create-drop",
+                "hibernate.generate_statistics", "true",
+                "hibernate.jdbc.batch_size", "50",
+                "hibernate.order_inserts", "true",
+                "hibernate.order_updates", "true",
+                "hibernate.resource.beans.container", new SpringBeanContainer(new DefaultListableBeanFactory())
+        ));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory);
+        transactionTemplate = new TransactionTemplate(new JpaTransactionManager(entityManagerFactory));
+    }
+
+    public static EmbeddedJpa start() {
+        return new EmbeddedJpa();
+    }
+
+    public EntityManagerFactory entityManagerFactory() {
+        return entityManagerFactory;
+    }
+
+    public EntityManager entityManager() {
+        return entityManager;
+    }
+
+    /**
+     * Hands the shared EntityManager to a DAO that normally receives it through @PersistenceContext.
+     */
+    public <T> T inject(T dao) {
+        ReflectionTestUtils.setField(dao, null, entityManager, EntityManager.class);
+        return dao;
+    }
+
+    public TransactionTemplate transactionTemplate() {
+        return transactionTemplate;
+    }
+
+    public Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Override
+    public void close() {
+        factoryBean.destroy();
+    }
+}
@@ -1,6 +1,20 @@
 package com.revshop.dao.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class OrderItemDAOImplTest {
 
@@ -8,4 +22,27 @@ public class OrderItemDAOImplTest {
     public void save_persistsNewEntity() {
         new RemainingDaoImplCoverageTest().orderItemDAOImpl_save_persistsNewEntity();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void findRecentOrderSummariesBySellerId_limitsOrdersBeforeAggregating() {
+        EntityManager entityManager = mock(EntityManager.class);
+        OrderItemDAOImpl dao = new OrderItemDAOImpl();
+        ReflectionTestUtils.setField(dao, "em", entityManager);
+        TypedQuery<Long> idQuery = mock(TypedQuery.class);
+        TypedQuery<Object[]> summaryQuery = mock(TypedQuery.class);
+        when(entityManager.createQuery(anyString(), eq(Long.class))).thenReturn(idQuery);
+        when(entityManager.createQuery(anyString(), eq(Object[].class))).thenReturn(summaryQuery);
+        when(idQuery.setParameter(anyString(), any())).thenReturn(idQuery);
+        when(idQuery.setMaxResults(anyInt())).thenReturn(idQuery);
+        when(idQuery.getResultList()).thenReturn(List.of(9L, 4L));
+        when(summaryQuery.setParameter(anyString(), any())).thenReturn(summaryQuery);
+        when(summaryQuery.getResultList()).thenReturn(List.of(new Object[]{4L}, new Object[]{9L}));
+
+        List<Object[]> rows = dao.findRecentOrderSummariesBySellerId(7L, 2);
+
+        verify(idQuery).setMaxResults(2);
+        verify(summaryQuery).setParameter("orderIds", List.of(9L, 4L));
+        assertEquals(List.of(9L, 4L), rows.stream().map(row -> row[0]).toList());
+    }
 }
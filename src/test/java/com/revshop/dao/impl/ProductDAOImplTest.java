@@ -1,11 +1,240 @@
 package com.revshop.dao.impl;
 
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductSearchCursor;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.entity.ProductStatus;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.service.impl.ProductSearchIndexServiceImpl;
+import jakarta.persistence.EntityManager;
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
 public class ProductDAOImplTest {
 
+    private static EmbeddedJpa jpa;
+    private static ProductDAOImpl dao;
+
+    @BeforeClass
+    public static void startDatabase() {
+        jpa = EmbeddedJpa.start();
+        ProductSearchQueryRegistry registry = new ProductSearchQueryRegistry(jpa.entityManagerFactory());
+        registry.registerQueries();
+        dao = new ProductDAOImpl(jpa.entityManager(), registry);
+        jpa.transactionTemplate().executeWithoutResult(status -> {
+            EntityManager em = jpa.entityManager();
+            User seller = User.builder().email("seller@test.com").password("x").role(Role.SELLER).build();
+            Category audio = Category.builder().name("Home Audio").build();
+            Category computers = Category.builder().name("Computers").build();
+            em.persist(seller);
+            em.persist(audio);
+            em.persist(computers);
+            em.persist(product("Wireless Headphones", "Noise cancelling, over-ear", "999.00", audio, seller));
+            em.persist(product("Bluetooth Speaker", "50% louder than v1", "999.00", audio, seller));
+            em.persist(product("Gaming Laptop", "RTX graphics with wireless mouse", "999.00", computers, seller));
+            em.persist(product("USB_C Hub", null, "999.00", computers, seller));
+            em.persist(product("gaming laptop", "Refurbished", "1499.00", computers, seller));
+            em.persist(product("Bluetooth Speaker", "Mini", "49.00", audio, seller));
+        });
+    }
+
+    @AfterClass
+    public static void stopDatabase() {
+        jpa.close();
+    }
+
     @Test
     public void save_persistsNewEntity() {
         new RemainingDaoImplCoverageTest().productDAOImpl_save_persistsNewEntity();
     }
+
+    @Test
+    public void findRowById_readsCategoryAndSellerWithoutAnOpenSession() {
+        Long id = jpa.transactionTemplate().execute(status -> dao.searchPublicProducts(
+                "usb_c", null, null, null, null, "createdAt", "asc", 0, 1).get(0).getId());
+
+        ProductListRow row = dao.findRowById(id).orElseThrow();
+
+        assertEquals("USB_C Hub", row.getName());
+        assertEquals("Computers", row.getCategoryName());
+        assertEquals("seller@test.com", row.getSellerEmail());
+        assertTrue(dao.findRowById(-1L).isEmpty());
+    }
+
+    @Test
+    public void keywordSearch_matchesTheSameProductsAsTheSearchIndex() {
+        ProductSearchIndexServiceImpl index = new ProductSearchIndexServiceImpl(dao);
+        jpa.transactionTemplate().executeWithoutResult(status -> index.rebuild());
+
+        for (String keyword : List.of("wire", "ELESS", "wireless head", "head wireless", "home aud", "50%",
+                "b_c", "usb_c", "ing, ov", "-", "x")) {
+            Set<Long> database = jpa.transactionTemplate().execute(status -> dao.searchPublicProducts(
+                            keyword, null, null, null, null, "createdAt", "asc", 0, 100)
+                    .stream()
+                    .map(ProductListRow::getId)
+                    .collect(Collectors.toSet()));
+            Set<Long> indexed = Set.copyOf(index.search(
+                    keyword, null, null, null, null, "createdAt", "asc", null, 0, 100, false).getProductIds());
+            assertEquals(keyword, database, indexed);
+        }
+    }
+
+    @Test
+    public void seekPublicProducts_continuesTheOffsetOrderAcrossTiedSortValues() {
+        for (String sortBy : List.of("name", "price", "createdAt")) {
+            for (String sortDir : List.of("asc", "desc")) {
+                List<Long> expected = jpa.transactionTemplate().execute(status -> dao.searchPublicProducts(
+                                null, null, null, null, null, sortBy, sortDir, 0, 100)
+                        .stream()
+                        .map(ProductListRow::getId)
+                        .toList());
+
+                List<Long> seeked = new ArrayList<>();
+                List<ProductListRow> page = jpa.transactionTemplate().execute(status ->
+                        dao.searchPublicProducts(null, null, null, null, null, sortBy, sortDir, 0, 2));
+                while (!page.isEmpty()) {
+                    page.forEach(row -> seeked.add(row.getId()));
+                    ProductSearchCursor after = cursorAfter(page.get(page.size() - 1), sortBy, sortDir);
+                    page = jpa.transactionTemplate().execute(status ->
+                            dao.seekPublicProducts(null, null, null, null, null, after, 2));
+                }
+
+                assertEquals(sortBy + " " + sortDir, expected, seeked);
+                assertEquals(6, seeked.size());
+            }
+        }
+    }
+
+    @Test
+    public void seekPublicProducts_appliesFiltersAlongsideTheCursor() {
+        List<ProductListRow> first = jpa.transactionTemplate().execute(status -> dao.searchPublicProducts(
+                "speaker", null, null, null, null, "price", "asc", 0, 1));
+        ProductSearchCursor after = cursorAfter(first.get(0), "price", "asc");
+
+        List<ProductListRow> rest = jpa.transactionTemplate().execute(status ->
+                dao.seekPublicProducts("speaker", null, null, null, null, after, 10));
+
+        assertEquals(new BigDecimal("49.00"), first.get(0).getPrice());
+        assertEquals(1, rest.size());
+        assertEquals("Bluetooth Speaker", rest.get(0).getName());
+        assertEquals(new BigDecimal("999.00"), rest.get(0).getPrice());
+    }
+
+    @Test
+    public void decrementStock_neverOversellsUnderConcurrentCheckouts() throws Exception {
+        try (EmbeddedJpa stockDb = EmbeddedJpa.start()) {
+            ProductDAOImpl stockDao = new ProductDAOImpl(
+                    stockDb.entityManager(), new ProductSearchQueryRegistry(stockDb.entityManagerFactory()));
+            Long id = persistStockedProduct(stockDb, 10);
+
+            int buyers = 40;
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> checkouts = new ArrayList<>();
+            for (int i = 0; i < buyers; i++) {
+                checkouts.add(executor.submit(() -> {
+                    start.await();
+                    return stockDb.transactionTemplate().execute(status ->
+                            stockDao.decrementStock(Map.of(id, 1)).isEmpty());
+                }));
+            }
+            start.countDown();
+            int placed = 0;
+            for (Future<Boolean> checkout : checkouts) {
+                if (checkout.get(30, TimeUnit.SECONDS)) {
+                    placed++;
+                }
+            }
+            executor.shutdown();
+
+            Product product = stockDb.entityManagerFactory().createEntityManager().find(Product.class, id);
+            assertEquals(10, placed);
+            assertEquals(Integer.valueOf(0), product.getStock());
+            assertFalse(product.getInStock());
+            assertEquals(ProductStatus.OUT_OF_STOCK, product.getStatus());
+        }
+    }
+
+    @Test
+    public void refreshStock_writesPendingChangesAndNeverFlushesTheStockItReadBack() {
+        try (EmbeddedJpa stockDb = EmbeddedJpa.start()) {
+            ProductDAOImpl stockDao = new ProductDAOImpl(
+                    stockDb.entityManager(), new ProductSearchQueryRegistry(stockDb.entityManagerFactory()));
+            Long id = persistStockedProduct(stockDb, 10);
+
+            stockDb.transactionTemplate().executeWithoutResult(status -> {
+                Product product = stockDb.entityManager().find(Product.class, id);
+                product.setName("Renamed Speaker");
+                stockDao.decrementStock(Map.of(id, 4));
+                stockDao.refreshStock(List.of(product));
+                assertEquals(Integer.valueOf(6), product.getStock());
+                assertFalse(stockDb.entityManager().contains(product));
+                // A later SQL change must survive the flush of the entity read back before it.
+                stockDao.decrementStock(Map.of(id, 1));
+            });
+
+            Product product = stockDb.entityManagerFactory().createEntityManager().find(Product.class, id);
+            assertEquals("Renamed Speaker", product.getName());
+            assertEquals(Integer.valueOf(5), product.getStock());
+        }
+    }
+
+    private static Long persistStockedProduct(EmbeddedJpa stockDb, int stock) {
+        return stockDb.transactionTemplate().execute(status -> {
+            EntityManager em = stockDb.entityManager();
+            User seller = User.builder().email("seller@test.com").password("x").role(Role.SELLER).build();
+            Category category = Category.builder().name("Audio").build();
+            Product product = product("Bluetooth Speaker", null, "49.00", category, seller);
+            product.setStock(stock);
+            em.persist(seller);
+            em.persist(category);
+            em.persist(product);
+            return product.getId();
+        });
+    }
+
+    private static ProductSearchCursor cursorAfter(ProductListRow row, String sortBy, String sortDir) {
+        String sortValue = switch (sortBy) {
+            case "name" -> row.getName().toLowerCase(Locale.ROOT);
+            case "price" -> row.getPrice().toPlainString();
+            default -> row.getCreatedAt().toString();
+        };
+        return ProductSearchCursor.builder()
+                .sortBy(sortBy)
+                .sortDir(sortDir)
+                .lastId(row.getId())
+                .lastSortValue(sortValue)
+                .build();
+    }
+
+    private static Product product(String name, String description, String price, Category category, User seller) {
+        return Product.builder()
+                .name(name)
+                .description(description)
+                .price(new BigDecimal(price))
+                .stock(5)
+                .category(category)
+                .seller(seller)
+                .build();
+    }
 }
@@ -0,0 +1,81 @@
+package com.revshop.dao.impl;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Captor;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductSearchQueryRegistryTest {
+
+    @Captor
+    private ArgumentCaptor<String> names;
+    @Captor
+    private ArgumentCaptor<TypedQuery<?>> queries;
+
+    @Test
+    public void registerQueries_registersEveryFilterSortAndDirectionCombinationOnce() {
+        EntityManagerFactory entityManagerFactory = mock(EntityManagerFactory.class);
+        EntityManager em = mock(EntityManager.class);
+        when(entityManagerFactory.createEntityManager()).thenReturn(em);
+        Map<Object, String> jpqlByQuery = new HashMap<>();
+        when(em.createQuery(anyString(), ArgumentMatchers.<Class<Object>>any())).thenAnswer(invocation -> {
+            TypedQuery<?> query = mock(TypedQuery.class);
+            jpqlByQuery.put(query, invocation.getArgument(0));
+            return query;
+        });
+        ProductSearchQueryRegistry registry = new ProductSearchQueryRegistry(entityManagerFactory);
+
+        registry.registerQueries();
+
+        // 32 filter masks x (3 sort keys x 2 directions x page/seek + count + facets)
+        verify(entityManagerFactory, times(448)).addNamedQuery(names.capture(), queries.capture());
+        verify(em).close();
+
+        Map<String, String> registered = new HashMap<>();
+        for (int i = 0; i < names.getAllValues().size(); i++) {
+            registered.put(names.getAllValues().get(i), jpqlByQuery.get(queries.getAllValues().get(i)));
+        }
+        assertEquals(448, registered.size());
+
+        int allFilters = ProductSearchQueryRegistry.filterMask("phone", 1L, BigDecimal.ONE, BigDecimal.TEN, true);
+        String seek = registered.get(registry.seekQuery(allFilters, "price", false));
+        for (String parameter : List.of(":keyword", ":categoryId", ":minPrice", ":maxPrice", ":inStock", ":cursorKey", ":cursorId")) {
+            assertTrue(parameter, seek.contains(parameter));
+        }
+        assertTrue(seek.endsWith("ORDER BY p.price DESC, p.id DESC"));
+
+        String unfilteredCount = registered.get(registry.countQuery(0));
+        assertFalse(unfilteredCount.contains(":"));
+        assertTrue(registered.containsKey(registry.pageQuery(0, "unknown", true)));
+        assertEquals(registry.pageQuery(0, "createdAt", true), registry.pageQuery(0, "unknown", true));
+    }
+
+    @Test
+    public void filterMask_ignoresBlankKeywords() {
+        assertEquals(0, ProductSearchQueryRegistry.filterMask("  ", null, null, null, null));
+        assertEquals(
+                ProductSearchQueryRegistry.CATEGORY | ProductSearchQueryRegistry.IN_STOCK,
+                ProductSearchQueryRegistry.filterMask(null, 4L, null, null, false)
+        );
+    }
+}
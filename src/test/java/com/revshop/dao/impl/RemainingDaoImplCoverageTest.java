@@ -129,7 +129,7 @@ public class RemainingDaoImplCoverageTest {
     @Test
     public void productDAOImpl_save_persistsNewEntity() {
         EntityManager entityManager = mock(EntityManager.class);
-        ProductDAOImpl dao = new ProductDAOImpl(entityManager);
+        ProductDAOImpl dao = new ProductDAOImpl(entityManager, mock(ProductSearchQueryRegistry.class));
         Product product = Product.builder().name("Phone").build();
 
         Product saved = dao.save(product);
@@ -0,0 +1,93 @@
+package com.revshop.dto.product;
+
+import com.revshop.exception.BadRequestException;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+
+public class ProductSearchCursorTest {
+
+    private static final String FILTERS = ProductSearchCursor.filtersOf("Wireless", 4L, new BigDecimal("10"), null, true);
+
+    private final ProductResponse last = ProductResponse.builder()
+            .id(42L)
+            .name("Bluetooth | Speaker")
+            .price(new BigDecimal("1499.50"))
+            .createdAt(LocalDateTime.of(2026, 3, 1, 9, 30, 15))
+            .build();
+
+    @Test
+    public void encode_roundTripsEverySortKey() {
+        for (String sortBy : new String[]{"name", "price", "createdAt"}) {
+            ProductSearchCursor cursor = ProductSearchCursor.after(last, sortBy, "desc", FILTERS);
+
+            ProductSearchCursor decoded = ProductSearchCursor.decode(cursor.encode(), sortBy, "desc", FILTERS);
+
+            assertEquals(Long.valueOf(42L), decoded.getLastId());
+            assertEquals(cursor.getLastSortValue(), decoded.getLastSortValue());
+            assertEquals(cursor.sortKey(), decoded.sortKey());
+        }
+        assertEquals("bluetooth | speaker",
+                decode(ProductSearchCursor.after(last, "name", "asc", FILTERS).encode(), "name", "asc").sortKey());
+        assertEquals(new BigDecimal("1499.50"),
+                decode(ProductSearchCursor.after(last, "price", "asc", FILTERS).encode(), "price", "asc").sortKey());
+    }
+
+    @Test
+    public void decode_rejectsACursorIssuedForAnotherSort() {
+        String token = ProductSearchCursor.after(last, "price", "asc", FILTERS).encode();
+
+        assertThrows(BadRequestException.class, () -> decode(token, "name", "asc"));
+        assertThrows(BadRequestException.class, () -> decode(token, "price", "desc"));
+    }
+
+    @Test
+    public void decode_rejectsACursorIssuedForOtherFilters() {
+        String token = ProductSearchCursor.after(last, "price", "asc", FILTERS).encode();
+        String otherFilters = ProductSearchCursor.filtersOf("Wireless", 5L, new BigDecimal("10"), null, true);
+
+        assertThrows(BadRequestException.class,
+                () -> ProductSearchCursor.decode(token, "price", "asc", otherFilters));
+    }
+
+    @Test
+    public void decode_rejectsGarbageAndTamperedTokens() {
+        String filters = FILTERS;
+        assertThrows(BadRequestException.class, () -> decode("not base64 !", "price", "asc"));
+        assertThrows(BadRequestException.class, () -> decode(raw("price|asc|" + filters + "|42"), "price", "asc"));
+        assertThrows(BadRequestException.class,
+                () -> decode(raw("price|asc|" + filters + "|x42|10.00"), "price", "asc"));
+        assertThrows(BadRequestException.class,
+                () -> decode(raw("price|asc|" + filters + "|42|ten"), "price", "asc"));
+        assertThrows(BadRequestException.class,
+                () -> decode(raw("createdAt|asc|" + filters + "|42|yesterday"), "createdAt", "asc"));
+    }
+
+    @Test
+    public void filtersOf_ignoresKeywordCaseAndPriceScale() {
+        assertEquals(FILTERS, ProductSearchCursor.filtersOf("wIRELESS", 4L, new BigDecimal("10.00"), null, true));
+        assertEquals(ProductSearchCursor.filtersOf(null, null, null, null, null),
+                ProductSearchCursor.filtersOf(" ", null, null, null, null));
+        assertNotEquals(ProductSearchCursor.filtersOf(null, null, null, null, true),
+                ProductSearchCursor.filtersOf(null, null, null, null, false));
+        assertNotEquals(ProductSearchCursor.filtersOf(null, null, new BigDecimal("10"), null, null),
+                ProductSearchCursor.filtersOf(null, null, null, new BigDecimal("10"), null));
+        assertTrue(FILTERS.matches("[A-Za-z0-9_-]+"));
+    }
+
+    private static ProductSearchCursor decode(String token, String sortBy, String sortDir) {
+        return ProductSearchCursor.decode(token, sortBy, sortDir, FILTERS);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -1,11 +1,60 @@
 package com.revshop.service.impl;
 
+import com.revshop.dao.AdminDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.admin.AdminSummaryResponse;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.service.PlatformCounterService;
+import com.revshop.service.ProductDetailCacheService;
+import com.revshop.service.StockReservationService;
 import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
 
 public class AdminServiceImplTest {
 
     @Test
     public void getSummary_returnsAggregateCounts() {
-        new RemainingServiceImplCoverageTest().adminServiceImpl_getSummary_returnsAggregateCounts();
+        AdminDAO adminDAO = mock(AdminDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        PlatformCounterService platformCounterService = mock(PlatformCounterService.class);
+        AdminServiceImpl service = new AdminServiceImpl(
+                adminDAO,
+                userDAO,
+                mock(ProductDetailCacheService.class),
+                mock(StockReservationService.class),
+                platformCounterService
+        );
+        ReflectionTestUtils.setField(service, "configuredAdminKey", "secret-key");
+
+        User seller = user(1L, "seller@test.com", Role.SELLER);
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(platformCounterService.getSummary()).thenReturn(AdminSummaryResponse.builder()
+                .totalUsers(20L)
+                .totalBuyers(12L)
+                .totalSellers(8L)
+                .totalProducts(50L)
+                .build());
+
+        AdminSummaryResponse response = service.getSummary("seller@test.com", "secret-key");
+
+        assertEquals(20L, response.getTotalUsers());
+        assertEquals(12L, response.getTotalBuyers());
+        assertEquals(8L, response.getTotalSellers());
+        assertEquals(50L, response.getTotalProducts());
+        verifyNoInteractions(adminDAO);
+    }
+
+    private User user(Long id, String email, Role role) {
+        User user = User.builder().id(id).email(email).role(role).active(true).build();
+        user.setIsDeleted(false);
+        return user;
     }
 }
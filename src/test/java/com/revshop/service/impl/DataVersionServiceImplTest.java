@@ -0,0 +1,32 @@
+package com.revshop.service.impl;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DataVersionServiceImplTest {
+
+    @Test
+    public void bump_movesOnlyTheTouchedUsersForward() {
+        DataVersionServiceImpl dataVersionService = new DataVersionServiceImpl();
+        long initial = dataVersionService.getSellerDashboardVersion(7L);
+        assertEquals(initial, dataVersionService.getNotificationVersion(7L));
+
+        long previous = initial;
+        for (int i = 0; i < 1_000; i++) {
+            dataVersionService.bumpSellerDashboards(Set.of(7L));
+            long current = dataVersionService.getSellerDashboardVersion(7L);
+            assertTrue(current > previous);
+            previous = current;
+        }
+
+        assertEquals(initial, dataVersionService.getSellerDashboardVersion(8L));
+        assertEquals(initial, dataVersionService.getNotificationVersion(7L));
+        dataVersionService.bumpNotifications(List.of(7L, 8L));
+        assertTrue(dataVersionService.getNotificationVersion(8L) > initial);
+    }
+}
@@ -1,6 +1,23 @@
 package com.revshop.service.impl;
 
+import com.revshop.dao.NotificationDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.notification.NotificationDraft;
+import com.revshop.entity.Notification;
+import com.revshop.entity.NotificationType;
+import com.revshop.entity.User;
+import com.revshop.service.DataVersionService;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 public class NotificationServiceImplTest {
 
@@ -8,4 +25,27 @@ public class NotificationServiceImplTest {
     public void getUnreadCount_returnsDaoCount() {
         new RemainingServiceImplCoverageTest().notificationServiceImpl_getUnreadCount_returnsDaoCount();
     }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void createNotifications_savesOneBatchAgainstRecipientReferences() {
+        NotificationDAO notificationDAO = mock(NotificationDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        NotificationServiceImpl service = new NotificationServiceImpl(notificationDAO, userDAO, mock(DataVersionService.class));
+        User buyer = User.builder().id(3L).build();
+        User seller = User.builder().id(4L).build();
+        when(userDAO.getReference(3L)).thenReturn(buyer);
+        when(userDAO.getReference(4L)).thenReturn(seller);
+
+        service.createNotifications(List.of(
+                NotificationDraft.builder().recipientUserId(3L).type(NotificationType.ORDER_PLACED).title("Placed").build(),
+                NotificationDraft.builder().recipientUserId(4L).type(NotificationType.ORDER_RECEIVED).title("Received").build()
+        ));
+
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationDAO).saveAll(saved.capture());
+        assertEquals(List.of(buyer, seller), saved.getValue().stream().map(Notification::getRecipient).toList());
+        assertEquals(Boolean.FALSE, saved.getValue().get(0).getIsRead());
+        verify(userDAO, never()).findById(any());
+    }
 }
@@ -0,0 +1,111 @@
+package com.revshop.service.impl;
+
+import com.revshop.dto.notification.NotificationDraft;
+import com.revshop.entity.NotificationType;
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
+import com.revshop.entity.PaymentMethod;
+import com.revshop.entity.User;
+import com.revshop.event.LowStockEvent;
+import com.revshop.event.OrderBatchEvent;
+import com.revshop.event.OrderDeliveredEvent;
+import com.revshop.event.OrderPlacedEvent;
+import com.revshop.service.NotificationService;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+public class OrderNotificationListenerTest {
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final OrderNotificationListener listener = new OrderNotificationListener(notificationService);
+
+    private final User buyer = User.builder().id(1L).email("buyer@test.com").build();
+    private final User firstSeller = User.builder().id(10L).build();
+    private final User secondSeller = User.builder().id(11L).build();
+
+    @Test
+    public void draftsFor_orderPlaced_addsOneReceivedNotificationPerSeller() {
+        Order order = order(PaymentMethod.CREDIT_CARD);
+        List<OrderItem> items = List.of(
+                item(firstSeller, 2, "20.00"),
+                item(secondSeller, 1, "5.50"),
+                item(firstSeller, 1, "7.00")
+        );
+
+        List<NotificationDraft> drafts = listener.draftsFor(new OrderPlacedEvent(order, items));
+
+        assertEquals(3, drafts.size());
+        assertEquals(NotificationType.ORDER_PLACED, drafts.get(0).getType());
+        assertEquals(Long.valueOf(1L), drafts.get(0).getRecipientUserId());
+        NotificationDraft first = drafts.stream()
+                .filter(draft -> Long.valueOf(10L).equals(draft.getRecipientUserId()))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(NotificationType.ORDER_RECEIVED, first.getType());
+        assertEquals("Order ORD-1 from buyer@test.com | Items: 3 | Amount: INR 27.00", first.getMessage());
+        assertEquals(Long.valueOf(5L), first.getReferenceId());
+    }
+
+    @Test
+    public void draftsFor_codDelivery_tellsSellersWhetherPaymentWasCollected() {
+        Order order = order(PaymentMethod.CASH_ON_DELIVERY);
+        List<OrderItem> items = List.of(item(firstSeller, 1, "10.00"));
+
+        List<NotificationDraft> drafts = listener.draftsFor(new OrderDeliveredEvent(order, items, true, true));
+
+        assertEquals("Delivery confirmed", drafts.get(0).getTitle());
+        assertEquals("Buyer confirmed delivery for order ORD-1. COD payment has been collected.", drafts.get(1).getMessage());
+    }
+
+    @Test
+    public void draftsFor_orderBatch_sendsOneNotificationPerBuyerAndSeller() {
+        List<OrderBatchEvent.Entry> entries = List.of(
+                new OrderBatchEvent.Entry(5L, "ORD-1", 1L, Set.of(10L), true, true),
+                new OrderBatchEvent.Entry(6L, "ORD-2", 1L, Set.of(10L), true, false),
+                new OrderBatchEvent.Entry(7L, "ORD-3", 2L, Set.of(10L, 11L), false, false)
+        );
+
+        List<NotificationDraft> drafts = listener.draftsFor(new OrderBatchEvent(OrderStatus.DELIVERED, entries));
+
+        assertEquals(4, drafts.size());
+        assertEquals(Long.valueOf(1L), drafts.get(0).getRecipientUserId());
+        assertEquals("Orders delivered", drafts.get(0).getTitle());
+        assertEquals("Your 2 orders ORD-1, ORD-2 have been delivered. COD payment collected for 1 of them.",
+                drafts.get(0).getMessage());
+        assertNull(drafts.get(0).getReferenceId());
+        assertEquals("Your order ORD-3 has been delivered.", drafts.get(1).getMessage());
+        assertEquals(Long.valueOf(7L), drafts.get(1).getReferenceId());
+        assertEquals(Long.valueOf(10L), drafts.get(2).getRecipientUserId());
+        assertEquals("Marked 3 orders ORD-1, ORD-2, ORD-3 as delivered. COD payment collected for 1 of them.",
+                drafts.get(2).getMessage());
+        assertEquals(NotificationType.ORDER_DELIVERED, drafts.get(3).getType());
+    }
+
+    @Test
+    public void onLowStock_logsInsteadOfPropagatingStoreFailures() {
+        doThrow(new IllegalStateException("db down")).when(notificationService).createNotifications(anyList());
+
+        listener.onLowStock(new LowStockEvent(7L, "Lamp", 10L, 2));
+
+        verify(notificationService).createNotifications(anyList());
+    }
+
+    private Order order(PaymentMethod paymentMethod) {
+        return Order.builder().id(5L).orderNumber("ORD-1").buyer(buyer).paymentMethod(paymentMethod).build();
+    }
+
+    private OrderItem item(User seller, int quantity, String lineTotal) {
+        return OrderItem.builder().seller(seller).quantity(quantity).lineTotal(new BigDecimal(lineTotal)).build();
+    }
+}
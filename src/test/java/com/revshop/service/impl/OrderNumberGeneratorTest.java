@@ -0,0 +1,54 @@
+package com.revshop.service.impl;
+
+import org.junit.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class OrderNumberGeneratorTest {
+
+    @Test
+    public void next_issuesUniqueNumbersInIssueOrder() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(3);
+        Set<String> issued = new HashSet<>();
+        String previous = "";
+        for (int i = 0; i < 10_000; i++) {
+            String orderNumber = generator.next();
+            assertTrue(orderNumber.startsWith(OrderNumberGenerator.PREFIX));
+            assertEquals(17, orderNumber.length());
+            assertTrue(orderNumber.compareTo(previous) > 0);
+            assertTrue(issued.add(orderNumber));
+            previous = orderNumber;
+        }
+    }
+
+    @Test
+    public void nextId_staysMonotonicWhenTheClockStepsBackOrTheCounterFills() {
+        OrderNumberGenerator generator = new OrderNumberGenerator(1);
+        long now = System.currentTimeMillis();
+        long previous = generator.nextId(now);
+        for (int i = 0; i < 5_000; i++) {
+            long id = generator.nextId(now - 1_000);
+            assertTrue(id > previous);
+            previous = id;
+        }
+    }
+
+    @Test
+    public void nextId_separatesNodesWithinTheSameMillisecond() {
+        long now = System.currentTimeMillis();
+        long first = new OrderNumberGenerator(1).nextId(now);
+        long second = new OrderNumberGenerator(2).nextId(now);
+
+        assertTrue(first != second);
+        assertEquals(OrderNumberGenerator.encode(first).length(), OrderNumberGenerator.encode(second).length());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void constructor_rejectsNodeIdsOutsideTheTenBitRange() {
+        new OrderNumberGenerator(1024);
+    }
+}
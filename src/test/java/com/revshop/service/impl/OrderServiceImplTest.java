@@ -1,11 +1,577 @@
 package com.revshop.service.impl;
 
+import com.revshop.dao.CartDAO;
+import com.revshop.dao.CartItemDAO;
+import com.revshop.dao.OrderDAO;
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.PaymentDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dao.impl.CartDAOImpl;
+import com.revshop.dao.impl.CartItemDAOImpl;
+import com.revshop.dao.impl.EmbeddedJpa;
+import com.revshop.dao.impl.OrderDAOImpl;
+import com.revshop.dao.impl.OrderItemDAOImpl;
+import com.revshop.dao.impl.PaymentDAOImpl;
+import com.revshop.dao.impl.ProductDAOImpl;
+import com.revshop.dao.impl.ProductSearchQueryRegistry;
+import com.revshop.dao.impl.UserDAOImpl;
+import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.order.BulkOrderActionResponse;
+import com.revshop.dto.order.BulkOrderOutcome;
+import com.revshop.dto.order.OrderResponse;
+import com.revshop.dto.order.PlaceOrderRequest;
+import com.revshop.dto.order.SellerOrderCursor;
+import com.revshop.entity.Cart;
+import com.revshop.entity.CartItem;
+import com.revshop.entity.Category;
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
+import com.revshop.entity.Payment;
+import com.revshop.entity.PaymentMethod;
+import com.revshop.entity.PaymentStatus;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.event.OrderBatchEvent;
+import com.revshop.exception.BadRequestException;
+import com.revshop.exception.ForbiddenOperationException;
+import com.revshop.service.SellerStatsService;
+import com.revshop.service.StockReservationService;
+import jakarta.persistence.EntityManager;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertThrows;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.mockingDetails;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
 public class OrderServiceImplTest {
 
+    @Mock
+    private OrderDAO orderDAO;
+    @Mock
+    private OrderItemDAO orderItemDAO;
+    @Mock
+    private CartDAO cartDAO;
+    @Mock
+    private CartItemDAO cartItemDAO;
+    @Mock
+    private PaymentDAO paymentDAO;
+    @Mock
+    private ProductDAO productDAO;
+    @Mock
+    private UserDAO userDAO;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private StockReservationService stockReservationService;
+    @Mock
+    private OrderNumberGenerator orderNumberGenerator;
+    @Mock
+    private SellerStatsService sellerStatsService;
+
+    @InjectMocks
+    private OrderServiceImpl orderService;
+
     @Test
     public void getBuyerOrderById_mapsOrderDetails() {
         new RemainingServiceImplCoverageTest().orderServiceImpl_getBuyerOrderById_mapsOrderDetails();
     }
+
+    @Test
+    public void placeOrder_preparesTheSameStatementsWhateverTheCartSize() {
+        try (EmbeddedJpa jpa = EmbeddedJpa.start()) {
+            OrderServiceImpl service = new OrderServiceImpl(
+                    jpa.inject(new OrderDAOImpl()),
+                    jpa.inject(new OrderItemDAOImpl()),
+                    jpa.inject(new CartDAOImpl()),
+                    jpa.inject(new CartItemDAOImpl()),
+                    jpa.inject(new PaymentDAOImpl()),
+                    new ProductDAOImpl(jpa.entityManager(), new ProductSearchQueryRegistry(jpa.entityManagerFactory())),
+                    jpa.inject(new UserDAOImpl()),
+                    mock(ApplicationEventPublisher.class),
+                    mock(StockReservationService.class),
+                    new OrderNumberGenerator(0),
+                    mock(SellerStatsService.class)
+            );
+            jpa.transactionTemplate().executeWithoutResult(status -> {
+                EntityManager em = jpa.entityManager();
+                User buyer = User.builder().email("buyer@test.com").password("x").role(Role.BUYER).build();
+                em.persist(buyer);
+                em.persist(User.builder().email("seller@test.com").password("x").role(Role.SELLER).build());
+                em.persist(Category.builder().name("Audio").build());
+                em.persist(Cart.builder().buyer(buyer).build());
+            });
+            // The pooled id optimizer fetches each sequence twice before its first block is usable, so the
+            // first two orders also pay for those fetches.
+            statementsToPlaceOrder(jpa, service, 1);
+            statementsToPlaceOrder(jpa, service, 1);
+
+            long singleItem = statementsToPlaceOrder(jpa, service, 1);
+            long twentyItems = statementsToPlaceOrder(jpa, service, 20);
+
+            assertEquals(singleItem, twentyItems);
+        }
+    }
+
+    @Test
+    public void orderLists_issueConstantQueriesAsHistoryGrows() {
+        assertEquals(orderListQueryCount(1, false), orderListQueryCount(50, false));
+        assertEquals(orderListQueryCount(1, true), orderListQueryCount(50, true));
+    }
+
+    @Test
+    public void getSellerOrderInbox_seeksPastTheLastOrderOnThePage() {
+        OrderDAO orderDAO = mock(OrderDAO.class);
+        OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+        PaymentDAO paymentDAO = mock(PaymentDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        OrderServiceImpl service = new OrderServiceImpl(
+                orderDAO,
+                orderItemDAO,
+                mock(CartDAO.class),
+                mock(CartItemDAO.class),
+                paymentDAO,
+                mock(ProductDAO.class),
+                userDAO,
+                mock(ApplicationEventPublisher.class),
+                mock(StockReservationService.class),
+                new OrderNumberGenerator(0),
+                mock(SellerStatsService.class)
+        );
+
+        User buyer = user(4L, "buyer@test.com", Role.BUYER);
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        LocalDateTime newest = LocalDateTime.of(2026, 3, 2, 10, 0);
+        List<Order> orders = new ArrayList<>();
+        Map<Long, List<OrderItem>> itemsByOrder = new HashMap<>();
+        for (long id = 3; id >= 1; id--) {
+            Order order = Order.builder()
+                    .id(id)
+                    .orderNumber("ORD-" + id)
+                    .buyer(buyer)
+                    .status(OrderStatus.CONFIRMED)
+                    .build();
+            order.setCreatedAt(newest.minusHours(3 - id));
+            orders.add(order);
+            itemsByOrder.put(id, List.of(orderItem(id * 10, order, seller, "10.00")));
+        }
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(orderDAO.findSellerInboxPage(eq(5L), eq(OrderStatus.CONFIRMED), any(), any(), eq("ORD-"), isNull(), eq(3)))
+                .thenReturn(orders);
+        when(orderItemDAO.findByOrderIds(anyList())).thenReturn(itemsByOrder);
+        when(paymentDAO.findByOrderIds(anyList())).thenReturn(Map.of());
+
+        PagedResponse<OrderResponse> first = service.getSellerOrderInbox(
+                "seller@test.com",
+                OrderStatus.CONFIRMED,
+                LocalDate.of(2026, 3, 1),
+                LocalDate.of(2026, 3, 2),
+                " ord- ",
+                null,
+                2
+        );
+
+        assertEquals(List.of(3L, 2L), first.getContent().stream().map(OrderResponse::getOrderId).toList());
+        assertTrue(first.isHasNext());
+        assertFalse(first.isHasPrevious());
+        verify(orderDAO).findSellerInboxPage(
+                5L,
+                OrderStatus.CONFIRMED,
+                LocalDateTime.of(2026, 3, 1, 0, 0),
+                LocalDateTime.of(2026, 3, 3, 0, 0),
+                "ORD-",
+                null,
+                3
+        );
+        verify(orderItemDAO).findByOrderIds(List.of(3L, 2L));
+
+        SellerOrderCursor cursor = SellerOrderCursor.decode(first.getNextCursor());
+        assertEquals(Long.valueOf(2L), cursor.getLastId());
+        assertEquals(newest.minusHours(1), cursor.getLastCreatedAt());
+
+        when(orderDAO.findSellerInboxPage(eq(5L), isNull(), isNull(), isNull(), isNull(), argThat(after ->
+                after != null && after.getLastId() == 2L), eq(3))).thenReturn(orders.subList(2, 3));
+        PagedResponse<OrderResponse> second = service.getSellerOrderInbox(
+                "seller@test.com", null, null, null, null, first.getNextCursor(), 2);
+
+        assertEquals(List.of(1L), second.getContent().stream().map(OrderResponse::getOrderId).toList());
+        assertFalse(second.isHasNext());
+        assertTrue(second.isHasPrevious());
+        assertNull(second.getNextCursor());
+    }
+
+    @Test
+    public void completeReturnBySeller_loadsTheOrderItemsOnce() {
+        OrderDAO orderDAO = mock(OrderDAO.class);
+        OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+        PaymentDAO paymentDAO = mock(PaymentDAO.class);
+        ProductDAO productDAO = mock(ProductDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        OrderServiceImpl service = new OrderServiceImpl(
+                orderDAO,
+                orderItemDAO,
+                mock(CartDAO.class),
+                mock(CartItemDAO.class),
+                paymentDAO,
+                productDAO,
+                userDAO,
+                mock(ApplicationEventPublisher.class),
+                mock(StockReservationService.class),
+                new OrderNumberGenerator(0),
+                mock(SellerStatsService.class)
+        );
+
+        User buyer = user(4L, "buyer@test.com", Role.BUYER);
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        User stranger = user(6L, "stranger@test.com", Role.SELLER);
+        Order order = Order.builder()
+                .id(101L)
+                .orderNumber("ORD-101")
+                .buyer(buyer)
+                .status(OrderStatus.RETURN_REQUESTED)
+                .paymentMethod(PaymentMethod.CASH_ON_DELIVERY)
+                .build();
+        OrderItem item = orderItem(1001L, order, seller, "10.00");
+        item.getProduct().setStock(4);
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(userDAO.findByEmail("stranger@test.com")).thenReturn(Optional.of(stranger));
+        when(orderDAO.findById(101L)).thenReturn(Optional.of(order));
+        when(orderItemDAO.existsByOrderIdAndSellerId(101L, 5L)).thenReturn(true);
+        when(orderItemDAO.findByOrderId(101L)).thenReturn(List.of(item));
+        when(paymentDAO.findByOrderId(101L)).thenReturn(Optional.empty());
+
+        assertThrows(ForbiddenOperationException.class, () -> service.completeReturnBySeller("stranger@test.com", 101L));
+        assertEquals(OrderStatus.RETURN_REQUESTED, order.getStatus());
+        verify(orderItemDAO, never()).findByOrderId(101L);
+
+        OrderResponse response = service.completeReturnBySeller("seller@test.com", 101L);
+
+        assertEquals(OrderStatus.RETURNED, response.getStatus());
+        assertEquals(1, response.getItems().size());
+        verify(orderItemDAO, times(1)).findByOrderId(101L);
+        verify(productDAO).incrementStock(Map.of(1001L, 1));
+    }
+
+    @Test
+    public void markOrdersDeliveredBySeller_validatesTheSetAndSettlesCodInBulk() {
+        OrderDAO orderDAO = mock(OrderDAO.class);
+        OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+        PaymentDAO paymentDAO = mock(PaymentDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        OrderServiceImpl service = new OrderServiceImpl(
+                orderDAO,
+                orderItemDAO,
+                mock(CartDAO.class),
+                mock(CartItemDAO.class),
+                paymentDAO,
+                mock(ProductDAO.class),
+                userDAO,
+                eventPublisher,
+                mock(StockReservationService.class),
+                new OrderNumberGenerator(0),
+                mock(SellerStatsService.class)
+        );
+
+        User buyer = user(4L, "buyer@test.com", Role.BUYER);
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        Order shippedCod = bulkOrder(1L, buyer, OrderStatus.SHIPPED, PaymentMethod.CASH_ON_DELIVERY);
+        Order shippedCard = bulkOrder(2L, buyer, OrderStatus.SHIPPED, PaymentMethod.CREDIT_CARD);
+        Order confirmed = bulkOrder(3L, buyer, OrderStatus.CONFIRMED, PaymentMethod.CREDIT_CARD);
+        Order otherSellers = bulkOrder(4L, buyer, OrderStatus.SHIPPED, PaymentMethod.CREDIT_CARD);
+        Payment codPayment = Payment.builder().id(91L).order(shippedCod).status(PaymentStatus.PENDING).build();
+
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(orderDAO.findAllByIds(List.of(1L, 2L, 3L, 4L, 99L)))
+                .thenReturn(List.of(shippedCod, shippedCard, confirmed, otherSellers));
+        when(orderItemDAO.findSellerIdsByOrderIds(List.of(1L, 2L, 3L, 4L, 99L))).thenReturn(Map.of(
+                1L, Set.of(5L),
+                2L, Set.of(5L, 6L),
+                3L, Set.of(5L),
+                4L, Set.of(6L)
+        ));
+        when(paymentDAO.findByOrderIds(List.of(1L))).thenReturn(Map.of(1L, codPayment));
+
+        BulkOrderActionResponse response = service.markOrdersDeliveredBySeller(
+                "seller@test.com", List.of(1L, 2L, 3L, 4L, 99L, 1L));
+
+        assertEquals(5, response.getRequested());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(3, response.getFailed());
+        List<BulkOrderOutcome> outcomes = response.getOutcomes();
+        assertEquals("Order marked as delivered. COD payment collected.", outcomes.get(0).getMessage());
+        assertEquals(OrderStatus.DELIVERED, outcomes.get(1).getStatus());
+        assertEquals("Only shipped orders can be marked as delivered", outcomes.get(2).getMessage());
+        assertEquals(OrderStatus.CONFIRMED, confirmed.getStatus());
+        assertEquals("Order does not belong to seller", outcomes.get(3).getMessage());
+        assertNull(outcomes.get(3).getOrderNumber());
+        assertEquals("Order not found", outcomes.get(4).getMessage());
+        assertEquals(PaymentStatus.SUCCESS, codPayment.getStatus());
+        assertEquals(OrderStatus.SHIPPED, otherSellers.getStatus());
+
+        ArgumentCaptor<OrderBatchEvent> event = ArgumentCaptor.forClass(OrderBatchEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertEquals(OrderStatus.DELIVERED, event.getValue().getStatus());
+        assertEquals(List.of(1L, 2L), event.getValue().getOrders().stream().map(OrderBatchEvent.Entry::orderId).toList());
+        assertTrue(event.getValue().getOrders().get(0).paymentSettled());
+        assertEquals(Set.of(5L, 6L), event.getValue().getOrders().get(1).sellerIds());
+        verify(orderDAO, never()).findById(any());
+        verify(orderItemDAO, never()).findByOrderId(any());
+        verify(paymentDAO, never()).findByOrderId(any());
+    }
+
+    @Test
+    public void completeExchangeBySeller_movesOnlyTheActingSellersStock() {
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        User otherSeller = user(6L, "other@test.com", Role.SELLER);
+        Product target = product(201L, seller, 10);
+        Order order = exchangeRequested(target.getId());
+        List<OrderItem> items = List.of(
+                item(order, product(101L, seller, 0), 2),
+                item(order, product(102L, otherSeller, 0), 3)
+        );
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(orderDAO.findById(9L)).thenReturn(Optional.of(order));
+        when(orderItemDAO.existsByOrderIdAndSellerId(9L, 5L)).thenReturn(true);
+        when(orderItemDAO.findByOrderId(9L)).thenReturn(items);
+        when(productDAO.findById(201L)).thenReturn(Optional.of(target));
+        when(productDAO.decrementStock(Map.of(201L, 2))).thenReturn(Set.of());
+
+        OrderResponse response = orderService.completeExchangeBySeller("seller@test.com", 9L);
+
+        assertEquals(OrderStatus.EXCHANGED, response.getStatus());
+        verify(productDAO).incrementStock(Map.of(101L, 2));
+        verify(productDAO, never()).decrementStock(Map.of(201L, 5));
+    }
+
+    @Test
+    public void completeExchangeBySeller_onlyChecksAnotherSellersTarget() {
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        Product target = product(201L, user(6L, "other@test.com", Role.SELLER), 0);
+        Order order = exchangeRequested(target.getId());
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(orderDAO.findById(9L)).thenReturn(Optional.of(order));
+        when(orderItemDAO.existsByOrderIdAndSellerId(9L, 5L)).thenReturn(true);
+        when(orderItemDAO.findByOrderId(9L)).thenReturn(List.of(item(order, product(101L, seller, 0), 2)));
+        when(productDAO.findById(201L)).thenReturn(Optional.of(target));
+
+        BadRequestException ex = assertThrows(BadRequestException.class,
+                () -> orderService.completeExchangeBySeller("seller@test.com", 9L));
+
+        assertEquals("Exchange target product is out of stock", ex.getMessage());
+        verify(productDAO, never()).decrementStock(anyMap());
+        verify(productDAO, never()).incrementStock(anyMap());
+    }
+
+    private OrderItem orderItem(Long id, Order order, User seller, String lineTotal) {
+        Product product = Product.builder().id(id).name("Product " + id).seller(seller).build();
+        return OrderItem.builder()
+                .id(id)
+                .order(order)
+                .product(product)
+                .seller(seller)
+                .quantity(1)
+                .unitPrice(new BigDecimal(lineTotal))
+                .lineTotal(new BigDecimal(lineTotal))
+                .build();
+    }
+
+    private static Order exchangeRequested(Long targetProductId) {
+        return Order.builder()
+                .id(9L)
+                .buyer(user(4L, "buyer@test.com", Role.BUYER))
+                .status(OrderStatus.EXCHANGE_REQUESTED)
+                .exchangeRequestedProductId(targetProductId)
+                .build();
+    }
+
+    private static OrderItem item(Order order, Product product, int quantity) {
+        return OrderItem.builder()
+                .order(order)
+                .product(product)
+                .seller(product.getSeller())
+                .quantity(quantity)
+                .unitPrice(product.getPrice())
+                .lineTotal(product.getPrice().multiply(BigDecimal.valueOf(quantity)))
+                .build();
+    }
+
+    private static Product product(Long id, User seller, int stock) {
+        Product product = Product.builder()
+                .id(id)
+                .name("Product " + id)
+                .price(new BigDecimal("10.00"))
+                .stock(stock)
+                .inStock(stock > 0)
+                .active(true)
+                .seller(seller)
+                .build();
+        product.setIsDeleted(false);
+        return product;
+    }
+
+    private static User user(Long id, String email, Role role) {
+        User user = User.builder().id(id).email(email).role(role).active(true).build();
+        user.setIsDeleted(false);
+        return user;
+    }
+
+    private long statementsToPlaceOrder(EmbeddedJpa jpa, OrderServiceImpl service, int cartSize) {
+        EntityManager em = jpa.entityManager();
+        List<Long> productIds = jpa.transactionTemplate().execute(status -> {
+            User seller = em.createQuery("SELECT u FROM User u WHERE u.email = 'seller@test.com'", User.class)
+                    .getSingleResult();
+            Category category = em.createQuery("SELECT c FROM Category c", Category.class).getSingleResult();
+            Cart cart = em.createQuery("SELECT c FROM Cart c", Cart.class).getSingleResult();
+            List<Long> ids = new ArrayList<>();
+            for (int i = 1; i <= cartSize; i++) {
+                Product product = Product.builder()
+                        .name("Product " + i)
+                        .price(new BigDecimal("10.00"))
+                        .stock(50)
+                        .category(category)
+                        .seller(seller)
+                        .build();
+                em.persist(product);
+                em.persist(CartItem.builder()
+                        .cart(cart)
+                        .product(product)
+                        .quantity(2)
+                        .unitPrice(product.getPrice())
+                        .build());
+                ids.add(product.getId());
+            }
+            return ids;
+        });
+        PlaceOrderRequest request = new PlaceOrderRequest();
+        request.setPaymentMethod(PaymentMethod.CASH_ON_DELIVERY);
+        request.setShippingAddress("Ship Street");
+        request.setBillingAddress("Bill Street");
+
+        jpa.statistics().clear();
+        OrderResponse response = jpa.transactionTemplate().execute(status -> service.placeOrder("buyer@test.com", request));
+        long statements = jpa.statistics().getPrepareStatementCount();
+
+        assertEquals(cartSize, response.getItems().size());
+        assertEquals(Long.valueOf(48L * cartSize), em.createQuery(
+                        "SELECT SUM(p.stock) FROM Product p WHERE p.id IN :ids", Long.class)
+                .setParameter("ids", productIds)
+                .getSingleResult());
+        return statements;
+    }
+
+    private int orderListQueryCount(int orderCount, boolean sellerView) {
+        OrderDAO orderDAO = mock(OrderDAO.class);
+        OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+        PaymentDAO paymentDAO = mock(PaymentDAO.class);
+        UserDAO userDAO = mock(UserDAO.class);
+        OrderServiceImpl service = new OrderServiceImpl(
+                orderDAO,
+                orderItemDAO,
+                mock(CartDAO.class),
+                mock(CartItemDAO.class),
+                paymentDAO,
+                mock(ProductDAO.class),
+                userDAO,
+                mock(ApplicationEventPublisher.class),
+                mock(StockReservationService.class),
+                new OrderNumberGenerator(0),
+                mock(SellerStatsService.class)
+        );
+
+        User buyer = user(4L, "buyer@test.com", Role.BUYER);
+        User seller = user(5L, "seller@test.com", Role.SELLER);
+        User otherSeller = user(6L, "other@test.com", Role.SELLER);
+        List<Order> orders = new ArrayList<>();
+        Map<Long, List<OrderItem>> itemsByOrder = new HashMap<>();
+        Map<Long, Payment> paymentsByOrder = new HashMap<>();
+        for (long id = 1; id <= orderCount; id++) {
+            Order order = Order.builder()
+                    .id(id)
+                    .orderNumber("ORD-" + id)
+                    .buyer(buyer)
+                    .status(OrderStatus.PLACED)
+                    .paymentMethod(PaymentMethod.CREDIT_CARD)
+                    .totalAmount(new BigDecimal("30.00"))
+                    .build();
+            orders.add(order);
+            itemsByOrder.put(id, List.of(
+                    orderItem(id * 10, order, seller, "10.00"),
+                    orderItem(id * 10 + 1, order, otherSeller, "20.00")
+            ));
+            paymentsByOrder.put(id, Payment.builder().id(id).order(order).status(PaymentStatus.SUCCESS).build());
+        }
+
+        when(userDAO.findByEmail("buyer@test.com")).thenReturn(Optional.of(buyer));
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(orderDAO.findByBuyerId(4L)).thenReturn(orders);
+        when(orderDAO.findBySellerEmail("seller@test.com")).thenReturn(orders);
+        when(orderItemDAO.findByOrderIds(anyList())).thenReturn(itemsByOrder);
+        when(paymentDAO.findByOrderIds(anyList())).thenReturn(paymentsByOrder);
+
+        List<OrderResponse> responses = sellerView
+                ? service.getSellerOrders("seller@test.com")
+                : service.getBuyerOrders("buyer@test.com");
+
+        assertEquals(orderCount, responses.size());
+        OrderResponse last = responses.get(orderCount - 1);
+        assertEquals(Long.valueOf(orderCount), last.getOrderId());
+        assertEquals(PaymentStatus.SUCCESS, last.getPaymentStatus());
+        assertEquals(sellerView ? 1 : 2, last.getItems().size());
+        assertEquals(0, new BigDecimal(sellerView ? "10.00" : "30.00").compareTo(last.getTotalAmount()));
+        verify(orderItemDAO, never()).findByOrderId(any());
+        verify(paymentDAO, never()).findByOrderId(any());
+
+        int queries = 0;
+        for (Object dao : List.of(orderDAO, orderItemDAO, paymentDAO, userDAO)) {
+            queries += mockingDetails(dao).getInvocations().size();
+        }
+        return queries;
+    }
+
+    private Order bulkOrder(Long id, User buyer, OrderStatus status, PaymentMethod paymentMethod) {
+        Order order = Order.builder()
+                .id(id)
+                .orderNumber("ORD-" + id)
+                .buyer(buyer)
+                .status(status)
+                .paymentMethod(paymentMethod)
+                .active(true)
+                .build();
+        order.setIsDeleted(false);
+        return order;
+    }
 }
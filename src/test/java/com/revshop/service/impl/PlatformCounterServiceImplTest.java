@@ -0,0 +1,131 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.AdminDAO;
+import com.revshop.dto.admin.AdminSummaryResponse;
+import com.revshop.entity.PlatformCounter;
+import com.revshop.entity.PlatformCounterListener;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.service.PlatformCounterService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PlatformCounterServiceImplTest {
+
+    private final AdminDAO adminDAO = mock(AdminDAO.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+
+    private PlatformCounterServiceImpl platformCounterService;
+    private PlatformCounterListener listener;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        platformCounterService = new PlatformCounterServiceImpl(adminDAO, transactionTemplate);
+        ObjectProvider<PlatformCounterService> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(platformCounterService);
+        listener = new PlatformCounterListener(provider);
+
+        when(adminDAO.countUsers(true)).thenReturn(20L);
+        when(adminDAO.countUsersByRole(Role.BUYER, true)).thenReturn(12L);
+        when(adminDAO.countUsersByRole(Role.SELLER, true)).thenReturn(8L);
+        when(adminDAO.countUsersByActive(true, true)).thenReturn(18L);
+        when(adminDAO.countDeletedUsers()).thenReturn(2L);
+        when(adminDAO.countProducts()).thenReturn(50L);
+        when(adminDAO.countOrders()).thenReturn(14L);
+        when(adminDAO.countPayments()).thenReturn(10L);
+    }
+
+    @After
+    public void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void getSummary_servesListenerMaintainedCountsWithoutRecounting() {
+        platformCounterService.load();
+
+        User buyer = User.builder().id(1L).role(Role.BUYER).active(true).build();
+        listener.onPersist(buyer);
+        Product product = Product.builder().id(5L).build();
+        product.setIsDeleted(false);
+        listener.onLoad(product);
+        product.setIsDeleted(true);
+        listener.onUpdate(product);
+        listener.onUpdate(product);
+
+        AdminSummaryResponse summary = platformCounterService.getSummary();
+
+        assertEquals(21L, summary.getTotalUsers());
+        assertEquals(13L, summary.getTotalBuyers());
+        assertEquals(8L, summary.getTotalSellers());
+        assertEquals(19L, summary.getActiveUsers());
+        assertEquals(49L, summary.getTotalProducts());
+        assertNotNull(summary.getCountersReconciledAt());
+        assertNotNull(summary.getCountersChangedAt());
+        verify(adminDAO, times(1)).countProducts();
+    }
+
+    @Test
+    public void record_appliesTransactionDeltasOnlyAfterCommit() {
+        platformCounterService.load();
+
+        TransactionSynchronizationManager.initSynchronization();
+        platformCounterService.record(Map.of(PlatformCounter.ORDERS, 1L));
+        platformCounterService.record(Map.of(PlatformCounter.ORDERS, 1L, PlatformCounter.PAYMENTS, 1L));
+        assertEquals(14L, platformCounterService.getSummary().getTotalOrders());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertEquals(16L, platformCounterService.getSummary().getTotalOrders());
+        assertEquals(11L, platformCounterService.getSummary().getTotalPayments());
+
+        TransactionSynchronizationManager.initSynchronization();
+        platformCounterService.record(Map.of(PlatformCounter.ORDERS, 1L));
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(16L, platformCounterService.getSummary().getTotalOrders());
+    }
+
+    @Test
+    public void reconcile_correctsDriftAgainstTheDatabase() {
+        platformCounterService.load();
+        platformCounterService.record(Map.of(PlatformCounter.PRODUCTS, 3L));
+        when(adminDAO.countProducts()).thenReturn(51L);
+
+        AdminSummaryResponse summary = platformCounterService.reconcile();
+
+        assertEquals(51L, summary.getTotalProducts());
+        assertEquals(2L, summary.getLastReconcileDrift());
+    }
+
+    private void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+}
@@ -0,0 +1,96 @@
+package com.revshop.service.impl;
+
+import com.revshop.dto.admin.CacheStatsResponse;
+import com.revshop.dto.product.ProductResponse;
+import com.revshop.entity.Product;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ProductDetailCacheServiceImplTest {
+
+    private ProductDetailCacheServiceImpl cache;
+    private AtomicInteger loads;
+
+    @Before
+    public void setUp() {
+        cache = new ProductDetailCacheServiceImpl();
+        ReflectionTestUtils.setField(cache, "maxSize", 2);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 300L);
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    public void getOrLoad_servesRepeatReadsFromCache() {
+        ProductResponse first = cache.getOrLoad(1L, () -> load(1L));
+        ProductResponse second = cache.getOrLoad(1L, () -> load(1L));
+
+        CacheStatsResponse stats = cache.getStats();
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1L, stats.getHits());
+        assertEquals(1L, stats.getMisses());
+    }
+
+    @Test
+    public void getOrLoad_evictsLeastRecentlyUsedBeyondMaxSize() {
+        cache.getOrLoad(1L, () -> load(1L));
+        cache.getOrLoad(2L, () -> load(2L));
+        cache.getOrLoad(1L, () -> load(1L));
+        cache.getOrLoad(3L, () -> load(3L));
+
+        cache.getOrLoad(1L, () -> load(1L));
+        cache.getOrLoad(2L, () -> load(2L));
+
+        assertEquals(4, loads.get());
+        assertEquals(Integer.valueOf(2), cache.getStats().getSize());
+    }
+
+    @Test
+    public void getOrLoad_reloadsExpiredEntries() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 0L);
+
+        cache.getOrLoad(1L, () -> load(1L));
+        cache.getOrLoad(1L, () -> load(1L));
+
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.getStats().getEvictions());
+    }
+
+    @Test
+    public void onProductChanged_dropsCachedEntry() {
+        cache.getOrLoad(1L, () -> load(1L));
+
+        cache.onProductChanged(new ProductChangedEvent(
+                Product.builder().id(1L).build(),
+                ProductChangeType.STOCK_CHANGED
+        ));
+        cache.getOrLoad(1L, () -> load(1L));
+
+        assertEquals(2, loads.get());
+        assertEquals(1L, cache.getStats().getInvalidations());
+    }
+
+    @Test
+    public void getOrLoad_doesNotCacheValueLoadedDuringInvalidation() {
+        cache.getOrLoad(1L, () -> {
+            cache.evict(1L);
+            return load(1L);
+        });
+        cache.getOrLoad(1L, () -> load(1L));
+
+        assertEquals(2, loads.get());
+    }
+
+    private ProductResponse load(Long id) {
+        loads.incrementAndGet();
+        return ProductResponse.builder().id(id).name("Product " + id).build();
+    }
+}
@@ -0,0 +1,245 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.CategoryDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.product.ProductImportError;
+import com.revshop.dto.product.ProductImportFormat;
+import com.revshop.dto.product.ProductImportResponse;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.exception.ForbiddenOperationException;
+import jakarta.validation.Validation;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ProductImportServiceImplTest {
+
+    private final ProductDAO productDAO = mock(ProductDAO.class);
+    private final CategoryDAO categoryDAO = mock(CategoryDAO.class);
+    private final UserDAO userDAO = mock(UserDAO.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final List<Product> saved = new ArrayList<>();
+
+    private ProductImportServiceImpl productImportService;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        productImportService = new ProductImportServiceImpl(
+                productDAO,
+                categoryDAO,
+                userDAO,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new ObjectMapper(),
+                transactionTemplate,
+                eventPublisher
+        );
+        ReflectionTestUtils.setField(productImportService, "chunkSize", 2);
+
+        User seller = User.builder().id(9L).email("seller@test.com").role(Role.SELLER).build();
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(categoryDAO.findAllActive()).thenReturn(List.of(
+                Category.builder().id(1L).name("Audio").active(true).build(),
+                Category.builder().id(2L).name("Home Decor").active(true).build()
+        ));
+        when(productDAO.save(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(100L + saved.size());
+            saved.add(product);
+            return product;
+        });
+        doAnswer(invocation -> {
+            ((Consumer<TransactionStatus>) invocation.getArgument(0)).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    public void importProducts_csvImportsValidRowsInChunksAndReportsRowErrors() {
+        String csv = """
+                name,description,price,mrp_price,stock,category_name
+                Speaker,"Loud, clear ""bass""
+                two lines",999,1299,5,audio
+                Lamp,Desk lamp,abc,,3,Home Decor
+                Vase,Glass vase,450,,0,Garden
+                Cable,USB cable,199,,20,Audio
+
+                Rug,Wool rug,1500,1000,2,Home Decor
+                Mat,Bath mat,300,,4,Home Decor
+                """;
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.CSV,
+                stream(csv)
+        );
+
+        assertEquals(6, response.getTotalRows());
+        assertEquals(3, response.getImportedCount());
+        assertEquals(3, response.getFailedCount());
+        assertFalse(response.isErrorsTruncated());
+        assertEquals(List.of(2L, 3L, 5L), response.getErrors().stream().map(ProductImportError::getRowNumber).toList());
+        assertEquals("price must be a number", response.getErrors().get(0).getMessage());
+        assertEquals("Category not found", response.getErrors().get(1).getMessage());
+
+        Product speaker = saved.get(0);
+        assertEquals("Loud, clear \"bass\"\ntwo lines", speaker.getDescription());
+        assertEquals(0, new BigDecimal("1299").compareTo(speaker.getMrpPrice()));
+        assertEquals(0, new BigDecimal("999").compareTo(speaker.getDiscountedPrice()));
+        assertEquals(Long.valueOf(1L), speaker.getCategory().getId());
+        assertEquals(List.of("Speaker", "Cable", "Mat"), saved.stream().map(Product::getName).toList());
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(eventPublisher, times(3)).publishEvent(any(ProductChangedEvent.class));
+        verify(categoryDAO, times(1)).findAllActive();
+    }
+
+    @Test
+    public void importProducts_ndjsonReportsMalformedLinesAndValidationMessages() {
+        String ndjson = """
+                {"name":"Speaker","price":999,"stock":5,"categoryId":1}
+                not json
+                {"name":"","price":10,"stock":-1,"categoryId":1}
+                """;
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.NDJSON,
+                stream(ndjson)
+        );
+
+        assertEquals(3, response.getTotalRows());
+        assertEquals(1, response.getImportedCount());
+        assertEquals("Malformed JSON", response.getErrors().get(0).getMessage());
+        assertEquals("Product name is required; Stock cannot be negative", response.getErrors().get(1).getMessage());
+    }
+
+    @Test
+    public void importProducts_marksEveryRowOfAFailedChunkAndTruncatesErrors() {
+        ReflectionTestUtils.setField(productImportService, "maxReportedErrors", 1);
+        doAnswer(invocation -> {
+            throw new IllegalStateException("constraint violated");
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.CSV,
+                stream("name,price,stock,categoryId\nA,10,1,1\nB,20,2,2\n")
+        );
+
+        assertEquals(0, response.getImportedCount());
+        assertEquals(2, response.getFailedCount());
+        assertEquals(1, response.getErrors().size());
+        assertTrue(response.isErrorsTruncated());
+        assertEquals("Chunk rolled back: constraint violated", response.getErrors().get(0).getMessage());
+    }
+
+    @Test
+    public void importProducts_reportsAnUnterminatedQuoteAsOneRowAndResumesOnTheNextLine() {
+        ReflectionTestUtils.setField(productImportService, "maxRecordChars", 40);
+        String csv = """
+                name,price,stock,category_name
+                Speaker,"unterminated,999,5,Audio
+                Cable,199,20,Audio and a long tail
+                Mat,300,4,Home Decor
+                """;
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.CSV,
+                stream(csv)
+        );
+
+        assertEquals(2, response.getTotalRows());
+        assertEquals(1, response.getImportedCount());
+        assertEquals(1L, response.getErrors().get(0).getRowNumber());
+        assertEquals("Row is longer than 40 characters; check for an unterminated quote",
+                response.getErrors().get(0).getMessage());
+        assertEquals(List.of("Mat"), saved.stream().map(Product::getName).toList());
+        assertTrue(response.isCompleted());
+    }
+
+    @Test
+    public void importProducts_reportsAnOversizedNdjsonLine() {
+        ReflectionTestUtils.setField(productImportService, "maxRecordChars", 60);
+        String ndjson = "{\"name\":\"" + "x".repeat(100) + "\"}\n"
+                + "{\"name\":\"Speaker\",\"price\":999,\"stock\":5,\"categoryId\":1}\n";
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.NDJSON,
+                stream(ndjson)
+        );
+
+        assertEquals(2, response.getTotalRows());
+        assertEquals(1, response.getImportedCount());
+        assertEquals(1L, response.getErrors().get(0).getRowNumber());
+    }
+
+    @Test
+    public void importProducts_returnsThePartialReportWhenTheStreamFails() {
+        InputStream failing = new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("connection reset");
+            }
+        };
+        InputStream input = new SequenceInputStream(
+                stream("name,price,stock,categoryId\nA,10,1,1\nB,20,2,1\nC,30,3,1\n"),
+                failing
+        );
+
+        ProductImportResponse response = productImportService.importProducts(
+                "seller@test.com",
+                ProductImportFormat.CSV,
+                input
+        );
+
+        assertFalse(response.isCompleted());
+        assertEquals("Could not read import stream after row 3: connection reset", response.getStreamError());
+        assertEquals(3, response.getImportedCount());
+        assertEquals(List.of("A", "B", "C"), saved.stream().map(Product::getName).toList());
+    }
+
+    @Test(expected = ForbiddenOperationException.class)
+    public void importProducts_rejectsNonSellers() {
+        when(userDAO.findByEmail("buyer@test.com"))
+                .thenReturn(Optional.of(User.builder().id(3L).email("buyer@test.com").role(Role.BUYER).build()));
+
+        productImportService.importProducts("buyer@test.com", ProductImportFormat.CSV, stream("name\n"));
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
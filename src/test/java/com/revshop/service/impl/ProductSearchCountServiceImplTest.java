@@ -0,0 +1,134 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.common.CountMode;
+import com.revshop.dto.common.TotalCount;
+import com.revshop.entity.Product;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductSearchCountServiceImplTest {
+
+    @Mock
+    private ProductDAO productDAO;
+
+    @InjectMocks
+    private ProductSearchCountServiceImpl productSearchCountService;
+
+    @Test
+    public void count_noneSkipsDatabase() {
+        TotalCount count = productSearchCountService.count("phone", null, null, null, null, CountMode.NONE);
+
+        assertNull(count.getValue());
+        assertEquals(CountMode.NONE, count.getMode());
+        verifyNoInteractions(productDAO);
+    }
+
+    @Test
+    public void count_exactIsCachedPerNormalizedFilter() {
+        when(productDAO.countPublicProducts("Phone", 3L, new BigDecimal("10.00"), null, true)).thenReturn(4L);
+
+        TotalCount first = productSearchCountService.count(
+                "Phone", 3L, new BigDecimal("10.00"), null, true, CountMode.EXACT
+        );
+        TotalCount second = productSearchCountService.count(
+                " phone ", 3L, new BigDecimal("10"), null, true, CountMode.EXACT
+        );
+
+        assertEquals(Long.valueOf(4L), first.getValue());
+        assertEquals(Long.valueOf(4L), second.getValue());
+        assertEquals(CountMode.EXACT, second.getMode());
+        verify(productDAO, times(1)).countPublicProducts("Phone", 3L, new BigDecimal("10.00"), null, true);
+    }
+
+    @Test
+    public void count_catalogWriteInvalidatesExactCount() {
+        when(productDAO.countPublicProducts(null, null, null, null, null)).thenReturn(10L, 11L);
+
+        productSearchCountService.count(null, null, null, null, null, CountMode.EXACT);
+        productSearchCountService.onProductChanged(new ProductChangedEvent(new Product(), ProductChangeType.CREATED));
+        TotalCount refreshed = productSearchCountService.count(null, null, null, null, null, CountMode.EXACT);
+
+        assertEquals(Long.valueOf(11L), refreshed.getValue());
+        verify(productDAO, times(2)).countPublicProducts(null, null, null, null, null);
+    }
+
+    @Test
+    public void count_stockOnlyChangeKeepsCachedCount() {
+        when(productDAO.countPublicProducts(null, 2L, null, null, null)).thenReturn(6L);
+
+        productSearchCountService.count(null, 2L, null, null, null, CountMode.EXACT);
+        productSearchCountService.onProductChanged(new ProductChangedEvent(new Product(), ProductChangeType.STOCK_CHANGED));
+        productSearchCountService.count(null, 2L, null, null, null, CountMode.EXACT);
+
+        verify(productDAO, times(1)).countPublicProducts(null, 2L, null, null, null);
+    }
+
+    @Test
+    public void count_estimatedSumsOneCatalogSnapshotForEveryBroadFilter() {
+        when(productDAO.countPublicProductFacets(null, null, null, null, null)).thenReturn(List.of(
+                new Object[]{2L, 0, true, 4L},
+                new Object[]{2L, 1, false, 3L},
+                new Object[]{5L, 1, true, 10L}
+        ));
+
+        TotalCount category = productSearchCountService.count(null, 2L, null, null, null, CountMode.ESTIMATED);
+        TotalCount inStock = productSearchCountService.count(null, null, null, null, true, CountMode.ESTIMATED);
+        productSearchCountService.invalidate();
+        TotalCount all = productSearchCountService.count(" ", null, null, null, null, CountMode.ESTIMATED);
+
+        assertEquals(Long.valueOf(7L), category.getValue());
+        assertEquals(CountMode.ESTIMATED, category.getMode());
+        assertEquals(Long.valueOf(14L), inStock.getValue());
+        assertEquals(Long.valueOf(17L), all.getValue());
+        verify(productDAO, times(1)).countPublicProductFacets(null, null, null, null, null);
+        verify(productDAO, never()).countPublicProducts(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void count_estimatedFallsBackToExactForNarrowFilters() {
+        when(productDAO.countPublicProducts("phone", null, null, null, null)).thenReturn(3L);
+
+        TotalCount count = productSearchCountService.count("phone", null, null, null, null, CountMode.ESTIMATED);
+
+        assertEquals(Long.valueOf(3L), count.getValue());
+        assertEquals(CountMode.EXACT, count.getMode());
+        verify(productDAO, never()).countPublicProductFacets(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    public void count_evictsTheLeastRecentlyUsedFilterWhenFull() {
+        ReflectionTestUtils.setField(productSearchCountService, "maxCachedFilters", 2);
+        when(productDAO.countPublicProducts(any(), any(), any(), any(), any())).thenReturn(1L);
+
+        productSearchCountService.count(null, 1L, null, null, null, CountMode.EXACT);
+        productSearchCountService.count(null, 2L, null, null, null, CountMode.EXACT);
+        productSearchCountService.count(null, 1L, null, null, null, CountMode.EXACT);
+        productSearchCountService.count(null, 3L, null, null, null, CountMode.EXACT);
+        productSearchCountService.count(null, 1L, null, null, null, CountMode.EXACT);
+        productSearchCountService.count(null, 2L, null, null, null, CountMode.EXACT);
+
+        verify(productDAO, times(1)).countPublicProducts(null, 1L, null, null, null);
+        verify(productDAO, times(2)).countPublicProducts(null, 2L, null, null, null);
+        verify(productDAO, times(1)).countPublicProducts(null, 3L, null, null, null);
+    }
+}
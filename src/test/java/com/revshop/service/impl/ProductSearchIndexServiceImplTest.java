@@ -0,0 +1,195 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.common.FacetCount;
+import com.revshop.dto.product.ProductSearchCursor;
+import com.revshop.dto.product.ProductSearchHits;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.event.CategoryChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductSearchIndexServiceImplTest {
+
+    @Mock
+    private ProductDAO productDAO;
+
+    @InjectMocks
+    private ProductSearchIndexServiceImpl productSearchIndexService;
+
+    private final Category audio = Category.builder().id(1L).name("Audio").build();
+    private final Category computers = Category.builder().id(2L).name("Computers").build();
+
+    @Before
+    public void buildIndex() {
+        when(productDAO.findActiveProducts()).thenReturn(List.of(
+                product(10L, "Wireless Headphones", "Noise cancelling over-ear", audio, "2999.00", 5, 1),
+                product(11L, "Bluetooth Speaker", "Portable speaker", audio, "1499.00", 0, 2),
+                product(12L, "Gaming Laptop", "RTX graphics with wireless mouse", computers, "89999.00", 3, 3)
+        ));
+        productSearchIndexService.rebuild();
+    }
+
+    @Test
+    public void rebuild_marksIndexReady() {
+        assertTrue(productSearchIndexService.isReady());
+    }
+
+    @Test
+    public void search_matchesSubstringAcrossNameDescriptionAndCategory() {
+        ProductSearchHits byDescription = search("wire", null, null, null);
+        ProductSearchHits byCategoryName = search("audio", null, null, null);
+        ProductSearchHits allTokens = search("wireless head", null, null, null);
+
+        assertEquals(List.of(10L, 12L), byDescription.getProductIds());
+        assertEquals(2L, byCategoryName.getTotalElements());
+        assertEquals(List.of(10L), allTokens.getProductIds());
+    }
+
+    @Test
+    public void search_matchesTheWholeKeywordAnywhereInAField() {
+        assertEquals(List.of(10L, 12L), search("ELESS", null, null, null).getProductIds());
+        assertEquals(List.of(10L), search("ing over-e", null, null, null).getProductIds());
+        assertTrue(search("head wireless", null, null, null).getProductIds().isEmpty());
+        assertTrue(search("wire%", null, null, null).getProductIds().isEmpty());
+    }
+
+    @Test
+    public void onCategoryChanged_reindexesTheCategoryNameOfItsProducts() {
+        productSearchIndexService.onCategoryChanged(new CategoryChangedEvent(
+                Category.builder().id(1L).name("Sound").active(true).build()));
+
+        assertTrue(search("audio", null, null, null).getProductIds().isEmpty());
+        assertEquals(List.of(10L, 11L), search("sound", null, null, null).getProductIds());
+        assertEquals(2L, search(null, 1L, null, null).getTotalElements());
+    }
+
+    @Test
+    public void search_appliesCategoryPriceAndStockFilters() {
+        ProductSearchHits inCategory = search(null, 1L, null, null);
+        ProductSearchHits inStockOnly = search(null, 1L, null, true);
+        ProductSearchHits underBudget = search(null, null, new BigDecimal("3000.00"), null);
+
+        assertEquals(2L, inCategory.getTotalElements());
+        assertEquals(List.of(10L), inStockOnly.getProductIds());
+        assertEquals(List.of(10L, 11L), underBudget.getProductIds());
+    }
+
+    @Test
+    public void search_sortsAndPagesInMemory() {
+        ProductSearchHits firstPage = productSearchIndexService.search(
+                null, null, null, null, null, "price", "desc", null, 0, 2, false
+        );
+        ProductSearchHits secondPage = productSearchIndexService.search(
+                null, null, null, null, null, "price", "desc", null, 2, 2, false
+        );
+
+        assertEquals(List.of(12L, 10L), firstPage.getProductIds());
+        assertEquals(List.of(11L), secondPage.getProductIds());
+        assertEquals(3L, secondPage.getTotalElements());
+    }
+
+    @Test
+    public void search_seeksPastCursorWithoutChangingTotal() {
+        ProductSearchCursor cursor = ProductSearchCursor.builder()
+                .sortBy("price")
+                .sortDir("desc")
+                .lastId(10L)
+                .lastSortValue("2999.00")
+                .build();
+
+        ProductSearchHits nextPage = productSearchIndexService.search(
+                null, null, null, null, null, "price", "desc", cursor, 0, 2, false
+        );
+
+        assertEquals(List.of(11L), nextPage.getProductIds());
+        assertEquals(3L, nextPage.getTotalElements());
+    }
+
+    @Test
+    public void search_countsFacetsOverWholeMatchingSet() {
+        ProductSearchHits hits = productSearchIndexService.search(
+                null, null, null, null, null, "createdAt", "asc", null, 0, 1, true
+        );
+
+        Map<String, List<FacetCount>> facets = hits.getFacets();
+        assertEquals(List.of("1:2", "2:1"), flatten(facets.get("categoryId")));
+        assertEquals(List.of("1000-5000:2", "50000-:1"), flatten(facets.get("price")));
+        assertEquals(List.of("true:2", "false:1"), flatten(facets.get("inStock")));
+        assertEquals(1, hits.getProductIds().size());
+    }
+
+    @Test
+    public void indexAndRemove_updatePostingsIncrementally() {
+        Product renamed = product(11L, "Smart Speaker", "Voice assistant", audio, "1499.00", 4, 2);
+        productSearchIndexService.index(renamed);
+
+        assertEquals(List.of(11L), search("smart", null, null, null).getProductIds());
+        assertTrue(search("bluetooth", null, null, null).getProductIds().isEmpty());
+
+        productSearchIndexService.remove(11L);
+
+        assertTrue(search("smart", null, null, null).getProductIds().isEmpty());
+        assertFalse(search(null, 1L, null, null).getProductIds().contains(11L));
+    }
+
+    @Test
+    public void index_dropsInactiveProducts() {
+        Product deleted = product(10L, "Wireless Headphones", null, audio, "2999.00", 5, 1);
+        deleted.setActive(false);
+
+        productSearchIndexService.index(deleted);
+
+        assertEquals(List.of(12L), search("wireless", null, null, null).getProductIds());
+    }
+
+    private List<String> flatten(List<FacetCount> counts) {
+        return counts.stream().map(count -> count.getValue() + ":" + count.getCount()).toList();
+    }
+
+    private ProductSearchHits search(String keyword, Long categoryId, BigDecimal maxPrice, Boolean inStock) {
+        return productSearchIndexService.search(
+                keyword, categoryId, null, maxPrice, inStock, "createdAt", "asc", null, 0, 10, false
+        );
+    }
+
+    private Product product(
+            Long id,
+            String name,
+            String description,
+            Category category,
+            String price,
+            int stock,
+            int createdDay
+    ) {
+        Product product = Product.builder()
+                .id(id)
+                .name(name)
+                .description(description)
+                .category(category)
+                .price(new BigDecimal(price))
+                .stock(stock)
+                .inStock(stock > 0)
+                .active(true)
+                .build();
+        product.setIsDeleted(false);
+        product.setCreatedAt(LocalDateTime.of(2026, 1, createdDay, 10, 0));
+        return product;
+    }
+}
@@ -1,11 +1,173 @@
 package com.revshop.service.impl;
 
+import com.revshop.dao.CategoryDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.ProductImageDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.common.CountMode;
+import com.revshop.dto.common.PagedResponse;
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductResponse;
+import com.revshop.dto.product.ProductSearchHits;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.User;
+import com.revshop.mapper.ProductMapper;
+import com.revshop.service.ProductDetailCacheService;
+import com.revshop.service.ProductSearchCountService;
+import com.revshop.service.ProductSearchIndexService;
+import com.revshop.service.ProductSuggestService;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
 public class ProductServiceImplTest {
 
+    @Mock
+    private ProductDAO productDAO;
+    @Mock
+    private ProductImageDAO productImageDAO;
+    @Mock
+    private CategoryDAO categoryDAO;
+    @Mock
+    private UserDAO userDAO;
+    @Mock
+    private ProductMapper productMapper;
+    @Mock
+    private ProductSearchIndexService productSearchIndexService;
+    @Mock
+    private ProductSearchCountService productSearchCountService;
+    @Mock
+    private ProductDetailCacheService productDetailCacheService;
+    @Mock
+    private ProductSuggestService productSuggestService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ProductServiceImpl productService;
+
     @Test
     public void getAllActiveProducts_mapsResults() {
         new RemainingServiceImplCoverageTest().productServiceImpl_getAllActiveProducts_mapsResults();
     }
+
+    @Test
+    public void streamActiveProducts_loadsImagesAndDetachesPerChunk() {
+        ProductServiceImpl service = new ProductServiceImpl(
+                productDAO,
+                productImageDAO,
+                categoryDAO,
+                userDAO,
+                new ProductMapper(),
+                productSearchIndexService,
+                productSearchCountService,
+                productDetailCacheService,
+                productSuggestService,
+                eventPublisher
+        );
+        ReflectionTestUtils.setField(service, "streamChunkSize", 2);
+
+        Category category = Category.builder().id(3L).name("Audio").build();
+        User seller = User.builder().id(9L).email("seller@test.com").role(Role.SELLER).build();
+        List<Product> products = List.of(
+                Product.builder().id(1L).name("Speaker").price(BigDecimal.TEN).category(category).seller(seller).build(),
+                Product.builder().id(2L).name("Earbuds").price(BigDecimal.TEN).category(category).seller(seller).build(),
+                Product.builder().id(3L).name("Amplifier").price(BigDecimal.TEN).category(category).seller(seller).build()
+        );
+        when(productDAO.streamActiveProducts(null, null, 2)).thenReturn(products.stream());
+        when(productImageDAO.findImageUrlsByProductIds(List.of(1L, 2L)))
+                .thenReturn(Map.of(1L, List.of("/uploads/product-images/speaker.jpg")));
+        when(productImageDAO.findImageUrlsByProductIds(List.of(3L))).thenReturn(Map.of());
+
+        List<List<Long>> detachedChunks = new ArrayList<>();
+        doAnswer(invocation -> {
+            List<Product> chunk = invocation.getArgument(0);
+            detachedChunks.add(chunk.stream().map(Product::getId).toList());
+            return null;
+        }).when(productDAO).detach(anyList());
+
+        List<ProductResponse> streamed = new ArrayList<>();
+        service.streamActiveProducts(null, null, streamed::add);
+
+        assertEquals(List.of(1L, 2L, 3L), streamed.stream().map(ProductResponse::getId).toList());
+        assertEquals(List.of("/uploads/product-images/speaker.jpg"), streamed.get(0).getImageUrls());
+        assertTrue(streamed.get(2).getImageUrls().isEmpty());
+        assertEquals(List.of(List.of(1L, 2L), List.of(3L)), detachedChunks);
+    }
+
+    @Test
+    public void getProductById_buildsTheDetailFromAProjectionWithoutLazyLoading() {
+        ProductListRow row = new ProductListRow(
+                7L, "Laptop", null, BigDecimal.TEN, null, null, 3, 5, true, true, null,
+                2L, "Computers", 9L, "seller@test.com", null, null
+        );
+        ProductResponse mapped = ProductResponse.builder().id(7L).build();
+        when(productDetailCacheService.getOrLoad(eq(7L), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<ProductResponse>>getArgument(1).get());
+        when(productDAO.findRowById(7L)).thenReturn(Optional.of(row));
+        when(productImageDAO.findImageUrlsByProductIds(List.of(7L))).thenReturn(Map.of(7L, List.of("/a.jpg")));
+        when(productMapper.toResponse(row, List.of("/a.jpg"))).thenReturn(mapped);
+
+        assertEquals(mapped, productService.getProductById(7L));
+        verify(productDAO, never()).findById(any());
+    }
+
+    @Test
+    public void searchProducts_indexedSearchHonoursTheRequestedCountMode() {
+        indexReturnsTotal(42L);
+
+        PagedResponse<ProductResponse> none = search("none");
+        PagedResponse<ProductResponse> estimated = search("estimated");
+        PagedResponse<ProductResponse> exact = search(null);
+
+        assertNull(none.getTotalElements());
+        assertNull(none.getTotalPages());
+        assertEquals(CountMode.NONE, none.getCountMode());
+        assertEquals(Long.valueOf(42L), estimated.getTotalElements());
+        assertEquals(CountMode.EXACT, estimated.getCountMode());
+        assertEquals(Long.valueOf(42L), exact.getTotalElements());
+        assertEquals(CountMode.EXACT, exact.getCountMode());
+        verifyNoInteractions(productSearchCountService);
+    }
+
+    private void indexReturnsTotal(long total) {
+        when(productSearchIndexService.isReady()).thenReturn(true);
+        when(productSearchIndexService.search(
+                any(), any(), any(), any(), any(), eq("createdAt"), eq("desc"), any(), anyInt(), anyInt(), anyBoolean()
+        )).thenReturn(ProductSearchHits.builder().productIds(List.of()).totalElements(total).build());
+    }
+
+    private PagedResponse<ProductResponse> search(String count) {
+        return productService.searchProducts(
+                "speaker", null, null, null, null, 0, 10, null, null, null, count, false
+        );
+    }
 }
@@ -0,0 +1,115 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.CategoryDAO;
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.product.ProductListRow;
+import com.revshop.dto.product.ProductSuggestionResponse;
+import com.revshop.dto.product.SuggestionType;
+import com.revshop.entity.Category;
+import com.revshop.entity.Product;
+import com.revshop.event.CategoryChangedEvent;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ProductSuggestServiceImplTest {
+
+    @Mock
+    private ProductDAO productDAO;
+
+    @Mock
+    private CategoryDAO categoryDAO;
+
+    @Mock
+    private OrderItemDAO orderItemDAO;
+
+    @InjectMocks
+    private ProductSuggestServiceImpl productSuggestService;
+
+    private final Category audio = Category.builder().id(1L).name("Audio").active(true).build();
+
+    @Before
+    public void buildIndex() {
+        audio.setIsDeleted(false);
+        when(productDAO.findActiveRows()).thenReturn(List.of(
+                row(10L, "Wireless Headphones"),
+                row(11L, "Wired Earphones"),
+                row(12L, "Audio Cable")
+        ));
+        when(categoryDAO.findAllActive()).thenReturn(List.of(audio));
+        when(orderItemDAO.sumSoldQuantityByProduct()).thenReturn(List.of(
+                new Object[]{11L, 40L},
+                new Object[]{10L, 5L}
+        ));
+        productSuggestService.rebuild();
+    }
+
+    @Test
+    public void suggest_ranksPrefixMatchesBySalesVolume() {
+        List<ProductSuggestionResponse> suggestions = productSuggestService.suggest("WIR", 5);
+
+        assertEquals(List.of("Wired Earphones", "Wireless Headphones"), texts(suggestions));
+        assertEquals(40L, suggestions.get(0).getWeight());
+    }
+
+    @Test
+    public void suggest_matchesWordStartsInsideNamesAndCategories() {
+        List<ProductSuggestionResponse> suggestions = productSuggestService.suggest("a", 5);
+
+        assertEquals(List.of("Audio", "Audio Cable"), texts(suggestions));
+        assertEquals(SuggestionType.CATEGORY, suggestions.get(0).getType());
+        assertEquals(List.of("Wireless Headphones"), texts(productSuggestService.suggest("head", 5)));
+    }
+
+    @Test
+    public void suggest_respectsLimitAndIgnoresBlankPrefix() {
+        assertEquals(1, productSuggestService.suggest("w", 1).size());
+        assertTrue(productSuggestService.suggest("  ", 5).isEmpty());
+    }
+
+    @Test
+    public void onProductAndCategoryChanged_updateEntriesIncrementally() {
+        Product renamed = Product.builder()
+                .id(12L)
+                .name("Optical Cable")
+                .category(audio)
+                .price(BigDecimal.TEN)
+                .active(true)
+                .build();
+        renamed.setIsDeleted(false);
+        productSuggestService.onProductChanged(new ProductChangedEvent(renamed, ProductChangeType.UPDATED));
+
+        Category retired = Category.builder().id(1L).name("Audio").active(false).build();
+        retired.setIsDeleted(true);
+        productSuggestService.onCategoryChanged(new CategoryChangedEvent(retired));
+
+        assertTrue(productSuggestService.suggest("audio", 5).isEmpty());
+        assertEquals(List.of("Optical Cable"), texts(productSuggestService.suggest("opt", 5)));
+        assertEquals(List.of("Optical Cable"), texts(productSuggestService.suggest("cab", 5)));
+    }
+
+    private List<String> texts(List<ProductSuggestionResponse> suggestions) {
+        return suggestions.stream().map(ProductSuggestionResponse::getText).toList();
+    }
+
+    private ProductListRow row(Long id, String name) {
+        return new ProductListRow(
+                id, name, null, BigDecimal.TEN, null, null, 5, 5, true, true, null,
+                audio.getId(), audio.getName(), 9L, "seller@test.com", null, null
+        );
+    }
+}
@@ -1,6 +1,5 @@
 package com.revshop.service.impl;
 
-import com.revshop.dao.AdminDAO;
 import com.revshop.dao.CartDAO;
 import com.revshop.dao.CartItemDAO;
 import com.revshop.dao.CategoryDAO;
@@ -12,11 +11,13 @@ import com.revshop.dao.ProductDAO;
 import com.revshop.dao.ProductImageDAO;
 import com.revshop.dao.ReviewDAO;
 import com.revshop.dao.UserDAO;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.dao.SellerStatsDAO;
 import com.revshop.dao.WishlistDAO;
-import com.revshop.dto.admin.AdminSummaryResponse;
 import com.revshop.dto.cart.CartResponse;
 import com.revshop.dto.order.OrderResponse;
 import com.revshop.dto.payment.PaymentResponse;
+import com.revshop.dto.product.ProductListRow;
 import com.revshop.dto.product.ProductResponse;
 import com.revshop.dto.profile.ProfileResponse;
 import com.revshop.dto.review.ProductRatingSummaryResponse;
@@ -35,49 +36,31 @@ import com.revshop.entity.Role;
 import com.revshop.entity.User;
 import com.revshop.entity.WishlistItem;
 import com.revshop.mapper.ProductMapper;
-import com.revshop.service.NotificationService;
+import com.revshop.service.DataVersionService;
+import com.revshop.service.ProductDetailCacheService;
+import com.revshop.service.ProductSearchCountService;
+import com.revshop.service.ProductSearchIndexService;
+import com.revshop.service.ProductSuggestService;
+import com.revshop.service.StockReservationService;
+import com.revshop.service.SellerStatsService;
 import org.junit.Test;
-import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.context.ApplicationEventPublisher;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class RemainingServiceImplCoverageTest {
 
-    @Test
-    public void adminServiceImpl_getSummary_returnsAggregateCounts() {
-        AdminDAO adminDAO = mock(AdminDAO.class);
-        UserDAO userDAO = mock(UserDAO.class);
-        AdminServiceImpl service = new AdminServiceImpl(adminDAO, userDAO);
-        ReflectionTestUtils.setField(service, "configuredAdminKey", "secret-key");
-
-        User seller = activeUser(1L, "seller@test.com", Role.SELLER);
-        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
-        when(adminDAO.countUsers(true)).thenReturn(20L);
-        when(adminDAO.countUsersByRole(Role.BUYER, true)).thenReturn(12L);
-        when(adminDAO.countUsersByRole(Role.SELLER, true)).thenReturn(8L);
-        when(adminDAO.countUsersByActive(true, true)).thenReturn(18L);
-        when(adminDAO.countDeletedUsers()).thenReturn(2L);
-        when(adminDAO.countProducts()).thenReturn(50L);
-        when(adminDAO.countOrders()).thenReturn(14L);
-        when(adminDAO.countPayments()).thenReturn(10L);
-
-        AdminSummaryResponse response = service.getSummary("seller@test.com", "secret-key");
-
-        assertEquals(20L, response.getTotalUsers());
-        assertEquals(12L, response.getTotalBuyers());
-        assertEquals(8L, response.getTotalSellers());
-        assertEquals(50L, response.getTotalProducts());
-    }
-
     @Test
     public void cartServiceImpl_getCart_buildsCartResponseForBuyer() {
         CartDAO cartDAO = mock(CartDAO.class);
@@ -108,7 +91,7 @@ public class RemainingServiceImplCoverageTest {
     public void notificationServiceImpl_getUnreadCount_returnsDaoCount() {
         NotificationDAO notificationDAO = mock(NotificationDAO.class);
         UserDAO userDAO = mock(UserDAO.class);
-        NotificationServiceImpl service = new NotificationServiceImpl(notificationDAO, userDAO);
+        NotificationServiceImpl service = new NotificationServiceImpl(notificationDAO, userDAO, mock(DataVersionService.class));
 
         User user = activeUser(3L, "notify@test.com", Role.BUYER);
         when(userDAO.findByEmail("notify@test.com")).thenReturn(Optional.of(user));
@@ -128,7 +111,7 @@ public class RemainingServiceImplCoverageTest {
         PaymentDAO paymentDAO = mock(PaymentDAO.class);
         ProductDAO productDAO = mock(ProductDAO.class);
         UserDAO userDAO = mock(UserDAO.class);
-        NotificationService notificationService = mock(NotificationService.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
         OrderServiceImpl service = new OrderServiceImpl(
                 orderDAO,
                 orderItemDAO,
@@ -137,7 +120,10 @@ public class RemainingServiceImplCoverageTest {
                 paymentDAO,
                 productDAO,
                 userDAO,
-                notificationService
+                eventPublisher,
+                mock(StockReservationService.class),
+                new OrderNumberGenerator(0),
+                mock(SellerStatsService.class)
         );
 
         User buyer = activeUser(4L, "buyer@test.com", Role.BUYER);
@@ -201,7 +187,7 @@ public class RemainingServiceImplCoverageTest {
         PaymentDAO paymentDAO = mock(PaymentDAO.class);
         OrderDAO orderDAO = mock(OrderDAO.class);
         UserDAO userDAO = mock(UserDAO.class);
-        PaymentServiceImpl service = new PaymentServiceImpl(paymentDAO, orderDAO, userDAO);
+        PaymentServiceImpl service = new PaymentServiceImpl(paymentDAO, orderDAO, userDAO, mock(SellerStatsService.class));
 
         User buyer = activeUser(6L, "buyer@test.com", Role.BUYER);
         Order order = Order.builder()
@@ -242,24 +228,41 @@ public class RemainingServiceImplCoverageTest {
         CategoryDAO categoryDAO = mock(CategoryDAO.class);
         UserDAO userDAO = mock(UserDAO.class);
         ProductMapper productMapper = mock(ProductMapper.class);
-        ProductServiceImpl service = new ProductServiceImpl(productDAO, productImageDAO, categoryDAO, userDAO, productMapper);
+        ProductSearchIndexService productSearchIndexService = mock(ProductSearchIndexService.class);
+        ProductSearchCountService productSearchCountService = mock(ProductSearchCountService.class);
+        ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        ProductServiceImpl service = new ProductServiceImpl(
+                productDAO,
+                productImageDAO,
+                categoryDAO,
+                userDAO,
+                productMapper,
+                productSearchIndexService,
+                productSearchCountService,
+                mock(ProductDetailCacheService.class),
+                mock(ProductSuggestService.class),
+                eventPublisher
+        );
 
-        Product product = Product.builder()
-                .id(7L)
-                .name("Laptop")
-                .build();
+        ProductListRow row = new ProductListRow(
+                7L, "Laptop", null, BigDecimal.TEN, null, null, 3, 5, true, true, null,
+                2L, "Computers", 9L, "seller@test.com", null, null
+        );
         ProductResponse productResponse = ProductResponse.builder()
                 .id(7L)
                 .name("Laptop")
                 .build();
 
-        when(productDAO.findActiveProducts()).thenReturn(List.of(product));
-        when(productMapper.toResponse(product)).thenReturn(productResponse);
+        when(productDAO.findActiveRows()).thenReturn(List.of(row));
+        when(productImageDAO.findImageUrlsByProductIds(List.of(7L)))
+                .thenReturn(Map.of(7L, List.of("/uploads/product-images/laptop.jpg")));
+        when(productMapper.toResponse(row, List.of("/uploads/product-images/laptop.jpg"))).thenReturn(productResponse);
 
         List<ProductResponse> response = service.getAllActiveProducts();
 
         assertEquals(1, response.size());
         assertEquals("Laptop", response.get(0).getName());
+        verify(productImageDAO).findImageUrlsByProductIds(List.of(7L));
     }
 
     @Test
@@ -315,30 +318,18 @@ public class RemainingServiceImplCoverageTest {
         UserDAO userDAO = mock(UserDAO.class);
         ProductDAO productDAO = mock(ProductDAO.class);
         OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
-        SellerDashboardServiceImpl service = new SellerDashboardServiceImpl(userDAO, productDAO, orderItemDAO);
+        SellerStatsService sellerStatsService = mock(SellerStatsService.class);
+        SellerDashboardServiceImpl service = new SellerDashboardServiceImpl(
+                userDAO,
+                productDAO,
+                orderItemDAO,
+                mock(SellerStatsDAO.class),
+                sellerStatsService,
+                mock(DataVersionService.class),
+                mock(SalesRollupDAO.class)
+        );
 
         User seller = activeUser(10L, "seller@test.com", Role.SELLER);
-        User buyer = activeUser(11L, "buyer@test.com", Role.BUYER);
-        Order recentOrder = Order.builder()
-                .id(301L)
-                .orderNumber("ORD-301")
-                .buyer(buyer)
-                .status(OrderStatus.SHIPPED)
-                .build();
-        recentOrder.setCreatedAt(LocalDateTime.of(2026, 3, 1, 10, 0));
-
-        OrderItem firstItem = OrderItem.builder()
-                .order(recentOrder)
-                .seller(seller)
-                .quantity(2)
-                .lineTotal(new BigDecimal("200.00"))
-                .build();
-        OrderItem secondItem = OrderItem.builder()
-                .order(recentOrder)
-                .seller(seller)
-                .quantity(1)
-                .lineTotal(new BigDecimal("100.00"))
-                .build();
 
         when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
         when(productDAO.countBySellerEmail("seller@test.com")).thenReturn(5L);
@@ -348,7 +339,10 @@ public class RemainingServiceImplCoverageTest {
         when(orderItemDAO.countDistinctPendingOrdersBySellerEmail("seller@test.com")).thenReturn(2L);
         when(orderItemDAO.sumQuantityBySellerEmail("seller@test.com")).thenReturn(11L);
         when(orderItemDAO.sumRevenueBySellerEmail("seller@test.com")).thenReturn(new BigDecimal("999.50"));
-        when(orderItemDAO.findBySellerEmail("seller@test.com")).thenReturn(List.of(firstItem, secondItem));
+        when(orderItemDAO.findRecentOrderSummariesBySellerId(10L, 2)).thenReturn(List.<Object[]>of(new Object[]{
+                301L, "ORD-301", "buyer@test.com", OrderStatus.SHIPPED, LocalDateTime.of(2026, 3, 1, 10, 0),
+                3L, new BigDecimal("300.00")
+        }));
         when(orderItemDAO.findTopProductsBySellerEmail("seller@test.com", 1)).thenReturn(
                 List.<Object[]>of(new Object[]{91L, "Laptop", 6, 8L, new BigDecimal("1500.00")})
         );
@@ -359,8 +353,10 @@ public class RemainingServiceImplCoverageTest {
         assertEquals(Long.valueOf(5L), response.getOverview().getTotalProducts());
         assertEquals(1, response.getRecentOrders().size());
         assertEquals(Integer.valueOf(3), response.getRecentOrders().get(0).getItemCount());
+        assertEquals(new BigDecimal("300.00"), response.getRecentOrders().get(0).getOrderAmountForSeller());
         assertEquals(1, response.getTopProducts().size());
         assertEquals(Long.valueOf(91L), response.getTopProducts().get(0).getProductId());
+        verify(sellerStatsService).requestRecompute(10L);
     }
 
     @Test
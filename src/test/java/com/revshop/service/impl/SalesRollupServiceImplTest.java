@@ -0,0 +1,199 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.dao.impl.EmbeddedJpa;
+import com.revshop.dao.impl.SalesRollupDAOImpl;
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.Product;
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SalesRollup;
+import com.revshop.entity.SalesRollupId;
+import com.revshop.entity.User;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SalesRollupServiceImplTest {
+
+    private static final LocalDateTime ORDERED_AT = LocalDateTime.of(2026, 3, 1, 9, 40);
+
+    private final SalesRollupDAO salesRollupDAO = mock(SalesRollupDAO.class);
+    private final SellerStatsDAO sellerStatsDAO = mock(SellerStatsDAO.class);
+    private final OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private SalesRollupServiceImpl salesRollupService;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        doAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+        salesRollupService = new SalesRollupServiceImpl(salesRollupDAO, sellerStatsDAO, orderItemDAO, transactionTemplate);
+    }
+
+    @Test
+    public void applySaleDelta_createsMissingBucketsAndNeverCreatesOneForAReversal() {
+        Order order = Order.builder().id(50L).build();
+        order.setCreatedAt(ORDERED_AT);
+        List<OrderItem> items = List.of(item(order, 7L, 91L, 2, "200.00"), item(order, 7L, 91L, 1, "100.00"));
+        SalesRollupId hour = new SalesRollupId(7L, 91L, RollupGranularity.HOUR, LocalDateTime.of(2026, 3, 1, 9, 0));
+        SalesRollupId day = new SalesRollupId(7L, 91L, RollupGranularity.DAY, LocalDateTime.of(2026, 3, 1, 0, 0));
+        when(salesRollupDAO.applyDelta(any(), anyLong(), any())).thenReturn(0);
+
+        salesRollupService.applySaleDelta(items, 1);
+
+        InOrder ordered = inOrder(salesRollupDAO);
+        ordered.verify(salesRollupDAO).insertEmptyIfAbsent(hour);
+        ordered.verify(salesRollupDAO).applyDelta(hour, 3L, new BigDecimal("300.00"));
+        ordered.verify(salesRollupDAO).insertEmptyIfAbsent(day);
+        ordered.verify(salesRollupDAO).applyDelta(day, 3L, new BigDecimal("300.00"));
+
+        salesRollupService.applySaleDelta(items, -1);
+        verify(salesRollupDAO).applyDelta(day, -3L, new BigDecimal("-300.00"));
+        verify(salesRollupDAO, times(2)).insertEmptyIfAbsent(any());
+        verify(salesRollupDAO, never()).save(any());
+    }
+
+    @Test
+    public void applySaleDelta_movesTheBucketsInTheirOwnTransactionAfterCommit() {
+        Order order = Order.builder().id(51L).build();
+        order.setCreatedAt(ORDERED_AT);
+        List<OrderItem> items = List.of(item(order, 7L, 91L, 1, "100.00"));
+        when(salesRollupDAO.applyDelta(any(), anyLong(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            salesRollupService.applySaleDelta(items, 1);
+            verify(salesRollupDAO, never()).applyDelta(any(), anyLong(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(salesRollupDAO, times(2)).applyDelta(any(), anyLong(), any());
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    public void applySaleDelta_rebuildsTheSellerFromTheSaleDayWhenTheDeltaFails() {
+        Order order = Order.builder().id(52L).build();
+        order.setCreatedAt(ORDERED_AT);
+        when(salesRollupDAO.applyDelta(any(), anyLong(), any())).thenThrow(new IllegalStateException("lock timeout"));
+
+        salesRollupService.applySaleDelta(List.of(item(order, 7L, 91L, 1, "100.00")), 1);
+        salesRollupService.rebuildStale();
+        salesRollupService.rebuildStale();
+
+        InOrder ordered = inOrder(sellerStatsDAO, salesRollupDAO);
+        ordered.verify(sellerStatsDAO).findByIdForUpdate(7L);
+        ordered.verify(salesRollupDAO).deleteBySellerIdSince(7L, LocalDateTime.of(2026, 3, 1, 0, 0));
+        verify(orderItemDAO, times(1)).findSalesLinesBySellerIdSince(7L, LocalDateTime.of(2026, 3, 1, 0, 0));
+    }
+
+    @Test
+    public void applySaleDelta_addsConcurrentFirstSalesIntoOneBucket() throws Exception {
+        try (EmbeddedJpa jpa = EmbeddedJpa.start()) {
+            SalesRollupDAOImpl dao = jpa.inject(new SalesRollupDAOImpl());
+            SalesRollupServiceImpl service =
+                    new SalesRollupServiceImpl(dao, sellerStatsDAO, orderItemDAO, jpa.transactionTemplate());
+            Order order = Order.builder().id(50L).build();
+            order.setCreatedAt(ORDERED_AT);
+            List<OrderItem> items = List.of(item(order, 7L, 91L, 1, "100.00"));
+
+            int buyers = 20;
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> sales = new ArrayList<>();
+            for (int i = 0; i < buyers; i++) {
+                sales.add(executor.submit(() -> {
+                    start.await();
+                    jpa.transactionTemplate().executeWithoutResult(status -> service.applySaleDelta(items, 1));
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> sale : sales) {
+                sale.get(30, TimeUnit.SECONDS);
+            }
+            executor.shutdown();
+            // A delta that lost the race to create its bucket is rebuilt from the order lines instead.
+            when(orderItemDAO.findSalesLinesBySellerIdSince(any(), any())).thenReturn(List.<Object[]>of(
+                    new Object[]{91L, ORDERED_AT, buyers, new BigDecimal("2000.00")}));
+            service.rebuildStale();
+
+            SalesRollup day = jpa.entityManagerFactory().createEntityManager().find(SalesRollup.class,
+                    new SalesRollupId(7L, 91L, RollupGranularity.DAY, LocalDateTime.of(2026, 3, 1, 0, 0)));
+            assertEquals(Long.valueOf(buyers), day.getUnitsSold());
+            assertEquals(0, new BigDecimal("2000.00").compareTo(day.getRevenue()));
+        }
+    }
+
+    @Test
+    public void reconcile_rebuildsRecentBucketsUnderTheSellerRowLock() {
+        when(sellerStatsDAO.findSellerIds()).thenReturn(List.of(7L));
+        when(orderItemDAO.findSalesLinesBySellerIdSince(any(), any())).thenReturn(List.of(
+                new Object[]{91L, ORDERED_AT, 2, new BigDecimal("200.00")},
+                new Object[]{91L, ORDERED_AT.plusMinutes(5), 1, new BigDecimal("100.00")}
+        ));
+
+        assertEquals(1, salesRollupService.reconcile());
+
+        InOrder ordered = inOrder(sellerStatsDAO, salesRollupDAO);
+        ordered.verify(salesRollupDAO).deleteOlderThan(any(), any());
+        ordered.verify(sellerStatsDAO).findByIdForUpdate(7L);
+        ordered.verify(salesRollupDAO).deleteBySellerIdSince(any(), any());
+        verify(salesRollupDAO, times(2)).save(any());
+        verify(salesRollupDAO, never()).applyDelta(any(), anyLong(), any());
+    }
+
+    private OrderItem item(Order order, Long sellerId, Long productId, int quantity, String lineTotal) {
+        return OrderItem.builder()
+                .order(order)
+                .seller(User.builder().id(sellerId).build())
+                .product(Product.builder().id(productId).build())
+                .quantity(quantity)
+                .lineTotal(new BigDecimal(lineTotal))
+                .build();
+    }
+}
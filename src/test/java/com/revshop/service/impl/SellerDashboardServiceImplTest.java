@@ -1,11 +1,127 @@
 package com.revshop.service.impl;
 
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.SalesRollupDAO;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dto.seller.SellerDashboardResponse;
+import com.revshop.dto.seller.SellerSalesTrendResponse;
+import com.revshop.entity.Role;
+import com.revshop.entity.RollupGranularity;
+import com.revshop.entity.SellerStats;
+import com.revshop.entity.User;
+import com.revshop.exception.BadRequestException;
+import com.revshop.service.DataVersionService;
+import com.revshop.service.SellerStatsService;
 import org.junit.Test;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
 public class SellerDashboardServiceImplTest {
 
     @Test
     public void getDashboard_buildsOverviewAndLists() {
         new RemainingServiceImplCoverageTest().sellerDashboardServiceImpl_getDashboard_buildsOverviewAndLists();
     }
+
+    @Test
+    public void getDashboard_readsTheOverviewFromSellerStats() {
+        UserDAO userDAO = mock(UserDAO.class);
+        ProductDAO productDAO = mock(ProductDAO.class);
+        OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+        SellerStatsDAO sellerStatsDAO = mock(SellerStatsDAO.class);
+        SellerStatsService sellerStatsService = mock(SellerStatsService.class);
+        SellerDashboardServiceImpl service = new SellerDashboardServiceImpl(
+                userDAO,
+                productDAO,
+                orderItemDAO,
+                sellerStatsDAO,
+                sellerStatsService,
+                mock(DataVersionService.class),
+                mock(SalesRollupDAO.class)
+        );
+
+        User seller = user(10L, "seller@test.com", Role.SELLER);
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        when(sellerStatsService.getLowStockThreshold()).thenReturn(5);
+        when(sellerStatsDAO.findById(10L)).thenReturn(Optional.of(SellerStats.builder()
+                .sellerId(10L)
+                .totalProducts(5L)
+                .activeProducts(4L)
+                .lowStockProducts(2L)
+                .totalOrders(7L)
+                .pendingOrders(2L)
+                .unitsSold(11L)
+                .grossRevenue(new BigDecimal("999.50"))
+                .build()));
+
+        SellerDashboardResponse response = service.getDashboard("seller@test.com", 2, 1, 5);
+
+        assertEquals(Long.valueOf(2L), response.getOverview().getLowStockProducts());
+        assertEquals(Long.valueOf(11L), response.getOverview().getTotalUnitsSold());
+        assertEquals(new BigDecimal("999.50"), response.getOverview().getGrossRevenue());
+        verify(productDAO, never()).countBySellerEmail(anyString());
+        verify(productDAO, never()).countLowStockBySellerEmail(anyString(), anyInt());
+        verify(orderItemDAO, never()).countDistinctOrdersBySellerEmail(anyString());
+        verify(orderItemDAO, never()).sumRevenueBySellerEmail(anyString());
+        verify(sellerStatsService, never()).requestRecompute(any());
+
+        when(productDAO.countLowStockBySellerEmail("seller@test.com", 10)).thenReturn(3L);
+        assertEquals(Long.valueOf(3L), service.getDashboard("seller@test.com", 2, 1, 10).getOverview().getLowStockProducts());
+    }
+
+    @Test
+    public void getSalesTrend_zeroFillsBucketsFromTheRollups() {
+        UserDAO userDAO = mock(UserDAO.class);
+        SalesRollupDAO salesRollupDAO = mock(SalesRollupDAO.class);
+        SellerDashboardServiceImpl service = new SellerDashboardServiceImpl(
+                userDAO,
+                mock(ProductDAO.class),
+                mock(OrderItemDAO.class),
+                mock(SellerStatsDAO.class),
+                mock(SellerStatsService.class),
+                mock(DataVersionService.class),
+                salesRollupDAO
+        );
+
+        User seller = user(10L, "seller@test.com", Role.SELLER);
+        when(userDAO.findByEmail("seller@test.com")).thenReturn(Optional.of(seller));
+        LocalDateTime start = LocalDate.of(2026, 3, 1).atStartOfDay();
+        when(salesRollupDAO.findSeries(10L, 91L, RollupGranularity.HOUR, start, start.plusDays(1))).thenReturn(List.of(
+                new Object[]{start.plusHours(9), 2L, new BigDecimal("200.00")},
+                new Object[]{start.plusHours(18), 1L, new BigDecimal("100.00")}
+        ));
+
+        SellerSalesTrendResponse response = service.getSalesTrend(
+                "seller@test.com", RollupGranularity.HOUR, LocalDate.of(2026, 3, 1), LocalDate.of(2026, 3, 1), 91L);
+
+        assertEquals(24, response.getPoints().size());
+        assertEquals(Long.valueOf(2L), response.getPoints().get(9).getUnitsSold());
+        assertEquals(Long.valueOf(0L), response.getPoints().get(10).getUnitsSold());
+        assertEquals(Long.valueOf(3L), response.getTotalUnitsSold());
+        assertEquals(new BigDecimal("300.00"), response.getTotalRevenue());
+        assertThrows(BadRequestException.class, () -> service.getSalesTrend(
+                "seller@test.com", RollupGranularity.DAY, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 4, 1), null));
+    }
+
+    private User user(Long id, String email, Role role) {
+        User user = User.builder().id(id).email(email).role(role).active(true).build();
+        user.setIsDeleted(false);
+        return user;
+    }
 }
@@ -0,0 +1,285 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.OrderItemDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dao.SellerStatsDAO;
+import com.revshop.dao.UserDAO;
+import com.revshop.dao.impl.EmbeddedJpa;
+import com.revshop.dao.impl.SellerStatsDAOImpl;
+import com.revshop.entity.Order;
+import com.revshop.entity.OrderItem;
+import com.revshop.entity.OrderStatus;
+import com.revshop.entity.Product;
+import com.revshop.entity.Role;
+import com.revshop.entity.SellerStats;
+import com.revshop.entity.User;
+import com.revshop.event.ProductChangeType;
+import com.revshop.event.ProductChangedEvent;
+import com.revshop.service.DataVersionService;
+import com.revshop.service.SalesRollupService;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class SellerStatsServiceImplTest {
+
+    private final SellerStatsDAO sellerStatsDAO = mock(SellerStatsDAO.class);
+    private final OrderItemDAO orderItemDAO = mock(OrderItemDAO.class);
+    private final ProductDAO productDAO = mock(ProductDAO.class);
+    private final UserDAO userDAO = mock(UserDAO.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final DataVersionService dataVersionService = mock(DataVersionService.class);
+    private final SalesRollupService salesRollupService = mock(SalesRollupService.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private SellerStatsServiceImpl sellerStatsService;
+
+    @Before
+    public void setUp() {
+        doAnswer(invocation -> invocation.<TransactionCallback<Object>>getArgument(0).doInTransaction(null))
+                .when(transactionTemplate).execute(any());
+        when(transactionTemplate.getTransactionManager()).thenReturn(transactionManager);
+        sellerStatsService = new SellerStatsServiceImpl(sellerStatsDAO, orderItemDAO, productDAO, userDAO, transactionTemplate, dataVersionService, salesRollupService);
+    }
+
+    @Test
+    public void recordTransition_appliesOneDeltaPerSellerForTheOrder() {
+        User first = seller(7L, "first@test.com");
+        User second = seller(8L, "second@test.com");
+        Order order = Order.builder().id(50L).status(OrderStatus.PLACED).build();
+        List<OrderItem> items = List.of(
+                item(order, first, 2, "200.00"),
+                item(order, first, 1, "50.00"),
+                item(order, second, 3, "90.00")
+        );
+        when(sellerStatsDAO.applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        sellerStatsService.recordTransition(items, null, OrderStatus.PLACED);
+        verify(sellerStatsDAO).applyOrderDelta(7L, null, 1, 1, 0, new BigDecimal("0.00"));
+        verify(sellerStatsDAO).applyOrderDelta(8L, null, 1, 1, 0, new BigDecimal("0.00"));
+
+        sellerStatsService.recordTransition(items, OrderStatus.PLACED, OrderStatus.CONFIRMED);
+        verify(sellerStatsDAO).applyOrderDelta(7L, null, 0, 0, 3, new BigDecimal("250.00"));
+        verify(sellerStatsDAO).applyOrderDelta(8L, null, 0, 0, 3, new BigDecimal("90.00"));
+        verify(salesRollupService).applySaleDelta(items, 1);
+
+        sellerStatsService.recordTransition(items, OrderStatus.CONFIRMED, OrderStatus.CANCELLED);
+        verify(sellerStatsDAO).applyOrderDelta(7L, null, 0, -1, -3, new BigDecimal("-250.00"));
+        verify(sellerStatsDAO).applyOrderDelta(8L, null, 0, -1, -3, new BigDecimal("-90.00"));
+    }
+
+    @Test
+    public void recordTransition_appliesTheDeltaInItsOwnTransactionAfterCommit() {
+        Order order = Order.builder().id(53L).status(OrderStatus.PLACED).build();
+        List<OrderItem> items = List.of(item(order, seller(7L, "first@test.com"), 2, "20.00"));
+        when(sellerStatsDAO.applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(1);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            sellerStatsService.recordTransition(items, OrderStatus.PLACED, OrderStatus.CONFIRMED);
+            verify(sellerStatsDAO, never()).applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any());
+            verify(salesRollupService).applySaleDelta(items, 1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(sellerStatsDAO).applyOrderDelta(7L, null, 0, 0, 2, new BigDecimal("20.00"));
+        verify(transactionManager).getTransaction(argThat(definition ->
+                definition.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+    }
+
+    @Test
+    public void recordTransition_keepsTheDashboardTagUntilTheDeltaCommits() {
+        try (EmbeddedJpa jpa = EmbeddedJpa.start()) {
+            DataVersionServiceImpl versions = new DataVersionServiceImpl();
+            SellerStatsServiceImpl service = new SellerStatsServiceImpl(sellerStatsDAO, orderItemDAO, productDAO,
+                    userDAO, jpa.transactionTemplate(), versions, salesRollupService);
+            Order order = Order.builder().id(55L).status(OrderStatus.PLACED).build();
+            List<OrderItem> items = List.of(item(order, seller(7L, "first@test.com"), 1, "10.00"));
+            long before = versions.getSellerDashboardVersion(7L);
+            List<Long> polled = new ArrayList<>();
+            when(sellerStatsDAO.applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any()))
+                    .thenAnswer(invocation -> {
+                        // A poll after the order committed but before the delta did must keep the old tag.
+                        polled.add(versions.getSellerDashboardVersion(7L));
+                        return 1;
+                    });
+
+            jpa.transactionTemplate().executeWithoutResult(status ->
+                    service.recordTransition(items, null, OrderStatus.PLACED));
+
+            assertEquals(List.of(before), polled);
+            assertTrue(versions.getSellerDashboardVersion(7L) > before);
+        }
+    }
+
+    @Test
+    public void recordTransition_dropsADeltaThatArrivesAfterARecountAlreadyIncludedTheOrder() throws Exception {
+        try (EmbeddedJpa jpa = EmbeddedJpa.start()) {
+            SellerStatsDAOImpl stats = jpa.inject(new SellerStatsDAOImpl());
+            SellerStatsServiceImpl service = new SellerStatsServiceImpl(stats, orderItemDAO, productDAO,
+                    userDAO, jpa.transactionTemplate(), dataVersionService, salesRollupService);
+            User seller = seller(7L, "first@test.com");
+            when(userDAO.findById(7L)).thenReturn(Optional.of(seller));
+            when(orderItemDAO.sumRevenueBySellerEmail("first@test.com")).thenReturn(BigDecimal.ZERO);
+            jpa.transactionTemplate().executeWithoutResult(status -> stats.save(SellerStats.builder()
+                    .sellerId(7L)
+                    .reconciledAt(LocalDateTime.now().minusDays(1))
+                    .build()));
+            Order order = Order.builder().id(56L).status(OrderStatus.PLACED).build();
+
+            jpa.transactionTemplate().executeWithoutResult(status -> {
+                // The recount runs between the order commit and its delta, and already counts the order.
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        when(orderItemDAO.countDistinctOrdersBySellerEmail("first@test.com")).thenReturn(1L);
+                        service.requestRecompute(7L);
+                        Thread recount = new Thread(service::refreshStale);
+                        recount.start();
+                        try {
+                            recount.join();
+                        } catch (InterruptedException ex) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                });
+                service.recordTransition(List.of(item(order, seller, 1, "10.00")), null, OrderStatus.PLACED);
+            });
+            service.refreshStale();
+
+            jpa.entityManager().clear();
+            assertEquals(1L, (long) stats.findById(7L).orElseThrow().getTotalOrders());
+        }
+    }
+
+    @Test
+    public void recordTransition_recomputesTheSellerWhenTheDeltaFails() {
+        User seller = seller(7L, "first@test.com");
+        Order order = Order.builder().id(54L).status(OrderStatus.PLACED).build();
+        when(sellerStatsDAO.applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any()))
+                .thenThrow(new IllegalStateException("lock timeout"));
+        when(userDAO.findById(7L)).thenReturn(Optional.of(seller));
+        when(sellerStatsDAO.findByIdForUpdate(7L)).thenReturn(Optional.of(SellerStats.builder().sellerId(7L).build()));
+        when(orderItemDAO.sumRevenueBySellerEmail("first@test.com")).thenReturn(BigDecimal.ZERO);
+
+        sellerStatsService.recordTransition(List.of(item(order, seller, 1, "10.00")), null, OrderStatus.PLACED);
+        sellerStatsService.refreshStale();
+
+        verify(orderItemDAO).countDistinctOrdersBySellerEmail("first@test.com");
+        verify(sellerStatsDAO).save(any(SellerStats.class));
+    }
+
+    @Test
+    public void recordTransition_onlyBumpsTheDashboardWhenNoCounterMoves() {
+        Order order = Order.builder().id(51L).status(OrderStatus.PLACED).build();
+
+        sellerStatsService.recordTransition(order, OrderStatus.PLACED, OrderStatus.PLACED);
+        sellerStatsService.recordTransition(
+                List.of(item(order, seller(7L, "first@test.com"), 1, "10.00")),
+                OrderStatus.DELIVERED,
+                OrderStatus.RETURN_REQUESTED
+        );
+
+        verify(orderItemDAO, never()).findByOrderId(any());
+        verify(sellerStatsDAO, never()).applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any());
+        verify(dataVersionService).bumpSellerDashboards(Set.of(7L));
+    }
+
+    @Test
+    public void refreshStale_createsTheMissingRowFromAFullRecount() {
+        User seller = seller(7L, "first@test.com");
+        Order order = Order.builder().id(52L).status(OrderStatus.PLACED).build();
+        when(sellerStatsDAO.applyOrderDelta(any(), any(), anyLong(), anyLong(), anyLong(), any())).thenReturn(0);
+        when(userDAO.findById(7L)).thenReturn(Optional.of(seller));
+        when(sellerStatsDAO.findByIdForUpdate(7L)).thenReturn(Optional.empty());
+        when(productDAO.countBySellerEmail("first@test.com")).thenReturn(4L);
+        when(productDAO.countActiveBySellerEmail("first@test.com")).thenReturn(3L);
+        when(productDAO.countLowStockBySellerEmail("first@test.com", 5)).thenReturn(1L);
+        when(orderItemDAO.countDistinctOrdersBySellerEmail("first@test.com")).thenReturn(1L);
+        when(orderItemDAO.countDistinctPendingOrdersBySellerEmail("first@test.com")).thenReturn(1L);
+        when(orderItemDAO.sumQuantityBySellerEmail("first@test.com")).thenReturn(0L);
+        when(orderItemDAO.sumRevenueBySellerEmail("first@test.com")).thenReturn(BigDecimal.ZERO);
+
+        sellerStatsService.recordTransition(List.of(item(order, seller, 2, "20.00")), null, OrderStatus.PLACED);
+        sellerStatsService.refreshStale();
+
+        verify(sellerStatsDAO).save(argThat(stats ->
+                stats.getSellerId().equals(7L)
+                        && stats.getTotalProducts() == 4L
+                        && stats.getLowStockProducts() == 1L
+                        && stats.getTotalOrders() == 1L
+                        && stats.getPendingOrders() == 1L
+                        && stats.getReconciledAt() != null));
+    }
+
+    @Test
+    public void onProductChanged_recountsOnlyProductCountersAndReconcileReportsDrift() {
+        User seller = seller(7L, "first@test.com");
+        SellerStats stats = SellerStats.builder().sellerId(7L).totalOrders(3L).pendingOrders(1L).build();
+        when(userDAO.findById(7L)).thenReturn(Optional.of(seller));
+        when(sellerStatsDAO.findByIdForUpdate(7L)).thenReturn(Optional.of(stats));
+        when(sellerStatsDAO.findSellerIds()).thenReturn(List.of(7L));
+        when(productDAO.countBySellerEmail("first@test.com")).thenReturn(2L);
+        when(orderItemDAO.countDistinctOrdersBySellerEmail("first@test.com")).thenReturn(4L);
+        when(orderItemDAO.countDistinctPendingOrdersBySellerEmail("first@test.com")).thenReturn(1L);
+        when(orderItemDAO.sumRevenueBySellerEmail("first@test.com")).thenReturn(BigDecimal.ZERO);
+
+        Product product = Product.builder().id(90L).seller(seller).build();
+        sellerStatsService.onProductChanged(new ProductChangedEvent(product, ProductChangeType.IMAGES_CHANGED));
+        sellerStatsService.refreshStale();
+        verify(sellerStatsDAO, never()).findByIdForUpdate(any());
+
+        sellerStatsService.onProductChanged(new ProductChangedEvent(product, ProductChangeType.STOCK_CHANGED));
+        verify(dataVersionService, never()).bumpSellerDashboards(any());
+        sellerStatsService.refreshStale();
+        verify(dataVersionService).bumpSellerDashboards(List.of(7L));
+        assertEquals(Long.valueOf(2L), stats.getTotalProducts());
+        assertEquals(Long.valueOf(3L), stats.getTotalOrders());
+        verify(orderItemDAO, never()).countDistinctOrdersBySellerEmail(eq("first@test.com"));
+
+        assertEquals(1, sellerStatsService.reconcile());
+        assertEquals(Long.valueOf(4L), stats.getTotalOrders());
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    private User seller(Long id, String email) {
+        return User.builder().id(id).email(email).role(Role.SELLER).build();
+    }
+
+    private OrderItem item(Order order, User seller, int quantity, String lineTotal) {
+        return OrderItem.builder()
+                .order(order)
+                .seller(seller)
+                .quantity(quantity)
+                .lineTotal(new BigDecimal(lineTotal))
+                .build();
+    }
+}
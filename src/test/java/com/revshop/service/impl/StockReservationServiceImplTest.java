@@ -0,0 +1,252 @@
+package com.revshop.service.impl;
+
+import com.revshop.dao.PendingStockDeltaDAO;
+import com.revshop.dao.ProductDAO;
+import com.revshop.dto.admin.HotSkuStatusResponse;
+import com.revshop.entity.PendingStockDelta;
+import com.revshop.entity.Product;
+import com.revshop.event.ProductChangedEvent;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class StockReservationServiceImplTest {
+
+    private final ProductDAO productDAO = mock(ProductDAO.class);
+    private final TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final PendingStockDeltaDAO pendingStockDeltaDAO = mock(PendingStockDeltaDAO.class);
+    private final List<PendingStockDelta> pendingRows = new ArrayList<>();
+
+    private StockReservationServiceImpl stockReservationService;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<Object>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+        AtomicLong ids = new AtomicLong();
+        doAnswer(invocation -> {
+            PendingStockDelta delta = invocation.getArgument(0);
+            delta.setId(ids.incrementAndGet());
+            pendingRows.add(delta);
+            return null;
+        }).when(pendingStockDeltaDAO).save(any());
+        when(pendingStockDeltaDAO.findAll()).thenAnswer(invocation -> new ArrayList<>(pendingRows));
+        when(pendingStockDeltaDAO.findByProductId(anyLong())).thenAnswer(invocation -> pendingRows.stream()
+                .filter(delta -> delta.getProductId().equals(invocation.getArgument(0)))
+                .toList());
+        when(pendingStockDeltaDAO.deleteByIds(anyList())).thenAnswer(invocation -> {
+            List<Long> deleted = invocation.getArgument(0);
+            pendingRows.removeIf(delta -> deleted.contains(delta.getId()));
+            return deleted.size();
+        });
+        stockReservationService = new StockReservationServiceImpl(
+                productDAO, pendingStockDeltaDAO, transactionTemplate, eventPublisher);
+        ReflectionTestUtils.setField(stockReservationService, "hotProductIds", List.of(101L));
+        ReflectionTestUtils.setField(stockReservationService, "stripeCount", 4);
+    }
+
+    @Test
+    public void reserve_thenFlush_writesCommittedSalesToTheDatabaseInOneDelta() {
+        when(productDAO.findAllByIds(anyList())).thenReturn(List.of(product(101L, 10)));
+        when(productDAO.decrementStock(anyMap())).thenReturn(Set.of());
+        stockReservationService.load();
+
+        assertTrue(stockReservationService.isHot(101L));
+        assertTrue(stockReservationService.reserve(Map.of(101L, 3)).isEmpty());
+        assertTrue(stockReservationService.reserve(Map.of(101L, 4)).isEmpty());
+        assertEquals(Set.of(101L), stockReservationService.reserve(Map.of(101L, 4)));
+        assertEquals(3, stockReservationService.available(101L));
+        verify(productDAO, never()).decrementStock(anyMap());
+
+        stockReservationService.flush();
+
+        verify(productDAO).decrementStock(Map.of(101L, 7));
+        verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
+        HotSkuStatusResponse status = stockReservationService.getStatus().get(0);
+        assertEquals(3, status.getAvailable());
+        assertEquals(0, status.getReserved());
+        assertEquals(0, status.getUnflushed());
+        assertTrue(pendingRows.isEmpty());
+    }
+
+    @Test
+    public void load_seedsTheLedgerLessTheSalesThePreviousProcessNeverFlushed() {
+        when(productDAO.findAllByIds(anyList())).thenReturn(List.of(product(101L, 10)));
+        when(productDAO.decrementStock(anyMap())).thenReturn(Set.of());
+        pendingRows.add(PendingStockDelta.builder().id(1L).productId(101L).quantity(4).createdAt(LocalDateTime.now()).build());
+        pendingRows.add(PendingStockDelta.builder().id(2L).productId(202L).quantity(-2).createdAt(LocalDateTime.now()).build());
+
+        stockReservationService.load();
+
+        assertEquals(6, stockReservationService.available(101L));
+        assertEquals(4, stockReservationService.getStatus().get(0).getUnflushed());
+
+        stockReservationService.flush();
+
+        verify(productDAO).decrementStock(Map.of(101L, 4));
+        verify(productDAO).incrementStock(Map.of(202L, 2));
+        assertEquals(0, stockReservationService.getStatus().get(0).getUnflushed());
+        assertTrue(pendingRows.isEmpty());
+    }
+
+    @Test
+    public void flush_handsARepeatedlyRejectedSaleToReconcile() {
+        AtomicInteger stock = new AtomicInteger(10);
+        when(productDAO.findAllByIds(anyList())).thenAnswer(invocation -> List.of(product(101L, stock.get())));
+        when(productDAO.decrementStock(anyMap())).thenAnswer(invocation -> {
+            int quantity = invocation.<Map<Long, Integer>>getArgument(0).getOrDefault(101L, 0);
+            if (quantity > stock.get()) {
+                return Set.of(101L);
+            }
+            stock.addAndGet(-quantity);
+            return Set.of();
+        });
+        stockReservationService.load();
+        assertTrue(stockReservationService.reserve(Map.of(101L, 7)).isEmpty());
+        stock.set(3);
+
+        for (int i = 0; i < 5; i++) {
+            stockReservationService.flush();
+        }
+
+        verify(productDAO, times(3)).decrementStock(Map.of(101L, 7));
+        assertEquals(7, stockReservationService.getStatus().get(0).getUnflushed());
+
+        HotSkuStatusResponse status = stockReservationService.reconcile().get(0);
+
+        verify(productDAO).decrementStock(Map.of(101L, 3));
+        assertEquals(0, stock.get());
+        assertTrue(pendingRows.isEmpty());
+        assertEquals(0, status.getUnflushed());
+        assertEquals(0, status.getAvailable());
+        assertEquals(-3, status.getLastDrift());
+    }
+
+    @Test
+    public void flush_keepsARejectedSalePendingThroughReconcile() {
+        when(productDAO.findAllByIds(anyList()))
+                .thenReturn(List.of(product(101L, 10)))
+                .thenReturn(List.of(product(101L, 3)));
+        when(productDAO.decrementStock(anyMap())).thenReturn(Set.of(101L));
+        stockReservationService.load();
+        assertTrue(stockReservationService.reserve(Map.of(101L, 7)).isEmpty());
+
+        stockReservationService.flush();
+
+        assertEquals(7, stockReservationService.getStatus().get(0).getUnflushed());
+        verify(eventPublisher, never()).publishEvent(any());
+
+        HotSkuStatusResponse status = stockReservationService.reconcile().get(0);
+
+        verify(productDAO, times(2)).decrementStock(Map.of(101L, 7));
+        assertEquals(7, status.getUnflushed());
+        assertEquals(0, status.getAvailable());
+    }
+
+    @Test
+    public void reserve_neverOversellsUnderConcurrentCheckouts() throws Exception {
+        when(productDAO.findAllByIds(anyList())).thenReturn(List.of(product(101L, 25)));
+        stockReservationService.load();
+
+        int threads = 40;
+        AtomicInteger sold = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            for (int i = 0; i < threads; i++) {
+                executor.submit(() -> {
+                    start.await();
+                    if (stockReservationService.reserve(Map.of(101L, 2)).isEmpty()) {
+                        sold.addAndGet(2);
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(24, sold.get());
+        assertEquals(1, stockReservationService.available(101L));
+    }
+
+    @Test
+    public void reconcile_correctsDriftAgainstTheDatabase() {
+        when(productDAO.findAllByIds(anyList()))
+                .thenReturn(List.of(product(101L, 10)))
+                .thenReturn(List.of(product(101L, 6)));
+        stockReservationService.load();
+
+        List<HotSkuStatusResponse> statuses = stockReservationService.reconcile();
+
+        assertEquals(1, statuses.size());
+        assertEquals(6, statuses.get(0).getAvailable());
+        assertEquals(-4, statuses.get(0).getLastDrift());
+        assertEquals(4, statuses.get(0).getTotalDrift());
+        assertFalse(statuses.get(0).getLastReconciledAt() == null);
+    }
+
+    @Test
+    public void reconcile_dropsLedgersForProductsThatNoLongerExist() {
+        when(productDAO.findAllByIds(anyList()))
+                .thenReturn(List.of(product(101L, 10)))
+                .thenReturn(List.of());
+        stockReservationService.load();
+
+        assertTrue(stockReservationService.reconcile().isEmpty());
+        assertFalse(stockReservationService.isHot(101L));
+    }
+
+    @Test
+    public void stripedStockCounter_poolsStripesWhenNoSingleStripeCoversTheTake() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        assertTrue(counter.tryTake(9));
+        assertFalse(counter.tryTake(2));
+        assertEquals(1, counter.available());
+        counter.put(5);
+        assertEquals(4, counter.drain(4));
+        assertEquals(2, counter.drain(10));
+        assertEquals(0, counter.available());
+    }
+
+    private Product product(Long id, int stock) {
+        return Product.builder().id(id).stock(stock).inStock(stock > 0).build();
+    }
+}